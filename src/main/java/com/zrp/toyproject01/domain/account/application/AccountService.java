@@ -57,7 +57,7 @@ public class AccountService {
         }
 
         // 토큰 발급
-        String accessToken = tokenProvider.createToken(user.getEmail(), user.getRoles(), user.getNickname());
+        String accessToken = tokenProvider.createToken(user.getId(), user.getEmail(), user.getRoles(), user.getNickname());
         String refreshToken = tokenProvider.createRefreshToken(user.getEmail());
 
         // Refresh Token DB 저장
@@ -107,7 +107,7 @@ public class AccountService {
         User user = userRepository.findByEmail(email)
                     .orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND));
 
-        String newAccessToken = tokenProvider.createToken(user.getEmail(), user.getRoles(), user.getNickname());
+        String newAccessToken = tokenProvider.createToken(user.getId(), user.getEmail(), user.getRoles(), user.getNickname());
         String newRefreshToken = tokenProvider.createRefreshToken(user.getEmail());
 
         // 6. DB 업데이트 (Refresh Token 교체)
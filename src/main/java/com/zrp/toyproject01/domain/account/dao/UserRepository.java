@@ -2,6 +2,9 @@ package com.zrp.toyproject01.domain.account.dao;
 
 import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
 import com.zrp.toyproject01.domain.account.domain.User;
 
 public interface UserRepository extends JpaRepository<User, Long> {
@@ -11,4 +14,8 @@ public interface UserRepository extends JpaRepository<User, Long> {
     // 이메일 중복 가입 방지용
     boolean existsByEmail(String email);
 
+    // id만 조회 (roles 컬렉션까지 올리지 않음 - 토큰에 uid가 없는 경로용)
+    @Query("select u.id from User u where u.email = :email")
+    Optional<Long> findIdByEmail(@Param("email") String email);
+
 }
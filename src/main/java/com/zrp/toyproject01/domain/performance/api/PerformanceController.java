@@ -3,17 +3,21 @@ package com.zrp.toyproject01.domain.performance.api;
 import java.util.List;
 
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
+import com.zrp.toyproject01.domain.performance.application.PerformancePurchaseFacade;
 import com.zrp.toyproject01.domain.performance.application.PerformanceService;
-import com.zrp.toyproject01.domain.performance.application.RedissonLockPerformanceFacade;
+import com.zrp.toyproject01.domain.performance.dto.AdmissionRateChangeRequest;
 import com.zrp.toyproject01.domain.performance.dto.PerformancePurchaseRequest;
 import com.zrp.toyproject01.domain.performance.dto.PerformanceRegisterRequest;
 import com.zrp.toyproject01.domain.performance.dto.PerformanceResponse;
+import com.zrp.toyproject01.domain.performance.dto.PurchaseStrategyChangeRequest;
+import com.zrp.toyproject01.domain.performance.dto.PurchaseWriteStatus;
 import com.zrp.toyproject01.global.common.ApiResponse;
 import com.zrp.toyproject01.global.util.SecurityUtil;
 
@@ -25,7 +29,7 @@ import lombok.RequiredArgsConstructor;
 @RequiredArgsConstructor
 public class PerformanceController {
     
-    private final RedissonLockPerformanceFacade performanceFacade;
+    private final PerformancePurchaseFacade performancePurchaseFacade;
     private final PerformanceService performanceService;
 
 
@@ -49,15 +53,40 @@ public class PerformanceController {
         @PathVariable Long id,
         @RequestBody @Valid PerformancePurchaseRequest request
     ) {
-        // 로그인한 사용자 이메일 추출
+        // 로그인한 사용자 정보 추출 (토큰에 들어있어서 DB 조회 없음)
+        Long userId = SecurityUtil.getCurrentUserId();
         String email = SecurityUtil.getCurrentUserEmail();
 
-        // 원래는 SecurityUtil.getCurrentUserEmail()로 유저 정보도 넘겨야하지만
-        // 지금은 동시성 테스트가 목적이므로 재고 감소에만 집중
-        // performanceService.purchase(id, request.quantity());
+        // 공연별로 설정된 예매 방식(낙관적/비관적/분산 락/락 없음)으로 처리
+        performancePurchaseFacade.purchase(id, request.quantity(), userId, email);
 
-        performanceFacade.purchase(id, request.quantity(), email);
+        return ApiResponse.ok();
+    }
+
+    // 예매 DB 반영 상태 (락 없음 방식은 DB에 쓰기 전에 응답하므로 예매 후에 이걸로 확정 / 실패 확인)
+    // - pending > 0: 아직 반영 중 / failed > 0: 반영 실패로 취소됨 (다시 예매 가능)
+    @GetMapping("/{id}/purchase-status")
+    public ApiResponse<PurchaseWriteStatus> getPurchaseStatus(@PathVariable Long id) {
+        return ApiResponse.ok(performancePurchaseFacade.getWriteStatus(id, SecurityUtil.getCurrentUserId()));
+    }
 
+    // 공연별 예매 방식 변경 (재배포 없이 교체 - 관리자 기능이지만 일단 오픈)
+    @PatchMapping("/{id}/purchase-strategy")
+    public ApiResponse<Void> changePurchaseStrategy(
+        @PathVariable Long id,
+        @RequestBody PurchaseStrategyChangeRequest request
+    ) {
+        performancePurchaseFacade.changePurchaseStrategy(id, request.strategy());
+        return ApiResponse.ok();
+    }
+
+    // 공연별 대기열 입장 인원 변경 (관리자 기능이지만 일단 오픈)
+    @PatchMapping("/{id}/admission-rate")
+    public ApiResponse<Void> changeAdmissionRate(
+        @PathVariable Long id,
+        @RequestBody @Valid AdmissionRateChangeRequest request
+    ) {
+        performancePurchaseFacade.changeAdmissionRate(id, request.rate());
         return ApiResponse.ok();
     }
 
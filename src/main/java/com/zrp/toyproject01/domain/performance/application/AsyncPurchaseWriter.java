@@ -0,0 +1,99 @@
+package com.zrp.toyproject01.domain.performance.application;
+
+import java.util.concurrent.CompletableFuture;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+
+import com.zrp.toyproject01.domain.queue.application.QueueService;
+import com.zrp.toyproject01.global.error.BusinessException;
+
+import lombok.extern.slf4j.Slf4j;
+
+// Lua 재고 엔진의 DB 반영 담당 (write-behind)
+// - Redis에서 이미 재고 판정이 끝났으므로 여기서는 Reservation / Performance.stock 기록만 함
+// - purchaseWriteExecutor(스레드 1개)에서 순서대로 실행됨
+// - 일시적인 DB 오류는 max-attempts번까지 다시 시도하고, 그래도 안 되면 Redis 재고를 돌려놓고
+//   PurchaseWriteTracker에 실패로 남김 (응답은 이미 나갔으므로 클라이언트가 상태 조회로 확인)
+@Component
+@Slf4j
+public class AsyncPurchaseWriter {
+
+    private final PerformanceService performanceService;
+    private final RedisStockService redisStockService;
+    private final QueueService queueService;
+    private final PurchaseWriteTracker purchaseWriteTracker;
+
+    private final int maxAttempts;
+    private final long retryBackoffMillis;
+
+    public AsyncPurchaseWriter(
+        PerformanceService performanceService,
+        RedisStockService redisStockService,
+        QueueService queueService,
+        PurchaseWriteTracker purchaseWriteTracker,
+        @Value("${performance.lua.write-max-attempts:3}") int maxAttempts,
+        @Value("${performance.lua.write-retry-backoff-millis:100}") long retryBackoffMillis
+    ) {
+        this.performanceService = performanceService;
+        this.redisStockService = redisStockService;
+        this.queueService = queueService;
+        this.purchaseWriteTracker = purchaseWriteTracker;
+        this.maxAttempts = Math.max(1, maxAttempts);
+        this.retryBackoffMillis = retryBackoffMillis;
+    }
+
+    @Async("purchaseWriteExecutor")
+    public void write(Long id, int quantity, Long userId) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                performanceService.purchase(id, quantity, userId);
+                purchaseWriteTracker.complete(id, userId);
+                return;
+            } catch (BusinessException e) {
+                // 없는 유저 / 공연, DB 재고 부족 -> 다시 해도 같으므로 바로 실패
+                fail(id, quantity, userId, e);
+                return;
+            } catch (Exception e) {
+                if (attempt >= maxAttempts || !backOff(attempt)) {
+                    fail(id, quantity, userId, e);
+                    return;
+                }
+                log.warn("예매 DB 반영 실패, 다시 시도합니다. ({}/{}) performanceId: {}, userId: {}",
+                    attempt, maxAttempts, id, userId, e);
+            }
+        }
+    }
+
+    // 취소도 같은 스레드에서 처리해야 write와 같은 row를 동시에 수정하지 않음
+    @Async("purchaseWriteExecutor")
+    public CompletableFuture<Void> cancel(Long reservationId) {
+        performanceService.cancel(reservationId);
+        return CompletableFuture.completedFuture(null);
+    }
+
+    // DB 반영 포기 -> Redis에서 빼둔 재고를 되돌려서 정합성 맞추고, 클라이언트가 볼 수 있게 실패로 남김
+    private void fail(Long id, int quantity, Long userId, Exception e) {
+        log.error("예매 DB 반영 실패! Redis 재고를 복구합니다. performanceId: {}, userId: {}", id, userId, e);
+        redisStockService.increase(id, quantity, String.valueOf(userId));
+        queueService.removeSoldOut(id);
+        purchaseWriteTracker.fail(id, userId);
+    }
+
+    // 다시 시도하기 전에 잠깐 쉼 (시도할수록 길게)
+    // return: 인터럽트되면 false (종료 중 -> 더 시도하지 않음)
+    private boolean backOff(int attempt) {
+        if (retryBackoffMillis <= 0) {
+            return true;
+        }
+        try {
+            Thread.sleep(retryBackoffMillis * attempt);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+}
@@ -0,0 +1,57 @@
+package com.zrp.toyproject01.domain.performance.application;
+
+import java.time.LocalDateTime;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.zrp.toyproject01.domain.performance.dao.InventoryLedgerRepository;
+
+import lombok.extern.slf4j.Slf4j;
+
+// 재고 장부 압축 스케줄러
+// - compact-lag-millis보다 오래된 장부만 스냅샷에 합침
+//   (IDENTITY id는 커밋 순서와 다를 수 있어서, 트랜잭션 timeout보다 충분히 지난 것만 "다 커밋됐다"고 봄)
+// - 어디까지 합쳤는지는 공연별 스냅샷(lastLedgerId)에만 저장 (메모리에 들고 있지 않음)
+//   -> 재시작해도 처음부터 다시 훑지 않고, 여러 서버가 돌아도 스냅샷 row 잠금으로 같은 구간을 두 번 합치지 않음
+// - 압축된 구간의 장부는 지우지 않음 (감사용으로 남김)
+@Component
+@Slf4j
+public class InventoryLedgerCompactor {
+
+    private final InventoryLedgerService inventoryLedgerService;
+    private final InventoryLedgerRepository inventoryLedgerRepository;
+    private final long lagMillis;
+
+    public InventoryLedgerCompactor(
+        InventoryLedgerService inventoryLedgerService,
+        InventoryLedgerRepository inventoryLedgerRepository,
+        @Value("${performance.ledger.compact-lag-millis:10000}") long lagMillis
+    ) {
+        this.inventoryLedgerService = inventoryLedgerService;
+        this.inventoryLedgerRepository = inventoryLedgerRepository;
+        this.lagMillis = lagMillis;
+    }
+
+    @Scheduled(fixedDelayString = "${performance.ledger.compact-interval-millis:10000}")
+    public synchronized void compact() {
+        Long upTo = inventoryLedgerRepository.findMaxIdBefore(LocalDateTime.now().minusNanos(lagMillis * 1_000_000));
+
+        if (upTo == null) {
+            return;
+        }
+
+        for (Long performanceId : inventoryLedgerRepository.findUncompactedPerformanceIds(upTo)) {
+            try {
+                inventoryLedgerService.compact(performanceId, upTo);
+            } catch (Exception e) {
+                // 이 공연만 다음 주기에 다시 (스냅샷이 그대로라 같은 구간부터)
+                log.error("재고 장부 압축 실패! performanceId: {}", performanceId, e);
+            }
+        }
+
+        log.debug("재고 장부 압축 완료. ledgerId: {}", upTo);
+    }
+
+}
@@ -0,0 +1,149 @@
+package com.zrp.toyproject01.domain.performance.application;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.zrp.toyproject01.domain.performance.dao.InventoryLedgerRepository;
+import com.zrp.toyproject01.domain.performance.dao.InventorySnapshotRepository;
+import com.zrp.toyproject01.domain.performance.dao.PerformanceRepository;
+import com.zrp.toyproject01.domain.performance.domain.InventoryLedger;
+import com.zrp.toyproject01.domain.performance.domain.InventorySnapshot;
+import com.zrp.toyproject01.domain.performance.dto.PerformanceStockView;
+import com.zrp.toyproject01.global.error.BusinessException;
+import com.zrp.toyproject01.global.error.ErrorCode;
+
+import lombok.RequiredArgsConstructor;
+
+// 장부 기반 재고
+// - 예매 / 취소는 장부(InventoryLedger)에 한 줄 INSERT (같은 row를 UPDATE하지 않음)
+// - 남은 재고 = 스냅샷 + 스냅샷 이후 장부 합계 (InventoryLedgerCompactor가 주기적으로 스냅샷을 앞당김)
+// - 장부는 재고 부족을 스스로 막지 못하므로, INSERT 전에 Redis 예약 카운터로 먼저 차감해서 검사함
+//   (Performance.decreaseStock / increaseStock의 검사를 카운터가 대신함)
+@Service
+@RequiredArgsConstructor
+public class InventoryLedgerService {
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final InventoryLedgerRepository inventoryLedgerRepository;
+    private final InventorySnapshotRepository inventorySnapshotRepository;
+    private final PerformanceRepository performanceRepository;
+
+    private static final String COUNTER_KEY = "ledger_remaining:"; // 장부 기준 남은 재고 (String)
+
+    private static final long NOT_ENOUGH = -1L;
+    private static final long NOT_INITIALIZED = -2L;
+
+    private static final RedisScript<Long> RESERVE_SCRIPT = new DefaultRedisScript<>("""
+        local remaining = redis.call('GET', KEYS[1])
+        if not remaining then
+            return -2
+        end
+        if tonumber(remaining) < tonumber(ARGV[1]) then
+            return -1
+        end
+        return redis.call('DECRBY', KEYS[1], ARGV[1])
+        """, Long.class);
+
+    // 카운터가 없으면 아무것도 안 함 (다음 적재 때 장부 기준으로 다시 계산됨)
+    private static final RedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>("""
+        if redis.call('EXISTS', KEYS[1]) == 0 then
+            return -2
+        end
+        return redis.call('INCRBY', KEYS[1], ARGV[1])
+        """, Long.class);
+
+    // 예매 전 재고 선점 (장부 INSERT 전에 호출)
+    // return: 선점 후 남은 재고
+    public long reserve(Long performanceId, int quantity) {
+        long result = execute(RESERVE_SCRIPT, performanceId, quantity);
+
+        if (result == NOT_INITIALIZED) {
+            // 처음이면 장부 기준 재고로 카운터를 만들고 다시 시도 (SETNX라서 먼저 만든 값을 덮어쓰지 않음)
+            redisTemplate.opsForValue().setIfAbsent(COUNTER_KEY + performanceId, String.valueOf(remaining(performanceId)));
+            result = execute(RESERVE_SCRIPT, performanceId, quantity);
+        }
+
+        if (result == NOT_ENOUGH) {
+            throw new BusinessException(ErrorCode.PERFORMANCE_SOLD_OUT);
+        }
+        return result;
+    }
+
+    // 선점 반납 (장부 INSERT 실패 / 취소 커밋 후)
+    public void release(Long performanceId, int quantity) {
+        execute(RELEASE_SCRIPT, performanceId, quantity);
+    }
+
+    // 예약 카운터 삭제 (다음 reserve 때 장부 기준 재고로 다시 만들어짐)
+    public void resetCounter(Long performanceId) {
+        redisTemplate.delete(COUNTER_KEY + performanceId);
+    }
+
+    // 여러 공연의 예약 카운터를 한 번에 (MGET 1번, 카운터가 아직 없는 공연은 null)
+    // - 목록에 보여줄 남은 재고용 (장부 합계를 매번 계산하지 않음)
+    public List<Integer> getCounters(List<Long> performanceIds) {
+        List<String> values = redisTemplate.opsForValue().multiGet(performanceIds.stream().map(id -> COUNTER_KEY + id).toList());
+        List<Integer> counters = new ArrayList<>(performanceIds.size());
+        for (int i = 0; i < performanceIds.size(); i++) {
+            String value = values != null ? values.get(i) : null;
+            counters.add(value != null ? Integer.valueOf(value) : null);
+        }
+        return counters;
+    }
+
+    // 장부 기록 (호출한 쪽 트랜잭션에 같이 묶임)
+    @Transactional
+    public void append(InventoryLedger entry) {
+        inventoryLedgerRepository.save(entry);
+    }
+
+    // 장부 기준 남은 재고 (스냅샷 + 꼬리 합계)
+    @Transactional(readOnly = true)
+    public int remaining(Long performanceId) {
+        InventorySnapshot snapshot = inventorySnapshotRepository.findById(performanceId).orElse(null);
+
+        if (snapshot == null) {
+            // 아직 압축 전 -> 장부를 쓰기 시작할 때의 performance.stock이 기준
+            return baseStock(performanceId) + (int) inventoryLedgerRepository.sumAfter(performanceId, 0L);
+        }
+        return snapshot.getRemaining() + (int) inventoryLedgerRepository.sumAfter(performanceId, snapshot.getLastLedgerId());
+    }
+
+    // upToLedgerId까지의 장부를 스냅샷에 합치고 같은 합계를 performance.stock에도 더함 (압축 스케줄러에서만 호출)
+    // - 스냅샷 row를 잠그고 읽음 -> 다른 서버가 같은 구간을 동시에 압축해도 한 번만 반영됨
+    //   (첫 압축에서 둘 다 INSERT하면 PK 충돌로 한쪽이 롤백되고 다음 주기에 건너뜀)
+    @Transactional
+    public void compact(Long performanceId, long upToLedgerId) {
+        InventorySnapshot snapshot = inventorySnapshotRepository.findByIdForUpdate(performanceId)
+            .orElseGet(() -> InventorySnapshot.create(performanceId, baseStock(performanceId)));
+
+        if (upToLedgerId <= snapshot.getLastLedgerId()) {
+            return;
+        }
+
+        long delta = inventoryLedgerRepository.sumBetween(performanceId, snapshot.getLastLedgerId(), upToLedgerId);
+        snapshot.fold((int) delta, upToLedgerId);
+        inventorySnapshotRepository.save(snapshot);
+
+        // 목록 조회 등에서 보이는 재고도 압축 주기마다 갱신 (예매마다 UPDATE하지 않음)
+        performanceRepository.addStock(performanceId, (int) delta);
+    }
+
+    private int baseStock(Long performanceId) {
+        return performanceRepository.findStockViewById(performanceId)
+            .map(PerformanceStockView::stock)
+            .orElseThrow(() -> new BusinessException(ErrorCode.PERFORMANCE_NOT_FOUND));
+    }
+
+    private long execute(RedisScript<Long> script, Long performanceId, int quantity) {
+        Long result = redisTemplate.execute(script, List.of(COUNTER_KEY + performanceId), String.valueOf(quantity));
+        return result != null ? result : NOT_INITIALIZED;
+    }
+
+}
@@ -0,0 +1,143 @@
+package com.zrp.toyproject01.domain.performance.application;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.zrp.toyproject01.domain.performance.dao.PerformanceRepository;
+import com.zrp.toyproject01.domain.performance.domain.PurchaseStrategyType;
+import com.zrp.toyproject01.domain.performance.dto.PerformanceCatalog;
+import com.zrp.toyproject01.domain.performance.dto.PerformanceStock;
+
+// 목록에 보여줄 남은 재고 (공연 정적 정보 캐시와 따로 읽어서 응답 만들 때 합침)
+// - 재고를 Redis 카운터로 판정하는 공연은 그 카운터가 곧 실제 재고 (DB는 나중에 따라옴)
+//   LOCK_FREE -> stock:<id>, LEDGER -> ledger_remaining:<id> (공연 종류별로 MGET 1번씩)
+// - 나머지(DB로 판정하는 방식)와 카운터 적재 전인 공연은 서버마다 들고 있는 재고 스냅샷에서
+//   스냅샷은 refresh-millis마다 "id, stock"만 1번 조회 (요청 수와 상관없이 DB 조회는 서버당 초당 1번 이하)
+//   갱신은 한 스레드만 하고, 나머지는 갱신이 끝날 때까지 이전 스냅샷을 씀
+//   스냅샷에 없는 공연(방금 등록됨 / 없는 id)은 그 id들만 읽어서 채움 (전체를 다시 읽지 않음)
+@Component
+public class LiveStockReader {
+
+    private final RedisStockService redisStockService;
+    private final InventoryLedgerService inventoryLedgerService;
+    private final PerformanceRepository performanceRepository;
+    private final PurchaseStrategyType defaultType;
+    private final long refreshMillis;
+
+    private final AtomicBoolean refreshing = new AtomicBoolean();
+    private volatile StockSnapshot snapshot = new StockSnapshot(Map.of(), 0);
+
+    public LiveStockReader(
+        RedisStockService redisStockService,
+        InventoryLedgerService inventoryLedgerService,
+        PerformanceRepository performanceRepository,
+        @Value("${performance.purchase.default-strategy:DISTRIBUTED_LOCK}") PurchaseStrategyType defaultType,
+        @Value("${performance.stock-view.refresh-millis:1000}") long refreshMillis
+    ) {
+        this.redisStockService = redisStockService;
+        this.inventoryLedgerService = inventoryLedgerService;
+        this.performanceRepository = performanceRepository;
+        this.defaultType = defaultType;
+        this.refreshMillis = refreshMillis;
+    }
+
+    // 공연 id -> 남은 재고
+    public Map<Long, Integer> getStocks(List<PerformanceCatalog> catalogs) {
+        List<Long> luaIds = new ArrayList<>();
+        List<Long> ledgerIds = new ArrayList<>();
+
+        for (PerformanceCatalog catalog : catalogs) {
+            PurchaseStrategyType type = catalog.purchaseStrategy() != null ? catalog.purchaseStrategy() : defaultType;
+            if (type == PurchaseStrategyType.LOCK_FREE) {
+                luaIds.add(catalog.id());
+            } else if (type == PurchaseStrategyType.LEDGER) {
+                ledgerIds.add(catalog.id());
+            }
+        }
+
+        Map<Long, Integer> stocks = new HashMap<>();
+        if (!luaIds.isEmpty()) {
+            putAll(stocks, luaIds, redisStockService.getStocks(luaIds));
+        }
+        if (!ledgerIds.isEmpty()) {
+            putAll(stocks, ledgerIds, inventoryLedgerService.getCounters(ledgerIds));
+        }
+
+        // 카운터가 없는 공연은 스냅샷에서 (스냅샷에도 없으면 그 공연들만 새로 읽음)
+        Map<Long, Integer> snapshotStocks = currentSnapshot().stocks();
+        List<Long> missingIds = new ArrayList<>();
+        for (PerformanceCatalog catalog : catalogs) {
+            if (!stocks.containsKey(catalog.id()) && !snapshotStocks.containsKey(catalog.id())) {
+                missingIds.add(catalog.id());
+            }
+        }
+        if (!missingIds.isEmpty()) {
+            snapshotStocks = fill(missingIds).stocks();
+        }
+
+        for (PerformanceCatalog catalog : catalogs) {
+            if (!stocks.containsKey(catalog.id())) {
+                stocks.put(catalog.id(), snapshotStocks.getOrDefault(catalog.id(), catalog.maxStock()));
+            }
+        }
+        return stocks;
+    }
+
+    private StockSnapshot currentSnapshot() {
+        StockSnapshot current = snapshot;
+        if (current.loadedAt() + refreshMillis > System.currentTimeMillis()) {
+            return current;
+        }
+
+        if (!refreshing.compareAndSet(false, true)) {
+            return current; // 다른 스레드가 갱신 중 -> 이전 스냅샷
+        }
+        try {
+            return reload();
+        } finally {
+            refreshing.set(false);
+        }
+    }
+
+    private StockSnapshot reload() {
+        Map<Long, Integer> stocks = new HashMap<>();
+        for (PerformanceStock stock : performanceRepository.findAllStocks()) {
+            stocks.put(stock.id(), stock.stock());
+        }
+
+        StockSnapshot loaded = new StockSnapshot(stocks, System.currentTimeMillis());
+        snapshot = loaded;
+        return loaded;
+    }
+
+    private static void putAll(Map<Long, Integer> stocks, List<Long> ids, List<Integer> counts) {
+        for (int i = 0; i < ids.size(); i++) {
+            if (counts.get(i) != null) {
+                stocks.put(ids.get(i), counts.get(i));
+            }
+        }
+    }
+
+    // 스냅샷에 없는 공연만 읽어서 덧붙임 (갱신 시각은 그대로 - 다음 전체 갱신 주기를 바꾸지 않음)
+    // - 전체 갱신과 겹쳐서 한쪽이 덮어써져도, 빠진 공연은 다음 요청에 다시 채우고 오래된 스냅샷은 곧 다시 읽음
+    private StockSnapshot fill(List<Long> ids) {
+        StockSnapshot current = snapshot;
+        Map<Long, Integer> stocks = new HashMap<>(current.stocks());
+        for (PerformanceStock stock : performanceRepository.findStocksByIds(ids)) {
+            stocks.put(stock.id(), stock.stock());
+        }
+
+        StockSnapshot filled = new StockSnapshot(stocks, current.loadedAt());
+        snapshot = filled;
+        return filled;
+    }
+
+    private record StockSnapshot(Map<Long, Integer> stocks, long loadedAt) {}
+
+}
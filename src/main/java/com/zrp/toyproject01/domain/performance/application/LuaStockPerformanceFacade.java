@@ -0,0 +1,129 @@
+package com.zrp.toyproject01.domain.performance.application;
+
+import java.util.concurrent.CompletionException;
+
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.stereotype.Component;
+
+import com.zrp.toyproject01.domain.performance.dao.PerformanceRepository;
+import com.zrp.toyproject01.domain.performance.domain.Performance;
+import com.zrp.toyproject01.domain.queue.application.QueueService;
+import com.zrp.toyproject01.domain.queue.dto.QueueGate;
+import com.zrp.toyproject01.domain.reservation.dao.ReservationRepository;
+import com.zrp.toyproject01.domain.reservation.domain.Reservation;
+import com.zrp.toyproject01.global.error.BusinessException;
+import com.zrp.toyproject01.global.error.ErrorCode;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+// Redis Lua 재고 엔진 (락 없음)
+// - 재고는 Redis가 들고 있고, 확인 + 차감 + 구매자 기록을 Lua 스크립트 한 번으로 끝냄
+// - Reservation / Performance.stock은 AsyncPurchaseWriter가 뒤에서 DB에 반영
+//   -> 예매 성공은 "접수됨"이라는 뜻, DB 반영 결과는 PurchaseWriteTracker로 확인 (실패하면 failed로 남음)
+// - RedissonLockPerformanceFacade처럼 공연 단위로 한 줄 서기를 하지 않음
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class LuaStockPerformanceFacade {
+
+    private final RedisStockService redisStockService;
+    private final PerformanceRepository performanceRepository;
+    private final PerformanceService performanceService;
+    private final ReservationRepository reservationRepository;
+    private final AsyncPurchaseWriter asyncPurchaseWriter;
+    private final QueueService queueService;
+    private final PurchaseWriteTracker purchaseWriteTracker;
+
+    // 대기열
+    public boolean purchase(Long id, int quantity, String email) {
+
+        // 매진 / 입장권 / 줄 서기를 Redis 왕복 1번으로 (입구 Lua 스크립트)
+        QueueGate gate = queueService.gate(id, email);
+
+        if (gate.status() == QueueGate.Status.SOLD_OUT) {
+            throw new BusinessException(ErrorCode.PERFORMANCE_SOLD_OUT);
+        }
+
+        if (gate.status() == QueueGate.Status.QUEUED) {
+            // 번호표 - 지금 입장 중인 번호 (다시 눌러도 원래 자리 유지)
+            log.info("접근 불가! 대기열로 이동합니다. 대기 순번: {}등", gate.position());
+            return false;
+        }
+
+        boolean success = decreaseStock(id, quantity, performanceService.getUserId(email));
+        if (success) {
+            queueService.complete(id, email); // 입장권 반납
+        }
+        return success;
+    }
+
+    // 재고 차감 (Lua 스크립트 1번)
+    public boolean decreaseStock(Long id, int quantity, Long userId) {
+        String buyer = String.valueOf(userId);
+        long remain = redisStockService.decrease(id, quantity, buyer);
+
+        if (remain == RedisStockService.NOT_INITIALIZED) {
+            // 처음 들어온 요청이면 DB 재고를 Redis로 적재하고 다시 시도
+            loadStock(id);
+            remain = redisStockService.decrease(id, quantity, buyer);
+        }
+
+        if (remain == RedisStockService.NOT_ENOUGH) {
+            throw new BusinessException(ErrorCode.PERFORMANCE_SOLD_OUT);
+        }
+
+        // 마지막 재고를 가져간 사람이 매진 간판 걸기
+        if (remain == 0) {
+            queueService.setSoldOut(id);
+        }
+
+        // DB 반영은 뒤로 미룸 (요청 스레드는 여기서 바로 응답)
+        // - 반영이 끝나기 전에 상태 조회가 와도 보이도록 대기 건수부터 올림
+        purchaseWriteTracker.accept(id, userId);
+        try {
+            asyncPurchaseWriter.write(id, quantity, userId);
+        } catch (TaskRejectedException e) {
+            // DB 반영 큐가 가득 차서 작업을 못 넣음 -> Redis에서 빼둔 재고를 되돌림 (안 그러면 판매되지 않은 재고가 사라짐)
+            log.error("예매 DB 반영 작업 거절! Redis 재고를 복구합니다. performanceId: {}, userId: {}", id, userId, e);
+            redisStockService.increase(id, quantity, buyer);
+            queueService.removeSoldOut(id);
+            purchaseWriteTracker.withdraw(id, userId);
+            throw new BusinessException(ErrorCode.PURCHASE_BUSY);
+        }
+        return true;
+    }
+
+    public void cancel(Long reservationId) {
+        Reservation reservation = reservationRepository.findById(reservationId)
+            .orElseThrow(() -> new BusinessException(ErrorCode.RESERVATION_NOT_FOUND));
+
+        Long performanceId = reservation.getPerformance().getId();
+
+        // 1. DB 먼저 취소 (write-behind 스레드에서 처리하고 끝날 때까지 기다림)
+        try {
+            asyncPurchaseWriter.cancel(reservationId).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+
+        // 2. DB 취소가 성공했으면 Redis 재고 복구 + 매진 간판 내리기
+        // (user 프록시에서 id만 꺼내므로 users 테이블은 조회하지 않음)
+        redisStockService.increase(performanceId, reservation.getCount(), String.valueOf(reservation.getUser().getId()));
+        queueService.removeSoldOut(performanceId);
+    }
+
+    // Redis에 재고가 없을 때 DB 재고로 채움
+    // - 판매 도중 Redis 키가 날아가면 아직 DB에 반영되지 않은 판매분만큼 재고가 크게 잡힐 수 있음
+    //   (운영에서는 Redis 영속화(AOF)로 키가 날아가지 않게 해야 함)
+    private void loadStock(Long id) {
+        Performance performance = performanceRepository.findById(id)
+            .orElseThrow(() -> new BusinessException(ErrorCode.PERFORMANCE_NOT_FOUND));
+
+        redisStockService.initStock(id, performance.getStock());
+    }
+
+}
@@ -0,0 +1,80 @@
+package com.zrp.toyproject01.domain.performance.application;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+// 여러 스레드가 넣고(Multi Producer) 스레드 1개만 꺼내는(Single Consumer) 고정 크기 링 버퍼
+// - 락 없이 CAS 1번으로 자리를 잡음 (칸마다 sequence 번호를 둬서 아직 안 비워진 칸인지 확인)
+// - 꽉 차면 기다리지 않고 바로 false (요청 스레드가 줄줄이 묶이지 않도록)
+public class MpscRingBuffer<T> {
+
+    private final int capacity;
+    private final int mask;
+    private final AtomicReferenceArray<T> slots;
+    private final AtomicLongArray sequences; // 칸 번호 == sequence면 넣을 수 있고, 번호 + 1이면 꺼낼 수 있음
+
+    private final AtomicLong tail = new AtomicLong(); // 다음에 넣을 위치 (producer들이 CAS로 경쟁)
+    private long head;                                 // 다음에 꺼낼 위치 (consumer 스레드만 접근)
+
+    public MpscRingBuffer(int capacity) {
+        if (capacity < 2 || Integer.bitCount(capacity) != 1) {
+            throw new IllegalArgumentException("capacity는 2의 거듭제곱이어야 합니다: " + capacity);
+        }
+        this.capacity = capacity;
+        this.mask = capacity - 1;
+        this.slots = new AtomicReferenceArray<>(capacity);
+        this.sequences = new AtomicLongArray(capacity);
+
+        for (int i = 0; i < capacity; i++) {
+            sequences.set(i, i);
+        }
+    }
+
+    // 넣기 (producer 여러 개)
+    public boolean offer(T item) {
+        long position;
+        int index;
+
+        while (true) {
+            position = tail.get();
+            index = (int) (position & mask);
+            long diff = sequences.get(index) - position;
+
+            if (diff == 0) {
+                // 빈 칸 -> 자리 잡기
+                if (tail.compareAndSet(position, position + 1)) {
+                    break;
+                }
+            } else if (diff < 0) {
+                // 한 바퀴 전 항목이 아직 안 빠짐 -> 꽉 참
+                return false;
+            }
+            // diff > 0: 다른 producer가 먼저 가져감 -> 다시 시도
+        }
+
+        slots.set(index, item);
+        sequences.set(index, position + 1); // 꺼내도 된다고 표시 (item을 넣은 뒤에 해야 함)
+        return true;
+    }
+
+    // 꺼내기 (consumer 스레드 1개에서만 호출)
+    public T poll() {
+        int index = (int) (head & mask);
+
+        if (sequences.get(index) != head + 1) {
+            return null; // 비었거나 producer가 아직 쓰는 중
+        }
+
+        T item = slots.get(index);
+        slots.set(index, null);
+        sequences.set(index, head + capacity); // 다음 바퀴에 다시 쓸 수 있도록
+        head++;
+        return item;
+    }
+
+    public boolean isEmpty() {
+        return sequences.get((int) (head & mask)) != head + 1;
+    }
+
+}
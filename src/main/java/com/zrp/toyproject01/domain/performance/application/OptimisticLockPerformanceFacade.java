@@ -1,35 +1,139 @@
 package com.zrp.toyproject01.domain.performance.application;
 
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.stereotype.Service;
-import lombok.RequiredArgsConstructor;
 
+import lombok.extern.slf4j.Slf4j;
+
+// 경합을 보고 알아서 방식을 바꾸는 낙관적 락 Facade
+// - 재시도는 max-retries번까지만 (요청 스레드를 무한정 붙잡지 않음)
+// - 재시도 간격은 지수 백오프 + 지터 (다 같이 깨어나서 또 부딪히는 thundering herd 방지)
+// - 공연별로 충돌 비율을 기억해두고, 일정 수준을 넘으면 비관적 락으로 전환
+//   경합이 줄어들면 (가끔 낙관적으로 찔러보면서 확인) 다시 낙관적 락으로 복귀
 @Service
-@RequiredArgsConstructor
+@Slf4j
 public class OptimisticLockPerformanceFacade {
-    
+
     private final PerformanceService performanceService;
 
+    private final int maxRetries;
+    private final long baseBackoffMillis;
+    private final long maxBackoffMillis;
+    private final double enterThreshold;  // 이 비율 이상 충돌하면 비관적 락으로
+    private final double exitThreshold;   // 이 비율 아래로 내려가면 낙관적 락으로 복귀
+    private final int probeInterval;      // 비관적 모드일 때 N번에 1번은 낙관적으로 시도
+
+    private final Map<Long, ContentionEstimate> estimates = new ConcurrentHashMap<>();
+
+    public OptimisticLockPerformanceFacade(
+        PerformanceService performanceService,
+        @Value("${performance.optimistic.max-retries:5}") int maxRetries,
+        @Value("${performance.optimistic.base-backoff-millis:10}") long baseBackoffMillis,
+        @Value("${performance.optimistic.max-backoff-millis:200}") long maxBackoffMillis,
+        @Value("${performance.optimistic.enter-threshold:0.5}") double enterThreshold,
+        @Value("${performance.optimistic.exit-threshold:0.2}") double exitThreshold,
+        @Value("${performance.optimistic.probe-interval:10}") int probeInterval
+    ) {
+        // 0이면 찔러볼 때마다 0으로 나눔 (비관적 모드에서 모든 요청이 실패)
+        if (probeInterval < 1) {
+            throw new IllegalArgumentException("probe-interval은 1 이상이어야 합니다: " + probeInterval);
+        }
+        this.performanceService = performanceService;
+        this.maxRetries = maxRetries;
+        this.baseBackoffMillis = baseBackoffMillis;
+        this.maxBackoffMillis = maxBackoffMillis;
+        this.enterThreshold = enterThreshold;
+        this.exitThreshold = exitThreshold;
+        this.probeInterval = probeInterval;
+    }
+
+    // 이메일만 알고 있을 때 (id 조회 1번 후 위임)
     public void purchase(Long id, int quantity, String email) throws InterruptedException {
-        while (true) { // 무한 반복 (성공할 때까지)
+        purchase(id, quantity, performanceService.getUserId(email));
+    }
+
+    public void purchase(Long id, int quantity, Long userId) throws InterruptedException {
+        ContentionEstimate estimate = estimates.computeIfAbsent(id, key -> new ContentionEstimate());
+
+        // 1. 경합이 심한 공연이면 비관적 락으로 바로 처리
+        //    (N번에 1번은 낙관적으로 1번만 찔러봐서 경합이 줄었는지 확인)
+        boolean probing = false;
+        if (estimate.isPessimistic()) {
+            if (!estimate.shouldProbe()) {
+                performanceService.purchaseWithPessimisticLock(id, quantity, userId);
+                return;
+            }
+            probing = true;
+        }
+
+        // 2. 낙관적 락 시도 (충돌 시 백오프 후 재시도)
+        int attempts = probing ? 1 : maxRetries + 1;
+
+        for (int attempt = 0; attempt < attempts; attempt++) {
             try {
-                // 1. 서비스 로직 호출 (여기서 충돌나면 에러 발생)
-                performanceService.purchase(id, quantity, email);
-
-                // 2. 성공하면 반복문 탈출
-                break;
-            } catch (OptimisticLockingFailureException e) { 
-                // 3. 충돌 발생 시 (누군가 먼저 수정함)
-                // 잠시 대기했다가 재시도 (서버 부하를 줄이기 위해서 50ms 쉼)
-                // ✨ [수정] 충돌(OptimisticLock)일 때만 잡아서 재시도!
-                // (import org.springframework.dao.OptimisticLockingFailureException)
-                System.out.println("충돌 발생! 재시도합니다.");
-                Thread.sleep(50);
-            } catch (Exception e) {
-                // 다른 에러는 그냥 던져버림 (품절 에러)
-                throw e;
+                performanceService.purchase(id, quantity, userId);
+                estimate.record(false);
+                return;
+            } catch (OptimisticLockingFailureException e) {
+                // 충돌(누군가 먼저 수정함)일 때만 재시도, 다른 에러(품절 등)는 그대로 던짐
+                estimate.record(true);
+
+                if (attempt + 1 < attempts) {
+                    Thread.sleep(backoff(attempt));
+                }
+            }
+        }
+
+        // 3. 재시도를 다 썼으면 비관적 락으로 마무리 (요청이 충돌 때문에 실패하지 않도록)
+        if (!probing) {
+            log.warn("낙관적 락 재시도 초과! 비관적 락으로 처리합니다. performanceId: {}, 충돌 비율: {}",
+                id, String.format("%.2f", estimate.getConflictRate()));
+        }
+        performanceService.purchaseWithPessimisticLock(id, quantity, userId);
+    }
+
+    // 지수 백오프 + full jitter (0 ~ min(max, base * 2^attempt) 사이 랜덤)
+    private long backoff(int attempt) {
+        long ceiling = Math.min(maxBackoffMillis, baseBackoffMillis << Math.min(attempt, 20));
+        return ThreadLocalRandom.current().nextLong(ceiling + 1);
+    }
+
+    // 공연별 경합 추정치
+    private class ContentionEstimate {
+        private static final double ALPHA = 0.2; // 최근 결과에 주는 가중치 (지수 이동 평균)
+
+        private double conflictRate;
+        private boolean pessimistic;
+        private long pessimisticRequests;
+
+        synchronized boolean isPessimistic() {
+            return pessimistic;
+        }
+
+        synchronized boolean shouldProbe() {
+            return ++pessimisticRequests % probeInterval == 0;
+        }
+
+        synchronized double getConflictRate() {
+            return conflictRate;
+        }
+
+        synchronized void record(boolean conflict) {
+            conflictRate = ALPHA * (conflict ? 1.0 : 0.0) + (1 - ALPHA) * conflictRate;
+
+            if (!pessimistic && conflictRate >= enterThreshold) {
+                pessimistic = true;
+                log.info("충돌 비율 {} -> 비관적 락으로 전환", String.format("%.2f", conflictRate));
+            } else if (pessimistic && conflictRate <= exitThreshold) {
+                pessimistic = false;
+                log.info("충돌 비율 {} -> 낙관적 락으로 복귀", String.format("%.2f", conflictRate));
             }
-        }   
+        }
     }
 
 }
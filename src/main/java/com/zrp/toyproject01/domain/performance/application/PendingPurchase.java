@@ -0,0 +1,25 @@
+package com.zrp.toyproject01.domain.performance.application;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+// 코얼레서에 쌓인 예매 요청 1건
+// - result: 커밋이 끝나면 성공 true / 매진 false로 완료됨
+// - claimed: 처리기가 판정하려고 가져감 / 요청 쪽이 기다리다 포기함 중 먼저 한 쪽만 성공 (StockSequencer)
+public record PendingPurchase(
+    Long userId,
+    int quantity,
+    CompletableFuture<Boolean> result,
+    AtomicBoolean claimed
+) {
+
+    public PendingPurchase(Long userId, int quantity, CompletableFuture<Boolean> result) {
+        this(userId, quantity, result, new AtomicBoolean());
+    }
+
+    // 먼저 가져간 쪽만 true (이후로는 상대가 손댈 수 없음)
+    public boolean claim() {
+        return claimed.compareAndSet(false, true);
+    }
+
+}
@@ -0,0 +1,94 @@
+package com.zrp.toyproject01.domain.performance.application;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Service;
+
+import com.zrp.toyproject01.domain.performance.dao.PerformanceRepository;
+import com.zrp.toyproject01.domain.performance.dto.PerformanceCatalog;
+import com.zrp.toyproject01.domain.performance.dto.PerformanceCatalogIds;
+import com.zrp.toyproject01.global.error.BusinessException;
+import com.zrp.toyproject01.global.cache.TwoLevelCache;
+import com.zrp.toyproject01.global.error.ErrorCode;
+
+import lombok.RequiredArgsConstructor;
+
+// 공연 정적 정보 캐시 (이름 / 가격 / 최대 좌석 수 / 예매 방식)
+// - 공연 1개 = 캐시 항목 1개 (키: 공연 id), 목록 순서는 id만 따로 캐시 (키: 'ids')
+// - 남은 재고는 여기 없음 -> 예매 / 취소가 아무리 많아도 이 캐시는 지워지지 않음 (LiveStockReader가 따로 읽음)
+// - 목록(ids)을 DB에서 읽을 때 공연 정보도 같은 조회로 모두 채움 (공연마다 1번씩 조회하지 않도록)
+//   모든 조회는 cache.get(key, loader) -> 캐시가 비어도 키당 DB 조회 1번 + 만료 전 미리 갱신 (TwoLevelCache)
+//   목록을 읽으면서 채우는 공연 항목도 조회 시간을 같이 기록 (미리 갱신 대상) + 다른 서버 알림은 1번만 (putAll)
+// - 지우는 건 공연이 추가되거나(ids) 정적 정보가 바뀔 때(공연 id)만
+@Service
+@RequiredArgsConstructor
+public class PerformanceCatalogService {
+
+    public static final String CACHE_NAME = "performance_catalog";
+    private static final String IDS_KEY = "ids";
+
+    private final CacheManager cacheManager;
+    private final PerformanceRepository performanceRepository;
+
+    // 공연 1개 정적 정보
+    public PerformanceCatalog find(Long id) {
+        return cache().get(id, () -> performanceRepository.findById(id)
+            .map(PerformanceCatalog::from)
+            .orElseThrow(() -> new BusinessException(ErrorCode.PERFORMANCE_NOT_FOUND)));
+    }
+
+    // 전체 공연 정적 정보 (id 순)
+    public List<PerformanceCatalog> findAll() {
+        Cache cache = cache();
+        List<Long> ids = cache.get(IDS_KEY, () -> loadAll(cache)).ids();
+
+        // 목록을 캐시한 뒤에 삭제된 공연은 빼고 돌려줌
+        return ids.stream()
+            .map(id -> cache.get(id, () -> performanceRepository.findById(id).map(PerformanceCatalog::from).orElse(null)))
+            .filter(Objects::nonNull)
+            .toList();
+    }
+
+    // 공연이 추가됨 -> 목록 순서만 다시 (커밋 후에 호출해야 새 공연이 빠진 목록이 다시 캐시되지 않음)
+    public void evictIds() {
+        cache().evict(IDS_KEY);
+    }
+
+    // 정적 정보가 바뀜 (예매 방식 변경 등)
+    public void evict(Long id) {
+        cache().evict(id);
+    }
+
+    // 전체 공연을 1번에 읽어서 공연별 항목도 같이 채움
+    private PerformanceCatalogIds loadAll(Cache cache) {
+        long startTime = System.nanoTime();
+        List<PerformanceCatalog> catalogs = performanceRepository.findAll(Sort.by("id")).stream()
+            .map(PerformanceCatalog::from)
+            .toList();
+        long loadMillis = Math.max(1, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime));
+
+        Map<Long, PerformanceCatalog> entries = new LinkedHashMap<>();
+        for (PerformanceCatalog catalog : catalogs) {
+            entries.put(catalog.id(), catalog);
+        }
+
+        if (cache instanceof TwoLevelCache twoLevelCache) {
+            twoLevelCache.putAll(entries, loadMillis);
+        } else {
+            entries.forEach(cache::put);
+        }
+        return new PerformanceCatalogIds(List.copyOf(entries.keySet()));
+    }
+
+    private Cache cache() {
+        return cacheManager.getCache(CACHE_NAME);
+    }
+
+}
@@ -0,0 +1,167 @@
+package com.zrp.toyproject01.domain.performance.application;
+
+import java.util.List;
+
+import org.springframework.stereotype.Component;
+
+import com.zrp.toyproject01.domain.performance.application.strategy.PurchaseStrategy;
+import com.zrp.toyproject01.domain.performance.application.strategy.PurchaseStrategyRegistry;
+import com.zrp.toyproject01.domain.performance.dao.PerformanceRepository;
+import com.zrp.toyproject01.domain.performance.domain.PurchaseStrategyType;
+import com.zrp.toyproject01.domain.performance.dto.PurchaseWriteStatus;
+import com.zrp.toyproject01.domain.queue.application.AdaptiveAdmissionRate;
+import com.zrp.toyproject01.domain.queue.application.QueueService;
+import com.zrp.toyproject01.domain.queue.dto.QueueGate;
+import com.zrp.toyproject01.domain.reservation.dao.ReservationRepository;
+import com.zrp.toyproject01.domain.reservation.domain.Reservation;
+import com.zrp.toyproject01.domain.seat.application.SeatService;
+import com.zrp.toyproject01.domain.seat.dto.SeatHoldResponse;
+import com.zrp.toyproject01.global.error.BusinessException;
+import com.zrp.toyproject01.global.error.ErrorCode;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+// 예매 진입점
+// - 대기열(입장권) 검사는 여기서 한 번만 하고
+// - 실제 재고 차감은 공연별로 선택된 PurchaseStrategy에게 맡김
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class PerformancePurchaseFacade {
+
+    private final PurchaseStrategyRegistry purchaseStrategyRegistry;
+    private final PerformanceService performanceService;
+    private final QueueService queueService;
+    private final SeatService seatService;
+    private final PerformanceRepository performanceRepository;
+    private final AdaptiveAdmissionRate admissionRate;
+    private final PurchaseWriteTracker purchaseWriteTracker;
+    private final ReservationRepository reservationRepository;
+
+    // email: 대기열(입장권) 검사용 / userId: 예약 저장용 (둘 다 토큰에서 꺼낸 값)
+    public boolean purchase(Long id, int quantity, Long userId, String email) {
+        if (!admit(id, email)) {
+            return false;
+        }
+
+        PurchaseStrategy strategy = purchaseStrategyRegistry.resolve(id);
+        log.debug("예매 시도. performanceId: {}, strategy: {}", id, strategy.type());
+
+        // 예매 처리 시간은 성공 / 실패 상관없이 입장 속도 조절 신호로
+        long startTime = System.nanoTime();
+        boolean success;
+        try {
+            success = strategy.purchase(id, quantity, userId);
+        } finally {
+            admissionRate.recordPurchase(System.nanoTime() - startTime);
+        }
+
+        if (success) {
+            // 예매를 끝냈으면 입장권 반납 (실패 / 혼잡이면 입장권이 만료될 때까지 다시 시도 가능)
+            queueService.complete(id, email);
+        }
+        return success;
+    }
+
+    // DB 반영 상태 (Lua 재고 엔진은 DB에 쓰기 전에 응답하므로 확정 / 실패는 이걸로 확인)
+    public PurchaseWriteStatus getWriteStatus(Long id, Long userId) {
+        return purchaseWriteTracker.get(id, userId);
+    }
+
+    // 좌석 지정 예매 (대기열 검사는 수량 예매와 같음)
+    public boolean purchaseSeats(Long id, List<Integer> seatNumbers, Long userId, String email) {
+        requireSeatSupport(id);
+
+        if (!admit(id, email)) {
+            return false;
+        }
+
+        long startTime = System.nanoTime();
+        try {
+            seatService.purchase(id, seatNumbers, userId);
+        } finally {
+            admissionRate.recordPurchase(System.nanoTime() - startTime);
+        }
+        queueService.complete(id, email);
+        return true;
+    }
+
+    // 좌석 임시 점유 (대기열에 들어갔으면 null)
+    public SeatHoldResponse holdSeats(Long id, List<Integer> seatNumbers, Long userId, String email) {
+        requireSeatSupport(id); // 점유도 DB 재고를 바로 잡아두므로 좌석 지정 예매와 같은 제약
+
+        if (!admit(id, email)) {
+            return null;
+        }
+
+        SeatHoldResponse hold = seatService.hold(id, seatNumbers, userId);
+        queueService.complete(id, email); // 결제(확정)는 점유 시간 안에 따로 하므로 입장권은 여기서 반납
+        return hold;
+    }
+
+    // 예약 취소 (본인 것만)
+    // - 지금 공연에 설정된 방식에게 맡김 -> DB 재고와 그 방식의 재고 카운터(Redis / 메모리)를 같이 돌려줌
+    // - 좌석 지정 예약이면 좌석도 반납
+    public void cancel(Long reservationId, Long userId) {
+        Reservation reservation = reservationRepository.findById(reservationId)
+            .filter(found -> found.getUser().getId().equals(userId))
+            .orElseThrow(() -> new BusinessException(ErrorCode.RESERVATION_NOT_FOUND));
+
+        Long performanceId = reservation.getPerformance().getId();
+        purchaseStrategyRegistry.resolve(performanceId).cancel(performanceId, reservationId);
+        seatService.release(reservation);
+    }
+
+    // 좌석 경로는 DB 재고를 바로 차감함 -> 재고 카운터를 따로 두는 방식(Redis / 메모리 / 장부)이면 거절
+    // (대기열에 세우기 전에 거절해야 입장권을 헛되이 쓰지 않음)
+    private void requireSeatSupport(Long id) {
+        if (!purchaseStrategyRegistry.resolve(id).supportsSeats()) {
+            throw new BusinessException(ErrorCode.SEAT_NOT_SUPPORTED);
+        }
+    }
+
+    // 매진 / 입장 권한 검사 (입장 명단에 없으면 대기열로 보내고 false)
+    private boolean admit(Long id, String email) {
+
+        // 매진 / 입장권 / 줄 서기를 Redis 왕복 1번으로 (입구 Lua 스크립트)
+        QueueGate gate = queueService.gate(id, email);
+
+        if (gate.status() == QueueGate.Status.SOLD_OUT) {
+            throw new BusinessException(ErrorCode.PERFORMANCE_SOLD_OUT);
+        }
+
+        if (gate.status() == QueueGate.Status.QUEUED) {
+            // 번호표 - 지금 입장 중인 번호 (다시 눌러도 원래 자리 유지)
+            log.info("접근 불가! 대기열로 이동합니다. 대기 순번: {}등", gate.position());
+            return false;
+        }
+
+        return true;
+    }
+
+    // 공연별 예매 방식 변경 (null이면 기본값으로 되돌림)
+    // - 실제로 바뀌었으면 커밋 후에 이전 방식 / 새 방식의 재고 카운터를 둘 다 버림 (PurchaseStrategy.reset)
+    //   이전 방식: 바뀐 뒤에 팔리거나 취소된 재고를 모르므로 다시 돌아왔을 때 옛 값으로 팔지 않도록
+    //   새 방식: 예전에 쓰다 남은 카운터가 있으면 첫 예매 때 지금 DB 재고로 다시 채우도록
+    // - 다른 서버는 strategy-cache-millis 동안 이전 방식으로 팔 수 있음 (그 사이에는 DB 재고 검사가 초과 판매를 막음)
+    public void changePurchaseStrategy(Long id, PurchaseStrategyType purchaseStrategy) {
+        PurchaseStrategyType previous = purchaseStrategyRegistry.orDefault(performanceService.changePurchaseStrategy(id, purchaseStrategy));
+        PurchaseStrategyType next = purchaseStrategyRegistry.orDefault(purchaseStrategy);
+        purchaseStrategyRegistry.evict(id);
+
+        if (previous != next) {
+            purchaseStrategyRegistry.get(previous).reset(id);
+            purchaseStrategyRegistry.get(next).reset(id);
+        }
+    }
+
+    // 공연별 대기열 입장 인원 변경 (null이면 기본값으로 되돌림)
+    public void changeAdmissionRate(Long id, Long rate) {
+        if (!performanceRepository.existsById(id)) {
+            throw new BusinessException(ErrorCode.PERFORMANCE_NOT_FOUND);
+        }
+        queueService.changeAdmissionRate(id, rate);
+    }
+
+}
@@ -1,17 +1,23 @@
 package com.zrp.toyproject01.domain.performance.application;
 
+import java.time.LocalDateTime;
 import java.util.List;
-import java.util.stream.Collectors;
-import org.springframework.cache.annotation.CacheEvict;
-import org.springframework.cache.annotation.Cacheable;
+import java.util.Map;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 import com.zrp.toyproject01.domain.account.dao.UserRepository;
 import com.zrp.toyproject01.domain.account.domain.User;
+import com.zrp.toyproject01.domain.performance.dao.InventoryLedgerRepository;
 import com.zrp.toyproject01.domain.performance.dao.PerformanceRepository;
+import com.zrp.toyproject01.domain.performance.domain.InventoryLedger;
 import com.zrp.toyproject01.domain.performance.domain.Performance;
+import com.zrp.toyproject01.domain.performance.domain.PurchaseStrategyType;
+import com.zrp.toyproject01.domain.performance.dto.PerformanceCatalog;
 import com.zrp.toyproject01.domain.performance.dto.PerformanceRegisterRequest;
 import com.zrp.toyproject01.domain.performance.dto.PerformanceResponse;
+import com.zrp.toyproject01.domain.performance.dto.PerformanceStockView;
 import com.zrp.toyproject01.domain.queue.application.QueueService;
 import com.zrp.toyproject01.domain.reservation.dao.ReservationRepository;
 import com.zrp.toyproject01.domain.reservation.domain.Reservation;
@@ -29,46 +35,157 @@ public class PerformanceService {
     private final UserRepository userRepository;
     private final ReservationRepository reservationRepository;
     private final QueueService queueService;
+    private final InventoryLedgerService inventoryLedgerService;
+    private final InventoryLedgerRepository inventoryLedgerRepository;
+    private final PerformanceCatalogService performanceCatalogService;
+    private final LiveStockReader liveStockReader;
 
     // 공연 등록 (관리자용)
     @Transactional
-    @CacheEvict(value = "performances", key = "'all'")
     public Long register(PerformanceRegisterRequest request) {
         Performance performance = Performance.create(
             request.name(),
             request.price(),
             request.maxStock()
         );
-        return performanceRepository.save(performance).getId();
+        Long id = performanceRepository.save(performance).getId();
+
+        // 목록 순서 캐시는 커밋 후에 비움 (커밋 전에 비우면 새 공연이 빠진 목록이 다시 캐시될 수 있음)
+        afterCommit(performanceCatalogService::evictIds);
+        return id;
     }
 
     // 공연 목록 조회
-    @Cacheable(value = "performances", key = "'all'", cacheManager = "cacheManager")
+    // - 정적 정보(이름 / 가격 / 최대 좌석 수)는 공연별 캐시에서, 남은 재고는 LiveStockReader에서 읽어서 합침
+    // - 예매 / 취소로 재고가 바뀌어도 정적 정보 캐시는 지우지 않음
     public List<PerformanceResponse> findAll() {
-        // 이 로그가 찍히면 -> DB까지 갔다는 뜻
-        // 이 로그가 안 찍히면 -> Redis에서 가져왔다는 뜻 (캐시 Hit)
-        System.out.println("## ## ## DB 조회!! ## ## ##");
+        List<PerformanceCatalog> catalogs = performanceCatalogService.findAll();
+        Map<Long, Integer> stocks = liveStockReader.getStocks(catalogs);
 
-        return performanceRepository.findAll().stream() 
-            .map(PerformanceResponse::from)
-            .collect(Collectors.toList());
+        return catalogs.stream()
+            .map(catalog -> PerformanceResponse.of(catalog, stocks.get(catalog.id())))
+            .toList();
     }
 
     // 핵심: 예매 (재고 감소)
     // - 동시성 이슈 발생할 핵심 메소드
+    // - userId는 토큰(uid)에서 꺼낸 값이라 users 테이블을 조회하지 않음
     @Transactional
-    public void purchase(Long id, int quantity, String email) {
+    public void purchase(Long id, int quantity, Long userId) {
         // 1. 공연 조회 (이 시점의 stock은 1일 수 있음) 4. 낙관적 락 사용
         Performance performance = performanceRepository.findById(id)
             .orElseThrow(() -> new BusinessException(ErrorCode.PERFORMANCE_NOT_FOUND));
 
-        // 3. 비관적 락 걸고 조회
-        // Performance performance = performanceRepository.findByIdWithLock(id)
-        //     .orElseThrow(() -> new BusinessException(ErrorCode.PERFORMANCE_NOT_FOUND));
+        reserve(performance, quantity, userId);
+    }
 
-        // 2. 유저 조회
-        User user = userRepository.findByEmail(email)
-            .orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND));
+    // 이메일만 알고 있을 때 (id만 조회 - roles 컬렉션까지 올리지 않음)
+    @Transactional
+    public void purchase(Long id, int quantity, String email) {
+        purchase(id, quantity, getUserId(email));
+    }
+
+    // 예매 (비관적 락)
+    // - SELECT ... FOR UPDATE로 조회해서 트랜잭션이 끝날 때까지 다른 사람은 대기
+    @Transactional
+    public void purchaseWithPessimisticLock(Long id, int quantity, Long userId) {
+        Performance performance = performanceRepository.findByIdWithLock(id)
+            .orElseThrow(() -> new BusinessException(ErrorCode.PERFORMANCE_NOT_FOUND));
+
+        reserve(performance, quantity, userId);
+    }
+
+    @Transactional
+    public void purchaseWithPessimisticLock(Long id, int quantity, String email) {
+        purchaseWithPessimisticLock(id, quantity, getUserId(email));
+    }
+
+    // 예매 (조건부 UPDATE)
+    // - UPDATE performance SET stock = stock - ? WHERE id = ? AND stock >= ? 한 방으로 판정
+    // - 엔티티 조회 / @Version 재시도 / 재고 재조회 없이 UPDATE 1번 + 매진 확인 1번 + 예약 INSERT 1번 (가격은 정적 정보 캐시)
+    @Transactional
+    public void purchaseWithConditionalUpdate(Long id, int quantity, Long userId) {
+        // 1. 재고 차감 + 가격
+        int price = decreaseStockOrThrow(id, quantity);
+
+        // 2. 예약 저장 (공연 / 유저 모두 프록시로 FK만 채움 - SELECT 없음)
+        Performance performance = performanceRepository.getReferenceById(id);
+        User user = userRepository.getReferenceById(userId);
+        reservationRepository.save(Reservation.create(user, performance, quantity, price));
+    }
+
+    // 좌석 지정 예매 (좌석 점유는 SeatInventory에서 이미 끝난 상태)
+    // - 좌석마다 row를 두지 않으므로 여기서는 재고 차감 + 예약 저장만 (조건부 UPDATE 1번 + 매진 확인 1번 + INSERT 1번)
+    @Transactional
+    public void purchaseSeats(Long id, int[] seatNumbers, Long userId) {
+        int price = decreaseStockOrThrow(id, seatNumbers.length);
+
+        Performance performance = performanceRepository.getReferenceById(id);
+        User user = userRepository.getReferenceById(userId);
+        reservationRepository.save(Reservation.createWithSeats(user, performance, price, seatNumbers));
+    }
+
+    // 좌석 임시 점유 (결제 전까지 expiresAt까지만 재고를 잡아둠)
+    // return: 예약 id
+    @Transactional
+    public Long holdSeats(Long id, int[] seatNumbers, Long userId, LocalDateTime expiresAt) {
+        int price = decreaseStockOrThrow(id, seatNumbers.length);
+
+        Performance performance = performanceRepository.getReferenceById(id);
+        User user = userRepository.getReferenceById(userId);
+        Reservation reservation = reservationRepository.save(
+            Reservation.holdWithSeats(user, performance, price, seatNumbers, expiresAt)
+        );
+        return reservation.getId();
+    }
+
+    // 장부 예매 (재고 선점은 InventoryLedgerService.reserve에서 이미 끝난 상태)
+    // - performance row는 읽기만 하고 UPDATE하지 않음 (예약 INSERT + 장부 INSERT)
+    // - stock 컬럼은 InventoryLedgerCompactor가 압축할 때 맞춰줌
+    @Transactional
+    public void purchaseWithLedger(Long id, int quantity, Long userId) {
+        PerformanceStockView stockView = performanceRepository.findStockViewById(id)
+            .orElseThrow(() -> new BusinessException(ErrorCode.PERFORMANCE_NOT_FOUND));
+
+        Performance performance = performanceRepository.getReferenceById(id);
+        User user = userRepository.getReferenceById(userId);
+        Reservation reservation = reservationRepository.save(
+            Reservation.create(user, performance, quantity, stockView.price())
+        );
+
+        inventoryLedgerService.append(InventoryLedger.purchase(id, reservation.getId(), quantity));
+    }
+
+    // UPDATE performance SET stock = stock - ? WHERE id = ? AND stock >= ?
+    // - 영향받은 row 수(0 또는 1)로만 판단, 성공하면 재고 값을 다시 읽지 않음
+    // - 가격은 예매로 바뀌지 않으므로 정적 정보 캐시에서 (캐시가 비었을 때만 조회)
+    // - 매진 간판은 마지막 표를 산 요청이 커밋 후에 바로 검 (차감 직후 stock <= 0인지만 확인)
+    //   차감이 실패했을 때도 남은 재고가 0이면 검 (다른 경로로 0이 된 경우)
+    // return: 가격
+    private int decreaseStockOrThrow(Long id, int quantity) {
+        int updated = performanceRepository.decreaseStock(id, quantity);
+
+        if (updated == 1 && performanceRepository.isSoldOut(id)) {
+            afterCommit(() -> queueService.setSoldOut(id));
+        }
+
+        if (updated == 0) {
+            // 실패했을 때만 이유 확인 (없는 공연인지, 매진인지)
+            PerformanceStockView stockView = performanceRepository.findStockViewById(id)
+                .orElseThrow(() -> new BusinessException(ErrorCode.PERFORMANCE_NOT_FOUND));
+            if (stockView.stock() <= 0) {
+                queueService.setSoldOut(id);
+            }
+            throw new BusinessException(ErrorCode.PERFORMANCE_SOLD_OUT);
+        }
+
+        return performanceCatalogService.find(id).price();
+    }
+
+    // 재고 감소 + 예약 생성 (락 방식과 상관없는 공통 부분)
+    private void reserve(Performance performance, int quantity, Long userId) {
+        // 2. 유저는 프록시로 (예약에는 FK만 있으면 되니깐 SELECT 안 나감)
+        User user = userRepository.getReferenceById(userId);
 
         // 3. 재고 감소 (Entity에게 위임)
         // - 여기서 동시에 접근하면, 두 스레드 모두 통과할 수 있음
@@ -80,33 +197,85 @@ public class PerformanceService {
 
         // 구매 후 재고가 0이 되었는지 확인
         if (performance.getStock() <= 0) {
-            queueService.setSoldOut(id);
+            queueService.setSoldOut(performance.getId());
+        }
+    }
+
+    // 이메일 -> 유저 id (토큰에 uid가 없는 경로에서만 사용)
+    public Long getUserId(String email) {
+        return userRepository.findIdByEmail(email)
+            .orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND));
+    }
+
+    // 예매 방식 변경
+    // - 방식마다 따로 들고 있는 재고 카운터 정리는 커밋 후에 PerformancePurchaseFacade가 (PurchaseStrategy.reset)
+    // return: 바꾸기 전 방식 (지정된 적 없으면 null)
+    @Transactional
+    public PurchaseStrategyType changePurchaseStrategy(Long id, PurchaseStrategyType purchaseStrategy) {
+        Performance performance = performanceRepository.findById(id)
+            .orElseThrow(() -> new BusinessException(ErrorCode.PERFORMANCE_NOT_FOUND));
+
+        // 장부로 판매된 공연은 장부에서 벗어날 수 없음
+        // - 다른 방식은 performance.stock을 바로 바꾸는데, 장부 카운터(ledger_remaining)와 스냅샷은 그걸 모름
+        //   -> 다시 장부로 돌아오면 같은 좌석을 한 번 더 팔 수 있음
+        if (purchaseStrategy != PurchaseStrategyType.LEDGER && inventoryLedgerRepository.existsByPerformanceId(id)) {
+            throw new BusinessException(ErrorCode.PURCHASE_STRATEGY_LOCKED);
         }
+
+        PurchaseStrategyType previous = performance.getPurchaseStrategy();
+        performance.changePurchaseStrategy(purchaseStrategy);
+
+        // 예매 방식에 따라 재고를 읽는 카운터가 달라지므로 정적 정보 캐시도 비움
+        afterCommit(() -> performanceCatalogService.evict(id));
+        return previous;
     }
 
     // 예약 취소
     @Transactional
-    @CacheEvict(value = "performances", allEntries = true) // 만약 공연 상세보기를 했을 때, 거기에 적힌 수량도 바뀌어야하니깐 추가해보긴 했어
     public void cancel(Long reservationId) {
         // 1. 예약 내역 조회
         Reservation reservation = reservationRepository.findById(reservationId)
             .orElseThrow(() -> new BusinessException(ErrorCode.RESERVATION_NOT_FOUND));
 
-        // 2. 이미 취소된 예약인지 체크
-        if (reservation.getStatus() == ReservationStatus.CANCELLED) {
+        // 2. 이미 취소된 예약인지 체크 (만료된 점유도 이미 재고가 반납됨)
+        if (reservation.getStatus() == ReservationStatus.CANCELLED
+                || reservation.getStatus() == ReservationStatus.EXPIRED) {
             throw new BusinessException(ErrorCode.ALREADY_CANCELLED);
         }
 
         // 3. 재고 복구 (해당 공연을 찾아와서 취소 수량만큼 더함)
         Performance performance = reservation.getPerformance();
-        performance.increaseStock((reservation.getCount()));
+        if (inventoryLedgerRepository.existsByReservationId(reservationId)) {
+            // 장부로 예매된 예약 -> 장부에 +수량을 쓰고, 커밋된 뒤에 선점 카운터도 돌려줌
+            restockLedger(performance.getId(), reservationId, reservation.getCount());
+        } else {
+            performance.increaseStock((reservation.getCount()));
+        }
 
         // 4. 예약 상태 변경
         reservation.cancel();
 
-        // 5. 캐시 비우기 (재고 수량이 바뀌었으니 목록 캐시도 날려야 정확함)
+        // 5. 목록 캐시는 비우지 않음 (정적 정보만 캐시하고, 남은 재고는 LiveStockReader가 따로 읽음)
+
+        // 6. 매진 간판 내리기 (재고가 돌아온 게 커밋된 뒤에)
+        Long performanceId = performance.getId();
+        afterCommit(() -> queueService.removeSoldOut(performanceId));
+    }
+
+    private void restockLedger(Long performanceId, Long reservationId, int quantity) {
+        inventoryLedgerService.append(InventoryLedger.cancel(performanceId, reservationId, quantity));
+
+        // 롤백되면 카운터만 늘어나서 초과 판매가 되므로 반드시 커밋 후에
+        afterCommit(() -> inventoryLedgerService.release(performanceId, quantity));
+    }
 
-        // 매진 간판 내리ㅣ
+    private void afterCommit(Runnable action) {
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
     }
 
 }
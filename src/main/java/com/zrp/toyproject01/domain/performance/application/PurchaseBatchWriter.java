@@ -0,0 +1,153 @@
+package com.zrp.toyproject01.domain.performance.application;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.zrp.toyproject01.domain.performance.dao.PerformanceRepository;
+import com.zrp.toyproject01.domain.performance.domain.Performance;
+import com.zrp.toyproject01.domain.performance.dto.PerformanceStockView;
+import com.zrp.toyproject01.domain.queue.application.QueueService;
+import com.zrp.toyproject01.domain.reservation.domain.ReservationStatus;
+import com.zrp.toyproject01.global.error.BusinessException;
+import com.zrp.toyproject01.global.error.ErrorCode;
+
+import lombok.RequiredArgsConstructor;
+
+// 여러 건의 예매를 트랜잭션 1번으로 처리 (group commit)
+// - 공연 row 락 1번 + 재고 UPDATE 1번 + 예약 INSERT는 JDBC batch로 한 번에
+// - IDENTITY 전략이라 JPA saveAll로는 batch insert가 안 돼서 JdbcTemplate 사용
+//   (MySQL은 JDBC URL에 rewriteBatchedStatements=true가 있어야 multi-row INSERT 한 방으로 나감)
+@Component
+@RequiredArgsConstructor
+public class PurchaseBatchWriter {
+
+    private static final String INSERT_RESERVATION_SQL =
+        "insert into reservation (user_id, performance_id, count, price, status, created_at, updated_at) "
+        + "values (?, ?, ?, ?, ?, ?, ?)";
+
+    private final PerformanceRepository performanceRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final QueueService queueService;
+
+    private static final String SELECT_USER_IDS_SQL = "select id from users where id in (%s)";
+
+    // return: 요청 순서대로 결과 (성공 true / 매진 false)
+    // - user_id는 토큰에서 꺼낸 값이라 INSERT 전에 한 번에 확인 (없는 유저 1명 때문에 FK 위반으로 배치 전체가 롤백되지 않도록)
+    //   없는 유저의 요청은 여기서 USER_NOT_FOUND로 끝내고 재고를 배분하지 않음 (결과 목록에는 false 자리만 채움)
+    @Transactional(timeout = 5)
+    public List<Boolean> apply(Long performanceId, List<PendingPurchase> batch) {
+        // 1. 공연 row 락 (배치 전체에서 딱 1번)
+        Performance performance = performanceRepository.findByIdWithLock(performanceId)
+            .orElseThrow(() -> new BusinessException(ErrorCode.PERFORMANCE_NOT_FOUND));
+
+        // 2. 들어온 순서대로 재고 배분
+        Set<Long> userIds = findExistingUserIds(batch);
+        List<Boolean> results = new ArrayList<>(batch.size());
+        List<Object[]> rows = new ArrayList<>();
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        int remain = performance.getStock();
+
+        for (PendingPurchase purchase : batch) {
+            if (!userIds.contains(purchase.userId())) {
+                purchase.result().completeExceptionally(new BusinessException(ErrorCode.USER_NOT_FOUND));
+                results.add(false);
+            } else if (remain < purchase.quantity()) {
+                results.add(false);
+            } else {
+                remain -= purchase.quantity();
+                rows.add(new Object[] {
+                    purchase.userId(), performanceId, purchase.quantity(), performance.getPrice(),
+                    ReservationStatus.RESERVED.name(), now, now
+                });
+                results.add(true);
+            }
+        }
+
+        if (rows.isEmpty()) {
+            return results;
+        }
+
+        // 3. 재고 UPDATE 1번 + 예약 INSERT batch 1번
+        performance.decreaseStock(performance.getStock() - remain);
+        jdbcTemplate.batchUpdate(INSERT_RESERVATION_SQL, rows);
+
+        if (remain <= 0) {
+            queueService.setSoldOut(performanceId);
+        }
+
+        return results;
+    }
+
+    // 이미 판정이 끝난 배치를 그대로 기록 (StockSequencer가 메모리에서 재고를 배분한 경우)
+    // - 조건부 UPDATE라서 메모리 재고가 DB와 어긋나 있어도 DB 재고가 음수가 되지는 않음
+    //   (재고가 모자라면 배치 전체 롤백 -> 호출한 쪽에서 DB 재고로 다시 맞춤)
+    // return: 기록 후 남은 DB 재고
+    // - 없는 유저의 요청은 USER_NOT_FOUND로 끝내고 기록하지 않음 (메모리 재고와 달라진 만큼은 호출한 쪽이 DB 재고로 맞춤)
+    @Transactional(timeout = 5)
+    public int write(Long performanceId, List<PendingPurchase> accepted) {
+        Set<Long> userIds = findExistingUserIds(accepted);
+        List<PendingPurchase> batch = new ArrayList<>(accepted.size());
+        for (PendingPurchase purchase : accepted) {
+            if (userIds.contains(purchase.userId())) {
+                batch.add(purchase);
+            } else {
+                purchase.result().completeExceptionally(new BusinessException(ErrorCode.USER_NOT_FOUND));
+            }
+        }
+
+        if (batch.isEmpty()) {
+            return performanceRepository.findStockViewById(performanceId)
+                .map(PerformanceStockView::stock)
+                .orElseThrow(() -> new BusinessException(ErrorCode.PERFORMANCE_NOT_FOUND));
+        }
+
+        int total = batch.stream().mapToInt(PendingPurchase::quantity).sum();
+
+        // 1. 재고 UPDATE 1번 (row 락은 커밋까지)
+        if (performanceRepository.decreaseStock(performanceId, total) == 0) {
+            throw new BusinessException(ErrorCode.PERFORMANCE_SOLD_OUT);
+        }
+
+        PerformanceStockView stockView = performanceRepository.findStockViewById(performanceId)
+            .orElseThrow(() -> new BusinessException(ErrorCode.PERFORMANCE_NOT_FOUND));
+
+        // 2. 예약 INSERT batch 1번
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> rows = new ArrayList<>(batch.size());
+
+        for (PendingPurchase purchase : batch) {
+            rows.add(new Object[] {
+                purchase.userId(), performanceId, purchase.quantity(), stockView.price(),
+                ReservationStatus.RESERVED.name(), now, now
+            });
+        }
+        jdbcTemplate.batchUpdate(INSERT_RESERVATION_SQL, rows);
+
+        if (stockView.stock() <= 0) {
+            queueService.setSoldOut(performanceId);
+        }
+
+        return stockView.stock();
+    }
+
+    // 배치에 있는 유저 중 실제로 있는 id (SELECT 1번)
+    private Set<Long> findExistingUserIds(List<PendingPurchase> batch) {
+        List<Long> ids = batch.stream().map(PendingPurchase::userId).distinct().toList();
+        if (ids.isEmpty()) {
+            return Set.of();
+        }
+
+        String placeholders = String.join(",", Collections.nCopies(ids.size(), "?"));
+        return new HashSet<>(jdbcTemplate.queryForList(String.format(SELECT_USER_IDS_SQL, placeholders), Long.class, ids.toArray()));
+    }
+
+}
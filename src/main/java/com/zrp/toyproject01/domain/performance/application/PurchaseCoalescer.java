@@ -0,0 +1,164 @@
+package com.zrp.toyproject01.domain.performance.application;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+// 같은 공연에 몰린 예매 요청을 모아서 한 번에 커밋 (group commit)
+// - 짧은 시간(window-millis) 동안 모으거나, batch-size만큼 차면 바로 처리
+// - 공연마다 처리 중인 배치는 1개뿐이라서, 처리하는 동안 들어온 요청은 다음 배치로 모임
+// - 요청마다 락 + 트랜잭션 + 커밋을 하던 것을 배치당 1번으로 줄임
+// - 실행기 작업 1개 = 배치 1개 -> 남은 요청은 실행기 줄 맨 뒤로 다시 넣음 (몰리는 공연 하나가 스레드를 붙잡고 다른 공연을 굶기지 않도록)
+// - 처리할 게 없는 공연 줄은 맵에서 지움 (끝난 공연 줄이 계속 쌓이지 않도록)
+@Component
+@Slf4j
+public class PurchaseCoalescer {
+
+    private final PurchaseBatchWriter purchaseBatchWriter;
+    private final int batchSize;
+    private final long windowMillis;
+
+    private final Map<Long, Lane> lanes = new ConcurrentHashMap<>();
+    private final ScheduledExecutorService timer = Executors.newSingleThreadScheduledExecutor();
+    private final ExecutorService flushExecutor;
+
+    public PurchaseCoalescer(
+        PurchaseBatchWriter purchaseBatchWriter,
+        @Value("${performance.coalescer.batch-size:100}") int batchSize,
+        @Value("${performance.coalescer.window-millis:5}") long windowMillis,
+        @Value("${performance.coalescer.threads:4}") int threads
+    ) {
+        this.purchaseBatchWriter = purchaseBatchWriter;
+        this.batchSize = batchSize;
+        this.windowMillis = windowMillis;
+        this.flushExecutor = Executors.newFixedThreadPool(threads);
+    }
+
+    // 예매 요청 등록 (커밋이 끝나면 future가 완료됨)
+    public CompletableFuture<Boolean> submit(Long performanceId, int quantity, Long userId) {
+        PendingPurchase purchase = new PendingPurchase(userId, quantity, new CompletableFuture<>());
+
+        // 개수를 먼저 올리고 넣어야 pending이 실제 줄 길이보다 작아지지 않음
+        // (맵 안에서 올려야 줄을 지우는 쪽과 엇갈리지 않음 - pending이 0일 때만 지움)
+        Lane lane = lanes.compute(performanceId, (id, current) -> {
+            Lane target = current != null ? current : new Lane(id);
+            target.pending.incrementAndGet();
+            return target;
+        });
+        int pending = lane.pending.get();
+        lane.queue.add(purchase);
+
+        if (pending >= batchSize) {
+            // 배치가 꽉 찼으면 바로 처리
+            startFlush(lane);
+        } else if (lane.timerArmed.compareAndSet(false, true)) {
+            // 첫 요청이면 window 뒤에 처리 (그 사이에 들어온 요청은 같이 묶임)
+            timer.schedule(() -> {
+                lane.timerArmed.set(false);
+                startFlush(lane);
+            }, windowMillis, TimeUnit.MILLISECONDS);
+        }
+
+        return purchase.result();
+    }
+
+    private void startFlush(Lane lane) {
+        if (lane.flushing.compareAndSet(false, true)) {
+            flushExecutor.execute(() -> flush(lane));
+        }
+    }
+
+    // 배치 1개만 처리하고 나감
+    private void flush(Lane lane) {
+        try {
+            List<PendingPurchase> batch = drain(lane);
+            if (!batch.isEmpty()) {
+                apply(lane.performanceId, batch);
+            }
+        } finally {
+            lane.flushing.set(false);
+
+            if (lane.pending.get() > 0) {
+                // 남은 요청 / flushing을 내리는 사이에 들어온 요청 -> 실행기 줄 맨 뒤에서 다시
+                startFlush(lane);
+            } else {
+                lanes.computeIfPresent(lane.performanceId, (id, current) -> current == lane && current.isIdle() ? null : current);
+            }
+        }
+    }
+
+    private List<PendingPurchase> drain(Lane lane) {
+        List<PendingPurchase> batch = new ArrayList<>(batchSize);
+        PendingPurchase purchase;
+        int polled = 0;
+
+        while (polled < batchSize && (purchase = lane.queue.poll()) != null) {
+            polled++;
+            // 기다리다 포기(취소)한 요청은 건너뜀
+            if (!purchase.result().isDone()) {
+                batch.add(purchase);
+            }
+        }
+
+        lane.pending.addAndGet(-polled);
+        return batch;
+    }
+
+    private void apply(Long performanceId, List<PendingPurchase> batch) {
+        try {
+            // 커밋까지 끝난 뒤에 돌아옴
+            List<Boolean> results = purchaseBatchWriter.apply(performanceId, batch);
+
+            // 없는 유저라서 writer가 이미 실패로 끝낸 요청은 그대로 (complete는 무시됨)
+            for (int i = 0; i < batch.size(); i++) {
+                batch.get(i).result().complete(results.get(i));
+            }
+
+            log.debug("배치 커밋 완료. performanceId: {}, 요청 수: {}", performanceId, batch.size());
+        } catch (Exception e) {
+            // 배치 전체 실패 (롤백됨)
+            log.error("배치 커밋 실패! performanceId: {}, 요청 수: {}", performanceId, batch.size(), e);
+            batch.forEach(purchase -> purchase.result().completeExceptionally(e));
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        timer.shutdown();
+        flushExecutor.shutdown();
+    }
+
+    // 공연별 요청 줄
+    private static class Lane {
+        private final Long performanceId;
+        private final Queue<PendingPurchase> queue = new ConcurrentLinkedQueue<>();
+        private final AtomicInteger pending = new AtomicInteger();
+        private final AtomicBoolean timerArmed = new AtomicBoolean();
+        private final AtomicBoolean flushing = new AtomicBoolean();
+
+        private Lane(Long performanceId) {
+            this.performanceId = performanceId;
+        }
+
+        private boolean isIdle() {
+            return pending.get() == 0 && !flushing.get() && !timerArmed.get();
+        }
+    }
+
+}
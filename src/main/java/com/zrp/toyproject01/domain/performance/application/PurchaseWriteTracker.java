@@ -0,0 +1,86 @@
+package com.zrp.toyproject01.domain.performance.application;
+
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import com.zrp.toyproject01.domain.performance.dto.PurchaseWriteStatus;
+
+// Lua 재고 엔진의 DB 반영 상태 (write-behind라서 예매 응답 시점에는 아직 예약이 DB에 없음)
+// - 공연 + 유저마다 Hash 1개: pending(DB 반영 대기 건수) / failed(재시도까지 실패해서 반영 못 한 건수)
+// - 클라이언트는 예매 응답을 받은 뒤 이 상태로 확정 / 실패를 확인함 (failed면 Redis 재고는 이미 돌려놓은 상태 -> 다시 예매 가능)
+// - 둘 다 0이 되면 키를 지우고, 아니면 마지막으로 바뀐 뒤 status-ttl-seconds가 지나면 사라짐
+@Component
+public class PurchaseWriteTracker {
+
+    private static final String STATUS_KEY = "purchase_write:"; // purchase_write:{공연 id}:{유저 id} (Hash)
+
+    // KEYS: [1] 상태 키 / ARGV: [1] pending 증감, [2] failed 증감, [3] TTL(초)
+    private static final RedisScript<Long> CHANGE_SCRIPT = new DefaultRedisScript<>("""
+        local pending = redis.call('HINCRBY', KEYS[1], 'pending', ARGV[1])
+        local failed = redis.call('HINCRBY', KEYS[1], 'failed', ARGV[2])
+        if pending <= 0 and failed <= 0 then
+            redis.call('DEL', KEYS[1])
+        else
+            redis.call('EXPIRE', KEYS[1], ARGV[3])
+        end
+        return failed
+        """, Long.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final long ttlSeconds;
+
+    public PurchaseWriteTracker(
+        RedisTemplate<String, String> redisTemplate,
+        @Value("${performance.lua.write-status-ttl-seconds:86400}") long ttlSeconds
+    ) {
+        this.redisTemplate = redisTemplate;
+        this.ttlSeconds = ttlSeconds;
+    }
+
+    // Redis에서 재고를 뺐고 DB 반영을 넘기기 직전
+    public void accept(Long performanceId, Long userId) {
+        change(performanceId, userId, 1, 0);
+    }
+
+    // DB 반영 성공
+    public void complete(Long performanceId, Long userId) {
+        change(performanceId, userId, -1, 0);
+    }
+
+    // DB 반영 작업을 넘기지 못함 (요청 스레드에서 바로 실패 응답을 받으므로 대기 건수만 되돌림)
+    public void withdraw(Long performanceId, Long userId) {
+        change(performanceId, userId, -1, 0);
+    }
+
+    // 재시도까지 실패 (dead letter - 클라이언트가 확인할 때까지 남김)
+    public void fail(Long performanceId, Long userId) {
+        change(performanceId, userId, -1, 1);
+    }
+
+    public PurchaseWriteStatus get(Long performanceId, Long userId) {
+        List<Object> values = redisTemplate.opsForHash().multiGet(key(performanceId, userId), List.of("pending", "failed"));
+        return new PurchaseWriteStatus(toInt(values.get(0)), toInt(values.get(1)));
+    }
+
+    private void change(Long performanceId, Long userId, int pending, int failed) {
+        redisTemplate.execute(
+            CHANGE_SCRIPT,
+            List.of(key(performanceId, userId)),
+            String.valueOf(pending), String.valueOf(failed), String.valueOf(ttlSeconds)
+        );
+    }
+
+    private String key(Long performanceId, Long userId) {
+        return STATUS_KEY + performanceId + ":" + userId;
+    }
+
+    private int toInt(Object value) {
+        return value != null ? Math.max(0, Integer.parseInt(value.toString())) : 0;
+    }
+
+}
@@ -0,0 +1,106 @@
+package com.zrp.toyproject01.domain.performance.application;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+
+import lombok.RequiredArgsConstructor;
+
+@Service
+@RequiredArgsConstructor
+public class RedisStockService {
+
+    private final RedisTemplate<String, String> redisTemplate;
+
+    private static final String STOCK_KEY = "stock:";          // 남은 재고 (String)
+    private static final String BUYERS_KEY = "stock_buyers:";  // 구매자별 구매 수량 (Hash)
+
+    // 스크립트 결과 코드 (0 이상이면 차감 후 남은 재고)
+    public static final long NOT_ENOUGH = -1L;       // 재고 부족
+    public static final long NOT_INITIALIZED = -2L;  // Redis에 재고가 아직 적재되지 않음
+
+    // 재고 확인 + 차감 + 구매자 기록을 한 번에 (Lua 스크립트는 Redis 안에서 원자적으로 실행됨)
+    // - 락을 잡고 -> 조회하고 -> 수정하고 -> 락을 푸는 4번의 왕복이 1번으로 줄어듦
+    private static final RedisScript<Long> DECREASE_SCRIPT = new DefaultRedisScript<>("""
+        local stock = redis.call('GET', KEYS[1])
+        if not stock then
+            return -2
+        end
+        local quantity = tonumber(ARGV[1])
+        if tonumber(stock) < quantity then
+            return -1
+        end
+        redis.call('HINCRBY', KEYS[2], ARGV[2], quantity)
+        return redis.call('DECRBY', KEYS[1], quantity)
+        """, Long.class);
+
+    // 재고 복구 + 구매자 기록 차감 (취소, DB 반영 실패 시)
+    private static final RedisScript<Long> INCREASE_SCRIPT = new DefaultRedisScript<>("""
+        local stock = redis.call('GET', KEYS[1])
+        if not stock then
+            return -2
+        end
+        local quantity = tonumber(ARGV[1])
+        local bought = tonumber(redis.call('HGET', KEYS[2], ARGV[2]) or '0')
+        if bought <= quantity then
+            redis.call('HDEL', KEYS[2], ARGV[2])
+        else
+            redis.call('HINCRBY', KEYS[2], ARGV[2], -quantity)
+        end
+        return redis.call('INCRBY', KEYS[1], quantity)
+        """, Long.class);
+
+    // 재고 차감 시도
+    // - return: 남은 재고(0 이상) / NOT_ENOUGH / NOT_INITIALIZED
+    public long decrease(Long performanceId, int quantity, String buyer) {
+        Long result = redisTemplate.execute(
+            DECREASE_SCRIPT,
+            List.of(STOCK_KEY + performanceId, BUYERS_KEY + performanceId),
+            String.valueOf(quantity), buyer
+        );
+        return result != null ? result : NOT_INITIALIZED;
+    }
+
+    // 재고 복구
+    public long increase(Long performanceId, int quantity, String buyer) {
+        Long result = redisTemplate.execute(
+            INCREASE_SCRIPT,
+            List.of(STOCK_KEY + performanceId, BUYERS_KEY + performanceId),
+            String.valueOf(quantity), buyer
+        );
+        return result != null ? result : NOT_INITIALIZED;
+    }
+
+    // DB 재고를 Redis로 적재
+    // - SETNX라서 여러 스레드가 동시에 적재해도 처음 한 번만 반영됨 (이미 차감 중인 값을 덮어쓰지 않음)
+    public void initStock(Long performanceId, int stock) {
+        redisTemplate.opsForValue().setIfAbsent(STOCK_KEY + performanceId, String.valueOf(stock));
+    }
+
+    // Redis 재고 + 구매자 기록 삭제 (다음 차감 때 DB 재고로 다시 적재됨)
+    public void reset(Long performanceId) {
+        redisTemplate.delete(List.of(STOCK_KEY + performanceId, BUYERS_KEY + performanceId));
+    }
+
+    // 현재 Redis 재고 (적재 전이면 null)
+    public Integer getStock(Long performanceId) {
+        String stock = redisTemplate.opsForValue().get(STOCK_KEY + performanceId);
+        return stock != null ? Integer.valueOf(stock) : null;
+    }
+
+    // 여러 공연의 Redis 재고를 한 번에 (MGET 1번, 적재 전인 공연은 null)
+    public List<Integer> getStocks(List<Long> performanceIds) {
+        List<String> values = redisTemplate.opsForValue().multiGet(performanceIds.stream().map(id -> STOCK_KEY + id).toList());
+        List<Integer> counts = new ArrayList<>(performanceIds.size());
+        for (int i = 0; i < performanceIds.size(); i++) {
+            String value = values != null ? values.get(i) : null;
+            counts.add(value != null ? Integer.valueOf(value) : null);
+        }
+        return counts;
+    }
+
+}
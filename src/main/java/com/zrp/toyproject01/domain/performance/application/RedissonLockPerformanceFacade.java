@@ -6,7 +6,9 @@ import org.redisson.api.RLock;
 import org.redisson.api.RedissonClient;
 import org.springframework.stereotype.Component;
 
+import com.zrp.toyproject01.domain.queue.application.AdaptiveAdmissionRate;
 import com.zrp.toyproject01.domain.queue.application.QueueService;
+import com.zrp.toyproject01.domain.queue.dto.QueueGate;
 import com.zrp.toyproject01.domain.reservation.dao.ReservationRepository;
 import com.zrp.toyproject01.domain.reservation.domain.Reservation;
 import com.zrp.toyproject01.global.error.BusinessException;
@@ -27,6 +29,9 @@ public class RedissonLockPerformanceFacade {
     // 입장권 검사를 위해 QueueService 주입하기
     private final QueueService queueService;
 
+    // 락 획득 실패 비율을 입장 속도 조절 신호로 넘김
+    private final AdaptiveAdmissionRate admissionRate;
+
     // public boolean purchase(Long id, int quantity, String email) {
     //     // 락의 이름 설정(Unique 해야함)
     //     // 예: performance:1 (1번 공연에 대한 자물쇠)
@@ -115,22 +120,17 @@ public class RedissonLockPerformanceFacade {
     // 대기열
     public boolean purchase(Long id, int quantity, String email) {
 
-        // 매진 여부 확인 (Redis 조회 속도 빠름)
-        if (queueService.isSoldOut(id)) {
+        // 매진 / 입장권 / 줄 서기를 Redis 왕복 1번으로 (입구 Lua 스크립트)
+        QueueGate gate = queueService.gate(id, email);
+
+        if (gate.status() == QueueGate.Status.SOLD_OUT) {
             throw new BusinessException(ErrorCode.PERFORMANCE_SOLD_OUT);
         }
 
         // 입장 권한 체크
-        if (!queueService.isAllowed(email)) { 
-            // 입장 명단에 없으면
-            
-            // 대기열 ZSet에 등록 (이미 있으면 순서 유지됨)
-            queueService.addQueue(email);
-
-            Long rank = queueService.getRank(email);
-            long waitingNumber = (rank != null) ? rank + 1 : 0;
-
-            log.info("접근 불가! 대기열로 이동합니다. 대기 순번: {}등", waitingNumber);
+        if (gate.status() == QueueGate.Status.QUEUED) { 
+            // 입장 명단에 없으면 대기열에 등록됨 (이미 있으면 원래 번호표 그대로)
+            log.info("접근 불가! 대기열로 이동합니다. 대기 순번: {}등", gate.position());
 
 
             // 실패 처리 (프론트에서 대기 중입니다 화면)
@@ -140,16 +140,26 @@ public class RedissonLockPerformanceFacade {
         // 입장 권한이 있는 경우 (기존 로직 실행)
         log.info("🎉 입장 성공! 티켓 구매를 시도합니다. User: {}", email);
 
+        boolean success = purchaseWithLock(id, quantity, performanceService.getUserId(email));
+        if (success) {
+            queueService.complete(id, email); // 입장권 반납 (락 획득 실패면 입장권 유지 -> 재시도)
+        }
+        return success;
+    }
+
+    // 분산 락을 잡고 예매 (대기열 검사는 호출하는 쪽에서 끝났다고 가정)
+    public boolean purchaseWithLock(Long id, int quantity, Long userId) {
         RLock lock = redissonClient.getLock("performance:" + id);
 
         try {
             boolean available = lock.tryLock(2, 5, TimeUnit.SECONDS);
+            admissionRate.recordLockAttempt(available);
 
             if (!available) {
                 return false; // 시스템 혼잡으로 실패
             }
 
-            performanceService.purchase(id, quantity, email);
+            performanceService.purchase(id, quantity, userId);
             
             return true;
 
@@ -0,0 +1,242 @@
+package com.zrp.toyproject01.domain.performance.application;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.zrp.toyproject01.domain.performance.dao.PerformanceRepository;
+import com.zrp.toyproject01.domain.performance.domain.Performance;
+import com.zrp.toyproject01.global.error.BusinessException;
+import com.zrp.toyproject01.global.error.ErrorCode;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+// 공연별 단일 작성자(single writer) 재고 처리기 - 단일 서버 플래시 세일용
+// - 공연마다 전용 스레드 1개가 메모리 재고를 혼자 들고 판정함 (락 / CAS 경쟁 없음)
+// - 요청 스레드는 링 버퍼에 넣고 기다리기만 함
+// - 판정이 끝난 요청은 batch-size만큼 모아서 DB에 한 번에 기록하고, 커밋 후에 응답
+// - 스레드가 시작될 때 DB 재고를 읽어오므로 재시작해도 커밋된 상태에서 이어감
+// - 재고가 모자라서 거절하기 전에는 DB 재고를 다시 읽어봄 (sold-out-reload-millis에 1번만)
+//   -> 처리기를 거치지 않고 돌아온 재고(다른 경로의 취소 / 만료)도 다시 팔 수 있음
+// - 서버가 여러 대면 서버마다 재고를 따로 들고 있게 되므로 쓰면 안 됨 (DB 조건부 UPDATE가 초과 판매만 막아줌)
+@Component
+@Slf4j
+public class StockSequencer {
+
+    private final PurchaseBatchWriter purchaseBatchWriter;
+    private final PerformanceRepository performanceRepository;
+    private final int bufferSize;
+    private final int batchSize;
+    private final long soldOutReloadMillis;
+
+    private final Map<Long, Sequencer> sequencers = new ConcurrentHashMap<>();
+
+    public StockSequencer(
+        PurchaseBatchWriter purchaseBatchWriter,
+        PerformanceRepository performanceRepository,
+        @Value("${performance.sequencer.buffer-size:4096}") int bufferSize,
+        @Value("${performance.sequencer.batch-size:100}") int batchSize,
+        @Value("${performance.sequencer.sold-out-reload-millis:1000}") long soldOutReloadMillis
+    ) {
+        this.purchaseBatchWriter = purchaseBatchWriter;
+        this.performanceRepository = performanceRepository;
+        this.bufferSize = bufferSize;
+        this.batchSize = batchSize;
+        this.soldOutReloadMillis = soldOutReloadMillis;
+    }
+
+    // 예매 요청 등록 (result는 커밋이 끝나면 성공 true / 매진 false로 완료됨)
+    // - 버퍼가 꽉 찼으면 null (혼잡)
+    // - 기다리다 포기하려면 claim()에 성공했을 때만 (실패했으면 이미 판정 / 기록 중이므로 결과를 기다려야 함)
+    public PendingPurchase submit(Long performanceId, int quantity, Long userId) {
+        PendingPurchase purchase = new PendingPurchase(userId, quantity, new CompletableFuture<>());
+        Sequencer sequencer = sequencers.computeIfAbsent(performanceId, this::start);
+
+        if (!sequencer.buffer.offer(purchase)) {
+            return null;
+        }
+
+        sequencer.wakeUp();
+        return purchase;
+    }
+
+    // 다음 판정 전에 DB 재고를 다시 읽게 함 (취소 등 다른 경로로 DB 재고가 늘어난 뒤 - 커밋 후에 호출)
+    // - 처리기가 없으면 아무것도 안 함 (시작할 때 어차피 읽음)
+    public void reload(Long performanceId) {
+        Sequencer sequencer = sequencers.get(performanceId);
+        if (sequencer != null) {
+            sequencer.stale = true;
+            sequencer.wakeUp();
+        }
+    }
+
+    // 공연 처리기 종료 (남은 요청은 처리하고 끝냄)
+    // - 다음 요청이 오면 DB 재고를 다시 읽어서 새로 시작함
+    public void stop(Long performanceId) {
+        Sequencer sequencer = sequencers.remove(performanceId);
+        if (sequencer != null) {
+            sequencer.shutdown();
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        sequencers.keySet().forEach(this::stop);
+    }
+
+    private Sequencer start(Long performanceId) {
+        Sequencer sequencer = new Sequencer(performanceId);
+        sequencer.thread.start();
+        return sequencer;
+    }
+
+    // 공연 1개 전용 처리기
+    private class Sequencer implements Runnable {
+        private static final long IDLE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(10);
+
+        private final Long performanceId;
+        private final MpscRingBuffer<PendingPurchase> buffer = new MpscRingBuffer<>(bufferSize);
+        private final Thread thread;
+
+        private volatile boolean running = true;
+        private volatile boolean parked;
+        private volatile boolean stale; // reload 요청됨
+
+        // 아래 필드는 전용 스레드만 건드림
+        private int stock;
+        private boolean loaded;
+        private long loadedAt; // 마지막으로 DB 재고를 읽은 시각
+
+        private Sequencer(Long performanceId) {
+            this.performanceId = performanceId;
+            this.thread = new Thread(this, "stock-sequencer-" + performanceId);
+            this.thread.setDaemon(true);
+        }
+
+        @Override
+        public void run() {
+            log.info("재고 처리기 시작. performanceId: {}", performanceId);
+
+            List<PendingPurchase> accepted = new ArrayList<>(batchSize);
+
+            while (running || !buffer.isEmpty()) {
+                PendingPurchase purchase = buffer.poll();
+
+                if (purchase == null) {
+                    idle();
+                    continue;
+                }
+
+                // 1. 쌓여 있는 만큼 (최대 batch-size) 메모리 재고로 판정
+                do {
+                    decide(purchase, accepted);
+                } while (accepted.size() < batchSize && (purchase = buffer.poll()) != null);
+
+                // 2. 통과한 요청만 한 번에 기록
+                if (!accepted.isEmpty()) {
+                    flush(accepted);
+                    accepted.clear();
+                }
+            }
+
+            log.info("재고 처리기 종료. performanceId: {}", performanceId);
+        }
+
+        private void decide(PendingPurchase purchase, List<PendingPurchase> accepted) {
+            // 기다리다 포기한 요청은 건너뜀 (여기서 가져가면 요청 쪽은 더 이상 포기할 수 없음)
+            if (!purchase.claim()) {
+                return;
+            }
+
+            try {
+                if (!loaded || stale) {
+                    reload(accepted);
+                } else if (stock < purchase.quantity() && System.currentTimeMillis() - loadedAt >= soldOutReloadMillis) {
+                    // 거절하기 전에 DB 재고를 다시 봄 (매진 뒤 몰리는 요청마다 읽지 않도록 간격을 둠)
+                    reload(accepted);
+                }
+            } catch (Exception e) {
+                purchase.result().completeExceptionally(e);
+                loaded = false; // 다음 요청 때 다시 읽음
+                return;
+            }
+
+            if (stock < purchase.quantity()) {
+                purchase.result().complete(false);
+                return;
+            }
+
+            stock -= purchase.quantity();
+            accepted.add(purchase);
+        }
+
+        // 이번 배치에서 이미 통과시킨 만큼은 아직 DB에 없으므로 빼고 시작
+        private void reload(List<PendingPurchase> accepted) {
+            stale = false;
+            stock = loadStock() - accepted.stream().mapToInt(PendingPurchase::quantity).sum();
+            loaded = true;
+            loadedAt = System.currentTimeMillis();
+        }
+
+        private void flush(List<PendingPurchase> accepted) {
+            try {
+                // 커밋까지 끝난 뒤에 돌아옴
+                int remain = purchaseBatchWriter.write(performanceId, accepted);
+                // 없는 유저라서 writer가 이미 실패로 끝낸 요청은 그대로 (complete는 무시됨)
+                accepted.forEach(purchase -> purchase.result().complete(true));
+
+                if (remain != stock) {
+                    // 다른 경로(취소 등)로 DB 재고가 바뀐 경우 -> DB 기준으로 맞춤
+                    log.info("메모리 재고 보정. performanceId: {}, 메모리: {}, DB: {}", performanceId, stock, remain);
+                    stock = remain;
+                }
+            } catch (Exception e) {
+                // 배치 전체 롤백 -> 다음 판정 때 DB 재고를 다시 읽어옴
+                log.error("배치 기록 실패! performanceId: {}, 요청 수: {}", performanceId, accepted.size(), e);
+                accepted.forEach(purchase -> purchase.result().completeExceptionally(e));
+                loaded = false;
+            }
+        }
+
+        private int loadStock() {
+            return performanceRepository.findById(performanceId)
+                .map(Performance::getStock)
+                .orElseThrow(() -> new BusinessException(ErrorCode.PERFORMANCE_NOT_FOUND));
+        }
+
+        // 할 일이 없으면 잠깐 쉼 (producer가 넣으면서 깨워줌)
+        private void idle() {
+            parked = true;
+            if (buffer.isEmpty() && running) {
+                LockSupport.parkNanos(this, IDLE_PARK_NANOS);
+            }
+            parked = false;
+        }
+
+        private void wakeUp() {
+            if (parked) {
+                LockSupport.unpark(thread);
+            }
+        }
+
+        private void shutdown() {
+            running = false;
+            LockSupport.unpark(thread);
+
+            try {
+                thread.join(TimeUnit.SECONDS.toMillis(10));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+}
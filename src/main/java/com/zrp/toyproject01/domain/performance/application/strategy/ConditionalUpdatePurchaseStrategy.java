@@ -0,0 +1,32 @@
+package com.zrp.toyproject01.domain.performance.application.strategy;
+
+import org.springframework.stereotype.Component;
+
+import com.zrp.toyproject01.domain.performance.application.PerformanceService;
+import com.zrp.toyproject01.domain.performance.domain.PurchaseStrategyType;
+
+import lombok.RequiredArgsConstructor;
+
+@Component
+@RequiredArgsConstructor
+public class ConditionalUpdatePurchaseStrategy implements PurchaseStrategy {
+
+    private final PerformanceService performanceService;
+
+    @Override
+    public PurchaseStrategyType type() {
+        return PurchaseStrategyType.CONDITIONAL_UPDATE;
+    }
+
+    @Override
+    public boolean purchase(Long performanceId, int quantity, Long userId) {
+        performanceService.purchaseWithConditionalUpdate(performanceId, quantity, userId);
+        return true;
+    }
+
+    @Override
+    public void cancel(Long performanceId, Long reservationId) {
+        performanceService.cancel(reservationId);
+    }
+
+}
@@ -0,0 +1,32 @@
+package com.zrp.toyproject01.domain.performance.application.strategy;
+
+import org.springframework.stereotype.Component;
+
+import com.zrp.toyproject01.domain.performance.application.RedissonLockPerformanceFacade;
+import com.zrp.toyproject01.domain.performance.domain.PurchaseStrategyType;
+
+import lombok.RequiredArgsConstructor;
+
+@Component
+@RequiredArgsConstructor
+public class DistributedLockPurchaseStrategy implements PurchaseStrategy {
+
+    private final RedissonLockPerformanceFacade redissonLockPerformanceFacade;
+
+    @Override
+    public PurchaseStrategyType type() {
+        return PurchaseStrategyType.DISTRIBUTED_LOCK;
+    }
+
+    @Override
+    public boolean purchase(Long performanceId, int quantity, Long userId) {
+        return redissonLockPerformanceFacade.purchaseWithLock(performanceId, quantity, userId);
+    }
+
+    // 예매와 같은 공연 락을 잡고 취소
+    @Override
+    public void cancel(Long performanceId, Long reservationId) {
+        redissonLockPerformanceFacade.cancel(reservationId);
+    }
+
+}
@@ -0,0 +1,76 @@
+package com.zrp.toyproject01.domain.performance.application.strategy;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.zrp.toyproject01.domain.performance.application.PerformanceService;
+import com.zrp.toyproject01.domain.performance.application.PurchaseCoalescer;
+import com.zrp.toyproject01.domain.performance.domain.PurchaseStrategyType;
+import com.zrp.toyproject01.global.error.BusinessException;
+import com.zrp.toyproject01.global.error.ErrorCode;
+
+@Component
+public class GroupCommitPurchaseStrategy implements PurchaseStrategy {
+
+    private final PurchaseCoalescer purchaseCoalescer;
+    private final PerformanceService performanceService;
+    private final long replyTimeoutMillis;
+
+    public GroupCommitPurchaseStrategy(
+        PurchaseCoalescer purchaseCoalescer,
+        PerformanceService performanceService,
+        @Value("${performance.coalescer.reply-timeout-millis:5000}") long replyTimeoutMillis
+    ) {
+        this.purchaseCoalescer = purchaseCoalescer;
+        this.performanceService = performanceService;
+        this.replyTimeoutMillis = replyTimeoutMillis;
+    }
+
+    @Override
+    public PurchaseStrategyType type() {
+        return PurchaseStrategyType.GROUP_COMMIT;
+    }
+
+    @Override
+    public boolean purchase(Long performanceId, int quantity, Long userId) {
+        CompletableFuture<Boolean> result = purchaseCoalescer.submit(performanceId, quantity, userId);
+
+        try {
+            // 배치가 커밋될 때까지 대기 (요청 스레드에는 트랜잭션이 없으므로 직접 시간 제한)
+            boolean success;
+            try {
+                success = result.get(replyTimeoutMillis, TimeUnit.MILLISECONDS);
+            } catch (TimeoutException e) {
+                // 아직 배치에 안 들어갔으면 취소되어 건너뜀 / 이미 커밋 중이면 결과를 알 수 없음 -> 예매 내역 확인 안내
+                if (result.cancel(false)) {
+                    throw new BusinessException(ErrorCode.PURCHASE_TIMEOUT);
+                }
+                success = result.get(); // 취소하는 사이에 끝났으면 그 결과를 따름
+            }
+
+            if (!success) {
+                throw new BusinessException(ErrorCode.PERFORMANCE_SOLD_OUT);
+            }
+            return true;
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new RuntimeException(e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException(e);
+        }
+    }
+
+    @Override
+    public void cancel(Long performanceId, Long reservationId) {
+        performanceService.cancel(reservationId);
+    }
+
+}
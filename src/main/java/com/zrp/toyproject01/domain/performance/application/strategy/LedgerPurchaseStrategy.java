@@ -0,0 +1,61 @@
+package com.zrp.toyproject01.domain.performance.application.strategy;
+
+import org.springframework.stereotype.Component;
+
+import com.zrp.toyproject01.domain.performance.application.InventoryLedgerService;
+import com.zrp.toyproject01.domain.performance.application.PerformanceService;
+import com.zrp.toyproject01.domain.performance.domain.PurchaseStrategyType;
+import com.zrp.toyproject01.domain.queue.application.QueueService;
+
+import lombok.RequiredArgsConstructor;
+
+@Component
+@RequiredArgsConstructor
+public class LedgerPurchaseStrategy implements PurchaseStrategy {
+
+    private final InventoryLedgerService inventoryLedgerService;
+    private final PerformanceService performanceService;
+    private final QueueService queueService;
+
+    @Override
+    public PurchaseStrategyType type() {
+        return PurchaseStrategyType.LEDGER;
+    }
+
+    @Override
+    public boolean purchase(Long performanceId, int quantity, Long userId) {
+        // 1. 재고 선점 (부족하면 여기서 SOLD_OUT)
+        long remaining = inventoryLedgerService.reserve(performanceId, quantity);
+
+        // 2. 예약 + 장부 INSERT (실패하면 선점한 만큼 돌려줌)
+        try {
+            performanceService.purchaseWithLedger(performanceId, quantity, userId);
+        } catch (RuntimeException e) {
+            inventoryLedgerService.release(performanceId, quantity);
+            throw e;
+        }
+
+        if (remaining <= 0) {
+            queueService.setSoldOut(performanceId);
+        }
+        return true;
+    }
+
+    // 장부로 판 예약이면 PerformanceService가 장부 +수량 / 선점 카운터 반납까지 함
+    @Override
+    public void cancel(Long performanceId, Long reservationId) {
+        performanceService.cancel(reservationId);
+    }
+
+    // 예약 카운터 삭제 (다음 예매 때 장부 기준 재고로 다시 만듦)
+    @Override
+    public void reset(Long performanceId) {
+        inventoryLedgerService.resetCounter(performanceId);
+    }
+
+    @Override
+    public boolean supportsSeats() {
+        return false;
+    }
+
+}
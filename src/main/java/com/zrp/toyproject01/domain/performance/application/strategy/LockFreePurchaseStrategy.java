@@ -0,0 +1,47 @@
+package com.zrp.toyproject01.domain.performance.application.strategy;
+
+import org.springframework.stereotype.Component;
+
+import com.zrp.toyproject01.domain.performance.application.LuaStockPerformanceFacade;
+import com.zrp.toyproject01.domain.performance.application.RedisStockService;
+import com.zrp.toyproject01.domain.performance.domain.PurchaseStrategyType;
+
+import lombok.RequiredArgsConstructor;
+
+@Component
+@RequiredArgsConstructor
+public class LockFreePurchaseStrategy implements PurchaseStrategy {
+
+    private final LuaStockPerformanceFacade luaStockPerformanceFacade;
+    private final RedisStockService redisStockService;
+
+    @Override
+    public PurchaseStrategyType type() {
+        return PurchaseStrategyType.LOCK_FREE;
+    }
+
+    @Override
+    public boolean purchase(Long performanceId, int quantity, Long userId) {
+        return luaStockPerformanceFacade.decreaseStock(performanceId, quantity, userId);
+    }
+
+    // DB 취소 후 Redis 재고 + 구매자 기록도 돌려줌
+    @Override
+    public void cancel(Long performanceId, Long reservationId) {
+        luaStockPerformanceFacade.cancel(reservationId);
+    }
+
+    // Redis 재고 키 삭제 (다음 예매 때 DB 재고로 다시 적재)
+    // - 아직 DB에 반영 중인 예매가 있으면 그만큼 크게 적재될 수 있지만, DB 반영이 재고를 다시 검사하므로
+    //   넘친 예매는 실패로 남음 (PurchaseWriteTracker)
+    @Override
+    public void reset(Long performanceId) {
+        redisStockService.reset(performanceId);
+    }
+
+    @Override
+    public boolean supportsSeats() {
+        return false;
+    }
+
+}
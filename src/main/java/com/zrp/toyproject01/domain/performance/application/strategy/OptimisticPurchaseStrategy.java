@@ -0,0 +1,39 @@
+package com.zrp.toyproject01.domain.performance.application.strategy;
+
+import org.springframework.stereotype.Component;
+
+import com.zrp.toyproject01.domain.performance.application.OptimisticLockPerformanceFacade;
+import com.zrp.toyproject01.domain.performance.application.PerformanceService;
+import com.zrp.toyproject01.domain.performance.domain.PurchaseStrategyType;
+
+import lombok.RequiredArgsConstructor;
+
+@Component
+@RequiredArgsConstructor
+public class OptimisticPurchaseStrategy implements PurchaseStrategy {
+
+    private final OptimisticLockPerformanceFacade optimisticLockPerformanceFacade;
+    private final PerformanceService performanceService;
+
+    @Override
+    public PurchaseStrategyType type() {
+        return PurchaseStrategyType.OPTIMISTIC;
+    }
+
+    @Override
+    public boolean purchase(Long performanceId, int quantity, Long userId) {
+        try {
+            optimisticLockPerformanceFacade.purchase(performanceId, quantity, userId);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException(e);
+        }
+    }
+
+    @Override
+    public void cancel(Long performanceId, Long reservationId) {
+        performanceService.cancel(reservationId);
+    }
+
+}
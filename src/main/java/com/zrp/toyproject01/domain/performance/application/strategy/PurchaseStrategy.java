@@ -0,0 +1,32 @@
+package com.zrp.toyproject01.domain.performance.application.strategy;
+
+import com.zrp.toyproject01.domain.performance.domain.PurchaseStrategyType;
+
+// 예매(재고 차감) 방식 SPI
+// - 구현체를 @Component로 등록하면 PurchaseStrategyRegistry가 알아서 모아감
+// - 대기열(입장권) 검사는 PerformancePurchaseFacade에서 끝난 뒤에 호출됨
+// - DB 밖에 재고 카운터를 따로 두는 방식(Redis / 메모리)은 취소 / 방식 변경 때 그 카운터도 맞춰야 함
+public interface PurchaseStrategy {
+
+    PurchaseStrategyType type();
+
+    // return: 성공 true / 혼잡으로 실패 false (매진은 BusinessException)
+    boolean purchase(Long performanceId, int quantity, Long userId);
+
+    // 예약 취소 (지금 이 방식을 쓰는 공연 - 다른 방식으로 팔았던 예약이어도)
+    // - DB 재고 + 이 방식이 따로 들고 있는 재고 카운터까지 돌려줌
+    void cancel(Long performanceId, Long reservationId);
+
+    // 이 방식에서 벗어나거나 새로 들어올 때 (방식 변경이 커밋된 뒤)
+    // - 따로 들고 있던 재고 카운터를 버림 -> 다음 예매 때 그때의 DB 재고로 다시 채움
+    //   (다른 방식으로 팔리거나 취소된 만큼을 모르는 옛 카운터로 팔지 않도록)
+    default void reset(Long performanceId) {
+    }
+
+    // 좌석 지정 예매 / 임시 점유를 같이 받을 수 있는지
+    // - 좌석 경로는 DB 재고를 바로 차감하므로, 재고 카운터를 따로 두는 방식은 그 차감을 몰라서 초과 판매함 -> false
+    default boolean supportsSeats() {
+        return true;
+    }
+
+}
@@ -0,0 +1,86 @@
+package com.zrp.toyproject01.domain.performance.application.strategy;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.zrp.toyproject01.domain.performance.dao.PerformanceRepository;
+import com.zrp.toyproject01.domain.performance.domain.PurchaseStrategyType;
+
+import lombok.extern.slf4j.Slf4j;
+
+// 공연별 예매 방식 선택기
+// - 1순위: Performance.purchaseStrategy 컬럼
+// - 2순위: 설정값 performance.purchase.default-strategy
+// - 매 요청마다 DB를 보지 않도록 공연별 선택 결과를 잠깐(strategy-cache-millis) 들고 있음
+@Component
+@Slf4j
+public class PurchaseStrategyRegistry {
+
+    private final Map<PurchaseStrategyType, PurchaseStrategy> strategies = new EnumMap<>(PurchaseStrategyType.class);
+    private final Map<Long, CachedType> cache = new ConcurrentHashMap<>();
+
+    private final PerformanceRepository performanceRepository;
+    private final PurchaseStrategyType defaultType;
+    private final long cacheMillis;
+
+    public PurchaseStrategyRegistry(
+        List<PurchaseStrategy> strategies,
+        PerformanceRepository performanceRepository,
+        @Value("${performance.purchase.default-strategy:DISTRIBUTED_LOCK}") PurchaseStrategyType defaultType,
+        @Value("${performance.purchase.strategy-cache-millis:5000}") long cacheMillis
+    ) {
+        for (PurchaseStrategy strategy : strategies) {
+            this.strategies.put(strategy.type(), strategy);
+        }
+        this.performanceRepository = performanceRepository;
+        this.defaultType = defaultType;
+        this.cacheMillis = cacheMillis;
+
+        log.info("예매 방식 등록 완료: {}, 기본값: {}", this.strategies.keySet(), defaultType);
+    }
+
+    // 공연에 맞는 예매 방식 꺼내기
+    public PurchaseStrategy resolve(Long performanceId) {
+        return get(resolveType(performanceId));
+    }
+
+    public PurchaseStrategy get(PurchaseStrategyType type) {
+        PurchaseStrategy strategy = strategies.get(type);
+        if (strategy == null) {
+            throw new IllegalStateException("등록되지 않은 예매 방식입니다: " + type);
+        }
+        return strategy;
+    }
+
+    public PurchaseStrategyType resolveType(Long performanceId) {
+        long now = System.currentTimeMillis();
+
+        CachedType cached = cache.get(performanceId);
+        if (cached != null && cached.expiresAt() > now) {
+            return cached.type();
+        }
+
+        PurchaseStrategyType type = orDefault(performanceRepository.findPurchaseStrategyById(performanceId).orElse(null));
+
+        cache.put(performanceId, new CachedType(type, now + cacheMillis));
+        return type;
+    }
+
+    // 공연에 지정된 방식이 없으면(null) 기본값
+    public PurchaseStrategyType orDefault(PurchaseStrategyType type) {
+        return type != null ? type : defaultType;
+    }
+
+    // 예매 방식이 바뀌면 바로 반영되도록 캐시 비우기 (다른 서버는 cacheMillis 안에 반영됨)
+    public void evict(Long performanceId) {
+        cache.remove(performanceId);
+    }
+
+    private record CachedType(PurchaseStrategyType type, long expiresAt) {}
+
+}
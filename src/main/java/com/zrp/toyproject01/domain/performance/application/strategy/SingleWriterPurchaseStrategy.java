@@ -0,0 +1,96 @@
+package com.zrp.toyproject01.domain.performance.application.strategy;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.zrp.toyproject01.domain.performance.application.PendingPurchase;
+import com.zrp.toyproject01.domain.performance.application.PerformanceService;
+import com.zrp.toyproject01.domain.performance.application.StockSequencer;
+import com.zrp.toyproject01.domain.performance.domain.PurchaseStrategyType;
+import com.zrp.toyproject01.global.error.BusinessException;
+import com.zrp.toyproject01.global.error.ErrorCode;
+
+@Component
+public class SingleWriterPurchaseStrategy implements PurchaseStrategy {
+
+    private final StockSequencer stockSequencer;
+    private final PerformanceService performanceService;
+    private final long replyTimeoutMillis;
+
+    public SingleWriterPurchaseStrategy(
+        StockSequencer stockSequencer,
+        PerformanceService performanceService,
+        @Value("${performance.sequencer.reply-timeout-millis:5000}") long replyTimeoutMillis
+    ) {
+        this.stockSequencer = stockSequencer;
+        this.performanceService = performanceService;
+        this.replyTimeoutMillis = replyTimeoutMillis;
+    }
+
+    @Override
+    public PurchaseStrategyType type() {
+        return PurchaseStrategyType.SINGLE_WRITER;
+    }
+
+    @Override
+    public boolean purchase(Long performanceId, int quantity, Long userId) {
+        PendingPurchase purchase = stockSequencer.submit(performanceId, quantity, userId);
+
+        if (purchase == null) {
+            return false; // 버퍼가 꽉 참 (혼잡)
+        }
+        CompletableFuture<Boolean> result = purchase.result();
+
+        try {
+            boolean success;
+            try {
+                success = result.get(replyTimeoutMillis, TimeUnit.MILLISECONDS);
+            } catch (TimeoutException e) {
+                // 처리기가 밀려 있음 (혼잡) -> 아직 판정 전이면 먼저 가져가서 처리기가 건너뛰게 함
+                if (purchase.claim()) {
+                    result.cancel(false);
+                    return false;
+                }
+                // 이미 판정 / 배치 기록 중 -> 커밋될 수 있으므로 포기하지 않고 결과를 따름 (배치 트랜잭션 timeout 안에 끝남)
+                success = result.get();
+            }
+
+            if (!success) {
+                throw new BusinessException(ErrorCode.PERFORMANCE_SOLD_OUT);
+            }
+            return true;
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new RuntimeException(e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException(e);
+        }
+    }
+
+    // DB 취소가 커밋된 뒤 처리기가 메모리 재고를 DB에서 다시 읽게 함 (안 그러면 취소된 표를 다시 팔지 못함)
+    @Override
+    public void cancel(Long performanceId, Long reservationId) {
+        performanceService.cancel(reservationId);
+        stockSequencer.reload(performanceId);
+    }
+
+    // 처리기 종료 (남은 요청은 처리하고 끝냄 -> 다시 돌아오면 DB 재고를 읽어서 새로 시작)
+    @Override
+    public void reset(Long performanceId) {
+        stockSequencer.stop(performanceId);
+    }
+
+    @Override
+    public boolean supportsSeats() {
+        return false;
+    }
+
+}
@@ -0,0 +1,44 @@
+package com.zrp.toyproject01.domain.performance.dao;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import com.zrp.toyproject01.domain.performance.domain.InventoryLedger;
+
+public interface InventoryLedgerRepository extends JpaRepository<InventoryLedger, Long> {
+
+    // 구간 (afterId, upToId] 장부 합계
+    @Query("select coalesce(sum(l.quantity), 0) from InventoryLedger l "
+        + "where l.performanceId = :performanceId and l.id > :afterId and l.id <= :upToId")
+    long sumBetween(
+        @Param("performanceId") Long performanceId,
+        @Param("afterId") long afterId,
+        @Param("upToId") long upToId
+    );
+
+    // 스냅샷 이후 장부 합계 (아직 압축되지 않은 꼬리)
+    @Query("select coalesce(sum(l.quantity), 0) from InventoryLedger l "
+        + "where l.performanceId = :performanceId and l.id > :afterId")
+    long sumAfter(@Param("performanceId") Long performanceId, @Param("afterId") long afterId);
+
+    // cutoff 이전에 쓰인 마지막 장부 id (그보다 작은 id는 전부 커밋됐다고 봄)
+    @Query("select max(l.id) from InventoryLedger l where l.createdAt < :cutoff")
+    Long findMaxIdBefore(@Param("cutoff") LocalDateTime cutoff);
+
+    // 장부로 예매된 예약인지 (취소할 때 재고를 장부로 돌려줄지 결정)
+    boolean existsByReservationId(Long reservationId);
+
+    // 장부로 판매된 적이 있는 공연인지 (예매 방식 변경을 막을 때)
+    boolean existsByPerformanceId(Long performanceId);
+
+    // upToId까지 중 아직 스냅샷에 합쳐지지 않은 장부가 있는 공연들
+    // - 어디까지 합쳤는지는 공연별 스냅샷(lastLedgerId)에 저장됨 -> 재시작 / 여러 서버에서도 같은 기준
+    @Query("select distinct l.performanceId from InventoryLedger l where l.id <= :upToId "
+        + "and l.id > coalesce((select s.lastLedgerId from InventorySnapshot s where s.performanceId = l.performanceId), 0)")
+    List<Long> findUncompactedPerformanceIds(@Param("upToId") long upToId);
+
+}
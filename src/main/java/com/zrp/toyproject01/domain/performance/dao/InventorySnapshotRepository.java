@@ -0,0 +1,21 @@
+package com.zrp.toyproject01.domain.performance.dao;
+
+import java.util.Optional;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import com.zrp.toyproject01.domain.performance.domain.InventorySnapshot;
+
+import jakarta.persistence.LockModeType;
+
+public interface InventorySnapshotRepository extends JpaRepository<InventorySnapshot, Long> {
+
+    // 압축할 때 (여러 서버가 같은 공연을 동시에 압축해도 한 번만 반영되도록 row 잠금)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select s from InventorySnapshot s where s.performanceId = :performanceId")
+    Optional<InventorySnapshot> findByIdForUpdate(@Param("performanceId") Long performanceId);
+
+}
@@ -1,12 +1,18 @@
 package com.zrp.toyproject01.domain.performance.dao;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import com.zrp.toyproject01.domain.performance.domain.Performance;
+import com.zrp.toyproject01.domain.performance.domain.PurchaseStrategyType;
+import com.zrp.toyproject01.domain.performance.dto.PerformanceStock;
+import com.zrp.toyproject01.domain.performance.dto.PerformanceStockView;
 import jakarta.persistence.LockModeType;
 
 public interface PerformanceRepository extends JpaRepository<Performance, Long> {
@@ -17,4 +23,64 @@ public interface PerformanceRepository extends JpaRepository<Performance, Long>
     @Lock(LockModeType.PESSIMISTIC_WRITE)
     @Query("select p from Performance p where p.id = :id")
     Optional<Performance> findByIdWithLock(@Param("id") Long id);
+
+    // 예매 방식만 조회 (엔티티 전체를 올리지 않음)
+    @Query("select p.purchaseStrategy from Performance p where p.id = :id")
+    Optional<PurchaseStrategyType> findPurchaseStrategyById(@Param("id") Long id);
+
+    // 조건부 재고 차감 (UPDATE 한 방)
+    // - 재고가 충분할 때만 차감되고, 영향받은 row 수(0 또는 1)로 성공/매진을 판단
+    // - 엔티티를 올리지 않으니 @Version 충돌 + 재시도가 없음 (DB가 row 락으로 알아서 줄 세움)
+    // - 엔티티로 수정하는 다른 방식(낙관적 락)과 섞여도 덮어쓰지 않도록 version도 같이 올림
+    // - 벌크 UPDATE는 @LastModifiedDate를 거치지 않으므로 updatedAt도 직접 (아래 UPDATE들도 같음)
+    //   DB 시계가 아니라 엔티티 감사와 같은 애플리케이션 시계로 (DB 타임존이 달라도 시각이 거꾸로 가지 않도록)
+    default int decreaseStock(Long id, int quantity) {
+        return decreaseStock(id, quantity, LocalDateTime.now());
+    }
+
+    @Modifying
+    @Query("update Performance p set p.stock = p.stock - :quantity, p.version = p.version + 1, "
+        + "p.updatedAt = :now where p.id = :id and p.stock >= :quantity")
+    int decreaseStock(@Param("id") Long id, @Param("quantity") int quantity, @Param("now") LocalDateTime now);
+
+    // 재고 반납 (최대 좌석 수를 넘지 않을 때만)
+    default int increaseStock(Long id, int quantity) {
+        return increaseStock(id, quantity, LocalDateTime.now());
+    }
+
+    @Modifying
+    @Query("update Performance p set p.stock = p.stock + :quantity, p.version = p.version + 1, "
+        + "p.updatedAt = :now where p.id = :id and p.stock + :quantity <= p.maxStock")
+    int increaseStock(@Param("id") Long id, @Param("quantity") int quantity, @Param("now") LocalDateTime now);
+
+    // 장부 압축 구간의 합계를 performance.stock에 더함 (예매마다가 아니라 압축할 때만)
+    // - 값을 덮어쓰지 않고 더하기만 함 -> 장부 밖에서 바뀐 재고(좌석 예매, DB 방식 예매 / 취소)를 지우지 않음
+    default int addStock(Long id, int delta) {
+        return addStock(id, delta, LocalDateTime.now());
+    }
+
+    @Modifying
+    @Query("update Performance p set p.stock = p.stock + :delta, p.version = p.version + 1, "
+        + "p.updatedAt = :now where p.id = :id")
+    int addStock(@Param("id") Long id, @Param("delta") int delta, @Param("now") LocalDateTime now);
+
+    // 재고가 0 이하인지 (조건부 차감 직후 같은 트랜잭션에서 - row 락을 쥐고 있으므로 방금 차감한 결과 그대로)
+    // - 재고 값을 다시 읽어오는 대신 조건에 맞는 row가 있는지만 봄
+    @Query("select case when count(p) > 0 then true else false end from Performance p where p.id = :id and p.stock <= 0")
+    boolean isSoldOut(@Param("id") Long id);
+
+    // 가격 + 남은 재고만 조회
+    @Query("select new com.zrp.toyproject01.domain.performance.dto.PerformanceStockView(p.price, p.stock) "
+        + "from Performance p where p.id = :id")
+    Optional<PerformanceStockView> findStockViewById(@Param("id") Long id);
+
+    // 전체 공연의 id + 남은 재고 (엔티티를 올리지 않음 - 목록 재고 스냅샷용)
+    @Query("select new com.zrp.toyproject01.domain.performance.dto.PerformanceStock(p.id, p.stock) "
+        + "from Performance p")
+    List<PerformanceStock> findAllStocks();
+
+    // 일부 공연의 id + 남은 재고 (스냅샷에 없는 공연만 채울 때)
+    @Query("select new com.zrp.toyproject01.domain.performance.dto.PerformanceStock(p.id, p.stock) "
+        + "from Performance p where p.id in :ids")
+    List<PerformanceStock> findStocksByIds(@Param("ids") List<Long> ids);
 }
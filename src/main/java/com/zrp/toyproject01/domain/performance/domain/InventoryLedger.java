@@ -0,0 +1,62 @@
+package com.zrp.toyproject01.domain.performance.domain;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// 재고 변동 장부 (INSERT만 하고 수정 / 삭제하지 않음)
+// - 예매는 -수량, 취소는 +수량으로 한 줄씩 쌓임
+// - 남은 재고 = 스냅샷(InventorySnapshot) + 스냅샷 이후 장부 합계
+// - 매 예매가 같은 performance row를 UPDATE하지 않으므로 row 락 경쟁이 없음
+@Entity
+@Table(name = "inventory_ledger", indexes = {
+    @Index(name = "idx_inventory_ledger_performance_id", columnList = "performance_id, id"),
+    @Index(name = "idx_inventory_ledger_created_at", columnList = "created_at")
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class InventoryLedger {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    // 연관관계 대신 id만 (장부를 쓸 때 공연을 조회하지 않도록)
+    @Column(name = "performance_id", nullable = false)
+    private Long performanceId;
+
+    @Column(name = "reservation_id")
+    private Long reservationId;
+
+    // 재고 변동량 (예매 -, 취소 +)
+    @Column(nullable = false)
+    private int quantity;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    private InventoryLedger(Long performanceId, Long reservationId, int quantity) {
+        this.performanceId = performanceId;
+        this.reservationId = reservationId;
+        this.quantity = quantity;
+        this.createdAt = LocalDateTime.now();
+    }
+
+    public static InventoryLedger purchase(Long performanceId, Long reservationId, int quantity) {
+        return new InventoryLedger(performanceId, reservationId, -quantity);
+    }
+
+    public static InventoryLedger cancel(Long performanceId, Long reservationId, int quantity) {
+        return new InventoryLedger(performanceId, reservationId, quantity);
+    }
+
+}
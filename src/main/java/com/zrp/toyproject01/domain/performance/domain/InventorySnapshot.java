@@ -0,0 +1,53 @@
+package com.zrp.toyproject01.domain.performance.domain;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// 장부 압축 결과 (lastLedgerId까지의 장부를 합쳐둔 남은 재고)
+// - 압축 스케줄러만 수정하므로 예매 요청과 경쟁하지 않음
+@Entity
+@Table(name = "inventory_snapshot")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class InventorySnapshot {
+
+    @Id
+    @Column(name = "performance_id")
+    private Long performanceId;
+
+    @Column(nullable = false)
+    private int remaining;
+
+    // 이 id까지의 장부는 remaining에 반영됨
+    @Column(name = "last_ledger_id", nullable = false)
+    private long lastLedgerId;
+
+    @Column(name = "compacted_at", nullable = false)
+    private LocalDateTime compactedAt;
+
+    private InventorySnapshot(Long performanceId, int remaining) {
+        this.performanceId = performanceId;
+        this.remaining = remaining;
+        this.compactedAt = LocalDateTime.now();
+    }
+
+    // 첫 압축 때 (장부를 쓰기 전 재고 = performance.stock)
+    public static InventorySnapshot create(Long performanceId, int remaining) {
+        return new InventorySnapshot(performanceId, remaining);
+    }
+
+    // (lastLedgerId, upToLedgerId] 구간의 장부 합계를 반영
+    public void fold(int delta, long upToLedgerId) {
+        this.remaining += delta;
+        this.lastLedgerId = upToLedgerId;
+        this.compactedAt = LocalDateTime.now();
+    }
+
+}
@@ -6,6 +6,8 @@ import com.zrp.toyproject01.global.error.ErrorCode;
 
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
@@ -40,6 +42,11 @@ public class Performance extends BaseTimeEntity {
     @Version
     private Long version;
 
+    // 예매 방식 (null이면 설정값 performance.purchase.default-strategy를 따름)
+    @Enumerated(EnumType.STRING)
+    @Column(name = "purchase_strategy")
+    private PurchaseStrategyType purchaseStrategy;
+
     private Performance(String name, int price, int maxStock) {
         this.name = name;
         this.price = price;
@@ -78,4 +85,9 @@ public class Performance extends BaseTimeEntity {
         this.stock += quantity;
     }
 
+    // 예매 방식 변경 (재배포 없이 공연별로 교체)
+    public void changePurchaseStrategy(PurchaseStrategyType purchaseStrategy) {
+        this.purchaseStrategy = purchaseStrategy;
+    }
+
 }
@@ -0,0 +1,13 @@
+package com.zrp.toyproject01.domain.performance.domain;
+
+// 예매(재고 차감) 방식
+public enum PurchaseStrategyType {
+    OPTIMISTIC,         // 낙관적 락 (@Version + 재시도) - 충돌이 적은 소규모 공연
+    PESSIMISTIC,        // 비관적 락 (SELECT ... FOR UPDATE)
+    CONDITIONAL_UPDATE, // 조건부 UPDATE 한 방 (stock >= quantity일 때만 차감)
+    DISTRIBUTED_LOCK,   // Redisson 분산 락
+    GROUP_COMMIT,       // 같은 공연 요청을 모아서 트랜잭션 1번으로 커밋
+    LOCK_FREE,          // Redis Lua 재고 차감 (락 없음) - 대규모 선착순
+    SINGLE_WRITER,      // 공연 전용 스레드 1개가 메모리 재고로 판정 (단일 서버 플래시 세일)
+    LEDGER              // 재고 장부에 INSERT만 (performance row를 매번 UPDATE하지 않음)
+}
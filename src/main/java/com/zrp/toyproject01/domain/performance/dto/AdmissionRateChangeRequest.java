@@ -0,0 +1,9 @@
+package com.zrp.toyproject01.domain.performance.dto;
+
+import jakarta.validation.constraints.Positive;
+
+// 대기열 입장 인원 변경 요청 (1초당, null이면 기본 설정값 사용)
+public record AdmissionRateChangeRequest(
+    @Positive(message = "입장 인원은 1명 이상이어야 합니다.")
+    Long rate
+) {}
@@ -0,0 +1,25 @@
+package com.zrp.toyproject01.domain.performance.dto;
+
+import com.zrp.toyproject01.domain.performance.domain.Performance;
+import com.zrp.toyproject01.domain.performance.domain.PurchaseStrategyType;
+
+// 공연 정적 정보 (캐시용 - 남은 재고는 넣지 않음)
+// - 예매 / 취소로는 바뀌지 않으므로 캐시를 길게 들고 있어도 됨
+// - purchaseStrategy: 남은 재고를 어느 카운터에서 읽을지 정할 때 사용 (null이면 기본 예매 방식)
+public record PerformanceCatalog(
+    Long id,
+    String name,
+    int price,
+    int maxStock,
+    PurchaseStrategyType purchaseStrategy
+) {
+    public static PerformanceCatalog from(Performance entity) {
+        return new PerformanceCatalog(
+            entity.getId(),
+            entity.getName(),
+            entity.getPrice(),
+            entity.getMaxStock(),
+            entity.getPurchaseStrategy()
+        );
+    }
+}
@@ -0,0 +1,9 @@
+package com.zrp.toyproject01.domain.performance.dto;
+
+import java.util.List;
+
+// 공연 목록 순서 (캐시용 - id만 들고 있고 내용은 공연별 캐시에서 꺼냄)
+// - List<Long>을 그대로 캐시하면 JSON에서 꺼낼 때 Integer로 바뀔 수 있어서 감쌈
+public record PerformanceCatalogIds(
+    List<Long> ids
+) {}
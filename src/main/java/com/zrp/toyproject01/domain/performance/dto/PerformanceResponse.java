@@ -18,4 +18,15 @@ public record PerformanceResponse(
             entity.getStock()
         );
     }
+
+    // 정적 정보(캐시) + 남은 재고(실시간)
+    public static PerformanceResponse of(PerformanceCatalog catalog, int stock) {
+        return new PerformanceResponse(
+            catalog.id(),
+            catalog.name(),
+            catalog.price(),
+            catalog.maxStock(),
+            stock
+        );
+    }
 }
@@ -0,0 +1,7 @@
+package com.zrp.toyproject01.domain.performance.dto;
+
+// 공연 id + 남은 재고만 (목록용 재고 스냅샷)
+public record PerformanceStock(
+    Long id,
+    int stock
+) {}
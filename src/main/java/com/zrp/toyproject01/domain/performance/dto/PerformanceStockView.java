@@ -0,0 +1,7 @@
+package com.zrp.toyproject01.domain.performance.dto;
+
+// 예매 시 필요한 값만 담는 조회용 DTO (엔티티 전체를 올리지 않음)
+public record PerformanceStockView(
+    int price,
+    int stock
+) {}
@@ -0,0 +1,8 @@
+package com.zrp.toyproject01.domain.performance.dto;
+
+import com.zrp.toyproject01.domain.performance.domain.PurchaseStrategyType;
+
+// 예매 방식 변경 요청 (null이면 기본 설정값 사용)
+public record PurchaseStrategyChangeRequest(
+    PurchaseStrategyType strategy
+) {}
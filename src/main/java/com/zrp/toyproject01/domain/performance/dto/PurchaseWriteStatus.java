@@ -0,0 +1,8 @@
+package com.zrp.toyproject01.domain.performance.dto;
+
+// Lua 재고 엔진 예매의 DB 반영 상태 (공연 + 유저 기준)
+// - pending: 아직 DB에 반영 중인 예매 수 / failed: 재시도까지 실패해서 취소된 예매 수
+public record PurchaseWriteStatus(
+    int pending,
+    int failed
+) {}
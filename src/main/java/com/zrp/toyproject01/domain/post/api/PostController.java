@@ -9,6 +9,7 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import com.zrp.toyproject01.domain.post.application.PostService;
@@ -36,9 +37,9 @@ public class PostController {
     public ApiResponse<Long> save(
         @RequestBody @Valid PostSaveRequest request
     ) {
-        String email = SecurityUtil.getCurrentUserEmail();
+        Long userId = SecurityUtil.getCurrentUserId();
 
-        Long postId = postService.save(request, email);
+        Long postId = postService.save(request, userId);
         return ApiResponse.ok(postId);
     }
 
@@ -54,7 +55,7 @@ public class PostController {
         String email = SecurityUtil.getCurrentUserEmail();
         System.out.println("fucking: " + email);
 
-        Long postId = postService.update(id, request, email);
+        Long postId = postService.update(id, request, SecurityUtil.getCurrentUserId());
         return ApiResponse.ok(postId);
     }
 
@@ -66,9 +67,9 @@ public class PostController {
     public ApiResponse<Void> delete(
         @PathVariable("id") Long id
     ) {
-        String email = SecurityUtil.getCurrentUserEmail();
+        Long userId = SecurityUtil.getCurrentUserId();
 
-        postService.delete(id, email);
+        postService.delete(id, userId);
         return ApiResponse.ok();
     }
 
@@ -84,12 +85,14 @@ public class PostController {
     }
 
     /**
-     * 게시글 전체 조회
+     * 게시글 목록 조회 (최신순, page는 0부터)
      * 누구나 가능 (로그인 X)
      */
     @GetMapping
-    public ApiResponse<List<PostResponse>> findAll() {
-        return ApiResponse.ok(postService.findAllDesc());
+    public ApiResponse<List<PostResponse>> findAll(
+        @RequestParam(name = "page", defaultValue = "0") int page
+    ) {
+        return ApiResponse.ok(postService.findPage(page));
     }
 
 }
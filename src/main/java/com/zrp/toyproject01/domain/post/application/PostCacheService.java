@@ -0,0 +1,137 @@
+package com.zrp.toyproject01.domain.post.application;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+
+import com.zrp.toyproject01.domain.post.dao.PostRepository;
+import com.zrp.toyproject01.domain.post.dto.PostIds;
+import com.zrp.toyproject01.domain.post.dto.PostResponse;
+import com.zrp.toyproject01.global.cache.TwoLevelCache;
+import com.zrp.toyproject01.global.error.BusinessException;
+import com.zrp.toyproject01.global.error.ErrorCode;
+
+import jakarta.annotation.PreDestroy;
+
+// 게시글 조회 캐시
+// - 게시글 1개 = 캐시 항목 1개 (키: 게시글 id, 값: PostResponse) -> 인기 게시글도 조회당 DB 0번
+// - 목록 첫 페이지(최신순 first-page-size개)는 id만 따로 캐시 (키: 'first_page'), 내용은 게시글별 항목에서 꺼냄
+//   다음 페이지부터는 같은 크기로 DB에서 바로 읽음 (조회가 첫 페이지에 몰리므로 뒤 페이지는 캐시하지 않음)
+//   목록을 DB에서 읽을 때 게시글별 항목도 같은 조회로 채움 (게시글마다 1번씩 조회하지 않도록 + 다른 서버 알림은 1번만 - putAll)
+// - 지우는 건 커밋된 뒤에만 (PostService) -> 커밋 전 값이 캐시에 들어가지 않음
+//   커밋 전에 DB를 읽은 조회가 지운 뒤에 이전 값을 다시 넣을 수 있으므로 second-evict-millis 뒤에 1번 더 지움 (0이면 안 함)
+@Service
+public class PostCacheService {
+
+    public static final String CACHE_NAME = "post";
+    private static final String FIRST_PAGE_KEY = "first_page";
+
+    private final CacheManager cacheManager;
+    private final PostRepository postRepository;
+
+    private final int firstPageSize;
+    private final long secondEvictMillis;
+
+    private final ScheduledExecutorService evictor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "post-cache-evict");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public PostCacheService(
+        CacheManager cacheManager,
+        PostRepository postRepository,
+        @Value("${post.cache.first-page-size:20}") int firstPageSize,
+        @Value("${post.cache.second-evict-millis:500}") long secondEvictMillis
+    ) {
+        this.cacheManager = cacheManager;
+        this.postRepository = postRepository;
+        this.firstPageSize = firstPageSize;
+        this.secondEvictMillis = secondEvictMillis;
+    }
+
+    // 게시글 1개
+    public PostResponse find(Long id) {
+        return cache().get(id, () -> postRepository.findByIdWithUser(id)
+            .map(PostResponse::from)
+            .orElseThrow(() -> new BusinessException(ErrorCode.POST_NOT_FOUND)));
+    }
+
+    // 목록 첫 페이지 (최신순)
+    public List<PostResponse> findFirstPage() {
+        Cache cache = cache();
+        List<Long> ids = cache.get(FIRST_PAGE_KEY, () -> loadFirstPage(cache)).ids();
+
+        // 목록을 캐시한 뒤에 삭제된 게시글은 빼고 돌려줌
+        return ids.stream()
+            .map(id -> cache.get(id, () -> postRepository.findByIdWithUser(id).map(PostResponse::from).orElse(null)))
+            .filter(Objects::nonNull)
+            .toList();
+    }
+
+    // 목록 두 번째 페이지부터 (최신순, page는 1부터 - 캐시 안 함)
+    public List<PostResponse> findPage(int page) {
+        return postRepository.findLatest(PageRequest.of(page, firstPageSize)).stream()
+            .map(PostResponse::from)
+            .toList();
+    }
+
+    // 게시글이 추가 / 삭제됨 -> 목록 순서만 다시
+    public void evictFirstPage() {
+        evictTwice(FIRST_PAGE_KEY);
+    }
+
+    // 게시글 내용이 바뀜 / 삭제됨
+    public void evict(Long id) {
+        evictTwice(id);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        evictor.shutdown();
+    }
+
+    // 지금 지우고 + 늦게 도착한 이전 값까지 지우도록 잠시 뒤에 1번 더
+    private void evictTwice(Object key) {
+        cache().evict(key);
+        if (secondEvictMillis > 0) {
+            evictor.schedule(() -> cache().evict(key), secondEvictMillis, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    // 첫 페이지만 1번에 읽어서 게시글별 항목도 같이 채움
+    private PostIds loadFirstPage(Cache cache) {
+        long startTime = System.nanoTime();
+        List<PostResponse> posts = postRepository.findLatest(PageRequest.of(0, firstPageSize)).stream()
+            .map(PostResponse::from)
+            .toList();
+        long loadMillis = Math.max(1, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime));
+
+        Map<Long, PostResponse> entries = new LinkedHashMap<>();
+        for (PostResponse post : posts) {
+            entries.put(post.id(), post);
+        }
+
+        if (cache instanceof TwoLevelCache twoLevelCache) {
+            twoLevelCache.putAll(entries, loadMillis);
+        } else {
+            entries.forEach(cache::put);
+        }
+        return new PostIds(List.copyOf(entries.keySet()));
+    }
+
+    private Cache cache() {
+        return cacheManager.getCache(CACHE_NAME);
+    }
+
+}
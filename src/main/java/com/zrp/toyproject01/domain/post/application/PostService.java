@@ -1,9 +1,12 @@
 package com.zrp.toyproject01.domain.post.application;
 
 import java.util.List;
-import java.util.stream.Collectors;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 import com.zrp.toyproject01.domain.account.dao.UserRepository;
 import com.zrp.toyproject01.domain.account.domain.User;
 import com.zrp.toyproject01.domain.post.dao.PostRepository;
@@ -22,76 +25,102 @@ public class PostService {
  
     private final PostRepository postRepository;
     private final UserRepository userRepository;
+    private final PostCacheService postCacheService;
     
     /**
      * 게시글 작성
-     * @Param email 로그인한 사용자의 이메일 (토큰에서 추출)
+     * @Param userId 로그인한 사용자의 id (토큰에서 추출)
      */
     @Transactional
-    public Long save(PostSaveRequest request, String email) {
-        // 1. 작성자 찾기
-        User user = userRepository.findByEmail(email)
-                        .orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND));
+    public Long save(PostSaveRequest request, Long userId) {
+        // 1. 작성자 (FK만 필요하니깐 프록시로 - SELECT 안 나감)
+        User user = userRepository.getReferenceById(userId);
         
         // 2. 게시글 엔티티 생성
         Post post = Post.create(request.title(), request.content(), user);
 
-        // 3. 저장 및 ID 반환
-        return postRepository.save(post).getId();
+        // 3. 저장 및 ID 반환 (커밋되면 목록 캐시 지움)
+        // - IDENTITY라 save에서 바로 INSERT -> 탈퇴한 유저의 토큰이면 여기서 FK 위반 (500 대신 USER_NOT_FOUND)
+        Long id;
+        try {
+            id = postRepository.saveAndFlush(post).getId();
+        } catch (DataIntegrityViolationException e) {
+            throw new BusinessException(ErrorCode.USER_NOT_FOUND);
+        }
+        afterCommit(postCacheService::evictFirstPage);
+        return id;
     }
 
     /**
      * 게시글 수정
-     * @Param email 수정하려는 사람의 이메일 (본인 확인용)
+     * @Param userId 수정하려는 사람의 id (본인 확인용)
      */
     @Transactional
-    public Long update(Long id, PostUpdateRequest request, String email) {
+    public Long update(Long id, PostUpdateRequest request, Long userId) {
         Post post = postRepository.findById(id)
                         .orElseThrow(() -> new BusinessException(ErrorCode.POST_NOT_FOUND));
         
-        // 본인 확인 로직 추가 기능
-        if (!post.getUser().getEmail().equals(email)) {
+        // 본인 확인 로직 추가 기능 (작성자 id는 FK 값이라 users 테이블 조회 없음)
+        if (!post.getUser().getId().equals(userId)) {
             throw new BusinessException(ErrorCode.NO_PERMISSION);
         }
 
         // dirty checking (자동 업데이트)
         // - JPA가 알아서 CCTV처럼 지켜보고 있다가, 뭔가 바뀌면 자동으로 DB를 고쳐주는 기능
         post.update(request.title(), request.content());
+        afterCommit(() -> postCacheService.evict(id)); // 목록은 id만 들고 있어서 그대로 둠
         return id;
     }
 
     /**
-     * 게시글 단건 조회
+     * 게시글 단건 조회 (캐시)
+     * 트랜잭션 없이 - 캐시에 있으면 DB 커넥션도 잡지 않음
      */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public PostResponse findById(Long id) {
-        Post post = postRepository.findById(id)
-                    .orElseThrow(() -> new BusinessException(ErrorCode.POST_NOT_FOUND));
-        return PostResponse.from(post);
+        return postCacheService.find(id);
     }
 
     /**
-     * 게시글 전체 조회 (최신순)
+     * 게시글 목록 조회 (최신순, 첫 페이지만 캐시)
+     * @Param page 0부터 (음수면 잘못된 요청)
      */
-    public List<PostResponse> findAllDesc() {
-        return postRepository.findAllDesc().stream()            
-                .map(PostResponse::from) // Entity -> DTO 변환
-                .collect(Collectors.toList());
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public List<PostResponse> findPage(int page) {
+        if (page < 0) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE);
+        }
+        return page == 0 ? postCacheService.findFirstPage() : postCacheService.findPage(page);
     }
 
     /**
      * 게시글 삭제
      */
     @Transactional
-    public void delete(Long id, String email) {
+    public void delete(Long id, Long userId) {
         Post post = postRepository.findById(id)
             .orElseThrow(() -> new BusinessException(ErrorCode.POST_NOT_FOUND));
 
         // 본인 확인
-        if (!post.getUser().getEmail().equals(email)) {
+        if (!post.getUser().getId().equals(userId)) {
             throw new BusinessException(ErrorCode.NO_PERMISSION);
         }
 
         postRepository.delete(post);
+        afterCommit(() -> {
+            postCacheService.evict(id);
+            postCacheService.evictFirstPage();
+        });
+    }
+
+    // 커밋된 뒤에 실행 (롤백되면 실행 안 함 / 커밋 전에 지우면 그 사이 다른 요청이 이전 값을 다시 캐시할 수 있음)
+    private void afterCommit(Runnable action) {
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
     }
 
 }
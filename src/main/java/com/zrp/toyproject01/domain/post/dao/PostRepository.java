@@ -1,9 +1,12 @@
 package com.zrp.toyproject01.domain.post.dao;
 
 import java.util.List;
+import java.util.Optional;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import com.zrp.toyproject01.domain.post.domain.Post;
 
@@ -12,6 +15,14 @@ public interface PostRepository extends JpaRepository<Post, Long> {
     // 핵심 기능: 게시글 전체 조회 (최신순)
     @Query("select p from Post p join fetch p.user u order by p.createdAt desc")
     List<Post> findAllDesc();
+
+    // 최신순 앞에서부터 pageable 크기만큼 (작성자는 ManyToOne이라 join fetch해도 LIMIT이 SQL에 그대로 붙음)
+    @Query("select p from Post p join fetch p.user u order by p.createdAt desc")
+    List<Post> findLatest(Pageable pageable);
+
+    // 게시글 1개 + 작성자 (캐시에 넣을 PostResponse를 트랜잭션 밖에서도 만들 수 있게)
+    @Query("select p from Post p join fetch p.user u where p.id = :id")
+    Optional<Post> findByIdWithUser(@Param("id") Long id);
 }
 
 // List<Post> findAllDesc에서 발생할 수 있는 문제
@@ -0,0 +1,8 @@
+package com.zrp.toyproject01.domain.post.dto;
+
+import java.util.List;
+
+// 게시글 목록 순서 (캐시용 - id만 들고 있고 내용은 게시글별 캐시에서 꺼냄)
+public record PostIds(
+    List<Long> ids
+) {}
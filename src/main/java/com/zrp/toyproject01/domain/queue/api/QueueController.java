@@ -0,0 +1,46 @@
+package com.zrp.toyproject01.domain.queue.api;
+
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.zrp.toyproject01.domain.queue.application.QueueEventBroadcaster;
+import com.zrp.toyproject01.domain.queue.application.QueueService;
+import com.zrp.toyproject01.domain.queue.dto.QueueGate;
+import com.zrp.toyproject01.global.error.BusinessException;
+import com.zrp.toyproject01.global.error.ErrorCode;
+import com.zrp.toyproject01.global.util.SecurityUtil;
+
+import lombok.RequiredArgsConstructor;
+
+@RestController
+@RequestMapping("/api/performances/{id}/queue")
+@RequiredArgsConstructor
+public class QueueController {
+
+    private final QueueService queueService;
+    private final QueueEventBroadcaster queueEventBroadcaster;
+
+    // 대기열 입장 + 순번 스트림 (SSE)
+    // - 줄을 서고 나서는 예매 API를 다시 부르지 않고, admitted 이벤트를 받으면 그때 예매 요청
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter stream(@PathVariable Long id) {
+        String email = SecurityUtil.getCurrentUserEmail();
+
+        // 매진 / 입장권 / 줄 서기를 한 번에 (이미 서 있으면 원래 번호표 그대로)
+        QueueGate gate = queueService.gate(id, email);
+
+        if (gate.status() == QueueGate.Status.SOLD_OUT) {
+            throw new BusinessException(ErrorCode.PERFORMANCE_SOLD_OUT);
+        }
+
+        long ticket = gate.status() == QueueGate.Status.ADMITTED ? 0 : gate.ticket();
+
+        // 첫 이벤트는 다음 방송 틱에 (입장권이 이미 있으면 바로 admitted)
+        return queueEventBroadcaster.subscribe(id, email, ticket);
+    }
+
+}
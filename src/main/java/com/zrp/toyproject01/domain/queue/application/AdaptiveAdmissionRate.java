@@ -0,0 +1,249 @@
+package com.zrp.toyproject01.domain.queue.application;
+
+import java.sql.SQLException;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.atomic.LongAdder;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+// 대기열 전체 입장 속도 (1초당 인원) 자동 조절 - AIMD
+// - 예매 구간이 여유 있으면 조금씩 올리고(+increase-step), 막히기 시작하면 확 줄임(x decrease-factor)
+//   둘 다 1초 기준 -> 틱 길이만큼 비례해서 적용 (틱이 200ms면 +step x 0.2, x factor^0.2)
+// - 막힘 판단 신호 (직전 틱 동안 모든 서버에서 모인 값으로 판단)
+//   1. 예매 평균 응답 시간 > target-latency-millis
+//   2. 분산 락 획득 실패 비율 > max-lock-failure-ratio
+//   3. DB 커넥션 풀 사용률(서버 중 최대) >= max-pool-usage, 또는 커넥션을 기다리는 스레드가 있음
+// - 예매는 모든 서버가 받지만 입장은 리더만 시키므로 신호는 Redis 해시 1개에 모음
+//   - 모든 서버: 틱마다 publish()로 자기 신호를 더해 넣음 (카운터는 HINCRBY, 풀 상태는 서버별 필드)
+//   - 리더: adjust()에서 해시를 읽고 지운 뒤(한 창) 합쳐서 속도 조절
+//   - 리더가 없어 아무도 안 비우면 signal-ttl-millis 뒤 해시째 만료 (오래된 신호가 쌓이지 않도록)
+// - 예매 요청이 없던 틱에는 올리지 않음 (한가할 때 속도만 끝없이 올라가지 않도록)
+// - 현재 속도와 신호는 queue.admission.* 메트릭으로 노출 (신호는 리더가 마지막으로 합친 값)
+@Component
+@Slf4j
+public class AdaptiveAdmissionRate {
+
+    private static final String SIGNAL_KEY = "queue_admission_signals";
+
+    // 이 서버의 직전 틱 신호를 더해 넣음
+    private static final RedisScript<Long> PUBLISH_SCRIPT = new DefaultRedisScript<>("""
+        redis.call('HINCRBY', KEYS[1], 'count', ARGV[1])
+        redis.call('HINCRBY', KEYS[1], 'nanos', ARGV[2])
+        redis.call('HINCRBY', KEYS[1], 'attempts', ARGV[3])
+        redis.call('HINCRBY', KEYS[1], 'failures', ARGV[4])
+        redis.call('HSET', KEYS[1], 'pool_usage:' .. ARGV[5], ARGV[6], 'pool_waiting:' .. ARGV[5], ARGV[7])
+        redis.call('PEXPIRE', KEYS[1], ARGV[8])
+        return 1
+        """, Long.class);
+
+    // 모인 신호를 읽고 비움 (읽는 사이에 들어온 신호는 다음 창으로)
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> COLLECT_SCRIPT = new DefaultRedisScript<>("""
+        local signals = redis.call('HGETALL', KEYS[1])
+        redis.call('DEL', KEYS[1])
+        return signals
+        """, List.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final ObjectProvider<DataSource> dataSourceProvider;
+    private final String nodeId = UUID.randomUUID().toString();
+    private final long signalTtlMillis;
+
+    private final double minRate;
+    private final double maxRate;
+    private final double increaseStep;
+    private final double decreaseFactor;
+    private final double targetLatencyMillis;
+    private final double maxLockFailureRatio;
+    private final double maxPoolUsage;
+
+    // 요청 스레드들이 쌓고, 틱마다 비움
+    private final LongAdder purchaseCount = new LongAdder();
+    private final LongAdder purchaseNanos = new LongAdder();
+    private final LongAdder lockAttempts = new LongAdder();
+    private final LongAdder lockFailures = new LongAdder();
+
+    private volatile double rate;
+
+    // 직전 틱의 신호 (메트릭용)
+    private volatile double latencyMillis;
+    private volatile double lockFailureRatio;
+    private volatile double poolUsage;
+    private volatile int poolWaiting;
+
+    private HikariPoolMXBean pool;
+
+    public AdaptiveAdmissionRate(
+        MeterRegistry meterRegistry,
+        RedisTemplate<String, String> redisTemplate,
+        ObjectProvider<DataSource> dataSourceProvider,
+        @Value("${queue.admission.initial-rate:100}") double initialRate,
+        @Value("${queue.admission.min-rate:10}") double minRate,
+        @Value("${queue.admission.max-rate:2000}") double maxRate,
+        @Value("${queue.admission.increase-step:10}") double increaseStep,
+        @Value("${queue.admission.decrease-factor:0.5}") double decreaseFactor,
+        @Value("${queue.admission.target-latency-millis:300}") double targetLatencyMillis,
+        @Value("${queue.admission.max-lock-failure-ratio:0.05}") double maxLockFailureRatio,
+        @Value("${queue.admission.max-pool-usage:0.9}") double maxPoolUsage,
+        @Value("${queue.admission.signal-ttl-millis:3000}") long signalTtlMillis
+    ) {
+        this.redisTemplate = redisTemplate;
+        this.dataSourceProvider = dataSourceProvider;
+        this.signalTtlMillis = signalTtlMillis;
+        this.rate = initialRate;
+        this.minRate = minRate;
+        this.maxRate = maxRate;
+        this.increaseStep = increaseStep;
+        this.decreaseFactor = decreaseFactor;
+        this.targetLatencyMillis = targetLatencyMillis;
+        this.maxLockFailureRatio = maxLockFailureRatio;
+        this.maxPoolUsage = maxPoolUsage;
+
+        Gauge.builder("queue.admission.rate", this, a -> a.rate)
+            .description("대기열 입장 속도 (1초당 인원)").register(meterRegistry);
+        Gauge.builder("queue.admission.signal.latency", this, a -> a.latencyMillis)
+            .baseUnit("milliseconds").description("직전 틱 예매 평균 응답 시간").register(meterRegistry);
+        Gauge.builder("queue.admission.signal.lock-failure-ratio", this, a -> a.lockFailureRatio)
+            .description("직전 틱 분산 락 획득 실패 비율").register(meterRegistry);
+        Gauge.builder("queue.admission.signal.db-pool-usage", this, a -> a.poolUsage)
+            .description("DB 커넥션 풀 사용률 (서버 중 최대)").register(meterRegistry);
+        Gauge.builder("queue.admission.signal.db-pool-waiting", this, a -> a.poolWaiting)
+            .description("DB 커넥션을 기다리는 스레드 수 (전체 서버 합)").register(meterRegistry);
+    }
+
+    // 예매 1건 처리 시간 (성공 / 실패 모두)
+    public void recordPurchase(long elapsedNanos) {
+        purchaseCount.increment();
+        purchaseNanos.add(elapsedNanos);
+    }
+
+    // 분산 락 획득 시도 결과
+    public void recordLockAttempt(boolean acquired) {
+        lockAttempts.increment();
+        if (!acquired) {
+            lockFailures.increment();
+        }
+    }
+
+    public double getRate() {
+        return rate;
+    }
+
+    // 이 서버에서 직전 틱 동안 모인 신호를 Redis로 보냄 (리더 여부와 상관없이 모든 서버가 틱마다 1번)
+    public void publish() {
+        long count = purchaseCount.sumThenReset();
+        long nanos = purchaseNanos.sumThenReset();
+        long attempts = lockAttempts.sumThenReset();
+        long failures = lockFailures.sumThenReset();
+
+        double usage = 0;
+        int waiting = 0;
+        HikariPoolMXBean bean = pool();
+        if (bean != null && bean.getTotalConnections() > 0) {
+            usage = bean.getActiveConnections() / (double) bean.getTotalConnections();
+            waiting = bean.getThreadsAwaitingConnection();
+        }
+
+        redisTemplate.execute(PUBLISH_SCRIPT, List.of(SIGNAL_KEY),
+            String.valueOf(count), String.valueOf(nanos), String.valueOf(attempts), String.valueOf(failures),
+            nodeId, String.valueOf(usage), String.valueOf(waiting), String.valueOf(signalTtlMillis));
+    }
+
+    // 직전 창 동안 전체 서버에서 모인 신호로 속도 조절 (리더만, 스케줄러 틱마다 1번)
+    // windowMillis: 창 길이 (틱 길이) - 증가 / 감소 폭을 1초 기준에서 이만큼으로 줄임
+    // return: 조절된 속도 (1초당 인원)
+    public synchronized double adjust(long windowMillis) {
+        Map<String, String> signals = collect();
+
+        long count = parseLong(signals.get("count"));
+        long nanos = parseLong(signals.get("nanos"));
+        long attempts = parseLong(signals.get("attempts"));
+        long failures = parseLong(signals.get("failures"));
+
+        double usage = 0;
+        int waiting = 0;
+        for (Map.Entry<String, String> signal : signals.entrySet()) {
+            if (signal.getKey().startsWith("pool_usage:")) {
+                usage = Math.max(usage, Double.parseDouble(signal.getValue()));
+            } else if (signal.getKey().startsWith("pool_waiting:")) {
+                waiting += Integer.parseInt(signal.getValue());
+            }
+        }
+
+        latencyMillis = count > 0 ? nanos / (double) count / 1_000_000 : 0;
+        lockFailureRatio = attempts > 0 ? failures / (double) attempts : 0;
+        poolUsage = usage;
+        poolWaiting = waiting;
+
+        boolean congested = latencyMillis > targetLatencyMillis
+            || lockFailureRatio > maxLockFailureRatio
+            || poolUsage >= maxPoolUsage
+            || poolWaiting > 0;
+
+        double seconds = windowMillis / 1000.0;
+        if (congested) {
+            double decreased = Math.max(minRate, rate * Math.pow(decreaseFactor, seconds));
+            log.info("예매 구간 혼잡 -> 입장 속도 {} -> {} (응답 {}ms, 락 실패 {}, 풀 사용률 {}, 풀 대기 {})",
+                (long) rate, (long) decreased, (long) latencyMillis, lockFailureRatio, poolUsage, poolWaiting);
+            rate = decreased;
+        } else if (count > 0) {
+            rate = Math.min(maxRate, rate + increaseStep * seconds);
+        }
+        return rate;
+    }
+
+    private Map<String, String> collect() {
+        List<?> flat = redisTemplate.execute(COLLECT_SCRIPT, List.of(SIGNAL_KEY));
+        Map<String, String> signals = new HashMap<>();
+        if (flat == null) {
+            return signals;
+        }
+        for (int i = 0; i + 1 < flat.size(); i += 2) {
+            signals.put(String.valueOf(flat.get(i)), String.valueOf(flat.get(i + 1)));
+        }
+        return signals;
+    }
+
+    private static long parseLong(String value) {
+        return value == null ? 0 : Long.parseLong(value);
+    }
+
+    // Hikari 풀은 첫 커넥션을 꺼낼 때 만들어지므로 그 전에는 null (그때까지 매번 다시 봄)
+    private HikariPoolMXBean pool() {
+        if (pool != null) {
+            return pool;
+        }
+
+        DataSource dataSource = dataSourceProvider.getIfAvailable();
+        if (dataSource == null) {
+            return null;
+        }
+
+        try {
+            if (dataSource.isWrapperFor(HikariDataSource.class)) {
+                pool = dataSource.unwrap(HikariDataSource.class).getHikariPoolMXBean();
+            }
+        } catch (SQLException e) {
+            log.warn("DB 커넥션 풀 정보를 가져올 수 없습니다.", e);
+        }
+        return pool;
+    }
+
+}
@@ -0,0 +1,264 @@
+package com.zrp.toyproject01.domain.queue.application;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import com.zrp.toyproject01.domain.queue.dto.QueueGate;
+import com.zrp.toyproject01.domain.queue.dto.QueueStatus;
+import com.zrp.toyproject01.domain.queue.dto.QueueTicket;
+
+// JVM 메모리 대기열 (서버 1대일 때만)
+// - 네트워크 왕복 없이 공연(방) 단위 락으로 처리
+//   대기열: 번호표 -> 이메일 skip list
+//   입장열: 이메일 -> 입장권 만료 시각 (ConcurrentHashMap)
+// - 줄 서기(addQueue / gate) / 입장(allowUser) / 방 정리는 방 락 안에서 (Redis 스크립트 1개와 같은 단위)
+//   -> gate의 "입장권 확인 + 줄 서기" 사이에 입장이 끼어들어 입장권과 번호표를 둘 다 받는 일이 없음
+//   입장권 확인(isAllowed) / 반납(complete) / 조회는 락 없이
+// - 대기열 / 입장열이 모두 빈 방은 cleanup-millis마다 지움 (판매 목록에 없는 공연의 만료된 입장권도 이때 정리)
+// - 재시작하면 대기열은 비어서 시작함 (다시 줄 서야 함)
+@Service
+@ConditionalOnProperty(name = "queue.engine", havingValue = "memory")
+public class MemoryQueueService implements QueueService {
+
+    private final long defaultRate;
+    private final long maxActive;
+    private final long passTtlMillis;
+
+    private final Map<Long, Room> rooms = new ConcurrentHashMap<>();
+    private final Set<Long> sales = ConcurrentHashMap.newKeySet();   // 대기열을 돌려야 하는 공연 id
+    private final Set<Long> soldOut = ConcurrentHashMap.newKeySet(); // 매진 간판
+    private final Map<Long, Long> rates = new ConcurrentHashMap<>(); // 공연별 1초당 입장 인원 (없으면 기본값)
+
+    public MemoryQueueService(
+        @Value("${queue.admission.default-rate:100}") long defaultRate,
+        @Value("${queue.admission.max-active:1000}") long maxActive,
+        @Value("${queue.pass.ttl-seconds:300}") long passTtlSeconds
+    ) {
+        this.defaultRate = defaultRate;
+        this.maxActive = maxActive;
+        this.passTtlMillis = passTtlSeconds * 1000;
+    }
+
+    @Override
+    public QueueTicket addQueue(Long performanceId, String email) {
+        return withRoom(performanceId, room -> new QueueTicket(join(room, performanceId, email), room.serving.get()));
+    }
+
+    @Override
+    public QueueGate gate(Long performanceId, String email) {
+        if (soldOut.contains(performanceId)) {
+            return new QueueGate(QueueGate.Status.SOLD_OUT, 0, 0);
+        }
+
+        return withRoom(performanceId, room -> {
+            Long expiresAt = room.active.get(email);
+            if (expiresAt != null && expiresAt > System.currentTimeMillis()) {
+                return new QueueGate(QueueGate.Status.ADMITTED, 0, 0);
+            }
+
+            long ticket = join(room, performanceId, email);
+            return new QueueGate(QueueGate.Status.QUEUED, ticket, room.serving.get());
+        });
+    }
+
+    @Override
+    public boolean isAllowed(Long performanceId, String email) {
+        Room room = rooms.get(performanceId);
+        if (room == null) {
+            return false;
+        }
+        Long expiresAt = room.active.get(email);
+        return expiresAt != null && expiresAt > System.currentTimeMillis();
+    }
+
+    @Override
+    public void complete(Long performanceId, String email) {
+        Room room = rooms.get(performanceId);
+        if (room != null) {
+            room.active.remove(email);
+        }
+    }
+
+    @Override
+    public long getActiveCount(Long performanceId) {
+        Room room = rooms.get(performanceId);
+        return room != null ? room.active.size() : 0;
+    }
+
+    @Override
+    public Long getPosition(Long performanceId, String email) {
+        Room room = rooms.get(performanceId);
+        if (room == null) {
+            return null;
+        }
+        Long ticket = room.tickets.get(email);
+        if (ticket == null) {
+            return null;
+        }
+        return new QueueTicket(ticket, room.serving.get()).position();
+    }
+
+    @Override
+    public long getServing(Long performanceId) {
+        Room room = rooms.get(performanceId);
+        return room != null ? room.serving.get() : 0;
+    }
+
+    // 대기열 -> 입장열 (Redis ALLOW_SCRIPT와 같은 순서)
+    // 1. 만료된 입장권 정리 2. 빈자리만큼 앞에서 꺼내서 입장 3. 줄이 비면 스케줄러 목록에서 뺌
+    @Override
+    public long allowUser(Long performanceId, long count) {
+        if (count <= 0) return 0;
+
+        Room room = rooms.get(performanceId);
+        if (room == null) {
+            sales.remove(performanceId);
+            return 0;
+        }
+
+        synchronized (room) {
+            if (room.retired) {
+                sales.remove(performanceId);
+                return 0;
+            }
+
+            long now = System.currentTimeMillis();
+            room.active.values().removeIf(expiresAt -> expiresAt <= now);
+
+            long limit = Math.min(count, maxActive - room.active.size());
+            long allowed = 0;
+
+            while (allowed < limit) {
+                Map.Entry<Long, String> next = room.waiting.pollFirstEntry();
+                if (next == null) {
+                    break;
+                }
+                room.active.put(next.getValue(), now + passTtlMillis);
+                room.tickets.remove(next.getValue(), next.getKey());
+                room.serving.accumulateAndGet(next.getKey(), Math::max);
+                allowed++;
+            }
+
+            // join도 방 락 안에서 목록에 올리므로 빼는 사이에 줄 선 사람을 놓치지 않음
+            if (room.waiting.isEmpty()) {
+                sales.remove(performanceId);
+            }
+            return allowed;
+        }
+    }
+
+    // 만료된 입장권 정리 + 빈 방 지우기 (판매 목록과 상관없이 모든 공연)
+    @Scheduled(fixedDelayString = "${queue.memory.cleanup-millis:60000}")
+    public void cleanUp() {
+        long now = System.currentTimeMillis();
+
+        for (Map.Entry<Long, Room> entry : rooms.entrySet()) {
+            Room room = entry.getValue();
+            synchronized (room) {
+                room.active.values().removeIf(expiresAt -> expiresAt <= now);
+
+                if (room.waiting.isEmpty() && room.active.isEmpty()) {
+                    // 이미 이 방을 잡은 요청은 retired를 보고 새 방에서 다시 함
+                    room.retired = true;
+                    rooms.remove(entry.getKey(), room);
+                }
+            }
+        }
+    }
+
+    @Override
+    public QueueStatus getStatus(Long performanceId) {
+        return new QueueStatus(isSoldOut(performanceId), getServing(performanceId));
+    }
+
+    @Override
+    public Map<Long, Long> getActiveSales() {
+        Map<Long, Long> active = new LinkedHashMap<>();
+        for (Long performanceId : sales) {
+            active.put(performanceId, getAdmissionRate(performanceId));
+        }
+        return active;
+    }
+
+    @Override
+    public long getAdmissionRate(Long performanceId) {
+        return rates.getOrDefault(performanceId, defaultRate);
+    }
+
+    @Override
+    public void changeAdmissionRate(Long performanceId, Long rate) {
+        if (rate == null) {
+            rates.remove(performanceId);
+            return;
+        }
+        rates.put(performanceId, rate);
+    }
+
+    @Override
+    public void closeSale(Long performanceId) {
+        sales.remove(performanceId);
+    }
+
+    @Override
+    public void setSoldOut(Long performanceId) {
+        soldOut.add(performanceId);
+    }
+
+    @Override
+    public void removeSoldOut(Long performanceId) {
+        soldOut.remove(performanceId);
+        sales.add(performanceId);
+    }
+
+    @Override
+    public boolean isSoldOut(Long performanceId) {
+        return soldOut.contains(performanceId);
+    }
+
+    // 줄 서기 (이미 서 있으면 원래 번호표 그대로, 방 락 안에서만 호출)
+    private long join(Room room, Long performanceId, String email) {
+        Long ticket = room.tickets.get(email);
+
+        if (ticket == null) {
+            ticket = room.lastTicket.incrementAndGet();
+            room.tickets.put(email, ticket);
+            room.waiting.put(ticket, email);
+        }
+
+        sales.add(performanceId);
+        return ticket;
+    }
+
+    // 방 락 안에서 실행 (정리돼서 빠진 방을 잡았으면 새 방으로 다시)
+    private <T> T withRoom(Long performanceId, Function<Room, T> action) {
+        while (true) {
+            Room room = rooms.computeIfAbsent(performanceId, id -> new Room());
+            synchronized (room) {
+                if (!room.retired) {
+                    return action.apply(room);
+                }
+            }
+        }
+    }
+
+    // 공연 1개의 대기열 / 입장열 (락 = 방 객체)
+    private static class Room {
+        private boolean retired; // 정리돼서 rooms에서 빠짐 (방 락 안에서만 읽고 씀)
+        private final AtomicLong lastTicket = new AtomicLong();  // 마지막으로 나눠준 번호표
+        private final AtomicLong serving = new AtomicLong();     // 지금 입장 중인 번호
+        private final ConcurrentSkipListMap<Long, String> waiting = new ConcurrentSkipListMap<>(); // 번호표 -> 이메일
+        private final Map<String, Long> tickets = new ConcurrentHashMap<>();                       // 이메일 -> 번호표
+        private final Map<String, Long> active = new ConcurrentHashMap<>();                        // 이메일 -> 입장권 만료 시각
+    }
+
+}
@@ -0,0 +1,166 @@
+package com.zrp.toyproject01.domain.queue.application;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.zrp.toyproject01.domain.queue.dto.QueuePositionResponse;
+import com.zrp.toyproject01.domain.queue.dto.QueueStatus;
+
+import lombok.extern.slf4j.Slf4j;
+
+// 대기열 SSE 방송
+// - 기다리는 유저가 순번을 보려고 예매 API를 계속 두드리지 않도록, 서버가 틱마다 한 번에 밀어줌
+// - 이 서버에 붙어 있는 구독자만 관리 (서버마다 자기 구독자에게만 방송)
+// - 구독자마다 번호표를 들고 있으므로, 공연 1개당 틱마다 "지금 입장 중인 번호"만 읽으면 됨
+//   (Redis 왕복 1번, 구독자 수와 무관 - 순번은 여기서 뺄셈으로 계산)
+// - 이벤트
+//   position: 대기 순번 + 예상 대기 시간
+//   admitted: 입장권 받음 (스트림 종료 -> 예매 API 호출)
+//   expired: 내 번호는 지났는데 입장권이 없음 (만료 / 이미 사용) - 스트림 종료 -> 다시 구독하면 새로 줄 섬
+//   sold-out: 매진 (스트림 종료)
+@Component
+@Slf4j
+public class QueueEventBroadcaster {
+
+    private static final double RATE_SMOOTHING = 0.3; // 입장 속도 지수 평균 가중치
+
+    private final QueueService queueService;
+    private final long timeoutMillis;
+
+    private final Map<Long, Map<String, Subscriber>> subscribers = new ConcurrentHashMap<>();
+    private final Map<Long, Throughput> throughputs = new ConcurrentHashMap<>();
+
+    public QueueEventBroadcaster(
+        QueueService queueService,
+        @Value("${queue.sse.timeout-millis:1800000}") long timeoutMillis
+    ) {
+        this.queueService = queueService;
+        this.timeoutMillis = timeoutMillis;
+    }
+
+    // 구독 (같은 유저가 다시 구독하면 이전 스트림은 닫음)
+    // - ticket: 줄 설 때 받은 번호표 (이미 입장권이 있으면 0 -> 다음 틱에 바로 admitted)
+    public SseEmitter subscribe(Long performanceId, String email, long ticket) {
+        SseEmitter emitter = new SseEmitter(timeoutMillis);
+        Subscriber subscriber = new Subscriber(email, emitter, ticket);
+        Map<String, Subscriber> emitters = subscribers.computeIfAbsent(performanceId, id -> new ConcurrentHashMap<>());
+
+        Subscriber previous = emitters.put(email, subscriber);
+        if (previous != null) {
+            previous.emitter().complete();
+        }
+
+        Runnable remove = () -> emitters.remove(email, subscriber);
+        emitter.onCompletion(remove);
+        emitter.onTimeout(remove);
+        emitter.onError(e -> remove.run());
+        return emitter;
+    }
+
+    @Scheduled(fixedDelayString = "${queue.sse.broadcast-millis:1000}")
+    public void broadcast() {
+        long now = System.currentTimeMillis();
+
+        for (Map.Entry<Long, Map<String, Subscriber>> entry : subscribers.entrySet()) {
+            Long performanceId = entry.getKey();
+            Map<String, Subscriber> emitters = entry.getValue();
+
+            if (emitters.isEmpty()) {
+                subscribers.remove(performanceId, emitters);
+                throughputs.remove(performanceId);
+                continue;
+            }
+
+            try {
+                broadcast(performanceId, emitters, now);
+            } catch (Exception e) {
+                // 한 공연 방송이 실패해도 다른 공연은 계속
+                log.error("대기열 방송 실패! performanceId: {}", performanceId, e);
+            }
+        }
+    }
+
+    private void broadcast(Long performanceId, Map<String, Subscriber> emitters, long now) {
+        QueueStatus status = queueService.getStatus(performanceId);
+        List<Subscriber> targets = new ArrayList<>(emitters.values());
+
+        if (status.soldOut()) {
+            for (Subscriber subscriber : targets) {
+                sendAndComplete(emitters, subscriber, "sold-out", performanceId);
+            }
+            return;
+        }
+
+        double ratePerSecond = throughputs
+            .computeIfAbsent(performanceId, id -> new Throughput(status.serving(), now))
+            .update(status.serving(), now);
+
+        for (Subscriber subscriber : targets) {
+            long waitingNumber = subscriber.ticket() - status.serving();
+
+            if (waitingNumber <= 0) {
+                // 내 번호까지 입장함 -> 입장권이 실제로 있는지 확인 (번호가 지난 구독자만 - 스트림당 1번)
+                boolean allowed = queueService.isAllowed(performanceId, subscriber.email());
+                sendAndComplete(emitters, subscriber, allowed ? "admitted" : "expired", performanceId);
+                continue;
+            }
+
+            Long estimatedWaitSeconds = ratePerSecond > 0 ? (long) Math.ceil(waitingNumber / ratePerSecond) : null;
+            send(subscriber.emitter(), "position", new QueuePositionResponse(waitingNumber, estimatedWaitSeconds));
+        }
+    }
+
+    // 이벤트 1개 전송 (테스트에서 보낸 이벤트를 확인할 수 있게 protected)
+    protected void send(SseEmitter emitter, String name, Object data) {
+        try {
+            emitter.send(SseEmitter.event().name(name).data(data));
+        } catch (IOException | IllegalStateException e) {
+            // 클라이언트가 끊김 -> onError / onCompletion에서 구독 해제됨
+            emitter.completeWithError(e);
+        }
+    }
+
+    // 마지막 이벤트 (완료 콜백을 기다리지 않고 바로 빼서 다음 틱에 다시 보내지 않음)
+    private void sendAndComplete(Map<String, Subscriber> emitters, Subscriber subscriber, String name, Object data) {
+        emitters.remove(subscriber.email(), subscriber);
+        send(subscriber.emitter(), name, data);
+        subscriber.emitter().complete();
+    }
+
+    private record Subscriber(String email, SseEmitter emitter, long ticket) {}
+
+    // 공연별 입장 속도 ("지금 입장 중인 번호" 증가량으로 계산, 방송 스레드에서만 수정)
+    private static class Throughput {
+        private long lastTotal;
+        private long lastMillis;
+        private double ratePerSecond;
+
+        private Throughput(long total, long now) {
+            this.lastTotal = total;
+            this.lastMillis = now;
+        }
+
+        private double update(long total, long now) {
+            long elapsed = now - lastMillis;
+            if (elapsed <= 0) {
+                return ratePerSecond;
+            }
+
+            double current = (total - lastTotal) * 1000.0 / elapsed;
+            ratePerSecond = ratePerSecond == 0 ? current : RATE_SMOOTHING * current + (1 - RATE_SMOOTHING) * ratePerSecond;
+
+            lastTotal = total;
+            lastMillis = now;
+            return ratePerSecond;
+        }
+    }
+
+}
@@ -0,0 +1,82 @@
+package com.zrp.toyproject01.domain.queue.application;
+
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import lombok.extern.slf4j.Slf4j;
+
+// 대기열 스케줄러 리더 선출 (Redis 임대 키 1개)
+// - 키 값 = 리더 서버 id, 리더는 틱마다 만료 시간을 연장함
+// - 리더가 죽으면 lease-millis 뒤에 키가 만료되고, 그 다음 틱에 다른 서버가 가져감
+// - 락(RLock)처럼 스레드에 묶이지 않아서 스케줄러 스레드가 틱마다 확인 / 연장만 하면 됨
+@Component
+@Slf4j
+public class QueueLeaderLease {
+
+    private static final String LEADER_KEY = "queue_scheduler_leader";
+
+    // 내가 리더면 연장, 비어 있으면 가져감
+    private static final RedisScript<Long> ACQUIRE_SCRIPT = new DefaultRedisScript<>("""
+        if redis.call('GET', KEYS[1]) == ARGV[1] then
+            redis.call('PEXPIRE', KEYS[1], ARGV[2])
+            return 1
+        end
+        if redis.call('SET', KEYS[1], ARGV[1], 'NX', 'PX', ARGV[2]) then
+            return 1
+        end
+        return 0
+        """, Long.class);
+
+    // 내가 리더일 때만 내려놓음 (다른 서버가 이미 가져갔으면 건드리지 않음)
+    private static final RedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>("""
+        if redis.call('GET', KEYS[1]) == ARGV[1] then
+            return redis.call('DEL', KEYS[1])
+        end
+        return 0
+        """, Long.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final String nodeId = UUID.randomUUID().toString();
+    private final long leaseMillis;
+
+    private volatile boolean leader;
+
+    public QueueLeaderLease(
+        RedisTemplate<String, String> redisTemplate,
+        @Value("${queue.scheduler.lease-millis:3000}") long leaseMillis
+    ) {
+        this.redisTemplate = redisTemplate;
+        this.leaseMillis = leaseMillis;
+    }
+
+    // 리더 확인 + 연장 (스케줄러 틱마다)
+    public boolean tryAcquire() {
+        Long result = redisTemplate.execute(ACQUIRE_SCRIPT, List.of(LEADER_KEY), nodeId, String.valueOf(leaseMillis));
+        boolean acquired = result != null && result == 1L;
+
+        if (acquired != leader) {
+            log.info(acquired ? "대기열 스케줄러 리더가 되었습니다. nodeId: {}" : "대기열 스케줄러 리더를 잃었습니다. nodeId: {}", nodeId);
+            leader = acquired;
+        }
+        return acquired;
+    }
+
+    // 종료할 때 바로 내려놓아서 다른 서버가 lease-millis를 기다리지 않게 함
+    public void release() {
+        if (leader) {
+            redisTemplate.execute(RELEASE_SCRIPT, List.of(LEADER_KEY), nodeId);
+            leader = false;
+        }
+    }
+
+    public boolean isLeader() {
+        return leader;
+    }
+
+}
@@ -1,85 +1,64 @@
 package com.zrp.toyproject01.domain.queue.application;
 
-import java.util.Set;
-
-import org.springframework.data.redis.core.RedisTemplate;
-import org.springframework.stereotype.Service;
-
-import lombok.RequiredArgsConstructor;
-
-@Service
-@RequiredArgsConstructor
-public class QueueService {
-    
-    // 1. Redis와 소통하는 창구 <Key 타입, Value 타입>
-    private final RedisTemplate<String, String> redisTemplate;
-
-    // 2. redis에 저장할 키(변수명)을 상수로 정의함
-    private static final String WAITING_KEY = "waiting_queue"; // 대기열 (ZSet 사용)
-    private static final String ACTIVE_KEY = "active_queue"; // 입장렬 (Set 사용)
-    private static final String SOLD_OUT_KEY = "sold_out:";
-
-    // 기능 1. 대기열 등록 (줄 서기)
-    // - 유저가 예매하기 버튼을 누르면 이 메소드가 실행됨
-    public void addQueue(String email) {
-        // 3. 현재 시간을 가져오기
-        // 낮을 수록 먼저 온 사람
-        long timeStamp = System.currentTimeMillis();
-
-        // Redis의 ZSet(Sorted Set)에 데이터를 넣음
-        // opsForZSet(): "나 ZSet 쓸 거야!"라고 선언
-        // add(키이름, 값(유저), 점수(시간)): 유저를 시간 점수로 등록합니다.
-        // Redis가 알아서 시간순으로 줄을 쫙 세워줍니다.
-        redisTemplate.opsForZSet().add(WAITING_KEY, email, timeStamp);
-    }
-
-    // 기능 2 입장 가능 여부 확인 (문지기)
-    // 유저가 결제 등을 시도할 때 너 입장권 있어?라고 확인하는 용도
-    public boolean isAllowed(String email) {
-        // 5. Redis의 Set에 이 유저가 있는지 확인함
-        // opsForSet(): "나 Set 쓸 거야!"라고 선언
-        // isMember(키이름, 값): 이 유저가 ACTIVE_KEY 목록에 포함되어 있니? (True/False)
-        return Boolean.TRUE.equals(redisTemplate.opsForSet().isMember(ACTIVE_KEY, email));
-    }
-
-    // 기능 3 내 대기 순번 확인 (옵션)
-    public Long getRank(String email) {
-        // 6. ZSet에서 내 등수를 확인합니다.
-        // rank(키이름, 값): 이 유저가 앞에서 몇 번째인지 0부터 시작하는 숫자(Index)로 줍니다.
-        // 예: 0이면 1등, 99면 100등
-        return redisTemplate.opsForZSet().rank(WAITING_KEY, email);
-    }
-
-    // 기능 4 대기열 -> 입장열로 이동 (Batch Process)
-    // - count: 한 번에 입장시킬 인원 수 
-    public void allowUser(long count) {
-        Set<String> users = redisTemplate.opsForZSet().range(WAITING_KEY, 0, count);
-    
-        // 대기하는 사람이 없으면 종료
-        if (users == null || users.isEmpty()) return;
-
-        for (String user : users) {
-            // 입장열에 추가 (구매 자격)
-            redisTemplate.opsForSet().add(ACTIVE_KEY, user);
-
-            // 대기열에서는 삭제
-            redisTemplate.opsForZSet().remove(WAITING_KEY, user);
-        }
-    }
+import java.util.Map;
 
+import com.zrp.toyproject01.domain.queue.dto.QueueGate;
+import com.zrp.toyproject01.domain.queue.dto.QueueStatus;
+import com.zrp.toyproject01.domain.queue.dto.QueueTicket;
+
+// 공연별 대기열
+// - Redis(여러 서버) / JVM 메모리(단일 서버) 중 설정값 queue.engine으로 선택
+// - 번호표 방식: 줄 설 때 번호표를 받고, 입장할 때마다 "지금 입장 중인 번호"를 올림 (대기 순번 = 번호표 - 입장 중인 번호)
+// - 입장권은 만료 시각이 있고, 입장권을 들고 있는 인원이 max-active를 넘지 않을 만큼만 입장
+// - 두 구현 모두 QueueServiceContractTest를 통과해야 함
+public interface QueueService {
+
+    // 줄 서기 (이미 서 있으면 원래 번호표 그대로)
+    QueueTicket addQueue(Long performanceId, String email);
+
+    // 예매 입구 검사 (매진 -> 입장권 -> 줄 서기를 한 번에)
+    QueueGate gate(Long performanceId, String email);
+
+    // 만료되지 않은 입장권이 있는지
+    boolean isAllowed(Long performanceId, String email);
+
+    // 입장권 반납 (예매를 끝낸 유저)
+    void complete(Long performanceId, String email);
+
+    // 입장권을 들고 있는 인원 수 (만료됐지만 아직 정리 안 된 사람 포함)
+    long getActiveCount(Long performanceId);
+
+    // 1부터 시작하는 대기 순번 (줄에 없으면 null)
+    Long getPosition(Long performanceId, String email);
+
+    // 지금 입장 중인 번호 (이 번호까지 입장함)
+    long getServing(Long performanceId);
+
+    // 대기열 앞에서 최대 count명 입장 (빈자리가 적으면 그만큼만)
+    // return: 실제로 입장한 인원 수
+    long allowUser(Long performanceId, long count);
+
+    // 매진 여부 + 지금 입장 중인 번호
+    QueueStatus getStatus(Long performanceId);
+
+    // 스케줄러가 돌아야 하는 공연들 -> 공연별 1초당 입장 인원
+    Map<Long, Long> getActiveSales();
+
+    // 공연별 1초당 입장 인원
+    long getAdmissionRate(Long performanceId);
+
+    // 공연별 1초당 입장 인원 변경 (null이면 기본값으로 되돌림)
+    void changeAdmissionRate(Long performanceId, Long rate);
+
+    // 스케줄러 목록에서 빼기 (매진 / 판매 종료) - 줄 선 사람은 그대로 둠
+    void closeSale(Long performanceId);
 
     // 매진 간판 걸기
-    public void setSoldOut(Long performanceId) {
-        redisTemplate.opsForValue().set(SOLD_OUT_KEY + performanceId, "true");
-    }
-
-    // 매진 간판 내리기 (취소표 발생 시)
-    public void removeSoldOut(Long performanceId) {
-        redisTemplate.delete(SOLD_OUT_KEY + performanceId);
-    }
-
-    // 매진인지 확인
-    public boolean isSoldOut(Long performanceId) {
-        return Boolean.TRUE.equals(redisTemplate.hasKey(SOLD_OUT_KEY + performanceId));
-    }
+    void setSoldOut(Long performanceId);
+
+    // 매진 간판 내리기 (취소표 발생 시 - 멈췄던 대기열도 다시 돌게 함)
+    void removeSoldOut(Long performanceId);
+
+    boolean isSoldOut(Long performanceId);
+
 }
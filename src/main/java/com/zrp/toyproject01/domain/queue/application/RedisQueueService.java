@@ -0,0 +1,368 @@
+package com.zrp.toyproject01.domain.queue.application;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+
+import com.zrp.toyproject01.domain.queue.dto.QueueGate;
+import com.zrp.toyproject01.domain.queue.dto.QueueStatus;
+import com.zrp.toyproject01.domain.queue.dto.QueueTicket;
+
+// Redis 대기열 (기본값 - 서버 여러 대)
+// - 공연마다 대기열 / 입장열 키를 따로 둠 (한 공연에 몰려도 다른 공연 줄에는 영향 없음)
+// - 줄 선 사람이 있는 공연 id는 SALES_KEY에 모아두고, 스케줄러는 여기만 돌면서 입장시킴
+// - 입장권은 만료 시각이 있음 (입장열 ZSet의 점수 = 만료 시각)
+//   예매를 끝내면 바로 반납, 중간에 나가버리면 pass-ttl 뒤에 자동으로 빠짐
+// - 입장 인원은 "입장했지만 아직 예매를 안 끝낸 사람" 수가 max-active를 넘지 않을 만큼만
+//   (예매 서버가 놀거나 터지지 않고 항상 비슷한 부하를 받도록)
+// - 번호표 방식: 줄 설 때 INCR로 번호표를 받고, 입장할 때마다 "지금 입장 중인 번호"를 올림
+//   대기 순번 = 내 번호표 - 지금 입장 중인 번호 (ZRANK 없이 뺄셈 1번, 번호표는 클라이언트 / SSE가 들고 있음)
+//   중간에 나간 사람도 번호는 차지하므로 실제보다 조금 뒤로 보일 수 있음 (앞당겨 보이지는 않음)
+//   대기열 ZSet은 입장 순서대로 꺼내기(ZPOPMIN) 위해서만 남김 (점수 = 번호표)
+// - 매진 여부는 SoldOutNearCache에 먼저 물어봄 (매진 뒤 몰려오는 요청은 Redis 왕복 없이 거절)
+@Service
+@ConditionalOnProperty(name = "queue.engine", havingValue = "redis", matchIfMissing = true)
+public class RedisQueueService implements QueueService {
+    
+    // 1. Redis와 소통하는 창구 <Key 타입, Value 타입>
+    private final RedisTemplate<String, String> redisTemplate;
+    private final SoldOutNearCache soldOutCache;
+    private final long defaultRate;
+    private final long maxActive;
+    private final long passTtlMillis;
+
+    // 2. redis에 저장할 키(변수명)을 상수로 정의함
+    private static final String WAITING_KEY = "waiting_queue:"; // 대기열 (ZSet 사용, 점수 = 번호표)
+    private static final String ACTIVE_KEY = "active_queue:"; // 입장렬 (ZSet 사용, 점수 = 입장권 만료 시각)
+    private static final String SOLD_OUT_KEY = "sold_out:";
+    private static final String SOLD_OUT_VERSION_KEY = "sold_out_version:"; // 매진 간판을 바꿀 때마다 +1 (로컬 캐시가 늦게 온 값을 버리는 기준)
+    private static final String SALES_KEY = "queue_sales"; // 대기열을 돌려야 하는 공연 id (Set)
+    private static final String RATE_KEY = "queue_rate";   // 공연별 1초당 입장 인원 (Hash, 없으면 기본값)
+    private static final String TICKET_KEY = "queue_ticket:";   // 마지막으로 나눠준 번호표 (INCR)
+    private static final String SERVING_KEY = "queue_serving:"; // 지금 입장 중인 번호 (이 번호까지 입장함)
+
+    // 줄 서기 (이미 서 있으면 원래 번호표 그대로)
+    // - 줄에 넣은 다음에 스케줄러 목록에 올림 (순서가 반대면 빈 줄로 보고 빠질 수 있음)
+    // return: {번호표, 지금 입장 중인 번호}
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> JOIN_SCRIPT = new DefaultRedisScript<>("""
+        local ticket = redis.call('ZSCORE', KEYS[1], ARGV[1])
+        if not ticket then
+            ticket = redis.call('INCR', KEYS[2])
+            redis.call('ZADD', KEYS[1], 'NX', ticket, ARGV[1])
+        end
+        redis.call('SADD', KEYS[4], ARGV[2])
+        return {tonumber(ticket), tonumber(redis.call('GET', KEYS[3]) or '0')}
+        """, List.class);
+
+    // 예매 입구 검사 (매진 -> 입장권 -> 줄 서기를 Redis 왕복 1번으로)
+    // - 줄 서기는 JOIN_SCRIPT와 같음 (ZADD NX - 다시 눌러도 원래 번호표 / 자리 유지)
+    // - KEYS: [1] 매진 간판, [2] 입장열, [3] 대기열, [4] 번호표, [5] 지금 입장 중인 번호, [6] 스케줄러 목록, [7] 매진 간판 버전
+    // - ARGV: [1] 이메일, [2] 공연 id, [3] 현재 시각
+    // return: {-1, 간판 버전} 매진 / {1} 입장권 있음 / {0, 번호표, 지금 입장 중인 번호} 대기
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> GATE_SCRIPT = new DefaultRedisScript<>("""
+        if redis.call('EXISTS', KEYS[1]) == 1 then
+            return {-1, tonumber(redis.call('GET', KEYS[7]) or '0')}
+        end
+        local expiresAt = redis.call('ZSCORE', KEYS[2], ARGV[1])
+        if expiresAt and tonumber(expiresAt) > tonumber(ARGV[3]) then
+            return {1}
+        end
+        local ticket = redis.call('ZSCORE', KEYS[3], ARGV[1])
+        if not ticket then
+            ticket = redis.call('INCR', KEYS[4])
+            redis.call('ZADD', KEYS[3], 'NX', ticket, ARGV[1])
+        end
+        redis.call('SADD', KEYS[6], ARGV[2])
+        return {0, tonumber(ticket), tonumber(redis.call('GET', KEYS[5]) or '0')}
+        """, List.class);
+
+    // 매진 간판 걸기 / 내리기 + 버전 올리기를 한 번에
+    // - ARGV: [1] 1 걸기 / 0 내리기
+    // return: 새 버전
+    private static final RedisScript<Long> SOLD_OUT_SCRIPT = new DefaultRedisScript<>("""
+        if ARGV[1] == '1' then
+            redis.call('SET', KEYS[1], 'true')
+        else
+            redis.call('DEL', KEYS[1])
+        end
+        return redis.call('INCR', KEYS[2])
+        """, Long.class);
+
+    // 대기열 앞에서 꺼내서(ZPOPMIN) 입장열에 넣음(ZADD) - 서버 안에서 한 번에
+    // - 꺼내는 것과 넣는 것이 원자적이라 스케줄러가 여러 대여도 같은 유저를 두 번 입장시키지 않음
+    // - 만료된 입장권부터 정리하고, 빈자리(maxActive - 입장 인원)와 ARGV[1] 중 작은 만큼만 입장
+    // - ZADD 인자가 너무 많아지지 않도록 500명씩 나눠서 넣음
+    // - 대기열이 비면 스케줄러 목록에서 뺌 (새로 줄 서면 addQueue가 다시 넣음)
+    // - 마지막으로 꺼낸 번호표로 "지금 입장 중인 번호"를 올림
+    // - ARGV: [1] 최대 입장 인원, [2] 공연 id, [3] 현재 시각, [4] 입장권 만료 시각, [5] maxActive
+    // return: 실제로 입장한 인원 수
+    private static final RedisScript<Long> ALLOW_SCRIPT = new DefaultRedisScript<>("""
+        redis.call('ZREMRANGEBYSCORE', KEYS[2], '-inf', ARGV[3])
+        local count = math.min(tonumber(ARGV[1]), tonumber(ARGV[5]) - redis.call('ZCARD', KEYS[2]))
+        local allowed = 0
+        if count > 0 then
+            local popped = redis.call('ZPOPMIN', KEYS[1], count)
+            local members = {}
+            for i = 1, #popped, 2 do
+                table.insert(members, ARGV[4])
+                table.insert(members, popped[i])
+                if #members == 1000 then
+                    redis.call('ZADD', KEYS[2], unpack(members))
+                    members = {}
+                end
+            end
+            if #members > 0 then
+                redis.call('ZADD', KEYS[2], unpack(members))
+            end
+            allowed = #popped / 2
+            if allowed > 0 then
+                local last = tonumber(popped[#popped])
+                if last > tonumber(redis.call('GET', KEYS[4]) or '0') then
+                    redis.call('SET', KEYS[4], last)
+                end
+            end
+        end
+        if redis.call('ZCARD', KEYS[1]) == 0 then
+            redis.call('SREM', KEYS[3], ARGV[2])
+        end
+        return allowed
+        """, Long.class);
+
+    public RedisQueueService(
+        RedisTemplate<String, String> redisTemplate,
+        SoldOutNearCache soldOutCache,
+        @Value("${queue.admission.default-rate:100}") long defaultRate,
+        @Value("${queue.admission.max-active:1000}") long maxActive,
+        @Value("${queue.pass.ttl-seconds:300}") long passTtlSeconds
+    ) {
+        this.redisTemplate = redisTemplate;
+        this.soldOutCache = soldOutCache;
+        this.defaultRate = defaultRate;
+        this.maxActive = maxActive;
+        this.passTtlMillis = passTtlSeconds * 1000;
+    }
+
+    // 기능 1. 대기열 등록 (줄 서기)
+    // - 유저가 예매하기 버튼을 누르면 이 메소드가 실행됨
+    // - 번호표와 대기 순번을 Redis 왕복 1번으로 받음
+    @SuppressWarnings("unchecked")
+    @Override
+    public QueueTicket addQueue(Long performanceId, String email) {
+        List<String> keys = List.of(
+            WAITING_KEY + performanceId, TICKET_KEY + performanceId, SERVING_KEY + performanceId, SALES_KEY
+        );
+        List<Long> result = redisTemplate.execute(JOIN_SCRIPT, keys, email, String.valueOf(performanceId));
+        return new QueueTicket(result.get(0), result.get(1));
+    }
+
+    // 예매 입구 검사 (isSoldOut + isAllowed + addQueue를 한 번에)
+    // - 거절되는 요청(매진 / 대기)도 Redis 왕복 1번으로 끝남
+    // - 이 서버가 이미 매진으로 알고 있으면 Redis 왕복 없이 바로 거절
+    //   (매진이 아니라고 알고 있어도 스크립트가 다시 확인함 - 로컬 값은 매진 쪽으로만 믿음)
+    // - 스크립트가 매진을 알려줄 때만 버전과 함께 로컬에 기록 (매진이 아니라는 값은 어차피 믿지 않으므로 쓰지 않음)
+    @SuppressWarnings("unchecked")
+    @Override
+    public QueueGate gate(Long performanceId, String email) {
+        if (Boolean.TRUE.equals(soldOutCache.get(performanceId))) {
+            return new QueueGate(QueueGate.Status.SOLD_OUT, 0, 0);
+        }
+
+        List<String> keys = List.of(
+            SOLD_OUT_KEY + performanceId, ACTIVE_KEY + performanceId, WAITING_KEY + performanceId,
+            TICKET_KEY + performanceId, SERVING_KEY + performanceId, SALES_KEY, SOLD_OUT_VERSION_KEY + performanceId
+        );
+        List<Long> result = redisTemplate.execute(GATE_SCRIPT, keys,
+            email, String.valueOf(performanceId), String.valueOf(System.currentTimeMillis()));
+
+        long code = result.get(0);
+        if (code < 0) {
+            soldOutCache.put(performanceId, true, result.get(1));
+            return new QueueGate(QueueGate.Status.SOLD_OUT, 0, 0);
+        }
+        if (code > 0) {
+            return new QueueGate(QueueGate.Status.ADMITTED, 0, 0);
+        }
+        return new QueueGate(QueueGate.Status.QUEUED, result.get(1), result.get(2));
+    }
+
+    // 기능 2 입장 가능 여부 확인 (문지기)
+    // 유저가 결제 등을 시도할 때 너 입장권 있어?라고 확인하는 용도
+    @Override
+    public boolean isAllowed(Long performanceId, String email) {
+        // 5. 입장열 ZSet에서 이 유저의 입장권 만료 시각을 확인함
+        // - 없거나 이미 만료됐으면 입장 불가 (만료된 항목은 다음 입장 처리 때 정리됨)
+        Double expiresAt = redisTemplate.opsForZSet().score(ACTIVE_KEY + performanceId, email);
+        return expiresAt != null && expiresAt > System.currentTimeMillis();
+    }
+
+    // 입장권 반납 (예매를 끝낸 유저 - 빈자리가 생겨서 다음 틱에 다른 사람이 들어옴)
+    @Override
+    public void complete(Long performanceId, String email) {
+        redisTemplate.opsForZSet().remove(ACTIVE_KEY + performanceId, email);
+    }
+
+    // 입장권을 들고 있는 인원 수 (만료됐지만 아직 정리 안 된 사람 포함)
+    @Override
+    public long getActiveCount(Long performanceId) {
+        Long count = redisTemplate.opsForZSet().zCard(ACTIVE_KEY + performanceId);
+        return count != null ? count : 0;
+    }
+
+    // 기능 3 내 대기 순번 확인 (옵션)
+    // - 번호표(ZSCORE, O(1)) - 지금 입장 중인 번호 (ZRANK 없음)
+    // return: 1부터 시작하는 대기 순번 (줄에 없으면 null)
+    @Override
+    public Long getPosition(Long performanceId, String email) {
+        Double ticket = redisTemplate.opsForZSet().score(WAITING_KEY + performanceId, email);
+        if (ticket == null) {
+            return null;
+        }
+        return new QueueTicket(ticket.longValue(), getServing(performanceId)).position();
+    }
+
+    // 지금 입장 중인 번호 (이 번호까지 입장함)
+    @Override
+    public long getServing(Long performanceId) {
+        String serving = redisTemplate.opsForValue().get(SERVING_KEY + performanceId);
+        return serving != null ? Long.parseLong(serving) : 0;
+    }
+
+    // 기능 4 대기열 -> 입장열로 이동 (Batch Process)
+    // - count: 한 번에 입장시킬 최대 인원 수 (빈자리가 적으면 그만큼만)
+    // - 인원 수와 상관없이 Redis 왕복 1번
+    // return: 실제로 입장한 인원 수
+    @Override
+    public long allowUser(Long performanceId, long count) {
+        if (count <= 0) return 0;
+
+        long now = System.currentTimeMillis();
+        List<String> keys = List.of(
+            WAITING_KEY + performanceId, ACTIVE_KEY + performanceId, SALES_KEY, SERVING_KEY + performanceId
+        );
+        Long allowed = redisTemplate.execute(ALLOW_SCRIPT, keys,
+            String.valueOf(count), String.valueOf(performanceId),
+            String.valueOf(now), String.valueOf(now + passTtlMillis), String.valueOf(maxActive));
+        return allowed != null ? allowed : 0;
+    }
+
+    // 매진 여부 + 지금 입장 중인 번호를 한 번에 (SSE 방송용 - 공연당 Redis 왕복 1번, 구독자 수와 무관)
+    @SuppressWarnings("unchecked")
+    @Override
+    public QueueStatus getStatus(Long performanceId) {
+        List<Object> results = redisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            public <K, V> Object execute(RedisOperations<K, V> operations) throws DataAccessException {
+                RedisOperations<String, String> ops = (RedisOperations<String, String>) operations;
+                ops.hasKey(SOLD_OUT_KEY + performanceId);
+                ops.opsForValue().get(SERVING_KEY + performanceId);
+                ops.opsForValue().get(SOLD_OUT_VERSION_KEY + performanceId);
+                return null;
+            }
+        });
+
+        // 읽는 사이에 알림으로 더 새로운 값이 들어왔으면 로컬 캐시는 그대로 (버전 비교)
+        boolean soldOut = Boolean.TRUE.equals(results.get(0));
+        soldOutCache.put(performanceId, soldOut, parseVersion(results.get(2)));
+
+        Object serving = results.get(1);
+        return new QueueStatus(soldOut, serving != null ? Long.parseLong((String) serving) : 0);
+    }
+
+    // 스케줄러가 돌아야 하는 공연들 -> 공연별 1초당 입장 인원 (Redis 왕복 2번)
+    @Override
+    public Map<Long, Long> getActiveSales() {
+        Set<String> members = redisTemplate.opsForSet().members(SALES_KEY);
+        if (members == null || members.isEmpty()) {
+            return Map.of();
+        }
+
+        List<Object> ids = new ArrayList<>(members);
+        List<Object> rates = redisTemplate.opsForHash().multiGet(RATE_KEY, ids);
+
+        Map<Long, Long> sales = new LinkedHashMap<>();
+        for (int i = 0; i < ids.size(); i++) {
+            Object rate = rates.get(i);
+            sales.put(Long.valueOf((String) ids.get(i)), rate != null ? Long.parseLong((String) rate) : defaultRate);
+        }
+        return sales;
+    }
+
+    // 공연별 1초당 입장 인원
+    @Override
+    public long getAdmissionRate(Long performanceId) {
+        Object rate = redisTemplate.opsForHash().get(RATE_KEY, String.valueOf(performanceId));
+        return rate != null ? Long.parseLong((String) rate) : defaultRate;
+    }
+
+    // 공연별 1초당 입장 인원 변경 (null이면 기본값으로 되돌림)
+    @Override
+    public void changeAdmissionRate(Long performanceId, Long rate) {
+        if (rate == null) {
+            redisTemplate.opsForHash().delete(RATE_KEY, String.valueOf(performanceId));
+            return;
+        }
+        redisTemplate.opsForHash().put(RATE_KEY, String.valueOf(performanceId), String.valueOf(rate));
+    }
+
+    // 스케줄러 목록에서 빼기 (매진 / 판매 종료) - 줄 선 사람은 그대로 둠
+    @Override
+    public void closeSale(Long performanceId) {
+        redisTemplate.opsForSet().remove(SALES_KEY, String.valueOf(performanceId));
+    }
+
+    // 매진 간판 걸기 (Redis에 건 다음 모든 서버 로컬 캐시에 알림)
+    @Override
+    public void setSoldOut(Long performanceId) {
+        long version = changeSoldOut(performanceId, true);
+        soldOutCache.publish(performanceId, true, version);
+    }
+
+    // 매진 간판 내리기 (취소표 발생 시)
+    // - 매진 때문에 멈췄던 대기열도 다시 돌게 함 (줄이 비어 있으면 다음 틱에 알아서 빠짐)
+    @Override
+    public void removeSoldOut(Long performanceId) {
+        long version = changeSoldOut(performanceId, false);
+        redisTemplate.opsForSet().add(SALES_KEY, String.valueOf(performanceId));
+        soldOutCache.publish(performanceId, false, version);
+    }
+
+    // 매진인지 확인 (로컬 캐시가 매진이면 그대로 -> 아니면 Redis)
+    // - 매진이 아니라는 로컬 값은 믿지 않음 (그 사이 다른 서버가 간판을 걸었을 수 있음, 매진을 놓치는 쪽이 더 위험)
+    @Override
+    public boolean isSoldOut(Long performanceId) {
+        if (Boolean.TRUE.equals(soldOutCache.get(performanceId))) {
+            return true;
+        }
+
+        List<String> values = redisTemplate.opsForValue().multiGet(
+            List.of(SOLD_OUT_KEY + performanceId, SOLD_OUT_VERSION_KEY + performanceId)
+        );
+        boolean soldOut = values != null && values.get(0) != null;
+        soldOutCache.put(performanceId, soldOut, values != null ? parseVersion(values.get(1)) : 0);
+        return soldOut;
+    }
+
+    private long changeSoldOut(Long performanceId, boolean soldOut) {
+        Long version = redisTemplate.execute(SOLD_OUT_SCRIPT,
+            List.of(SOLD_OUT_KEY + performanceId, SOLD_OUT_VERSION_KEY + performanceId), soldOut ? "1" : "0");
+        return version != null ? version : 0;
+    }
+
+    private static long parseVersion(Object version) {
+        return version != null ? Long.parseLong((String) version) : 0;
+    }
+}
@@ -0,0 +1,86 @@
+package com.zrp.toyproject01.domain.queue.application;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import lombok.extern.slf4j.Slf4j;
+
+// 매진 간판 로컬 캐시 (Redis 대기열 전용)
+// - 매진 뒤에 몰려오는 요청은 Redis까지 가지 않고 JVM 안에서 바로 거절
+// - 간판을 걸고 / 내릴 때 pub/sub으로 "공연 id:상태:버전"을 뿌려서 모든 서버가 바로 갱신함
+// - pub/sub은 유실될 수 있으므로 ttl-millis가 지나면 Redis에서 다시 읽음 (최대 그만큼만 어긋남)
+// - 간판을 바꿀 때마다 Redis에서 버전을 올림 (RedisQueueService)
+//   Redis에서 읽은 값은 알림보다 늦게 도착할 수 있으므로 캐시된 값보다 버전이 낮으면 버림
+//   (캐시가 이미 만료됐으면 버전과 상관없이 받음 - Redis를 비우거나 재시작해서 버전이 0부터 다시 시작해도 다시 채워지도록)
+@Component
+@ConditionalOnProperty(name = "queue.engine", havingValue = "redis", matchIfMissing = true)
+@Slf4j
+public class SoldOutNearCache implements MessageListener {
+
+    private static final String CHANNEL = "sold_out_events";
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final long ttlMillis;
+
+    private final Map<Long, Flag> flags = new ConcurrentHashMap<>();
+
+    public SoldOutNearCache(
+        RedisTemplate<String, String> redisTemplate,
+        RedisMessageListenerContainer listenerContainer,
+        @Value("${queue.sold-out.near-cache-ttl-millis:1000}") long ttlMillis
+    ) {
+        this.redisTemplate = redisTemplate;
+        this.ttlMillis = ttlMillis;
+        listenerContainer.addMessageListener(this, new ChannelTopic(CHANNEL));
+    }
+
+    // 캐시된 매진 여부 (없거나 만료됐으면 null -> Redis에서 읽어야 함)
+    public Boolean get(Long performanceId) {
+        Flag flag = flags.get(performanceId);
+        if (flag == null || flag.expiresAt() <= System.currentTimeMillis()) {
+            return null;
+        }
+        return flag.soldOut();
+    }
+
+    // 이 서버에만 기록 (Redis에서 읽어온 값 / 알림으로 받은 값)
+    // - version: 간판 버전 (캐시된 값보다 낮으면 더 새로운 알림이 이미 반영된 것 -> 무시)
+    public void put(Long performanceId, boolean soldOut, long version) {
+        long now = System.currentTimeMillis();
+        Flag flag = new Flag(soldOut, version, now + ttlMillis);
+
+        flags.merge(performanceId, flag,
+            (cached, fresh) -> cached.expiresAt() <= now || fresh.version() >= cached.version() ? fresh : cached);
+    }
+
+    // 이 서버에 기록 + 다른 서버에 알림 (간판을 걸거나 내린 쪽에서 호출)
+    public void publish(Long performanceId, boolean soldOut, long version) {
+        put(performanceId, soldOut, version);
+        redisTemplate.convertAndSend(CHANNEL, performanceId + ":" + (soldOut ? 1 : 0) + ":" + version);
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        String[] parts = body.split(":");
+
+        try {
+            put(Long.valueOf(parts[0]), "1".equals(parts[1]), Long.parseLong(parts[2]));
+        } catch (RuntimeException e) {
+            log.warn("매진 알림 형식 오류: {}", body);
+        }
+    }
+
+    private record Flag(boolean soldOut, long version, long expiresAt) {}
+
+}
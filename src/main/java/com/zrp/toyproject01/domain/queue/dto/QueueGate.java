@@ -0,0 +1,20 @@
+package com.zrp.toyproject01.domain.queue.dto;
+
+// 예매 입구 검사 결과 (매진 / 입장권 있음 / 대기열로)
+// - QUEUED일 때만 ticket / serving이 채워짐
+public record QueueGate(
+    Status status,
+    long ticket,
+    long serving
+) {
+    public enum Status {
+        SOLD_OUT, // 매진
+        ADMITTED, // 입장권 있음 -> 예매 진행
+        QUEUED    // 대기열에 있음 (이번에 줄 섰거나 원래 서 있던 자리 그대로)
+    }
+
+    // 1부터 시작하는 대기 순번 (QUEUED일 때만 의미 있음)
+    public long position() {
+        return Math.max(0, ticket - serving);
+    }
+}
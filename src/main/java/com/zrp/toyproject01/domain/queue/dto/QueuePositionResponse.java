@@ -0,0 +1,8 @@
+package com.zrp.toyproject01.domain.queue.dto;
+
+// SSE position 이벤트
+// - estimatedWaitSeconds: 최근 입장 속도로 추정한 대기 시간 (아직 모르면 null)
+public record QueuePositionResponse(
+    long waitingNumber,
+    Long estimatedWaitSeconds
+) {}
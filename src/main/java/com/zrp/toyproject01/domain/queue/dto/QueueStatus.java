@@ -0,0 +1,7 @@
+package com.zrp.toyproject01.domain.queue.dto;
+
+// 공연 대기열 현황 (SSE 방송용)
+public record QueueStatus(
+    boolean soldOut,
+    long serving // 지금 입장 중인 번호 (이 번호까지 입장함)
+) {}
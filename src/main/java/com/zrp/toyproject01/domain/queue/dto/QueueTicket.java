@@ -0,0 +1,14 @@
+package com.zrp.toyproject01.domain.queue.dto;
+
+// 대기열 번호표
+// - ticket: 줄 설 때 받은 번호 / serving: 지금 입장 중인 번호 (이 번호까지 입장함)
+// - 대기 순번은 뺄셈으로 계산 (클라이언트도 두 숫자만 있으면 직접 계산 가능)
+public record QueueTicket(
+    long ticket,
+    long serving
+) {
+    // 1부터 시작하는 대기 순번 (이미 입장 차례가 지났으면 0)
+    public long position() {
+        return Math.max(0, ticket - serving);
+    }
+}
@@ -1,40 +1,212 @@
 package com.zrp.toyproject01.domain.queue.scheduler;
 
-import org.springframework.scheduling.annotation.Scheduled;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Component;
 
+import com.zrp.toyproject01.domain.queue.application.AdaptiveAdmissionRate;
+import com.zrp.toyproject01.domain.queue.application.QueueLeaderLease;
 import com.zrp.toyproject01.domain.queue.application.QueueService;
 
-import lombok.RequiredArgsConstructor;
+import jakarta.annotation.PreDestroy;
 import lombok.extern.slf4j.Slf4j;
 
+// 공연별 입장 스케줄러
+// - 서버가 여러 대여도 리더 1대만 입장시킴 (QueueLeaderLease) - 서버 수만큼 입장 속도가 곱해지지 않도록
+// - 전용 스레드에서 tick-millis마다 (1초 미만도 가능) - 다른 @Scheduled 작업이 밀려도 입장은 제때
+// - 줄 선 사람이 있는 공연만 돌면서 입장시킴
+// - 이번 틱 전체 입장 인원(예산) = AdaptiveAdmissionRate가 정한 속도, 이걸 공연들이 똑같이 나눠 가짐
+//   (신호는 모든 서버가 틱마다 보내고, 리더가 합쳐서 속도를 정함)
+//   (공연별 설정 인원(queue_rate)은 상한으로만 쓰임 - 상한이 몫보다 작은 공연의 남는 몫은 나머지 공연들이 나눠 가짐)
+//   줄이 짧거나 빈자리가 없어서 덜 들어간 만큼은 다 채운 공연(줄이 더 긴 공연)들에게 다시 나눔
+//   -> 틱마다 들어가는 인원은 예산을 넘지 않고, 줄 선 사람이 있으면 예산을 남기지 않음
+// - 틱이 짧으면 1명 미만이 나오므로 예산 / 공연별 상한의 소수점 아래를 다음 틱으로 넘김
+// - 공연 하나가 실패해도 나머지 공연은 계속 (한 공연 때문에 다른 공연 입장이 멈추지 않도록)
+// - 매진된 공연은 목록에서 빼서 더 이상 돌지 않음 (취소표가 나오면 removeSoldOut이 다시 넣음)
 @Component
-@RequiredArgsConstructor
 @Slf4j // 로그 찍기
 public class QueueScheduler {
     
     private final QueueService queueService;
+    private final AdaptiveAdmissionRate admissionRate;
+    private final QueueLeaderLease leaderLease;
+    private final long tickMillis;
+    private final long initialDelayMillis;
+
+    // 스케줄러 스레드 / 수동 실행이 같이 쓰므로 this 락 안에서만 읽고 씀
+    private final Map<Long, Double> carries = new HashMap<>(); // 공연별 이월된 상한 (1명 미만)
+    private double budgetCarry; // 이월된 예산 (1명 미만)
+    private long rounds;        // 나누어떨어지지 않는 1명을 받을 공연을 돌려가며 고르는 카운터
+    private final ScheduledExecutorService ticker = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "queue-scheduler");
+        thread.setDaemon(true);
+        return thread;
+    });
 
-    private final Long PERFORMANCE_ID = 1L;
+    public QueueScheduler(
+        QueueService queueService,
+        AdaptiveAdmissionRate admissionRate,
+        QueueLeaderLease leaderLease,
+        @Value("${queue.scheduler.tick-millis:200}") long tickMillis,
+        @Value("${queue.scheduler.initial-delay-millis:0}") long initialDelayMillis
+    ) {
+        this.queueService = queueService;
+        this.admissionRate = admissionRate;
+        this.leaderLease = leaderLease;
+        this.tickMillis = tickMillis;
+        this.initialDelayMillis = initialDelayMillis;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        ticker.scheduleWithFixedDelay(this::tick, initialDelayMillis, tickMillis, TimeUnit.MILLISECONDS);
+    }
 
-    @Scheduled(fixedDelay = 1000) // 1000ms(1초)
+    @PreDestroy
+    public void shutdown() {
+        ticker.shutdownNow();
+        leaderLease.release();
+    }
+
+    private void tick() {
+        try {
+            // 예매는 모든 서버가 받으므로 신호는 리더가 아니어도 보냄 (속도 조절은 리더가 합쳐서)
+            admissionRate.publish();
+
+            if (!leaderLease.tryAcquire()) {
+                clearCarries();
+                return;
+            }
+            enterUser(admissionRate.adjust(tickMillis));
+        } catch (Exception e) {
+            // 예외가 밖으로 나가면 다음 틱이 취소되므로 여기서 잡음
+            log.error("대기열 스케줄러 틱 실패!", e);
+        }
+    }
+
+    // 입장 틱 1번 (리더 여부와 상관없이 - 테스트 / 수동 실행용)
     public void enterUser() {
+        admissionRate.publish();
+        enterUser(admissionRate.adjust(tickMillis));
+    }
 
-        if (queueService.isSoldOut(PERFORMANCE_ID)) {
+    private synchronized void enterUser(double ratePerSecond) {
+        Map<Long, Long> sales = queueService.getActiveSales();
+        carries.keySet().retainAll(sales.keySet());
+        if (sales.isEmpty()) {
+            budgetCarry = 0;
             return;
         }
 
-        queueService.allowUser(100);
-        log.info("🚪 1초가 지났습니다. 순번이 된 유저들을 입장시켰습니다.");
+        // 1. 이번 틱 예산
+        double total = ratePerSecond * tickMillis / 1000.0 + budgetCarry;
+        long remaining = (long) total;
+        budgetCarry = total - remaining;
+
+        // 2. 공연별 상한 (queue_rate)
+        Map<Long, Long> caps = new LinkedHashMap<>();
+        for (Map.Entry<Long, Long> sale : sales.entrySet()) {
+            Long performanceId = sale.getKey();
+
+            double allowance = sale.getValue() * tickMillis / 1000.0 + carries.getOrDefault(performanceId, 0.0);
+            long cap = (long) allowance;
+            carries.put(performanceId, allowance - cap);
+
+            if (cap > 0) {
+                caps.put(performanceId, cap);
+            }
+        }
+
+        // 3. 나눠서 입장 -> 덜 들어간 만큼은 다 채운 공연들끼리 다시 나눔
+        //    (다 채운 공연은 상한이 남았을 때만 다음 차례에 남음 -> 예산이 0이 되거나 받을 공연이 없으면 끝)
+        while (remaining > 0 && !caps.isEmpty()) {
+            Map<Long, Long> next = new LinkedHashMap<>();
+
+            for (Map.Entry<Long, Long> share : split(remaining, caps).entrySet()) {
+                Long performanceId = share.getKey();
+                long count = share.getValue();
+                long headroom = caps.get(performanceId) - count;
+
+                long allowed = count > 0 ? enter(performanceId, count) : 0;
+                remaining -= allowed;
+
+                if (allowed == count && headroom > 0) {
+                    next.put(performanceId, headroom);
+                }
+            }
+            caps = next;
+        }
+    }
+
+    // 예산을 상한 안에서 똑같이 나눔 (상한이 몫보다 작은 공연은 상한만큼, 남는 몫은 나머지 공연들이 다시 똑같이)
+    // - 나누어떨어지지 않는 1명씩은 받을 공연을 돌려가며 줌 (항상 같은 공연만 더 받지 않도록)
+    // return: 공연 id -> 입장 인원 (합 = min(예산, 상한 합))
+    private Map<Long, Long> split(long budget, Map<Long, Long> caps) {
+        List<Map.Entry<Long, Long>> pending = new ArrayList<>(caps.entrySet());
+        pending.sort(Map.Entry.comparingByValue());
+
+        Map<Long, Long> counts = new LinkedHashMap<>();
+        long remaining = budget;
+
+        while (!pending.isEmpty()) {
+            long share = remaining / pending.size();
+            Map.Entry<Long, Long> smallest = pending.get(0);
+
+            if (smallest.getValue() <= share) {
+                counts.put(smallest.getKey(), smallest.getValue());
+                remaining -= smallest.getValue();
+                pending.remove(0);
+                continue;
+            }
+
+            // 남은 공연은 모두 상한 > 몫 -> 몫 + 나머지 1명씩 (상한을 넘지 않음)
+            long extra = remaining % pending.size();
+            int start = (int) (rounds++ % pending.size());
+            for (int i = 0; i < pending.size(); i++) {
+                Map.Entry<Long, Long> entry = pending.get((start + i) % pending.size());
+                counts.put(entry.getKey(), share + (i < extra ? 1 : 0));
+            }
+            break;
+        }
+        return counts;
+    }
+
+    private synchronized void clearCarries() {
+        carries.clear();
+        budgetCarry = 0;
     }
 
     public void enterUserForTest(Long performanceId) { 
-        if (queueService.isSoldOut(performanceId)) {
-            return;
-        }    
+        enter(performanceId, Math.max(1, Math.round(queueService.getAdmissionRate(performanceId) * tickMillis / 1000.0)));
+    }
 
-        queueService.allowUser(100);
-        log.info("🚪 1초가 지났습니다. 순번이 된 유저들을 입장시켰습니다.");
+    // return: 실제로 입장한 인원 수 (매진 / 실패면 0)
+    private long enter(Long performanceId, long count) {
+        try {
+            if (queueService.isSoldOut(performanceId)) {
+                queueService.closeSale(performanceId);
+                return 0;
+            }
+
+            long allowed = queueService.allowUser(performanceId, count);
+            if (allowed > 0) {
+                log.debug("🚪 공연 {}: 순번이 된 유저 {}명을 입장시켰습니다.", performanceId, allowed);
+            }
+            return allowed;
+        } catch (Exception e) {
+            log.error("입장 처리 실패! performanceId: {}", performanceId, e);
+            return 0;
+        }
     }
 
 }
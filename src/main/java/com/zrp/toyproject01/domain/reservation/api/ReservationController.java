@@ -0,0 +1,37 @@
+package com.zrp.toyproject01.domain.reservation.api;
+
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.zrp.toyproject01.domain.performance.application.PerformancePurchaseFacade;
+import com.zrp.toyproject01.domain.reservation.application.ReservationService;
+import com.zrp.toyproject01.global.common.ApiResponse;
+import com.zrp.toyproject01.global.util.SecurityUtil;
+
+import lombok.RequiredArgsConstructor;
+
+@RestController
+@RequestMapping("/api/reservations")
+@RequiredArgsConstructor
+public class ReservationController {
+
+    private final ReservationService reservationService;
+    private final PerformancePurchaseFacade performancePurchaseFacade;
+
+    // 임시 점유 확정 (결제 완료 후 호출 - 만료 시각 전에만 가능)
+    @PostMapping("/{id}/confirm")
+    public ApiResponse<Void> confirm(@PathVariable Long id) {
+        reservationService.confirm(id, SecurityUtil.getCurrentUserId());
+        return ApiResponse.ok();
+    }
+
+    // 예약 취소 (공연에 설정된 예매 방식이 재고 카운터까지 돌려줌)
+    @PostMapping("/{id}/cancel")
+    public ApiResponse<Void> cancel(@PathVariable Long id) {
+        performancePurchaseFacade.cancel(id, SecurityUtil.getCurrentUserId());
+        return ApiResponse.ok();
+    }
+
+}
@@ -0,0 +1,144 @@
+package com.zrp.toyproject01.domain.reservation.application;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import com.zrp.toyproject01.domain.queue.application.QueueService;
+import com.zrp.toyproject01.domain.reservation.dao.ReservationRepository;
+import com.zrp.toyproject01.domain.reservation.domain.Reservation;
+import com.zrp.toyproject01.domain.reservation.dto.HeldReservation;
+import com.zrp.toyproject01.domain.seat.application.SeatInventory;
+import com.zrp.toyproject01.global.util.HierarchicalTimingWheel;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+// 임시 점유 만료 처리
+// - 점유가 생길 때 타이밍 휠에 등록해두고, 만료 시각이 된 것만 꺼내서 처리 (예약 테이블을 주기적으로 훑지 않음)
+// - 꺼낸 건은 batch-size씩 짧은 트랜잭션으로 EXPIRED + 재고 반납, 커밋 후에 좌석 비트맵 반납
+// - 휠은 메모리에 있으므로 재시작하면 HELD 예약을 1번 읽어서 다시 채움
+@Service
+@Slf4j
+public class HoldExpiryService {
+
+    private static final long RETRY_DELAY_MILLIS = 1000;
+
+    private final HoldExpiryWriter holdExpiryWriter;
+    private final ReservationRepository reservationRepository;
+    private final SeatInventory seatInventory;
+    private final QueueService queueService;
+
+    private final long ttlSeconds;
+    private final long tickMillis;
+    private final int batchSize;
+
+    private final HierarchicalTimingWheel<HeldReservation> wheel;
+    private final ScheduledExecutorService ticker = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "hold-expiry");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public HoldExpiryService(
+        HoldExpiryWriter holdExpiryWriter,
+        ReservationRepository reservationRepository,
+        SeatInventory seatInventory,
+        QueueService queueService,
+        @Value("${reservation.hold.ttl-seconds:300}") long ttlSeconds,
+        @Value("${reservation.hold.tick-millis:100}") long tickMillis,
+        @Value("${reservation.hold.wheel-size:512}") int wheelSize,
+        @Value("${reservation.hold.expire-batch-size:100}") int batchSize
+    ) {
+        this.holdExpiryWriter = holdExpiryWriter;
+        this.reservationRepository = reservationRepository;
+        this.seatInventory = seatInventory;
+        this.queueService = queueService;
+        this.ttlSeconds = ttlSeconds;
+        this.tickMillis = tickMillis;
+        this.batchSize = batchSize;
+        this.wheel = new HierarchicalTimingWheel<>(tickMillis, wheelSize, System.currentTimeMillis());
+    }
+
+    // 새 점유의 만료 시각
+    public LocalDateTime nextExpiresAt() {
+        return LocalDateTime.now().plusSeconds(ttlSeconds);
+    }
+
+    // 점유 등록 (커밋된 뒤에 호출)
+    public void schedule(HeldReservation hold) {
+        wheel.schedule(hold, toMillis(hold.expiresAt()));
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        List<HeldReservation> holds = reservationRepository.findHeld();
+        holds.forEach(this::schedule);
+        log.info("임시 점유 {}건을 타이밍 휠에 다시 등록했습니다.", holds.size());
+
+        ticker.scheduleWithFixedDelay(this::tick, tickMillis, tickMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        ticker.shutdown();
+    }
+
+    private void tick() {
+        try {
+            List<HeldReservation> due = new ArrayList<>();
+            wheel.advance(System.currentTimeMillis(), due::add);
+
+            for (int from = 0; from < due.size(); from += batchSize) {
+                expire(due.subList(from, Math.min(from + batchSize, due.size())));
+            }
+        } catch (Exception e) {
+            // 예외가 밖으로 나가면 스케줄이 멈추므로 여기서 끊음
+            log.error("임시 점유 만료 처리 중 오류", e);
+        }
+    }
+
+    private void expire(List<HeldReservation> holds) {
+        List<HeldReservation> expired;
+        try {
+            expired = holdExpiryWriter.expire(holds);
+        } catch (Exception e) {
+            // 롤백됨 -> 잠시 뒤에 다시 시도
+            log.error("임시 점유 만료 실패! {}건을 {}ms 뒤에 다시 시도합니다.", holds.size(), RETRY_DELAY_MILLIS, e);
+            long retryAt = System.currentTimeMillis() + RETRY_DELAY_MILLIS;
+            holds.forEach(hold -> wheel.schedule(hold, retryAt));
+            return;
+        }
+
+        // 커밋 후: 좌석 비트맵 반납 + 매진 간판 내리기
+        Set<Long> performanceIds = new LinkedHashSet<>();
+        for (HeldReservation hold : expired) {
+            int[] seatNumbers = Reservation.parseSeatNumbers(hold.seatNumbers());
+            if (seatNumbers.length > 0) {
+                seatInventory.release(hold.performanceId(), seatNumbers);
+            }
+            performanceIds.add(hold.performanceId());
+        }
+        performanceIds.forEach(queueService::removeSoldOut);
+
+        if (!expired.isEmpty()) {
+            log.info("임시 점유 {}건 만료 (재고 반납)", expired.size());
+        }
+    }
+
+    private long toMillis(LocalDateTime time) {
+        return time.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
+}
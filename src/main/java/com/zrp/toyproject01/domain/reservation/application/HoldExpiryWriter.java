@@ -0,0 +1,44 @@
+package com.zrp.toyproject01.domain.reservation.application;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.zrp.toyproject01.domain.performance.dao.PerformanceRepository;
+import com.zrp.toyproject01.domain.reservation.dao.ReservationRepository;
+import com.zrp.toyproject01.domain.reservation.dto.HeldReservation;
+
+import lombok.RequiredArgsConstructor;
+
+// 만료된 임시 점유를 DB에 반영 (짧은 트랜잭션 1번에 최대 batch-size건)
+// - 예약은 PK로 1건씩 조건부 UPDATE (그 사이에 결제된 건은 0건이라 건너뜀)
+// - 재고 반납은 공연별로 모아서 UPDATE 1번 (공연 id 순서로 잡아서 데드락 방지)
+@Component
+@RequiredArgsConstructor
+public class HoldExpiryWriter {
+
+    private final ReservationRepository reservationRepository;
+    private final PerformanceRepository performanceRepository;
+
+    // return: 실제로 만료 처리된 건
+    @Transactional(timeout = 5)
+    public List<HeldReservation> expire(List<HeldReservation> holds) {
+        List<HeldReservation> expired = new ArrayList<>(holds.size());
+        Map<Long, Integer> restock = new TreeMap<>();
+
+        for (HeldReservation hold : holds) {
+            if (reservationRepository.expireHeld(hold.reservationId()) == 1) {
+                expired.add(hold);
+                restock.merge(hold.performanceId(), hold.count(), Integer::sum);
+            }
+        }
+
+        restock.forEach(performanceRepository::increaseStock);
+        return expired;
+    }
+
+}
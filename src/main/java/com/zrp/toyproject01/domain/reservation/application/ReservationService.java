@@ -0,0 +1,42 @@
+package com.zrp.toyproject01.domain.reservation.application;
+
+import java.time.LocalDateTime;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.zrp.toyproject01.domain.reservation.dao.ReservationRepository;
+import com.zrp.toyproject01.domain.reservation.domain.Reservation;
+import com.zrp.toyproject01.domain.reservation.domain.ReservationStatus;
+import com.zrp.toyproject01.global.error.BusinessException;
+import com.zrp.toyproject01.global.error.ErrorCode;
+
+import lombok.RequiredArgsConstructor;
+
+@Service
+@RequiredArgsConstructor
+public class ReservationService {
+
+    private final ReservationRepository reservationRepository;
+
+    // 임시 점유 확정 (결제 완료)
+    // - 조건부 UPDATE 1번으로 판정 (만료 처리와 동시에 일어나도 둘 중 하나만 성공)
+    @Transactional
+    public void confirm(Long reservationId, Long userId) {
+        if (reservationRepository.confirmHeld(reservationId, userId, LocalDateTime.now()) == 1) {
+            return;
+        }
+
+        // 실패했을 때만 이유 확인
+        Reservation reservation = reservationRepository.findById(reservationId)
+            .filter(found -> found.getUser().getId().equals(userId))
+            .orElseThrow(() -> new BusinessException(ErrorCode.RESERVATION_NOT_FOUND));
+
+        switch (reservation.getStatus()) {
+            case RESERVED -> { } // 이미 확정됨 (재요청)
+            case CANCELLED -> throw new BusinessException(ErrorCode.ALREADY_CANCELLED);
+            default -> throw new BusinessException(ErrorCode.RESERVATION_EXPIRED); // HELD(만료 시각 지남) / EXPIRED
+        }
+    }
+
+}
@@ -1,8 +1,46 @@
 package com.zrp.toyproject01.domain.reservation.dao;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
 import com.zrp.toyproject01.domain.reservation.domain.Reservation;
+import com.zrp.toyproject01.domain.reservation.domain.ReservationStatus;
+import com.zrp.toyproject01.domain.reservation.dto.HeldReservation;
 
 public interface ReservationRepository extends JpaRepository<Reservation, Long> {
     
+    // 공연의 점유 중인 좌석 번호들 (좌석 비트맵을 DB에서 다시 만들 때 - 엔티티 대신 문자열만)
+    @Query("select r.seatNumbers from Reservation r "
+        + "where r.performance.id = :performanceId and r.status in :statuses and r.seatNumbers is not null")
+    List<String> findSeatNumbers(
+        @Param("performanceId") Long performanceId,
+        @Param("statuses") Collection<ReservationStatus> statuses
+    );
+
+    // 아직 만료 처리되지 않은 임시 점유 전부 (재시작 시 타이밍 휠을 다시 채울 때 1번만)
+    @Query("select new com.zrp.toyproject01.domain.reservation.dto.HeldReservation("
+        + "r.id, r.performance.id, r.count, r.seatNumbers, r.expiresAt) "
+        + "from Reservation r where r.status = com.zrp.toyproject01.domain.reservation.domain.ReservationStatus.HELD")
+    List<HeldReservation> findHeld();
+
+    // 임시 점유 -> 만료 (그 사이에 결제 / 취소됐으면 0건)
+    @Modifying
+    @Query("update Reservation r set r.status = com.zrp.toyproject01.domain.reservation.domain.ReservationStatus.EXPIRED "
+        + "where r.id = :id and r.status = com.zrp.toyproject01.domain.reservation.domain.ReservationStatus.HELD")
+    int expireHeld(@Param("id") Long id);
+
+    // 임시 점유 -> 예약 완료 (본인 것이고 아직 만료 전일 때만)
+    @Modifying
+    @Query("update Reservation r set r.status = com.zrp.toyproject01.domain.reservation.domain.ReservationStatus.RESERVED, "
+        + "r.expiresAt = null "
+        + "where r.id = :id and r.user.id = :userId and r.expiresAt > :now "
+        + "and r.status = com.zrp.toyproject01.domain.reservation.domain.ReservationStatus.HELD")
+    int confirmHeld(@Param("id") Long id, @Param("userId") Long userId, @Param("now") LocalDateTime now);
+
 }
@@ -1,5 +1,9 @@
 package com.zrp.toyproject01.domain.reservation.domain;
 
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.stream.Collectors;
+
 import com.zrp.toyproject01.domain.account.domain.User;
 import com.zrp.toyproject01.domain.performance.domain.Performance;
 import com.zrp.toyproject01.global.common.BaseTimeEntity;
@@ -12,6 +16,7 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
@@ -20,7 +25,10 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 @Entity
-@Table(name = "reservation")
+@Table(name = "reservation", indexes = {
+    // 재시작 시 HELD 예약만 다시 읽어오기 위한 인덱스 (주기적인 만료 스캔에는 쓰지 않음)
+    @Index(name = "idx_reservation_status_expires_at", columnList = "status, expires_at")
+})
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Reservation extends BaseTimeEntity {
@@ -52,6 +60,14 @@ public class Reservation extends BaseTimeEntity {
     @Column(nullable = false)
     private ReservationStatus status;
 
+    // 임시 점유 만료 시각 (HELD일 때만)
+    @Column(name = "expires_at")
+    private LocalDateTime expiresAt;
+
+    // 지정 좌석 번호 (좌석 지정 예매일 때만, "3,4,5" 형태)
+    @Column(name = "seat_numbers", length = 1000)
+    private String seatNumbers;
+
     // 생성자 (팩토리 메소드용)
     private Reservation(
         User user,
@@ -75,6 +91,62 @@ public class Reservation extends BaseTimeEntity {
         return new Reservation(user, performance, count, performance.getPrice());
     }
 
+    // 팩토리 메소드 : 가격을 이미 알고 있을 때 (performance가 프록시여도 초기화되지 않음)
+    public static Reservation create(
+        User user,
+        Performance performance,
+        int count,
+        int price
+    ) {
+        return new Reservation(user, performance, count, price);
+    }
+
+    // 팩토리 메소드 : 좌석 지정 예매 (좌석 수 = 예매 수량)
+    public static Reservation createWithSeats(
+        User user,
+        Performance performance,
+        int price,
+        int[] seatNumbers
+    ) {
+        Reservation reservation = new Reservation(user, performance, seatNumbers.length, price);
+        reservation.seatNumbers = joinSeatNumbers(seatNumbers);
+        return reservation;
+    }
+
+    // 팩토리 메소드 : 좌석 임시 점유 (결제 전까지 expiresAt까지만 유지)
+    public static Reservation holdWithSeats(
+        User user,
+        Performance performance,
+        int price,
+        int[] seatNumbers,
+        LocalDateTime expiresAt
+    ) {
+        Reservation reservation = createWithSeats(user, performance, price, seatNumbers);
+        reservation.status = ReservationStatus.HELD;
+        reservation.expiresAt = expiresAt;
+        return reservation;
+    }
+
+    // 좌석 번호 목록 (좌석 지정 예매가 아니면 빈 배열)
+    public int[] getSeatNumberArray() {
+        return parseSeatNumbers(this.seatNumbers);
+    }
+
+    public static String joinSeatNumbers(int[] seatNumbers) {
+        return Arrays.stream(seatNumbers)
+            .mapToObj(String::valueOf)
+            .collect(Collectors.joining(","));
+    }
+
+    public static int[] parseSeatNumbers(String seatNumbers) {
+        if (seatNumbers == null || seatNumbers.isBlank()) {
+            return new int[0];
+        }
+        return Arrays.stream(seatNumbers.split(","))
+            .mapToInt(Integer::parseInt)
+            .toArray();
+    }
+
     // (옵션) 예약 취소 로직
     public void cancel() {
         this.status = ReservationStatus.CANCELLED;
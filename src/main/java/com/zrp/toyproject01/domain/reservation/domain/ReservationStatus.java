@@ -1,6 +1,8 @@
 package com.zrp.toyproject01.domain.reservation.domain;
 
 public enum ReservationStatus {
+    HELD,       // 임시 점유 (결제 대기 - expiresAt이 지나면 만료)
     RESERVED,   // 예약 완료
-    CANCELLED   // 예약 취소
+    CANCELLED,  // 예약 취소
+    EXPIRED     // 점유 시간 만료 (재고 반납됨)
 }
@@ -0,0 +1,13 @@
+package com.zrp.toyproject01.domain.reservation.dto;
+
+import java.time.LocalDateTime;
+
+// 만료 대기 중인 임시 점유 1건 (타이밍 휠에 넣어두는 값)
+// - 만료 처리에 필요한 값을 다 들고 있어서 만료될 때 예약 row를 다시 조회하지 않음
+public record HeldReservation(
+    Long reservationId,
+    Long performanceId,
+    int count,
+    String seatNumbers,
+    LocalDateTime expiresAt
+) {}
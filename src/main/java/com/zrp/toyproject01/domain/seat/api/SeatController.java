@@ -0,0 +1,61 @@
+package com.zrp.toyproject01.domain.seat.api;
+
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.zrp.toyproject01.domain.performance.application.PerformancePurchaseFacade;
+import com.zrp.toyproject01.domain.seat.application.SeatService;
+import com.zrp.toyproject01.domain.seat.dto.SeatHoldResponse;
+import com.zrp.toyproject01.domain.seat.dto.SeatMapResponse;
+import com.zrp.toyproject01.domain.seat.dto.SeatPurchaseRequest;
+import com.zrp.toyproject01.global.common.ApiResponse;
+import com.zrp.toyproject01.global.util.SecurityUtil;
+
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+
+@RestController
+@RequestMapping("/api/performances/{id}/seats")
+@RequiredArgsConstructor
+public class SeatController {
+
+    private final PerformancePurchaseFacade performancePurchaseFacade;
+    private final SeatService seatService;
+
+    // 좌석 배치도 조회
+    @GetMapping
+    public ApiResponse<SeatMapResponse> getSeatMap(@PathVariable Long id) {
+        return ApiResponse.ok(seatService.getSeatMap(id));
+    }
+
+    // 좌석 임시 점유 (결제 대기 - 만료 시각 전에 확정해야 함)
+    @PostMapping("/hold")
+    public ApiResponse<SeatHoldResponse> hold(
+        @PathVariable Long id,
+        @RequestBody @Valid SeatPurchaseRequest request
+    ) {
+        Long userId = SecurityUtil.getCurrentUserId();
+        String email = SecurityUtil.getCurrentUserEmail();
+
+        return ApiResponse.ok(performancePurchaseFacade.holdSeats(id, request.seatNumbers(), userId, email));
+    }
+
+    // 좌석 지정 예매
+    @PostMapping("/purchase")
+    public ApiResponse<Void> purchase(
+        @PathVariable Long id,
+        @RequestBody @Valid SeatPurchaseRequest request
+    ) {
+        Long userId = SecurityUtil.getCurrentUserId();
+        String email = SecurityUtil.getCurrentUserEmail();
+
+        performancePurchaseFacade.purchaseSeats(id, request.seatNumbers(), userId, email);
+
+        return ApiResponse.ok();
+    }
+
+}
@@ -0,0 +1,45 @@
+package com.zrp.toyproject01.domain.seat.application;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import com.zrp.toyproject01.domain.seat.domain.SeatMap;
+
+import lombok.RequiredArgsConstructor;
+
+// JVM 메모리 좌석 엔진 (서버 1대일 때만)
+// - 네트워크 왕복 없이 CAS로 바로 판정
+// - 재시작하면 DB 예약 내역으로 다시 채움
+@Component
+@ConditionalOnProperty(name = "performance.seat.engine", havingValue = "memory")
+@RequiredArgsConstructor
+public class MemorySeatInventory implements SeatInventory {
+
+    private final SeatMapLoader seatMapLoader;
+
+    private final Map<Long, SeatMap> seatMaps = new ConcurrentHashMap<>();
+
+    @Override
+    public int hold(Long performanceId, int[] seatNumbers) {
+        return seatMap(performanceId).hold(seatNumbers);
+    }
+
+    @Override
+    public void release(Long performanceId, int[] seatNumbers) {
+        seatMap(performanceId).release(seatNumbers);
+    }
+
+    @Override
+    public SeatMap snapshot(Long performanceId) {
+        SeatMap seatMap = seatMap(performanceId);
+        return SeatMap.fromRedisBitmap(seatMap.getCapacity(), seatMap.toRedisBitmap());
+    }
+
+    private SeatMap seatMap(Long performanceId) {
+        return seatMaps.computeIfAbsent(performanceId, seatMapLoader::load);
+    }
+
+}
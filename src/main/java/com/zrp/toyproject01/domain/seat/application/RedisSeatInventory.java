@@ -0,0 +1,183 @@
+package com.zrp.toyproject01.domain.seat.application;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import com.zrp.toyproject01.domain.seat.domain.SeatMap;
+import com.zrp.toyproject01.global.error.BusinessException;
+import com.zrp.toyproject01.global.error.ErrorCode;
+
+import lombok.RequiredArgsConstructor;
+
+// Redis 비트맵 좌석 엔진 (기본값)
+// - 공연마다 비트맵 키 1개 (5만 석 = 약 6KB), 좌석 1개 = 비트 1개
+// - 여러 좌석 확인 + 점유를 Lua 스크립트 1번으로 (BITFIELD GET으로 한 번에 보고, 전부 비어 있을 때만 SET)
+@Component
+@ConditionalOnProperty(name = "performance.seat.engine", havingValue = "redis", matchIfMissing = true)
+@RequiredArgsConstructor
+public class RedisSeatInventory implements SeatInventory {
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final SeatMapLoader seatMapLoader;
+
+    private static final String SEATS_KEY = "seats:";              // 좌석 비트맵 (1 = 점유)
+    private static final String CAPACITY_KEY = "seat_capacity:";   // 전체 좌석 수
+    private static final String HELD_KEY = "seats_held:";          // 점유된 좌석 수 (매진 판정용)
+
+    // 스크립트 결과 코드 (0 이상이면 남은 좌석 수)
+    private static final long NOT_INITIALIZED = -1L;
+    private static final long SEAT_NOT_FOUND = -2L;
+    private static final long SOLD_OUT = -3L;
+    private static final long ALREADY_RESERVED = -4L;
+
+    private static final RedisScript<Long> HOLD_SCRIPT = new DefaultRedisScript<>("""
+        local capacity = tonumber(redis.call('GET', KEYS[2]))
+        if not capacity then
+            return -1
+        end
+        if tonumber(redis.call('GET', KEYS[3]) or '0') >= capacity then
+            return -3
+        end
+        local get = {}
+        local set = {}
+        for i = 1, #ARGV do
+            local seat = tonumber(ARGV[i])
+            if seat < 1 or seat > capacity then
+                return -2
+            end
+            table.insert(get, 'GET')
+            table.insert(get, 'u1')
+            table.insert(get, seat - 1)
+            table.insert(set, 'SET')
+            table.insert(set, 'u1')
+            table.insert(set, seat - 1)
+            table.insert(set, 1)
+        end
+        local bits = redis.call('BITFIELD', KEYS[1], unpack(get))
+        for i = 1, #bits do
+            if bits[i] == 1 then
+                return -4
+            end
+        end
+        redis.call('BITFIELD', KEYS[1], unpack(set))
+        return capacity - redis.call('INCRBY', KEYS[3], #ARGV)
+        """, Long.class);
+
+    // 좌석 반납 (실제로 점유돼 있던 좌석만 개수에서 뺌)
+    private static final RedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>("""
+        if not redis.call('GET', KEYS[2]) then
+            return -1
+        end
+        local set = {}
+        for i = 1, #ARGV do
+            table.insert(set, 'SET')
+            table.insert(set, 'u1')
+            table.insert(set, tonumber(ARGV[i]) - 1)
+            table.insert(set, 0)
+        end
+        local old = redis.call('BITFIELD', KEYS[1], unpack(set))
+        local released = 0
+        for i = 1, #old do
+            released = released + old[i]
+        end
+        if released > 0 then
+            redis.call('DECRBY', KEYS[3], released)
+        end
+        return released
+        """, Long.class);
+
+    // DB에서 만든 비트맵 적재 (이미 적재돼 있으면 아무것도 안 함 - 점유 중인 값을 덮어쓰지 않도록)
+    // - ARGV[1]: 전체 좌석 수, ARGV[2..]: 점유된 좌석 번호
+    private static final RedisScript<Long> INIT_SCRIPT = new DefaultRedisScript<>("""
+        if redis.call('GET', KEYS[2]) then
+            return 0
+        end
+        local capacity = tonumber(ARGV[1])
+        redis.call('DEL', KEYS[1])
+        redis.call('SETBIT', KEYS[1], capacity - 1, 0)
+        for i = 2, #ARGV do
+            redis.call('SETBIT', KEYS[1], tonumber(ARGV[i]) - 1, 1)
+        end
+        redis.call('SET', KEYS[3], #ARGV - 1)
+        redis.call('SET', KEYS[2], capacity)
+        return 1
+        """, Long.class);
+
+    @Override
+    public int hold(Long performanceId, int[] seatNumbers) {
+        long result = execute(HOLD_SCRIPT, performanceId, seatNumbers);
+
+        if (result == NOT_INITIALIZED) {
+            // 처음 들어온 요청이면 DB 예약 내역으로 비트맵을 만들고 다시 시도
+            init(performanceId);
+            result = execute(HOLD_SCRIPT, performanceId, seatNumbers);
+        }
+
+        if (result == SEAT_NOT_FOUND) {
+            throw new BusinessException(ErrorCode.SEAT_NOT_FOUND);
+        }
+        if (result == SOLD_OUT) {
+            throw new BusinessException(ErrorCode.SEAT_SOLD_OUT);
+        }
+        if (result == ALREADY_RESERVED) {
+            throw new BusinessException(ErrorCode.SEAT_ALREADY_RESERVED);
+        }
+        return (int) result;
+    }
+
+    @Override
+    public void release(Long performanceId, int[] seatNumbers) {
+        // 적재 전이면 반납할 것도 없음 (다음 적재 때 DB 기준으로 만들어짐)
+        execute(RELEASE_SCRIPT, performanceId, seatNumbers);
+    }
+
+    @Override
+    public SeatMap snapshot(Long performanceId) {
+        String capacity = redisTemplate.opsForValue().get(CAPACITY_KEY + performanceId);
+
+        if (capacity == null) {
+            init(performanceId);
+            capacity = redisTemplate.opsForValue().get(CAPACITY_KEY + performanceId);
+        }
+
+        // 비트맵은 문자열이 아니라 바이트 그대로 꺼내야 함
+        byte[] key = (SEATS_KEY + performanceId).getBytes(StandardCharsets.UTF_8);
+        byte[] bitmap = redisTemplate.execute((RedisCallback<byte[]>) connection -> connection.stringCommands().get(key));
+
+        return SeatMap.fromRedisBitmap(Integer.parseInt(capacity), bitmap);
+    }
+
+    private void init(Long performanceId) {
+        SeatMap seatMap = seatMapLoader.load(performanceId);
+
+        List<String> args = new ArrayList<>();
+        args.add(String.valueOf(seatMap.getCapacity()));
+        for (int seatNumber = 1; seatNumber <= seatMap.getCapacity(); seatNumber++) {
+            if (seatMap.isHeld(seatNumber)) {
+                args.add(String.valueOf(seatNumber));
+            }
+        }
+
+        redisTemplate.execute(INIT_SCRIPT, keys(performanceId), args.toArray());
+    }
+
+    private long execute(RedisScript<Long> script, Long performanceId, int[] seatNumbers) {
+        Object[] args = Arrays.stream(seatNumbers).mapToObj(String::valueOf).toArray();
+        Long result = redisTemplate.execute(script, keys(performanceId), args);
+        return result != null ? result : NOT_INITIALIZED;
+    }
+
+    private List<String> keys(Long performanceId) {
+        return List.of(SEATS_KEY + performanceId, CAPACITY_KEY + performanceId, HELD_KEY + performanceId);
+    }
+
+}
@@ -0,0 +1,20 @@
+package com.zrp.toyproject01.domain.seat.application;
+
+import com.zrp.toyproject01.domain.seat.domain.SeatMap;
+
+// 좌석 점유 엔진
+// - Redis 비트맵(여러 서버) / JVM 메모리 비트맵(단일 서버) 중 설정값 performance.seat.engine으로 선택
+// - 좌석 번호 범위 밖이면 SEAT_NOT_FOUND, 이미 잡힌 좌석이 있으면 SEAT_ALREADY_RESERVED, 전석 매진이면 SEAT_SOLD_OUT
+public interface SeatInventory {
+
+    // 좌석 점유 (전부 성공하거나 전부 실패)
+    // return: 남은 좌석 수
+    int hold(Long performanceId, int[] seatNumbers);
+
+    // 좌석 반납
+    void release(Long performanceId, int[] seatNumbers);
+
+    // 현재 좌석 배치도 (조회용 복사본)
+    SeatMap snapshot(Long performanceId);
+
+}
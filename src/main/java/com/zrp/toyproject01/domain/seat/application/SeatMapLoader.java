@@ -0,0 +1,44 @@
+package com.zrp.toyproject01.domain.seat.application;
+
+import java.util.List;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.zrp.toyproject01.domain.performance.dao.PerformanceRepository;
+import com.zrp.toyproject01.domain.performance.domain.Performance;
+import com.zrp.toyproject01.domain.reservation.dao.ReservationRepository;
+import com.zrp.toyproject01.domain.reservation.domain.Reservation;
+import com.zrp.toyproject01.domain.reservation.domain.ReservationStatus;
+import com.zrp.toyproject01.domain.seat.domain.SeatMap;
+import com.zrp.toyproject01.global.error.BusinessException;
+import com.zrp.toyproject01.global.error.ErrorCode;
+
+import lombok.RequiredArgsConstructor;
+
+// DB(예약 내역)에서 좌석 비트맵 다시 만들기
+// - 엔진에 비트맵이 아직 없을 때 (첫 요청 / 재시작 / Redis 키 유실) 한 번만 호출됨
+@Component
+@RequiredArgsConstructor
+public class SeatMapLoader {
+
+    private final PerformanceRepository performanceRepository;
+    private final ReservationRepository reservationRepository;
+
+    // 좌석을 차지하고 있는 상태 (임시 점유 포함)
+    private static final List<ReservationStatus> HOLDING_STATUSES = List.of(ReservationStatus.HELD, ReservationStatus.RESERVED);
+
+    @Transactional(readOnly = true)
+    public SeatMap load(Long performanceId) {
+        Performance performance = performanceRepository.findById(performanceId)
+            .orElseThrow(() -> new BusinessException(ErrorCode.PERFORMANCE_NOT_FOUND));
+
+        SeatMap seatMap = SeatMap.empty(performance.getMaxStock());
+
+        for (String seatNumbers : reservationRepository.findSeatNumbers(performanceId, HOLDING_STATUSES)) {
+            seatMap.hold(Reservation.parseSeatNumbers(seatNumbers));
+        }
+        return seatMap;
+    }
+
+}
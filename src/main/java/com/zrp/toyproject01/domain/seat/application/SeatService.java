@@ -0,0 +1,121 @@
+package com.zrp.toyproject01.domain.seat.application;
+
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.List;
+
+import org.springframework.stereotype.Service;
+
+import com.zrp.toyproject01.domain.performance.application.PerformanceService;
+import com.zrp.toyproject01.domain.reservation.application.HoldExpiryService;
+import com.zrp.toyproject01.domain.reservation.dao.ReservationRepository;
+import com.zrp.toyproject01.domain.reservation.domain.Reservation;
+import com.zrp.toyproject01.domain.reservation.dto.HeldReservation;
+import com.zrp.toyproject01.domain.seat.domain.SeatMap;
+import com.zrp.toyproject01.domain.seat.dto.SeatHoldResponse;
+import com.zrp.toyproject01.domain.seat.dto.SeatMapResponse;
+import com.zrp.toyproject01.global.error.BusinessException;
+import com.zrp.toyproject01.global.error.ErrorCode;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+// 좌석 지정 예매
+// - 1. 좌석 비트맵에서 점유 (락 없음, 비트 연산 1번)
+// - 2. 점유에 성공한 사람만 DB에 예약 저장 (실패하면 좌석을 다시 풀어줌)
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class SeatService {
+
+    private final SeatInventory seatInventory;
+    private final PerformanceService performanceService;
+    private final ReservationRepository reservationRepository;
+    private final HoldExpiryService holdExpiryService;
+
+    public void purchase(Long performanceId, List<Integer> seatNumbers, Long userId) {
+        int[] seats = validate(seatNumbers);
+
+        // 1. 좌석 점유 (전부 성공하거나 전부 실패)
+        seatInventory.hold(performanceId, seats);
+
+        // 2. DB 반영 (트랜잭션이 실패하면 잡았던 좌석을 반납)
+        try {
+            performanceService.purchaseSeats(performanceId, seats, userId);
+        } catch (RuntimeException e) {
+            log.warn("좌석 예약 저장 실패! 좌석을 반납합니다. performanceId: {}, seats: {}", performanceId, seatNumbers);
+            seatInventory.release(performanceId, seats);
+            throw e;
+        }
+    }
+
+    // 좌석 임시 점유 (결제 대기)
+    // - expiresAt까지 확정하지 않으면 HoldExpiryService가 좌석 / 재고를 반납함
+    public SeatHoldResponse hold(Long performanceId, List<Integer> seatNumbers, Long userId) {
+        int[] seats = validate(seatNumbers);
+
+        seatInventory.hold(performanceId, seats);
+
+        LocalDateTime expiresAt = holdExpiryService.nextExpiresAt();
+        Long reservationId;
+        try {
+            reservationId = performanceService.holdSeats(performanceId, seats, userId, expiresAt);
+        } catch (RuntimeException e) {
+            log.warn("좌석 점유 저장 실패! 좌석을 반납합니다. performanceId: {}, seats: {}", performanceId, seatNumbers);
+            seatInventory.release(performanceId, seats);
+            throw e;
+        }
+
+        // 커밋이 끝났으니 만료 예약
+        holdExpiryService.schedule(new HeldReservation(
+            reservationId, performanceId, seats.length, Reservation.joinSeatNumbers(seats), expiresAt
+        ));
+        return new SeatHoldResponse(reservationId, expiresAt);
+    }
+
+    // 좌석 예약 취소 (DB 취소가 끝난 뒤에 좌석 반납)
+    public void cancel(Long reservationId) {
+        Reservation reservation = reservationRepository.findById(reservationId)
+            .orElseThrow(() -> new BusinessException(ErrorCode.RESERVATION_NOT_FOUND));
+
+        performanceService.cancel(reservationId);
+        release(reservation);
+    }
+
+    // 취소가 끝난 예약의 좌석 반납 (좌석 지정 예매가 아니면 아무것도 안 함)
+    public void release(Reservation reservation) {
+        int[] seats = reservation.getSeatNumberArray();
+        if (seats.length > 0) {
+            seatInventory.release(reservation.getPerformance().getId(), seats);
+        }
+    }
+
+    // 좌석 배치도 (비트맵을 그대로 Base64로 - 5만 석이어도 약 8KB)
+    public SeatMapResponse getSeatMap(Long performanceId) {
+        SeatMap seatMap = seatInventory.snapshot(performanceId);
+
+        return new SeatMapResponse(
+            performanceId,
+            seatMap.getCapacity(),
+            seatMap.getAvailable(),
+            Base64.getEncoder().encodeToString(seatMap.toRedisBitmap())
+        );
+    }
+
+    // 좌석 번호 검사 (비었거나 같은 좌석이 두 번 들어오면 잘못된 요청)
+    private int[] validate(List<Integer> seatNumbers) {
+        if (seatNumbers == null || seatNumbers.isEmpty()) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE);
+        }
+
+        int[] seats = seatNumbers.stream().mapToInt(Integer::intValue).sorted().toArray();
+
+        for (int i = 1; i < seats.length; i++) {
+            if (seats[i] == seats[i - 1]) {
+                throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE);
+            }
+        }
+        return seats;
+    }
+
+}
@@ -0,0 +1,154 @@
+package com.zrp.toyproject01.domain.seat.domain;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import com.zrp.toyproject01.global.error.BusinessException;
+import com.zrp.toyproject01.global.error.ErrorCode;
+
+// 공연 1개의 좌석 점유 현황 (좌석 1개 = 1비트)
+// - 5만 석이어도 long 782개 (약 6KB)면 끝 -> 좌석마다 row를 두고 락을 걸 필요가 없음
+// - 좌석 번호는 1부터, 비트 위치는 (좌석 번호 - 1)
+// - 비트 하나는 CAS 1번으로 잡고, 여러 좌석은 하나라도 실패하면 잡았던 것을 되돌림 (all-or-nothing)
+public class SeatMap {
+
+    private final int capacity;
+    private final AtomicLongArray words;
+    private final AtomicInteger held = new AtomicInteger();
+
+    private SeatMap(int capacity) {
+        this.capacity = capacity;
+        this.words = new AtomicLongArray((capacity + 63) / 64);
+    }
+
+    public static SeatMap empty(int capacity) {
+        return new SeatMap(capacity);
+    }
+
+    // Redis 비트맵(GET으로 꺼낸 바이트)에서 복원
+    // - Redis는 바이트 안에서 앞쪽(최상위) 비트가 offset 0
+    public static SeatMap fromRedisBitmap(int capacity, byte[] bitmap) {
+        SeatMap seatMap = new SeatMap(capacity);
+        if (bitmap == null) {
+            return seatMap;
+        }
+
+        int count = 0;
+        for (int offset = 0; offset < capacity && (offset >> 3) < bitmap.length; offset++) {
+            if ((bitmap[offset >> 3] & (0x80 >>> (offset & 7))) != 0) {
+                seatMap.words.set(offset >> 6, seatMap.words.get(offset >> 6) | (1L << (offset & 63)));
+                count++;
+            }
+        }
+        seatMap.held.set(count);
+        return seatMap;
+    }
+
+    // Redis 비트맵과 같은 형식으로 (클라이언트에 좌석 배치도를 그대로 내려줄 때)
+    public byte[] toRedisBitmap() {
+        byte[] bitmap = new byte[(capacity + 7) / 8];
+
+        for (int offset = 0; offset < capacity; offset++) {
+            if (isHeldAt(offset)) {
+                bitmap[offset >> 3] |= (byte) (0x80 >>> (offset & 7));
+            }
+        }
+        return bitmap;
+    }
+
+    // 좌석 점유 (전부 성공하거나 전부 실패)
+    // return: 남은 좌석 수
+    public int hold(int[] seatNumbers) {
+        for (int seatNumber : seatNumbers) {
+            checkRange(seatNumber);
+        }
+
+        if (held.get() >= capacity) {
+            throw new BusinessException(ErrorCode.SEAT_SOLD_OUT);
+        }
+
+        for (int i = 0; i < seatNumbers.length; i++) {
+            if (!setBit(seatNumbers[i] - 1)) {
+                // 이미 누가 잡은 좌석 -> 이번 요청에서 잡은 좌석은 다시 풀어줌
+                for (int j = 0; j < i; j++) {
+                    clearBit(seatNumbers[j] - 1);
+                }
+                throw new BusinessException(ErrorCode.SEAT_ALREADY_RESERVED);
+            }
+        }
+
+        return capacity - held.addAndGet(seatNumbers.length);
+    }
+
+    // 좌석 반납 (취소 / 점유 실패 보상)
+    // return: 실제로 풀린 좌석 수
+    public int release(int[] seatNumbers) {
+        int released = 0;
+
+        for (int seatNumber : seatNumbers) {
+            checkRange(seatNumber);
+            if (clearBit(seatNumber - 1)) {
+                released++;
+            }
+        }
+
+        held.addAndGet(-released);
+        return released;
+    }
+
+    public boolean isHeld(int seatNumber) {
+        checkRange(seatNumber);
+        return isHeldAt(seatNumber - 1);
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    public int getAvailable() {
+        return capacity - held.get();
+    }
+
+    private void checkRange(int seatNumber) {
+        if (seatNumber < 1 || seatNumber > capacity) {
+            throw new BusinessException(ErrorCode.SEAT_NOT_FOUND);
+        }
+    }
+
+    private boolean isHeldAt(int offset) {
+        return (words.get(offset >> 6) & (1L << (offset & 63))) != 0;
+    }
+
+    // 비어 있을 때만 세팅 (이미 세팅돼 있으면 false)
+    private boolean setBit(int offset) {
+        int index = offset >> 6;
+        long mask = 1L << (offset & 63);
+
+        while (true) {
+            long word = words.get(index);
+            if ((word & mask) != 0) {
+                return false;
+            }
+            if (words.compareAndSet(index, word, word | mask)) {
+                return true;
+            }
+        }
+    }
+
+    // 세팅돼 있을 때만 해제 (원래 비어 있었으면 false)
+    private boolean clearBit(int offset) {
+        int index = offset >> 6;
+        long mask = 1L << (offset & 63);
+
+        while (true) {
+            long word = words.get(index);
+            if ((word & mask) == 0) {
+                return false;
+            }
+            if (words.compareAndSet(index, word, word & ~mask)) {
+                return true;
+            }
+        }
+    }
+
+}
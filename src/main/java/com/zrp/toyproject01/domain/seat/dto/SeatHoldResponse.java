@@ -0,0 +1,9 @@
+package com.zrp.toyproject01.domain.seat.dto;
+
+import java.time.LocalDateTime;
+
+// 좌석 임시 점유 결과 (expiresAt 전에 /api/reservations/{reservationId}/confirm 해야 확정됨)
+public record SeatHoldResponse(
+    Long reservationId,
+    LocalDateTime expiresAt
+) {}
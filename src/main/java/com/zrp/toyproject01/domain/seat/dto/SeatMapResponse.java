@@ -0,0 +1,10 @@
+package com.zrp.toyproject01.domain.seat.dto;
+
+// 좌석 배치도
+// - bitmap: 좌석 1개 = 1비트 (1 = 점유), 첫 바이트의 최상위 비트가 1번 좌석
+public record SeatMapResponse(
+    Long performanceId,
+    int capacity,
+    int available,
+    String bitmap
+) {}
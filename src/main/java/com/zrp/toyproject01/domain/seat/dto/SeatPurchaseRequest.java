@@ -0,0 +1,12 @@
+package com.zrp.toyproject01.domain.seat.dto;
+
+import java.util.List;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+
+public record SeatPurchaseRequest(
+    @NotEmpty(message = "좌석을 1개 이상 선택해야 합니다.")
+    @Size(max = 10, message = "한 번에 10석까지 예매할 수 있습니다.")
+    List<Integer> seatNumbers
+) {}
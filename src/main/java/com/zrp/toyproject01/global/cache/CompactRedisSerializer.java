@@ -0,0 +1,330 @@
+package com.zrp.toyproject01.global.cache;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInput;
+import java.io.DataInputStream;
+import java.io.DataOutput;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.RecordComponent;
+import java.lang.reflect.Type;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.zip.Deflater;
+import java.util.zip.InflaterInputStream;
+
+import org.springframework.cache.support.NullValue;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+
+// Redis 캐시 값 직렬화 (등록한 DTO는 작은 바이너리로, 나머지는 기존 JSON 직렬화기로)
+// - JSON은 값마다 클래스 전체 이름(@class)과 필드 이름이 들어가고, 읽을 때마다 그 이름으로 타입을 찾음
+// - 등록한 record는 "헤더 1바이트 + 타입 번호 + 스키마 버전 + 필드 값(선언 순서대로)"만 씀
+// - 스키마 버전: record 필드를 바꾸면 버전을 올림 -> 버전이 다른 값은 캐시 미스로 취급 (배포 중 서버가 섞여도 잘못 읽지 않고 DB에서 다시 채움)
+// - 압축: 필드 값이 compress-threshold 바이트를 넘고, 압축해서 실제로 작아질 때만 (Deflater)
+// - 헤더는 JSON 첫 글자가 될 수 없는 값(0x01 ~ 0x03) -> 이전에 JSON으로 저장된 값도 그대로 읽힘
+public class CompactRedisSerializer implements RedisSerializer<Object> {
+
+    private static final byte COMPACT = 0x01;
+    private static final byte COMPACT_DEFLATED = 0x02;
+    private static final byte NULL_VALUE = 0x03;    // 캐시에 넣은 null (RedisCache가 NullValue로 바꿔서 넘김)
+
+    private final RedisSerializer<Object> fallback;
+    private final int compressThreshold;
+
+    private final Map<Class<?>, RecordCodec> codecsByType = new ConcurrentHashMap<>();
+    private final Map<Integer, RecordCodec> codecsById = new ConcurrentHashMap<>();
+
+    public CompactRedisSerializer(RedisSerializer<Object> fallback, int compressThreshold) {
+        this.fallback = fallback;
+        this.compressThreshold = compressThreshold;
+    }
+
+    // 타입 번호는 한 번 정하면 바꾸지 않음 (Redis에 남은 값의 타입을 이 번호로 찾음)
+    // 지원 필드: int / long / boolean (+ 박싱 타입), String, enum(이름으로), LocalDateTime, 이들의 List
+    public CompactRedisSerializer register(int typeId, int version, Class<? extends Record> type) {
+        if (codecsById.containsKey(typeId)) {
+            throw new IllegalArgumentException("이미 쓰고 있는 타입 번호입니다: " + typeId);
+        }
+
+        RecordCodec codec = RecordCodec.of(typeId, version, type);
+        codecsById.put(typeId, codec);
+        codecsByType.put(type, codec);
+        return this;
+    }
+
+    @Override
+    public byte[] serialize(Object value) throws SerializationException {
+        if (value == null) {
+            return new byte[0];
+        }
+        if (value instanceof NullValue) {
+            return new byte[] { NULL_VALUE };
+        }
+
+        RecordCodec codec = codecsByType.get(value.getClass());
+        if (codec == null) {
+            return fallback.serialize(value); // 등록하지 않은 타입은 JSON 그대로
+        }
+
+        try {
+            ByteArrayOutputStream body = new ByteArrayOutputStream(64);
+            codec.write(new DataOutputStream(body), value);
+            byte[] payload = body.toByteArray();
+
+            byte header = COMPACT;
+            if (payload.length > compressThreshold) {
+                byte[] deflated = deflate(payload);
+                if (deflated.length < payload.length) {
+                    payload = deflated;
+                    header = COMPACT_DEFLATED;
+                }
+            }
+
+            ByteArrayOutputStream result = new ByteArrayOutputStream(payload.length + 6);
+            DataOutputStream out = new DataOutputStream(result);
+            out.writeByte(header);
+            writeVarLong(out, codec.typeId());
+            writeVarLong(out, codec.version());
+            out.write(payload);
+            return result.toByteArray();
+        } catch (IOException e) {
+            throw new SerializationException("캐시 값 직렬화 실패: " + value.getClass().getName(), e);
+        }
+    }
+
+    @Override
+    public Object deserialize(byte[] bytes) throws SerializationException {
+        if (bytes == null || bytes.length == 0) {
+            return null;
+        }
+        if (bytes[0] == NULL_VALUE) {
+            return NullValue.INSTANCE;
+        }
+        if (bytes[0] != COMPACT && bytes[0] != COMPACT_DEFLATED) {
+            return fallback.deserialize(bytes); // JSON으로 저장된 값
+        }
+
+        try {
+            InputStream stream = new ByteArrayInputStream(bytes, 1, bytes.length - 1);
+            DataInputStream in = new DataInputStream(stream);
+            int typeId = (int) readVarLong(in);
+            int version = (int) readVarLong(in);
+
+            RecordCodec codec = codecsById.get(typeId);
+            if (codec == null || codec.version() != version) {
+                return null; // 모르는 타입 / 다른 스키마 버전 -> 캐시 미스
+            }
+
+            if (bytes[0] == COMPACT_DEFLATED) {
+                in = new DataInputStream(new InflaterInputStream(stream));
+            }
+            return codec.read(in);
+        } catch (IOException e) {
+            throw new SerializationException("캐시 값 역직렬화 실패", e);
+        }
+    }
+
+    private static byte[] deflate(byte[] payload) {
+        Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+        try {
+            deflater.setInput(payload);
+            deflater.finish();
+
+            ByteArrayOutputStream out = new ByteArrayOutputStream(payload.length);
+            byte[] buffer = new byte[512];
+            while (!deflater.finished()) {
+                out.write(buffer, 0, deflater.deflate(buffer));
+            }
+            return out.toByteArray();
+        } finally {
+            deflater.end();
+        }
+    }
+
+    // 음수도 짧게 (zigzag) + 7비트씩 (작은 숫자는 1 ~ 2바이트)
+    private static void writeVarLong(DataOutput out, long value) throws IOException {
+        long zigzag = (value << 1) ^ (value >> 63);
+        while ((zigzag & ~0x7FL) != 0) {
+            out.writeByte((int) ((zigzag & 0x7F) | 0x80));
+            zigzag >>>= 7;
+        }
+        out.writeByte((int) zigzag);
+    }
+
+    private static long readVarLong(DataInput in) throws IOException {
+        long zigzag = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            byte b = in.readByte();
+            zigzag |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return (zigzag >>> 1) ^ -(zigzag & 1);
+            }
+        }
+        throw new IOException("잘못된 숫자 형식");
+    }
+
+    // 필드 1개 읽기 / 쓰기
+    private interface FieldCodec {
+        void write(DataOutput out, Object value) throws IOException;
+        Object read(DataInput in) throws IOException;
+    }
+
+    private static final FieldCodec LONG = new FieldCodec() {
+        public void write(DataOutput out, Object value) throws IOException { writeVarLong(out, (Long) value); }
+        public Object read(DataInput in) throws IOException { return readVarLong(in); }
+    };
+
+    private static final FieldCodec INT = new FieldCodec() {
+        public void write(DataOutput out, Object value) throws IOException { writeVarLong(out, (Integer) value); }
+        public Object read(DataInput in) throws IOException { return (int) readVarLong(in); }
+    };
+
+    private static final FieldCodec BOOLEAN = new FieldCodec() {
+        public void write(DataOutput out, Object value) throws IOException { out.writeBoolean((Boolean) value); }
+        public Object read(DataInput in) throws IOException { return in.readBoolean(); }
+    };
+
+    // 길이 + UTF-8 (writeUTF는 64KB 제한이 있어서 쓰지 않음 - 게시글 본문)
+    private static final FieldCodec STRING = new FieldCodec() {
+        public void write(DataOutput out, Object value) throws IOException {
+            byte[] bytes = ((String) value).getBytes(StandardCharsets.UTF_8);
+            writeVarLong(out, bytes.length);
+            out.write(bytes);
+        }
+        public Object read(DataInput in) throws IOException {
+            byte[] bytes = new byte[(int) readVarLong(in)];
+            in.readFully(bytes);
+            return new String(bytes, StandardCharsets.UTF_8);
+        }
+    };
+
+    private static final FieldCodec LOCAL_DATE_TIME = new FieldCodec() {
+        public void write(DataOutput out, Object value) throws IOException {
+            LocalDateTime dateTime = (LocalDateTime) value;
+            writeVarLong(out, dateTime.toEpochSecond(ZoneOffset.UTC));
+            writeVarLong(out, dateTime.getNano());
+        }
+        public Object read(DataInput in) throws IOException {
+            return LocalDateTime.ofEpochSecond(readVarLong(in), (int) readVarLong(in), ZoneOffset.UTC);
+        }
+    };
+
+    private static FieldCodec fieldCodec(Type type) {
+        if (type == long.class) return LONG;
+        if (type == int.class) return INT;
+        if (type == boolean.class) return BOOLEAN;
+        if (type == Long.class) return nullable(LONG);
+        if (type == Integer.class) return nullable(INT);
+        if (type == Boolean.class) return nullable(BOOLEAN);
+        if (type == String.class) return nullable(STRING);
+        if (type == LocalDateTime.class) return nullable(LOCAL_DATE_TIME);
+        if (type instanceof Class<?> enumType && enumType.isEnum()) return nullable(enumCodec(enumType));
+        if (type instanceof ParameterizedType listType && listType.getRawType() == List.class) {
+            return nullable(listCodec(fieldCodec(listType.getActualTypeArguments()[0])));
+        }
+        throw new IllegalArgumentException("지원하지 않는 필드 타입입니다: " + type.getTypeName());
+    }
+
+    // 참조 타입은 앞에 null 여부 1바이트
+    private static FieldCodec nullable(FieldCodec codec) {
+        return new FieldCodec() {
+            public void write(DataOutput out, Object value) throws IOException {
+                out.writeBoolean(value != null);
+                if (value != null) {
+                    codec.write(out, value);
+                }
+            }
+            public Object read(DataInput in) throws IOException {
+                return in.readBoolean() ? codec.read(in) : null;
+            }
+        };
+    }
+
+    // enum은 순서(ordinal)가 아니라 이름으로 (상수 순서가 바뀌어도 안전)
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    private static FieldCodec enumCodec(Class<?> enumType) {
+        return new FieldCodec() {
+            public void write(DataOutput out, Object value) throws IOException { STRING.write(out, ((Enum<?>) value).name()); }
+            public Object read(DataInput in) throws IOException { return Enum.valueOf((Class) enumType, (String) STRING.read(in)); }
+        };
+    }
+
+    private static FieldCodec listCodec(FieldCodec element) {
+        return new FieldCodec() {
+            public void write(DataOutput out, Object value) throws IOException {
+                List<?> list = (List<?>) value;
+                writeVarLong(out, list.size());
+                for (Object item : list) {
+                    element.write(out, item);
+                }
+            }
+            public Object read(DataInput in) throws IOException {
+                int size = (int) readVarLong(in);
+                List<Object> list = new ArrayList<>(size);
+                for (int i = 0; i < size; i++) {
+                    list.add(element.read(in));
+                }
+                return Collections.unmodifiableList(list);
+            }
+        };
+    }
+
+    // record 1종류 (필드 접근자 / 생성자는 등록할 때 1번만 찾아둠)
+    private record RecordCodec(int typeId, int version, Constructor<?> constructor, Method[] accessors, FieldCodec[] fields) {
+
+        static RecordCodec of(int typeId, int version, Class<? extends Record> type) {
+            RecordComponent[] components = type.getRecordComponents();
+            Method[] accessors = new Method[components.length];
+            FieldCodec[] fields = new FieldCodec[components.length];
+            for (int i = 0; i < components.length; i++) {
+                accessors[i] = components[i].getAccessor();
+                fields[i] = fieldCodec(components[i].getGenericType());
+            }
+
+            try {
+                Class<?>[] parameterTypes = Arrays.stream(components).map(RecordComponent::getType).toArray(Class<?>[]::new);
+                return new RecordCodec(typeId, version, type.getDeclaredConstructor(parameterTypes), accessors, fields);
+            } catch (NoSuchMethodException e) {
+                throw new IllegalArgumentException("record 생성자를 찾을 수 없습니다: " + type.getName(), e);
+            }
+        }
+
+        void write(DataOutput out, Object value) throws IOException {
+            try {
+                for (int i = 0; i < accessors.length; i++) {
+                    fields[i].write(out, accessors[i].invoke(value));
+                }
+            } catch (IllegalAccessException | InvocationTargetException e) {
+                throw new SerializationException("필드를 읽을 수 없습니다: " + value.getClass().getName(), e);
+            }
+        }
+
+        Object read(DataInput in) throws IOException {
+            Object[] args = new Object[fields.length];
+            for (int i = 0; i < fields.length; i++) {
+                args[i] = fields[i].read(in);
+            }
+
+            try {
+                return constructor.newInstance(args);
+            } catch (ReflectiveOperationException e) {
+                throw new SerializationException("값을 만들 수 없습니다: " + constructor.getDeclaringClass().getName(), e);
+            }
+        }
+    }
+
+}
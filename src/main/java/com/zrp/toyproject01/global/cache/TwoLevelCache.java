@@ -0,0 +1,433 @@
+package com.zrp.toyproject01.global.cache;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.support.SimpleValueWrapper;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.cache.RedisCache;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import lombok.extern.slf4j.Slf4j;
+
+// 2단 캐시 1개 (L1: JVM 메모리 / L2: Redis)
+// - 읽기: L1 -> L2 -> (없으면 호출한 쪽이 DB에서 읽고 put)
+//   L2에서 찾으면 L1에도 넣어둠 (다음부터는 네트워크 / 역직렬화 없이 바로)
+// - 쓰기 / 삭제: L2 먼저 바꾸고 L1 반영 -> 다른 서버 L1은 pub/sub 알림으로 지움 (TwoLevelCacheManager)
+// - L1 키는 문자열로 통일 (Redis 키도 toString으로 만들고, 알림도 문자열로 오기 때문)
+// - get(key, loader)는 캐시가 비었을 때 DB 조회가 몰리지 않게 함
+//   1. 같은 서버: 같은 키는 loader 1번만 실행, 나머지 스레드는 그 결과를 기다림
+//   2. 여러 서버: Redis 임대 키(SET NX PX)를 잡은 서버만 실행, 나머지는 L2에 값이 들어올 때까지 기다림
+//      (임대 시간 안에 안 들어오면 임대를 잡은 서버가 죽은 것으로 보고 다시 임대를 잡아봄 -> 기다리던 서버 중 1대만 실행)
+//   3. 만료 전 미리 갱신 (XFetch): 읽을 때마다 "남은 시간 < 조회에 걸린 시간 * beta * -ln(난수)"이면 백그라운드에서 다시 읽음
+//      만료가 가까울수록, 조회가 오래 걸리는 키일수록 일찍 갱신됨 (만료 시각에 한꺼번에 놓치는 일이 거의 없음)
+// - putAll(values, loadMillis)는 조회 1번으로 여러 항목을 읽었을 때 (목록을 읽으면서 항목들도 채우는 경우)
+//   항목별 조회 시간도 기록하고(XFetch), 다른 서버 알림은 1번만 보냄
+// - 조회 시간은 키마다 따로 값과 같은 TTL로 둠 (값이 만료 / 삭제되면 같이 사라짐 -> 쌓이지 않음)
+@Slf4j
+public class TwoLevelCache implements Cache {
+
+    private static final String LEASE_KEY = "cache_lease:";              // 키별 loader 실행 임대 (String)
+    private static final String LOAD_MILLIS_KEY = "cache_load_millis:";  // 키별 마지막 조회에 걸린 시간 (String, 값과 같은 TTL)
+    private static final long WAIT_STEP_MILLIS = 20;
+    private static final int LEASE_ROUNDS = 3; // 임대를 다시 잡아보는 횟수 (그래도 안 되면 직접 실행)
+
+    // 내가 잡은 임대일 때만 내려놓음
+    private static final RedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>("""
+        if redis.call('GET', KEYS[1]) == ARGV[1] then
+            return redis.call('DEL', KEYS[1])
+        end
+        return 0
+        """, Long.class);
+
+    private final String name;
+    private final com.github.benmanes.caffeine.cache.Cache<String, LocalEntry> local;
+    private final Cache remote;
+    private final TwoLevelCacheManager manager;
+
+    private final Map<String, CompletableFuture<Object>> loading = new ConcurrentHashMap<>();
+    private final Set<String> refreshing = ConcurrentHashMap.newKeySet();
+
+    TwoLevelCache(
+        String name,
+        com.github.benmanes.caffeine.cache.Cache<String, LocalEntry> local,
+        Cache remote,
+        TwoLevelCacheManager manager
+    ) {
+        this.name = name;
+        this.local = local;
+        this.remote = remote;
+        this.manager = manager;
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return remote.getNativeCache();
+    }
+
+    @Override
+    public ValueWrapper get(Object key) {
+        LocalEntry entry = local.getIfPresent(key.toString());
+        if (entry != null) {
+            return new SimpleValueWrapper(entry.value());
+        }
+
+        ValueWrapper wrapper = remote.get(key);
+        if (wrapper != null) {
+            fillLocal(key.toString(), wrapper.get());
+        }
+        return wrapper;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Class<T> type) {
+        ValueWrapper wrapper = get(key);
+        Object value = wrapper != null ? wrapper.get() : null;
+
+        if (value != null && type != null && !type.isInstance(value)) {
+            throw new IllegalStateException("캐시 값 타입이 다릅니다: " + type.getName() + " / " + value);
+        }
+        return (T) value;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        String localKey = key.toString();
+
+        LocalEntry entry = local.getIfPresent(localKey);
+        if (entry == null) {
+            ValueWrapper wrapper = remote.get(key);
+            if (wrapper != null) {
+                entry = fillLocal(localKey, wrapper.get());
+            }
+        }
+
+        if (entry != null) {
+            if (shouldRefreshEarly(entry)) {
+                refreshInBackground(key, valueLoader);
+            }
+            return (T) entry.value();
+        }
+        return (T) loadOnce(key, valueLoader);
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        remote.put(key, value);
+        local.put(key.toString(), new LocalEntry(value, expiresAt(key, value), 0));
+        manager.publishEvict(name, key.toString());
+    }
+
+    // 조회 1번으로 읽은 여러 항목을 한 번에 넣음
+    // - loadMillis: 그 조회에 걸린 시간 (항목마다 같은 값으로 기록 - 항목 1개만 읽을 때보다 길게 잡혀서 조금 일찍 갱신될 뿐)
+    // - 조회 시간은 파이프라인 1번, 다른 서버 알림은 키 목록을 담은 메시지 1번
+    public void putAll(Map<?, ?> values, long loadMillis) {
+        if (values.isEmpty()) {
+            return;
+        }
+
+        Map<String, Long> ttlByKey = new HashMap<>();
+        for (Map.Entry<?, ?> entry : values.entrySet()) {
+            Object key = entry.getKey();
+            long ttl = ttlMillis(key, entry.getValue());
+            remote.put(key, entry.getValue());
+            local.put(key.toString(), new LocalEntry(entry.getValue(), expiresAt(ttl), loadMillis));
+            ttlByKey.put(key.toString(), ttl);
+        }
+
+        manager.getRedisTemplate().executePipelined(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public <K, V> Object execute(RedisOperations<K, V> operations) throws DataAccessException {
+                RedisOperations<String, String> ops = (RedisOperations<String, String>) operations;
+                ttlByKey.forEach((localKey, ttl) -> saveLoadMillis(ops, localKey, loadMillis, ttl));
+                return null;
+            }
+        });
+        manager.publishEvict(name, values.keySet().stream().map(Object::toString).toList());
+    }
+
+    @Override
+    public ValueWrapper putIfAbsent(Object key, Object value) {
+        ValueWrapper existing = remote.putIfAbsent(key, value);
+        Object current = existing != null ? existing.get() : value;
+        local.put(key.toString(), new LocalEntry(current, expiresAt(key, current), 0));
+        manager.publishEvict(name, key.toString());
+        return existing;
+    }
+
+    @Override
+    public void evict(Object key) {
+        remote.evict(key);
+        manager.getRedisTemplate().delete(loadMillisKey(key.toString()));
+        local.invalidate(key.toString());
+        manager.publishEvict(name, key.toString());
+    }
+
+    @Override
+    public boolean evictIfPresent(Object key) {
+        boolean evicted = remote.evictIfPresent(key);
+        manager.getRedisTemplate().delete(loadMillisKey(key.toString()));
+        local.invalidate(key.toString());
+        manager.publishEvict(name, key.toString());
+        return evicted;
+    }
+
+    @Override
+    public void clear() {
+        remote.clear();
+        local.invalidateAll();
+        manager.publishClear(name);
+    }
+
+    @Override
+    public boolean invalidate() {
+        boolean invalidated = remote.invalidate();
+        local.invalidateAll();
+        manager.publishClear(name);
+        return invalidated;
+    }
+
+    // 다른 서버에서 바꿨다는 알림을 받았을 때 (이 서버 L1만)
+    void evictLocal(String key) {
+        local.invalidate(key);
+    }
+
+    void clearLocal() {
+        local.invalidateAll();
+    }
+
+    // 같은 서버 안에서 키당 1번만 (먼저 온 스레드가 실행, 나머지는 결과를 기다림)
+    private Object loadOnce(Object key, Callable<?> valueLoader) {
+        String localKey = key.toString();
+        CompletableFuture<Object> mine = new CompletableFuture<>();
+        CompletableFuture<Object> running = loading.putIfAbsent(localKey, mine);
+
+        if (running != null) {
+            try {
+                return running.join();
+            } catch (CompletionException e) {
+                if (e.getCause() instanceof RuntimeException cause) {
+                    throw cause;
+                }
+                throw e;
+            }
+        }
+
+        try {
+            Object value = loadAcrossNodes(key, valueLoader);
+            mine.complete(value);
+            return value;
+        } catch (RuntimeException e) {
+            mine.completeExceptionally(e);
+            throw e;
+        } finally {
+            loading.remove(localKey, mine);
+        }
+    }
+
+    // 여러 서버 중 임대를 잡은 1대만 실행, 나머지는 L2에 값이 들어오길 기다림
+    // - 임대 시간 안에 안 들어오면 (잡은 서버가 너무 느리거나 죽음) 다시 임대를 잡아봄
+    //   -> 기다리던 서버들이 한꺼번에 실행하지 않고, 새로 잡은 1대만 실행
+    // - LEASE_ROUNDS번 돌아도 안 되면 (잡는 서버마다 실패) 직접 실행
+    private Object loadAcrossNodes(Object key, Callable<?> valueLoader) {
+        String localKey = key.toString();
+
+        for (int round = 0; round < LEASE_ROUNDS; round++) {
+            String owner = acquireLease(localKey);
+            if (owner != null) {
+                try {
+                    return load(key, valueLoader);
+                } finally {
+                    releaseLease(localKey, owner);
+                }
+            }
+
+            LocalEntry filled = waitForRemote(key);
+            if (filled != null) {
+                return filled.value();
+            }
+            if (Thread.currentThread().isInterrupted()) {
+                break;
+            }
+        }
+        return load(key, valueLoader);
+    }
+
+    // 임대 시간 동안 L2를 지켜봄 (들어오면 L1에도 넣어서 돌려줌, 끝까지 없으면 null)
+    private LocalEntry waitForRemote(Object key) {
+        long deadline = System.currentTimeMillis() + manager.getLeaseMillis();
+        try {
+            while (System.currentTimeMillis() < deadline) {
+                Thread.sleep(WAIT_STEP_MILLIS);
+
+                ValueWrapper wrapper = remote.get(key);
+                if (wrapper != null) {
+                    return fillLocal(key.toString(), wrapper.get());
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return null;
+    }
+
+    // loader 실행 + L1 / L2에 넣고 조회 시간 기록 (다음 XFetch 판단에 씀)
+    private Object load(Object key, Callable<?> valueLoader) {
+        long startTime = System.nanoTime();
+        Object value;
+        try {
+            value = valueLoader.call();
+        } catch (RuntimeException e) {
+            throw e; // BusinessException(없는 공연 / 게시글 등)은 감싸지 않고 그대로
+        } catch (Exception e) {
+            throw new ValueRetrievalException(key, valueLoader, e);
+        }
+        long loadMillis = Math.max(1, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime));
+
+        long ttl = ttlMillis(key, value);
+        remote.put(key, value);
+        local.put(key.toString(), new LocalEntry(value, expiresAt(ttl), loadMillis));
+        saveLoadMillis(manager.getRedisTemplate(), key.toString(), loadMillis, ttl);
+        manager.publishEvict(name, key.toString());
+        return value;
+    }
+
+    // XFetch: now - delta * beta * ln(rand) >= 만료 시각 (ln(rand) <= 0이라 만료 시각보다 조금 앞에서 참이 됨)
+    boolean shouldRefreshEarly(LocalEntry entry) {
+        if (entry.expiresAt() == Long.MAX_VALUE || entry.loadMillis() <= 0) {
+            return false;
+        }
+        double gap = entry.loadMillis() * manager.getEarlyRefreshBeta() * Math.log(ThreadLocalRandom.current().nextDouble());
+        return System.currentTimeMillis() - gap >= entry.expiresAt();
+    }
+
+    // 지금 값은 그대로 돌려주고 백그라운드에서 갱신 (키당 1번, 임대를 못 잡으면 다른 서버가 갱신 중이니 건너뜀)
+    private void refreshInBackground(Object key, Callable<?> valueLoader) {
+        String localKey = key.toString();
+        if (!refreshing.add(localKey)) {
+            return;
+        }
+
+        try {
+            manager.getRefreshExecutor().execute(() -> {
+                try {
+                    String owner = acquireLease(localKey);
+                    if (owner == null) {
+                        return;
+                    }
+                    try {
+                        load(key, valueLoader);
+                    } finally {
+                        releaseLease(localKey, owner);
+                    }
+                } catch (RuntimeException e) {
+                    log.warn("캐시 미리 갱신 실패 (만료 후 다시 읽음). cache: {}, key: {}", name, localKey, e);
+                } finally {
+                    refreshing.remove(localKey);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            refreshing.remove(localKey);
+        }
+    }
+
+    // L2에서 읽은 값을 L1에 넣을 때 만료 시각 / 조회 시간도 같이 (Redis 왕복 1번 - L1이 비었을 때만)
+    private LocalEntry fillLocal(String localKey, Object value) {
+        String remoteKey = remoteKey(localKey);
+        List<Object> results = manager.getRedisTemplate().executePipelined(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public <K, V> Object execute(RedisOperations<K, V> operations) throws DataAccessException {
+                RedisOperations<String, String> ops = (RedisOperations<String, String>) operations;
+                ops.getExpire(remoteKey, TimeUnit.MILLISECONDS);
+                ops.opsForValue().get(loadMillisKey(localKey));
+                return null;
+            }
+        });
+
+        Long ttl = (Long) results.get(0);
+        Object loadMillis = results.get(1);
+
+        LocalEntry entry = new LocalEntry(
+            value,
+            ttl != null && ttl > 0 ? System.currentTimeMillis() + ttl : Long.MAX_VALUE,
+            loadMillis != null ? Long.parseLong((String) loadMillis) : 0
+        );
+        local.put(localKey, entry);
+        return entry;
+    }
+
+    private long expiresAt(Object key, Object value) {
+        return expiresAt(ttlMillis(key, value));
+    }
+
+    private long expiresAt(long ttlMillis) {
+        return ttlMillis > 0 ? System.currentTimeMillis() + ttlMillis : Long.MAX_VALUE;
+    }
+
+    // L2에 넣을 때 붙는 TTL (만료 없으면 0)
+    private long ttlMillis(Object key, Object value) {
+        if (remote instanceof RedisCache redisCache) {
+            Duration ttl = redisCache.getCacheConfiguration().getTtlFunction().getTimeToLive(key, value);
+            if (ttl != null && !ttl.isZero() && !ttl.isNegative()) {
+                return ttl.toMillis();
+            }
+        }
+        return 0;
+    }
+
+    // 조회 시간은 값과 같은 TTL로 (만료 없는 값은 미리 갱신하지 않으므로 남기지 않음)
+    private void saveLoadMillis(RedisOperations<String, String> ops, String localKey, long loadMillis, long ttlMillis) {
+        if (ttlMillis > 0) {
+            ops.opsForValue().set(loadMillisKey(localKey), String.valueOf(loadMillis), Duration.ofMillis(ttlMillis));
+        }
+    }
+
+    private String acquireLease(String localKey) {
+        String owner = UUID.randomUUID().toString();
+        Boolean acquired = manager.getRedisTemplate().opsForValue()
+            .setIfAbsent(LEASE_KEY + remoteKey(localKey), owner, Duration.ofMillis(manager.getLeaseMillis()));
+        return Boolean.TRUE.equals(acquired) ? owner : null;
+    }
+
+    private void releaseLease(String localKey, String owner) {
+        manager.getRedisTemplate().execute(RELEASE_SCRIPT, List.of(LEASE_KEY + remoteKey(localKey)), owner);
+    }
+
+    // RedisCache 기본 키 형식 (캐시 이름::키)
+    private String remoteKey(String localKey) {
+        return name + "::" + localKey;
+    }
+
+    private String loadMillisKey(String localKey) {
+        return LOAD_MILLIS_KEY + remoteKey(localKey);
+    }
+
+    // L1 항목 (Caffeine은 null을 못 넣으므로 null 값도 항목으로 감싸서 넣음)
+    // - expiresAt: L2 만료 시각 / loadMillis: 이 키를 DB에서 읽는 데 걸린 시간 (모르면 0 -> 미리 갱신 안 함)
+    record LocalEntry(Object value, long expiresAt, long loadMillis) {}
+
+}
@@ -0,0 +1,145 @@
+package com.zrp.toyproject01.global.cache;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+// 2단 캐시 매니저 (L1: 서버마다 JVM 메모리 / L2: Redis 공용)
+// - L1은 개수 제한(max-size, 넘치면 덜 쓰는 것부터 버림) + 짧은 TTL
+// - 어느 서버든 캐시를 바꾸면 "서버 id / 캐시 이름 / 키"를 pub/sub으로 뿌리고, 다른 서버는 자기 L1에서만 지움
+//   (자기가 보낸 알림은 무시 - 방금 넣은 L1 값을 스스로 지우지 않도록)
+// - 알림이 유실돼도 L1 TTL이 지나면 L2 값으로 돌아옴
+// - 캐시가 비었을 때 한 번만 읽기(임대 lease-millis) / 만료 전 미리 갱신(beta, 갱신 스레드)은 TwoLevelCache 참고
+public class TwoLevelCacheManager implements CacheManager, MessageListener {
+
+    private static final String CHANNEL = "cache_evict_events";
+    private static final String SEPARATOR = "\n";
+
+    private final CacheManager remoteCacheManager;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final long localMaxSize;
+    private final Duration localTtl;
+    private final long leaseMillis;
+    private final double earlyRefreshBeta;
+    private final ExecutorService refreshExecutor;
+    private final String nodeId = UUID.randomUUID().toString();
+
+    private final Map<String, TwoLevelCache> caches = new ConcurrentHashMap<>();
+
+    public TwoLevelCacheManager(
+        CacheManager remoteCacheManager,
+        RedisTemplate<String, String> redisTemplate,
+        RedisMessageListenerContainer listenerContainer,
+        long localMaxSize,
+        Duration localTtl,
+        long leaseMillis,
+        double earlyRefreshBeta,
+        int refreshThreads
+    ) {
+        this.remoteCacheManager = remoteCacheManager;
+        this.redisTemplate = redisTemplate;
+        this.localMaxSize = localMaxSize;
+        this.localTtl = localTtl;
+        this.leaseMillis = leaseMillis;
+        this.earlyRefreshBeta = earlyRefreshBeta;
+        this.refreshExecutor = Executors.newFixedThreadPool(refreshThreads, runnable -> {
+            Thread thread = new Thread(runnable, "cache-refresh");
+            thread.setDaemon(true);
+            return thread;
+        });
+        listenerContainer.addMessageListener(this, new ChannelTopic(CHANNEL));
+    }
+
+    @Override
+    public Cache getCache(String name) {
+        return caches.computeIfAbsent(name, cacheName -> {
+            Cache remote = remoteCacheManager.getCache(cacheName);
+            if (remote == null) {
+                return null;
+            }
+            return new TwoLevelCache(cacheName, Caffeine.newBuilder()
+                .maximumSize(localMaxSize)
+                .expireAfterWrite(localTtl)
+                .build(), remote, this);
+        });
+    }
+
+    @Override
+    public Collection<String> getCacheNames() {
+        return Collections.unmodifiableSet(caches.keySet());
+    }
+
+    RedisTemplate<String, String> getRedisTemplate() {
+        return redisTemplate;
+    }
+
+    long getLeaseMillis() {
+        return leaseMillis;
+    }
+
+    double getEarlyRefreshBeta() {
+        return earlyRefreshBeta;
+    }
+
+    Executor getRefreshExecutor() {
+        return refreshExecutor;
+    }
+
+    // 종료 시 갱신 스레드 정리 (@Bean은 shutdown 메서드를 소멸 메서드로 자동 인식)
+    public void shutdown() {
+        refreshExecutor.shutdownNow();
+    }
+
+    void publishEvict(String name, String key) {
+        redisTemplate.convertAndSend(CHANNEL, nodeId + SEPARATOR + name + SEPARATOR + key);
+    }
+
+    // 여러 키를 알림 1번으로
+    void publishEvict(String name, Collection<String> keys) {
+        redisTemplate.convertAndSend(CHANNEL, nodeId + SEPARATOR + name + SEPARATOR + String.join(SEPARATOR, keys));
+    }
+
+    void publishClear(String name) {
+        redisTemplate.convertAndSend(CHANNEL, nodeId + SEPARATOR + name);
+    }
+
+    // 알림 형식: 서버 id / 캐시 이름 [/ 키 / 키 ...] (키가 없으면 캐시 전체, 키에는 줄바꿈이 없음)
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String[] parts = new String(message.getBody(), StandardCharsets.UTF_8).split(SEPARATOR);
+        if (parts.length < 2 || nodeId.equals(parts[0])) {
+            return;
+        }
+
+        TwoLevelCache cache = caches.get(parts[1]);
+        if (cache == null) {
+            return; // 이 서버는 아직 한 번도 안 쓴 캐시 -> L1에 지울 것도 없음
+        }
+
+        if (parts.length == 2) {
+            cache.clearLocal();
+            return;
+        }
+        for (int i = 2; i < parts.length; i++) {
+            cache.evictLocal(parts[i]);
+        }
+    }
+
+}
@@ -0,0 +1,27 @@
+package com.zrp.toyproject01.global.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+@Configuration
+@EnableAsync // @Async 기능 활성화
+public class AsyncConfig {
+
+    // Lua 재고 엔진의 DB 반영(write-behind) 전용 스레드
+    // - 스레드를 1개로 고정해서 같은 공연 row를 동시에 수정하지 않도록 줄 세움 (@Version 충돌 방지)
+    // - 요청 스레드는 Redis 차감까지만 하고 바로 응답함
+    @Bean(name = "purchaseWriteExecutor")
+    public ThreadPoolTaskExecutor purchaseWriteExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(1);
+        executor.setQueueCapacity(100_000);
+        executor.setThreadNamePrefix("purchase-writer-");
+        executor.setWaitForTasksToCompleteOnShutdown(true); // 종료 시 밀린 DB 반영 마저 처리
+        executor.initialize();
+        return executor;
+    }
+
+}
@@ -2,6 +2,7 @@ package com.zrp.toyproject01.global.config;
 
 import java.time.Duration;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.EnableCaching;
 import org.springframework.context.annotation.Bean;
@@ -9,28 +10,87 @@ import org.springframework.context.annotation.Configuration;
 import org.springframework.data.redis.cache.RedisCacheConfiguration;
 import org.springframework.data.redis.cache.RedisCacheManager;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
 import org.springframework.data.redis.serializer.RedisSerializationContext;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.zrp.toyproject01.domain.performance.dto.PerformanceCatalog;
+import com.zrp.toyproject01.domain.performance.dto.PerformanceCatalogIds;
+import com.zrp.toyproject01.domain.performance.dto.PerformanceResponse;
+import com.zrp.toyproject01.domain.post.dto.PostIds;
+import com.zrp.toyproject01.domain.post.dto.PostResponse;
+import com.zrp.toyproject01.global.cache.CompactRedisSerializer;
+import com.zrp.toyproject01.global.cache.TwoLevelCacheManager;
+
 @Configuration
 @EnableCaching // Spring Cache 기능 활성화!!
 public class RedisCacheConfig {
-    
+
+    // L1(서버 메모리) + L2(Redis) 2단 캐시
+    // - 대부분의 조회는 L1에서 끝남 (네트워크 왕복 / JSON 역직렬화 없음)
+    // - L1 TTL은 L2보다 훨씬 짧게 (다른 서버의 변경 알림을 놓쳐도 금방 L2 값으로 돌아오도록)
+    // - 캐시가 비면 키당 1대 / 1스레드만 DB 조회 (lease-millis 동안 나머지는 기다림), 만료 직전 값은 백그라운드에서 미리 갱신 (beta가 클수록 일찍)
     @Bean
     public CacheManager cacheManager(
-        RedisConnectionFactory redisConnectionFactory
+        RedisConnectionFactory redisConnectionFactory,
+        RedisTemplate<String, String> redisTemplate,
+        RedisMessageListenerContainer redisMessageListenerContainer,
+        @Value("${cache.local.max-size:1000}") long localMaxSize,
+        @Value("${cache.local.ttl-seconds:10}") long localTtlSeconds,
+        @Value("${cache.catalog.ttl-hours:6}") long catalogTtlHours,
+        @Value("${cache.load.lease-millis:3000}") long leaseMillis,
+        @Value("${cache.early-refresh.beta:1.0}") double earlyRefreshBeta,
+        @Value("${cache.early-refresh.threads:2}") int refreshThreads,
+        @Value("${cache.serializer.compact:true}") boolean compact,
+        @Value("${cache.serializer.compress-threshold-bytes:1024}") int compressThreshold
     ) {
         // Redis 캐시 설정
         RedisCacheConfiguration redisCacheConfiguration = RedisCacheConfiguration.defaultCacheConfig()
-            .serializeKeysWith(RedisSerializationContext.SerializationPair.fromSerializer(new StringRedisSerializer())) // 키는 String으로 
-            .serializeValuesWith(RedisSerializationContext.SerializationPair.fromSerializer(new GenericJackson2JsonRedisSerializer())) // 값은 JSON으로
+            .serializeKeysWith(RedisSerializationContext.SerializationPair.fromSerializer(new StringRedisSerializer())) // 키는 String으로
+            .serializeValuesWith(RedisSerializationContext.SerializationPair.fromSerializer(
+                compact ? compactSerializer(compressThreshold) : jsonSerializer())) // 값은 작은 바이너리로 (compact=false면 JSON으로)
             .entryTtl(Duration.ofMinutes(10)); // 데이터 유효 시간 (TTL) 10분
 
-        return RedisCacheManager.RedisCacheManagerBuilder
+        RedisCacheManager redisCacheManager = RedisCacheManager.RedisCacheManagerBuilder
                 .fromConnectionFactory(redisConnectionFactory)
                 .cacheDefaults(redisCacheConfiguration)
+                // 공연 정적 정보는 예매 / 취소로 바뀌지 않음 (등록 / 예매 방식 변경 때만 지움) -> 길게
+                .withCacheConfiguration("performance_catalog",
+                    redisCacheConfiguration.entryTtl(Duration.ofHours(catalogTtlHours)))
                 .build();
+        redisCacheManager.afterPropertiesSet(); // 빈으로 등록하지 않으므로 직접 초기화
+
+        return new TwoLevelCacheManager(
+            redisCacheManager,
+            redisTemplate,
+            redisMessageListenerContainer,
+            localMaxSize,
+            Duration.ofSeconds(localTtlSeconds),
+            leaseMillis,
+            earlyRefreshBeta,
+            refreshThreads
+        );
+    }
+
+    // 캐시에 자주 들어가는 DTO만 바이너리로 (타입 번호는 바꾸지 않음 / 필드를 바꾸면 버전을 올림)
+    // - 직렬화 테스트도 이 등록을 그대로 씀 (새 DTO를 여기에만 추가하면 됨)
+    public static CompactRedisSerializer compactSerializer(int compressThreshold) {
+        return new CompactRedisSerializer(jsonSerializer(), compressThreshold)
+            .register(1, 1, PerformanceCatalog.class)
+            .register(2, 1, PerformanceCatalogIds.class)
+            .register(3, 1, PerformanceResponse.class)
+            .register(4, 1, PostResponse.class)
+            .register(5, 1, PostIds.class);
+    }
+
+    // 등록하지 않은 값 (LocalDateTime 등 날짜 필드도 읽고 쓸 수 있게)
+    public static GenericJackson2JsonRedisSerializer jsonSerializer() {
+        GenericJackson2JsonRedisSerializer serializer = new GenericJackson2JsonRedisSerializer();
+        serializer.configure(objectMapper -> objectMapper.registerModule(new JavaTimeModule()));
+        return serializer;
     }
 
 }
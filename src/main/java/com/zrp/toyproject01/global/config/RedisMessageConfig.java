@@ -0,0 +1,26 @@
+package com.zrp.toyproject01.global.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.SyncTaskExecutor;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+@Configuration
+public class RedisMessageConfig {
+
+    // Redis pub/sub 구독 창구 (서버끼리 로컬 캐시 무효화 알림을 주고받을 때)
+    // - 구독하는 쪽이 addMessageListener로 채널을 등록함 (연결 1개를 같이 씀)
+    // - 알림은 구독 스레드에서 바로 처리 (기본값은 알림마다 새 스레드라 "걸기 -> 내리기" 순서가 뒤집힐 수 있음)
+    //   리스너는 로컬 맵 갱신 정도만 하고 오래 걸리는 일은 하지 않아야 함
+    @Bean
+    public RedisMessageListenerContainer redisMessageListenerContainer(
+        RedisConnectionFactory redisConnectionFactory
+    ) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(redisConnectionFactory);
+        container.setTaskExecutor(new SyncTaskExecutor());
+        return container;
+    }
+
+}
@@ -0,0 +1,23 @@
+package com.zrp.toyproject01.global.config.security;
+
+import java.util.Collection;
+
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.userdetails.User;
+
+// 토큰에서 꺼낸 로그인 사용자 (이메일 + 권한 + 유저 id)
+// - id를 들고 있어서 쓰기 작업마다 이메일로 users 테이블을 다시 조회하지 않아도 됨
+public class LoginUser extends User {
+
+    private final Long id;
+
+    public LoginUser(Long id, String email, Collection<? extends GrantedAuthority> authorities) {
+        super(email, "", authorities); // username / password / 권한들
+        this.id = id;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+}
@@ -10,7 +10,6 @@ import org.springframework.security.authentication.UsernamePasswordAuthenticatio
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
-import org.springframework.security.core.userdetails.User;
 import org.springframework.stereotype.Component;
 import com.zrp.toyproject01.domain.account.domain.Role;
 
@@ -41,7 +40,8 @@ public class TokenProvider {
     }
 
     // 2. 토큰 생성 (로그인 성공 시 호출)
-    public String createToken(String email, Set<Role> roles, String nickname) {
+    // - uid: 유저 id (쓰기 작업에서 users 테이블 조회 없이 연관관계를 걸기 위해)
+    public String createToken(Long userId, String email, Set<Role> roles, String nickname) {
         long now = (new Date()).getTime();
         Date validity = new Date(now + this.tokenValidityTime);
 
@@ -51,6 +51,7 @@ public class TokenProvider {
 
         return Jwts.builder()
                 .setSubject(email)
+                .claim("uid", userId)
                 .claim("auth", authorities)
                 .claim("nickname", nickname)
                 .signWith(key, SignatureAlgorithm.HS512)
@@ -100,9 +101,10 @@ public class TokenProvider {
                 .map(SimpleGrantedAuthority::new)
                 .collect(Collectors.toList());
 
-        User principal = new User(
-            claims.getSubject(), "", authorities
-        ); // username / password / 권한들
+        // uid가 없는 예전 토큰이면 id는 null (재발급 받으면 채워짐)
+        LoginUser principal = new LoginUser(
+            claims.get("uid", Long.class), claims.getSubject(), authorities
+        );
 
         return new UsernamePasswordAuthenticationToken(principal, token, authorities);
     }
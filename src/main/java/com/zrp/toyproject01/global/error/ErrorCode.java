@@ -24,15 +24,20 @@ public enum ErrorCode {
     SEAT_NOT_FOUND(HttpStatus.NOT_FOUND, "S001", "좌석을 찾을 수 없습니다."),
     SEAT_ALREADY_RESERVED(HttpStatus.CONFLICT, "S002", "이미 예약된 좌석입니다."),
     SEAT_SOLD_OUT(HttpStatus.CONFLICT, "S003", "좌석이 모두 매진되었습니다."),
+    SEAT_NOT_SUPPORTED(HttpStatus.CONFLICT, "S004", "이 공연의 예매 방식은 좌석 지정 예매를 지원하지 않습니다."),
     
     // reservation
     RESERVATION_NOT_FOUND(HttpStatus.NOT_FOUND, "R001", "예약을 찾을 수 없습니다."),
     ALREADY_CANCELLED(HttpStatus.BAD_REQUEST, "R002", "이미 취소된 예약입니다."),
     PERFORMANCE_SOLD_OUT(HttpStatus.BAD_REQUEST, "R003", "매진입니다."),
+    RESERVATION_EXPIRED(HttpStatus.BAD_REQUEST, "R004", "점유 시간이 만료된 예약입니다."),
+    PURCHASE_TIMEOUT(HttpStatus.SERVICE_UNAVAILABLE, "R005", "예매 처리가 지연되고 있습니다. 잠시 후 예매 내역을 확인해 주세요."),
+    PURCHASE_BUSY(HttpStatus.SERVICE_UNAVAILABLE, "R006", "예매 요청이 몰려 처리하지 못했습니다. 잠시 후 다시 시도해 주세요."),
 
     // Coupon
     COUPON_SOLD_OUT(HttpStatus.CONFLICT, "P001", "쿠폰이 모두 소진되었습니다."),
-    PERFORMANCE_NOT_FOUND(HttpStatus.NOT_FOUND, "P003", "해당 공연을 찾을 수 없습니다.");
+    PERFORMANCE_NOT_FOUND(HttpStatus.NOT_FOUND, "P003", "해당 공연을 찾을 수 없습니다."),
+    PURCHASE_STRATEGY_LOCKED(HttpStatus.CONFLICT, "P004", "장부로 판매된 공연은 예매 방식을 바꿀 수 없습니다.");
 
     private final HttpStatus status;
     private final String code;
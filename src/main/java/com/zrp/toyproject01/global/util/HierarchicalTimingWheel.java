@@ -0,0 +1,151 @@
+package com.zrp.toyproject01.global.util;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.function.Consumer;
+
+// 계층형 타이밍 휠 (만료 시각이 된 항목을 꺼내주는 시계)
+// - 등록 / 만료 모두 O(1) (정렬된 큐나 테이블 스캔 없이 칸(bucket) 단위로 처리)
+// - 0단 휠: tick 단위 칸 wheelSize개, 그보다 먼 항목은 윗단 휠에 넣어두고 때가 되면 아랫단으로 내려보냄
+//   예) tick 100ms, wheelSize 512 -> 0단 51초, 1단 7시간, 2단 ... (부족하면 알아서 단을 늘림)
+// - 만료 시각 이후의 첫 tick에 꺼냄 (최대 tick만큼 늦을 수는 있어도 일찍 꺼내지는 않음)
+// - schedule은 아무 스레드에서나, advance는 스레드 1개에서만 호출 (휠 자체는 락 없이 그 스레드만 만짐)
+public class HierarchicalTimingWheel<T> {
+
+    private final long tickMillis;
+    private final int wheelSize;
+    private final List<Level<T>> levels = new ArrayList<>();
+    private final Queue<Entry<T>> incoming = new ConcurrentLinkedQueue<>();
+
+    private long currentTick; // 0단 기준 현재 tick 번호 (= 시각 / tickMillis)
+    private int size;
+
+    public HierarchicalTimingWheel(long tickMillis, int wheelSize, long startMillis) {
+        if (tickMillis <= 0 || wheelSize < 2) {
+            throw new IllegalArgumentException("tickMillis > 0, wheelSize >= 2 이어야 합니다.");
+        }
+        this.tickMillis = tickMillis;
+        this.wheelSize = wheelSize;
+        this.currentTick = startMillis / tickMillis;
+        this.levels.add(new Level<>(wheelSize, 1, currentTick));
+    }
+
+    // 등록 (아무 스레드에서나)
+    public void schedule(T item, long expireAtMillis) {
+        incoming.add(new Entry<>(item, expireAtMillis));
+    }
+
+    // 시계를 now까지 돌리고, 만료된 항목을 onExpire로 넘김 (스레드 1개에서만)
+    public void advance(long nowMillis, Consumer<T> onExpire) {
+        Entry<T> entry;
+        while ((entry = incoming.poll()) != null) {
+            insert(entry, onExpire);
+        }
+
+        long targetTick = nowMillis / tickMillis;
+        List<Entry<T>> cascade = new ArrayList<>();
+
+        while (currentTick < targetTick) {
+            currentTick++;
+
+            // 1. 0단: 이번 tick 칸에 있는 항목은 전부 만료
+            for (Entry<T> expired : levels.get(0).take(currentTick)) {
+                size--;
+                onExpire.accept(expired.item());
+            }
+
+            // 2. 윗단: 칸이 넘어갔으면 그 칸의 항목을 아랫단으로 내려보냄
+            for (int i = 1; i < levels.size(); i++) {
+                Level<T> level = levels.get(i);
+                long levelTick = currentTick / level.span;
+
+                if (levelTick != level.currentTick) {
+                    level.currentTick = levelTick;
+                    cascade.addAll(level.take(levelTick));
+                }
+            }
+
+            for (Entry<T> moved : cascade) {
+                size--;
+                insert(moved, onExpire);
+            }
+            cascade.clear();
+        }
+    }
+
+    // 휠에 들어있는 항목 수 (advance 스레드에서만 정확함)
+    public int size() {
+        return size;
+    }
+
+    private void insert(Entry<T> entry, Consumer<T> onExpire) {
+        // 0단은 올림: 만료 시각 이후의 첫 tick에 꺼내야 일찍 만료되지 않음
+        long deadline = (entry.expireAtMillis() + tickMillis - 1) / tickMillis;
+
+        if (deadline <= currentTick) {
+            onExpire.accept(entry.item());
+            return;
+        }
+
+        if (deadline - currentTick <= wheelSize) {
+            levels.get(0).add(deadline, entry);
+            size++;
+            return;
+        }
+
+        // 윗단은 내림: 그 칸이 열리는 순간 남은 시간이 아랫단 한 바퀴 안에 들어옴
+        long tick = entry.expireAtMillis() / tickMillis;
+
+        for (int i = 1; ; i++) {
+            if (i == levels.size()) {
+                Level<T> below = levels.get(i - 1);
+                long span = below.span * wheelSize;
+                levels.add(new Level<>(wheelSize, span, currentTick / span));
+            }
+
+            Level<T> level = levels.get(i);
+            long levelTick = tick / level.span;
+
+            if (levelTick - level.currentTick < wheelSize) {
+                level.add(levelTick, entry);
+                size++;
+                return;
+            }
+        }
+    }
+
+    private record Entry<T>(T item, long expireAtMillis) {}
+
+    // 휠 한 단
+    private static class Level<T> {
+        private final long span; // 이 단의 칸 1개 = 0단 tick span개
+        private final List<List<Entry<T>>> buckets;
+        private long currentTick;
+
+        private Level(int wheelSize, long span, long currentTick) {
+            this.span = span;
+            this.currentTick = currentTick;
+            this.buckets = new ArrayList<>(wheelSize);
+            for (int i = 0; i < wheelSize; i++) {
+                buckets.add(new ArrayList<>());
+            }
+        }
+
+        private void add(long tick, Entry<T> entry) {
+            buckets.get((int) (tick % buckets.size())).add(entry);
+        }
+
+        private List<Entry<T>> take(long tick) {
+            int index = (int) (tick % buckets.size());
+            List<Entry<T>> bucket = buckets.get(index);
+            if (bucket.isEmpty()) {
+                return List.of();
+            }
+            buckets.set(index, new ArrayList<>());
+            return bucket;
+        }
+    }
+
+}
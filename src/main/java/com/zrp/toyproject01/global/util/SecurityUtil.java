@@ -3,6 +3,7 @@ package com.zrp.toyproject01.global.util;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 
+import com.zrp.toyproject01.global.config.security.LoginUser;
 import com.zrp.toyproject01.global.error.BusinessException;
 import com.zrp.toyproject01.global.error.ErrorCode;
 
@@ -22,4 +23,17 @@ public class SecurityUtil {
         return authentication.getName();
     }
 
+    // 현재 로그인한 사용자의 id 조회 (토큰의 uid 클레임 - DB 조회 없음)
+    public static Long getCurrentUserId() {
+        final Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+
+        if (authentication == null || !(authentication.getPrincipal() instanceof LoginUser loginUser)
+                || loginUser.getId() == null) {
+            // 예전 토큰(uid 없음)이면 401 -> 클라이언트가 토큰 재발급
+            throw new BusinessException(ErrorCode.LOGIN_REQUIRED);
+        }
+
+        return loginUser.getId();
+    }
+
 }
@@ -0,0 +1,163 @@
+package com.zrp.toyproject01.domain.performance;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDateTime;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import com.zrp.toyproject01.domain.account.dao.RefreshTokenRepository;
+import com.zrp.toyproject01.domain.account.dao.UserRepository;
+import com.zrp.toyproject01.domain.account.domain.User;
+import com.zrp.toyproject01.domain.performance.application.PerformanceService;
+import com.zrp.toyproject01.domain.performance.dao.PerformanceRepository;
+import com.zrp.toyproject01.domain.performance.domain.Performance;
+import com.zrp.toyproject01.domain.performance.dto.PerformanceRegisterRequest;
+import com.zrp.toyproject01.domain.post.dao.PostRepository;
+import com.zrp.toyproject01.domain.queue.application.QueueService;
+import com.zrp.toyproject01.domain.reservation.dao.ReservationRepository;
+import com.zrp.toyproject01.domain.reservation.domain.Reservation;
+import com.zrp.toyproject01.global.error.BusinessException;
+import com.zrp.toyproject01.global.error.ErrorCode;
+
+// 매진 간판을 바로 확인하므로 매진 로컬 캐시는 꺼둠
+@SpringBootTest(properties = "queue.sold-out.near-cache-ttl-millis=0")
+class ConditionalUpdatePurchaseTest {
+
+    @Autowired private PerformanceService performanceService;
+    @Autowired private PerformanceRepository performanceRepository;
+    @Autowired private UserRepository userRepository;
+    @Autowired private ReservationRepository reservationRepository;
+    @Autowired private PostRepository postRepository;
+    @Autowired private RefreshTokenRepository refreshTokenRepository;
+    @Autowired private QueueService queueService;
+    @Autowired private StringRedisTemplate redisTemplate;
+
+    private Long userId;
+
+    @BeforeEach
+    void cleanUp() {
+        // 이 테스트가 쓰는 키만 (매진 간판)
+        deleteKeys("sold_out:*", "sold_out_version:*");
+
+        refreshTokenRepository.deleteAll();
+        reservationRepository.deleteAll();
+        postRepository.deleteAll();
+        performanceRepository.deleteAll();
+        userRepository.deleteAll();
+
+        userId = userRepository.save(User.create("buyer@test.com", "1234", "buyer")).getId();
+    }
+
+    @Test
+    @DisplayName("조건부 UPDATE: 재고를 차감하고 수정 시각도 같이 바꾸며, 예약에는 공연 가격이 들어간다")
+    void decrease_and_touch_updated_at_test() throws InterruptedException {
+        // 1. Given: 재고 3개
+        Long performanceId = performanceService.register(new PerformanceRegisterRequest("조건부 공연", 70000, 3));
+        LocalDateTime before = performanceRepository.findById(performanceId).orElseThrow().getUpdatedAt();
+        Thread.sleep(10);
+
+        // 2. When: 2개 예매
+        performanceService.purchaseWithConditionalUpdate(performanceId, 2, userId);
+
+        // 3. Then
+        Performance performance = performanceRepository.findById(performanceId).orElseThrow();
+        assertEquals(1, performance.getStock());
+        assertTrue(performance.getUpdatedAt().isAfter(before));
+
+        Reservation reservation = reservationRepository.findAll().get(0);
+        assertEquals(70000, reservation.getPrice());
+        assertEquals(2, reservation.getCount());
+        assertFalse(queueService.isSoldOut(performanceId));
+    }
+
+    @Test
+    @DisplayName("조건부 UPDATE: 남은 재고보다 많이 사면 실패하고, 마지막 표를 산 요청이 바로 매진 간판을 건다")
+    void sold_out_test() {
+        // 1. Given: 재고 2개
+        Long performanceId = performanceService.register(new PerformanceRegisterRequest("매진 공연", 50000, 2));
+
+        // 2. When / Then: 3개는 실패 (재고가 남아 있으므로 간판은 안 검)
+        BusinessException tooMany = assertThrows(BusinessException.class,
+            () -> performanceService.purchaseWithConditionalUpdate(performanceId, 3, userId));
+        assertEquals(ErrorCode.PERFORMANCE_SOLD_OUT, tooMany.getErrorCode());
+        assertFalse(queueService.isSoldOut(performanceId));
+
+        // 3. When / Then: 남은 2개를 다 사면 그 요청이 커밋된 직후에 매진 간판
+        performanceService.purchaseWithConditionalUpdate(performanceId, 2, userId);
+        assertTrue(queueService.isSoldOut(performanceId));
+
+        // 4. When / Then: 그 뒤 요청은 실패
+        BusinessException soldOut = assertThrows(BusinessException.class,
+            () -> performanceService.purchaseWithConditionalUpdate(performanceId, 1, userId));
+        assertEquals(ErrorCode.PERFORMANCE_SOLD_OUT, soldOut.getErrorCode());
+        assertTrue(queueService.isSoldOut(performanceId));
+        assertEquals(1, reservationRepository.count());
+    }
+
+    @Test
+    @DisplayName("조건부 UPDATE: 없는 공연이면 PERFORMANCE_NOT_FOUND")
+    void not_found_test() {
+        BusinessException exception = assertThrows(BusinessException.class,
+            () -> performanceService.purchaseWithConditionalUpdate(Long.MAX_VALUE, 1, userId));
+
+        assertEquals(ErrorCode.PERFORMANCE_NOT_FOUND, exception.getErrorCode());
+    }
+
+    @Test
+    @DisplayName("조건부 UPDATE: 100명이 재고 50개에 몰려도 정확히 50명만 성공한다")
+    void never_oversell_test() throws InterruptedException {
+        // 1. Given: 재고 50개
+        Long performanceId = performanceService.register(new PerformanceRegisterRequest("동시 공연", 30000, 50));
+
+        // 2. When: 같은 유저가 100번 동시에 1개씩 (유저는 FK만 필요)
+        AtomicInteger successCount = new AtomicInteger(0);
+        ExecutorService executorService = Executors.newFixedThreadPool(32);
+        CountDownLatch latch = new CountDownLatch(100);
+
+        for (int i = 0; i < 100; i++) {
+            executorService.submit(() -> {
+                try {
+                    performanceService.purchaseWithConditionalUpdate(performanceId, 1, userId);
+                    successCount.incrementAndGet();
+                } catch (BusinessException e) {
+                    // 매진
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+
+        latch.await();
+        executorService.shutdown();
+
+        // 3. Then
+        assertEquals(50, successCount.get());
+        assertEquals(0, performanceRepository.findById(performanceId).orElseThrow().getStock());
+        assertEquals(50, reservationRepository.count());
+        assertTrue(queueService.isSoldOut(performanceId)); // 50번째 구매자가 건 간판
+    }
+
+    private void deleteKeys(String... patterns) {
+        for (String pattern : patterns) {
+            Set<String> keys = redisTemplate.keys(pattern);
+            if (keys != null && !keys.isEmpty()) {
+                redisTemplate.delete(keys);
+            }
+        }
+    }
+
+}
@@ -0,0 +1,221 @@
+package com.zrp.toyproject01.domain.performance;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.zrp.toyproject01.domain.account.dao.RefreshTokenRepository;
+import com.zrp.toyproject01.domain.account.dao.UserRepository;
+import com.zrp.toyproject01.domain.account.domain.User;
+import com.zrp.toyproject01.domain.performance.application.InventoryLedgerCompactor;
+import com.zrp.toyproject01.domain.performance.application.InventoryLedgerService;
+import com.zrp.toyproject01.domain.performance.application.PerformanceService;
+import com.zrp.toyproject01.domain.performance.application.strategy.PurchaseStrategy;
+import com.zrp.toyproject01.domain.performance.application.strategy.PurchaseStrategyRegistry;
+import com.zrp.toyproject01.domain.performance.dao.InventoryLedgerRepository;
+import com.zrp.toyproject01.domain.performance.dao.InventorySnapshotRepository;
+import com.zrp.toyproject01.domain.performance.dao.PerformanceRepository;
+import com.zrp.toyproject01.domain.performance.domain.PurchaseStrategyType;
+import com.zrp.toyproject01.domain.performance.dto.PerformanceRegisterRequest;
+import com.zrp.toyproject01.domain.post.dao.PostRepository;
+import com.zrp.toyproject01.domain.reservation.dao.ReservationRepository;
+import com.zrp.toyproject01.global.error.BusinessException;
+import com.zrp.toyproject01.global.error.ErrorCode;
+
+// 압축 지연을 0으로 줄여서 바로 압축까지 확인
+@SpringBootTest(properties = "performance.ledger.compact-lag-millis=0")
+class LedgerInventoryTest {
+
+    @Autowired private PerformanceService performanceService;
+    @Autowired private InventoryLedgerService inventoryLedgerService;
+    @Autowired private InventoryLedgerCompactor inventoryLedgerCompactor;
+    @Autowired private InventoryLedgerRepository inventoryLedgerRepository;
+    @Autowired private InventorySnapshotRepository inventorySnapshotRepository;
+    @Autowired private PerformanceRepository performanceRepository;
+    @Autowired private UserRepository userRepository;
+    @Autowired private ReservationRepository reservationRepository;
+    @Autowired private PostRepository postRepository;
+    @Autowired private RefreshTokenRepository refreshTokenRepository;
+    @Autowired private PurchaseStrategyRegistry purchaseStrategyRegistry;
+    @Autowired private StringRedisTemplate redisTemplate;
+    @Autowired private TransactionTemplate transactionTemplate;
+
+    @BeforeEach
+    void cleanUp() {
+        // 이 테스트가 쓰는 키만 (장부 카운터 / 매진 간판)
+        deleteKeys("ledger_remaining:*", "sold_out:*", "sold_out_version:*");
+
+        inventoryLedgerRepository.deleteAll();
+        inventorySnapshotRepository.deleteAll();
+        refreshTokenRepository.deleteAll();
+        reservationRepository.deleteAll();
+        postRepository.deleteAll();
+        performanceRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("장부: 150명이 재고 100개에 몰려도 초과 판매 없이 장부 100줄, 압축 후 stock 0")
+    void ledger_never_oversell_test() throws InterruptedException {
+        // 1. Given: 공연 (재고 100) + 유저 150명
+        Long performanceId = performanceService.register(
+            new PerformanceRegisterRequest("장부 공연", 50000, 100)
+        );
+        List<Long> userIds = createUsers("ledger", 150);
+        PurchaseStrategy strategy = purchaseStrategyRegistry.get(PurchaseStrategyType.LEDGER);
+
+        // 2. When: 150명이 동시에 요청
+        AtomicInteger successCount = new AtomicInteger(0);
+        AtomicInteger soldOutCount = new AtomicInteger(0);
+        ExecutorService executorService = Executors.newFixedThreadPool(32);
+        CountDownLatch latch = new CountDownLatch(userIds.size());
+
+        for (Long userId : userIds) {
+            executorService.submit(() -> {
+                try {
+                    strategy.purchase(performanceId, 1, userId);
+                    successCount.incrementAndGet();
+                } catch (BusinessException e) {
+                    soldOutCount.incrementAndGet();
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+        latch.await();
+        executorService.shutdown();
+
+        // 3. Then: 정확히 100명 성공, 예매 중에는 performance row를 건드리지 않음
+        System.out.println("=========================================");
+        System.out.println("구매 성공: " + successCount.get());
+        System.out.println("매진 실패: " + soldOutCount.get());
+        System.out.println("=========================================");
+
+        assertEquals(100, successCount.get());
+        assertEquals(50, soldOutCount.get());
+        assertEquals(100, inventoryLedgerRepository.count());
+        assertEquals(100, reservationRepository.count());
+        assertEquals(0, inventoryLedgerService.remaining(performanceId));
+
+        // 4. 압축하면 스냅샷 + stock 컬럼이 장부와 맞춰짐
+        inventoryLedgerCompactor.compact();
+
+        assertEquals(0, inventorySnapshotRepository.findById(performanceId).orElseThrow().getRemaining());
+        assertEquals(0, performanceRepository.findById(performanceId).orElseThrow().getStock());
+        assertEquals(0, inventoryLedgerService.remaining(performanceId));
+    }
+
+    @Test
+    @DisplayName("장부: 취소하면 +수량 장부가 쌓이고 다시 살 수 있다")
+    void ledger_cancel_restock_test() {
+        // 1. Given: 재고 1개를 장부로 구매
+        Long performanceId = performanceService.register(
+            new PerformanceRegisterRequest("취소 장부 공연", 50000, 1)
+        );
+        List<Long> userIds = createUsers("cancel", 2);
+        PurchaseStrategy strategy = purchaseStrategyRegistry.get(PurchaseStrategyType.LEDGER);
+
+        strategy.purchase(performanceId, 1, userIds.get(0));
+        Long reservationId = reservationRepository.findAll().get(0).getId();
+
+        // 2. When: 취소
+        performanceService.cancel(reservationId);
+
+        // 3. Then: 장부 2줄 (-1, +1), 남은 재고 1, 다른 사람이 바로 살 수 있음
+        assertEquals(2, inventoryLedgerRepository.count());
+        assertEquals(1, inventoryLedgerService.remaining(performanceId));
+
+        strategy.purchase(performanceId, 1, userIds.get(1));
+        assertEquals(0, inventoryLedgerService.remaining(performanceId));
+    }
+
+    @Test
+    @DisplayName("장부 압축: 장부 합계만 stock에 더하고, 장부 밖에서 바뀐 재고는 지우지 않는다")
+    void compact_applies_delta_test() {
+        // 1. Given: 재고 10, 장부로 2개 판매 + 장부 밖에서 3개 차감 (좌석 예매 등)
+        Long performanceId = performanceService.register(
+            new PerformanceRegisterRequest("델타 공연", 50000, 10)
+        );
+        List<Long> userIds = createUsers("delta", 2);
+        PurchaseStrategy strategy = purchaseStrategyRegistry.get(PurchaseStrategyType.LEDGER);
+        strategy.purchase(performanceId, 1, userIds.get(0));
+        strategy.purchase(performanceId, 1, userIds.get(1));
+        transactionTemplate.executeWithoutResult(status -> performanceRepository.decreaseStock(performanceId, 3));
+
+        // 2. When
+        inventoryLedgerCompactor.compact();
+
+        // 3. Then: 10 - 3 - 2
+        assertEquals(5, performanceRepository.findById(performanceId).orElseThrow().getStock());
+    }
+
+    @Test
+    @DisplayName("장부 압축: 어디까지 합쳤는지는 스냅샷에 있어서, 새로 뜬 압축기(재시작 / 다른 서버)가 같은 구간을 다시 합치지 않는다")
+    void compact_watermark_persisted_test() {
+        // 1. Given: 장부로 1개 판매 + 압축
+        Long performanceId = performanceService.register(
+            new PerformanceRegisterRequest("재시작 공연", 50000, 10)
+        );
+        purchaseStrategyRegistry.get(PurchaseStrategyType.LEDGER).purchase(performanceId, 1, createUsers("restart", 1).get(0));
+        inventoryLedgerCompactor.compact();
+
+        // 2. When: 메모리 상태가 없는 압축기로 다시
+        InventoryLedgerCompactor restarted = new InventoryLedgerCompactor(inventoryLedgerService, inventoryLedgerRepository, 0);
+        restarted.compact();
+        restarted.compact();
+
+        // 3. Then: 1번만 반영
+        assertEquals(9, performanceRepository.findById(performanceId).orElseThrow().getStock());
+        assertEquals(9, inventorySnapshotRepository.findById(performanceId).orElseThrow().getRemaining());
+    }
+
+    @Test
+    @DisplayName("예매 방식 변경: 장부로 판매된 공연은 다른 방식으로 바꿀 수 없다 (같은 좌석 이중 판매 방지)")
+    void ledger_strategy_locked_test() {
+        // 1. Given: 장부로 1개 판매
+        Long performanceId = performanceService.register(
+            new PerformanceRegisterRequest("잠긴 공연", 50000, 10)
+        );
+        performanceService.changePurchaseStrategy(performanceId, PurchaseStrategyType.LEDGER);
+        purchaseStrategyRegistry.get(PurchaseStrategyType.LEDGER).purchase(performanceId, 1, createUsers("locked", 1).get(0));
+
+        // 2. When / Then
+        BusinessException exception = assertThrows(BusinessException.class,
+            () -> performanceService.changePurchaseStrategy(performanceId, PurchaseStrategyType.CONDITIONAL_UPDATE));
+        assertEquals(ErrorCode.PURCHASE_STRATEGY_LOCKED, exception.getErrorCode());
+    }
+
+    private List<Long> createUsers(String prefix, int count) {
+        List<Long> userIds = new ArrayList<>(count);
+        for (int i = 1; i <= count; i++) {
+            User user = userRepository.save(User.create(prefix + i + "@test.com", "1234", prefix + i));
+            userIds.add(user.getId());
+        }
+        return userIds;
+    }
+
+    private void deleteKeys(String... patterns) {
+        for (String pattern : patterns) {
+            Set<String> keys = redisTemplate.keys(pattern);
+            if (keys != null && !keys.isEmpty()) {
+                redisTemplate.delete(keys);
+            }
+        }
+    }
+
+}
@@ -0,0 +1,271 @@
+package com.zrp.toyproject01.domain.performance;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import com.zrp.toyproject01.domain.account.dao.RefreshTokenRepository;
+import com.zrp.toyproject01.domain.account.dao.UserRepository;
+import com.zrp.toyproject01.domain.account.domain.User;
+import com.zrp.toyproject01.domain.performance.application.AsyncPurchaseWriter;
+import com.zrp.toyproject01.domain.performance.application.LuaStockPerformanceFacade;
+import com.zrp.toyproject01.domain.performance.application.PerformanceService;
+import com.zrp.toyproject01.domain.performance.application.PurchaseWriteTracker;
+import com.zrp.toyproject01.domain.performance.application.RedisStockService;
+import com.zrp.toyproject01.domain.performance.dao.PerformanceRepository;
+import com.zrp.toyproject01.domain.performance.domain.Performance;
+import com.zrp.toyproject01.domain.performance.dto.PerformanceRegisterRequest;
+import com.zrp.toyproject01.domain.performance.dto.PurchaseWriteStatus;
+import com.zrp.toyproject01.domain.post.dao.PostRepository;
+import com.zrp.toyproject01.domain.queue.application.QueueService;
+import com.zrp.toyproject01.domain.reservation.dao.ReservationRepository;
+import com.zrp.toyproject01.global.error.BusinessException;
+import com.zrp.toyproject01.global.error.ErrorCode;
+
+@SpringBootTest
+class LuaStockPerformanceFacadeTest {
+
+    @Autowired private PerformanceService performanceService;
+    @Autowired private PerformanceRepository performanceRepository;
+    @Autowired private UserRepository userRepository;
+    @Autowired private ReservationRepository reservationRepository;
+    @Autowired private PostRepository postRepository;
+    @Autowired private RefreshTokenRepository refreshTokenRepository;
+    @Autowired private LuaStockPerformanceFacade luaStockPerformanceFacade;
+    @Autowired private RedisStockService redisStockService;
+    @Autowired private QueueService queueService;
+    @Autowired private PurchaseWriteTracker purchaseWriteTracker;
+    @Autowired private StringRedisTemplate redisTemplate;
+
+    @BeforeEach
+    void cleanUp() {
+        // 이 테스트가 쓰는 키만 (재고 / 구매자 / DB 반영 상태 / 대기열 / 매진 간판)
+        deleteKeys("stock:*", "stock_buyers:*", "purchase_write:*",
+            "waiting_queue:*", "active_queue:*", "queue_ticket:*", "queue_serving:*", "sold_out:*", "sold_out_version:*");
+
+        refreshTokenRepository.deleteAll();
+        reservationRepository.deleteAll();
+        postRepository.deleteAll();
+        performanceRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("Lua 재고 엔진: 100명이 예매하면 재고 0 & 예약 내역 100개 생성")
+    void lua_stock_concurrency_test() throws InterruptedException {
+        // 1. Given: 공연 (재고 100) + 입장권을 받은 유저 100명
+        Long performanceId = performanceService.register(
+            new PerformanceRegisterRequest("아이유 콘서트", 100000, 100)
+        );
+        prepareAllowedUsers(performanceId, "tester", 100);
+
+        // 2. When: 100명이 동시에 요청
+        AtomicInteger successCount = new AtomicInteger(0);
+        AtomicInteger soldOutCount = new AtomicInteger(0);
+        runConcurrently(performanceId, "tester", 100, successCount, soldOutCount);
+
+        // 3. Then: Redis 재고는 즉시 0, DB는 write-behind가 끝나면 0
+        waitForReservations(100);
+        Performance performance = performanceRepository.findById(performanceId).orElseThrow();
+
+        System.out.println("=========================================");
+        System.out.println("구매 성공: " + successCount.get());
+        System.out.println("Redis 재고: " + redisStockService.getStock(performanceId));
+        System.out.println("DB 재고: " + performance.getStock());
+        System.out.println("예약 수: " + reservationRepository.count());
+        System.out.println("=========================================");
+
+        assertEquals(100, successCount.get());
+        assertEquals(0, redisStockService.getStock(performanceId));
+        assertEquals(0, performance.getStock());
+        assertEquals(100, reservationRepository.count());
+    }
+
+    @Test
+    @DisplayName("Lua 재고 엔진: 150명이 재고 100개에 몰려도 절대 초과 판매되지 않는다")
+    void lua_stock_never_oversell_test() throws InterruptedException {
+        // 1. Given: 공연 (재고 100) + 입장권을 받은 유저 150명
+        int initialStock = 100;
+        int totalParticipants = 150;
+
+        Long performanceId = performanceService.register(
+            new PerformanceRegisterRequest("취소표 대전", 50000, initialStock)
+        );
+        prepareAllowedUsers(performanceId, "hyena", totalParticipants);
+
+        // 2. When: 150명이 동시에 요청
+        AtomicInteger successCount = new AtomicInteger(0);
+        AtomicInteger soldOutCount = new AtomicInteger(0);
+        runConcurrently(performanceId, "hyena", totalParticipants, successCount, soldOutCount);
+
+        // 3. Then: 정확히 100명만 성공, 나머지 50명은 매진
+        waitForReservations(initialStock);
+        Performance performance = performanceRepository.findById(performanceId).orElseThrow();
+
+        System.out.println("=========================================");
+        System.out.println("구매 성공: " + successCount.get());
+        System.out.println("매진 실패: " + soldOutCount.get());
+        System.out.println("DB 재고: " + performance.getStock());
+        System.out.println("=========================================");
+
+        assertEquals(initialStock, successCount.get());
+        assertEquals(totalParticipants - initialStock, soldOutCount.get());
+        assertEquals(0, redisStockService.getStock(performanceId));
+        assertEquals(0, performance.getStock());
+        assertEquals(initialStock, reservationRepository.count());
+    }
+
+    @Test
+    @DisplayName("Lua 재고 엔진: DB 반영 작업이 거절되면 Redis 재고를 되돌리고 매진 간판도 내린다")
+    void rejected_write_restores_stock_test() {
+        // 1. Given: 재고 1개 + DB 반영 큐가 가득 찬 facade
+        Long performanceId = performanceService.register(
+            new PerformanceRegisterRequest("거절 공연", 50000, 1)
+        );
+        Long userId = userRepository.save(User.create("rejected@test.com", "1234", "rejected")).getId();
+        LuaStockPerformanceFacade facade = new LuaStockPerformanceFacade(
+            redisStockService, performanceRepository, performanceService, reservationRepository,
+            new RejectingPurchaseWriter(), queueService, purchaseWriteTracker
+        );
+
+        // 2. When: 마지막 1개를 차감했지만 DB 반영 작업을 못 넣음
+        BusinessException exception = assertThrows(BusinessException.class,
+            () -> facade.decreaseStock(performanceId, 1, userId));
+
+        // 3. Then: 실패 응답 + 재고 / 간판 원래대로 (다음 사람이 살 수 있음)
+        assertEquals(ErrorCode.PURCHASE_BUSY, exception.getErrorCode());
+        assertEquals(1, redisStockService.getStock(performanceId));
+        assertFalse(queueService.isSoldOut(performanceId));
+        assertEquals(0, reservationRepository.count());
+        assertEquals(new PurchaseWriteStatus(0, 0), purchaseWriteTracker.get(performanceId, userId));
+    }
+
+    @Test
+    @DisplayName("Lua 재고 엔진: DB 반영이 계속 실패하면 정해진 횟수만 다시 시도하고, Redis 재고를 되돌린 뒤 실패로 남긴다")
+    void failed_write_is_visible_test() {
+        // 1. Given: 재고 1개를 Redis에서 차감해서 접수한 상태 + DB 반영이 항상 실패 (3번까지 시도)
+        Long performanceId = performanceService.register(
+            new PerformanceRegisterRequest("장애 공연", 50000, 1)
+        );
+        Long userId = userRepository.save(User.create("failed@test.com", "1234", "failed")).getId();
+        redisStockService.initStock(performanceId, 1);
+        redisStockService.decrease(performanceId, 1, String.valueOf(userId));
+        purchaseWriteTracker.accept(performanceId, userId);
+
+        FailingPerformanceService failingService = new FailingPerformanceService();
+        AsyncPurchaseWriter writer = new AsyncPurchaseWriter(
+            failingService, redisStockService, queueService, purchaseWriteTracker, 3, 0
+        );
+        assertEquals(new PurchaseWriteStatus(1, 0), purchaseWriteTracker.get(performanceId, userId));
+
+        // 2. When: DB 반영 (프록시가 아니라서 이 스레드에서 바로 실행됨)
+        writer.write(performanceId, 1, userId);
+
+        // 3. Then: 3번 시도 + 재고 복구 + 유저가 조회할 수 있는 실패 1건
+        assertEquals(3, failingService.attempts);
+        assertEquals(1, redisStockService.getStock(performanceId));
+        assertEquals(new PurchaseWriteStatus(0, 1), purchaseWriteTracker.get(performanceId, userId));
+    }
+
+    // 유저 생성 + 대기열 -> 입장열 이동까지 (예매 로직만 보기 위해서)
+    private void prepareAllowedUsers(Long performanceId, String prefix, int count) {
+        for (int i = 1; i <= count; i++) {
+            String email = prefix + i + "@test.com";
+            userRepository.save(User.create(email, "1234", prefix + i));
+            queueService.addQueue(performanceId, email);
+        }
+        queueService.allowUser(performanceId, count);
+    }
+
+    private void runConcurrently(
+        Long performanceId, String prefix, int count,
+        AtomicInteger successCount, AtomicInteger soldOutCount
+    ) throws InterruptedException {
+        ExecutorService executorService = Executors.newFixedThreadPool(32);
+        CountDownLatch latch = new CountDownLatch(count);
+
+        for (int i = 1; i <= count; i++) {
+            String email = prefix + i + "@test.com";
+            executorService.submit(() -> {
+                try {
+                    if (luaStockPerformanceFacade.purchase(performanceId, 1, email)) {
+                        successCount.incrementAndGet();
+                    }
+                } catch (BusinessException e) {
+                    soldOutCount.incrementAndGet();
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+
+        latch.await();
+        executorService.shutdown();
+    }
+
+    // DB 반영은 비동기라서 예약이 다 쌓일 때까지 기다림
+    private void waitForReservations(long expected) throws InterruptedException {
+        long startTime = System.currentTimeMillis();
+
+        while (reservationRepository.count() < expected) {
+            if (System.currentTimeMillis() - startTime > 10000) {
+                throw new RuntimeException("시간 초과: 10초가 지나도 예약이 DB에 반영되지 않았습니다.");
+            }
+            Thread.sleep(100);
+        }
+    }
+
+    private void deleteKeys(String... patterns) {
+        for (String pattern : patterns) {
+            Set<String> keys = redisTemplate.keys(pattern);
+            if (keys != null && !keys.isEmpty()) {
+                redisTemplate.delete(keys);
+            }
+        }
+    }
+
+    // 큐가 가득 찬 것처럼 항상 작업을 거절
+    private static class RejectingPurchaseWriter extends AsyncPurchaseWriter {
+
+        private RejectingPurchaseWriter() {
+            super(null, null, null, null, 1, 0);
+        }
+
+        @Override
+        public void write(Long id, int quantity, Long userId) {
+            throw new TaskRejectedException("purchaseWriteExecutor 큐가 가득 찼습니다.");
+        }
+    }
+
+    // DB가 끊긴 것처럼 항상 실패 (시도 횟수만 셈)
+    private static class FailingPerformanceService extends PerformanceService {
+
+        private int attempts;
+
+        private FailingPerformanceService() {
+            super(null, null, null, null, null, null, null, null);
+        }
+
+        @Override
+        public void purchase(Long id, int quantity, Long userId) {
+            attempts++;
+            throw new DataAccessResourceFailureException("DB 연결 끊김");
+        }
+    }
+
+}
@@ -0,0 +1,102 @@
+package com.zrp.toyproject01.domain.performance;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.OptimisticLockingFailureException;
+
+import com.zrp.toyproject01.domain.performance.application.OptimisticLockPerformanceFacade;
+import com.zrp.toyproject01.domain.performance.application.PerformanceService;
+
+// DB 없이 충돌 비율에 따른 낙관적 / 비관적 전환만 확인 (PerformanceService는 가짜)
+// - max-retries 5, 백오프 0, 전환 0.5 / 복귀 0.2, 비관적 모드에서 2번에 1번 찔러봄
+class OptimisticLockPerformanceFacadeTest {
+
+    private static final Long PERFORMANCE_ID = 1L;
+    private static final Long USER_ID = 1L;
+
+    @Test
+    @DisplayName("적응형 락: 충돌이 계속되면 비관적 락으로 바꾸고, 그 뒤로는 낙관적 시도 없이 바로 비관적 락")
+    void switch_to_pessimistic_test() throws InterruptedException {
+        // 1. Given: 낙관적 락이 항상 충돌
+        FakePerformanceService service = new FakePerformanceService();
+        OptimisticLockPerformanceFacade facade = facade(service, 10);
+        service.conflict = true;
+
+        // 2. When: 1번째 요청 -> 재시도 5번까지 다 충돌하고 비관적 락으로 마무리
+        facade.purchase(PERFORMANCE_ID, 1, USER_ID);
+
+        // 3. Then
+        assertEquals(6, service.optimisticCalls);
+        assertEquals(1, service.pessimisticCalls);
+
+        // 4. When / Then: 2번째 요청은 찔러볼 차례가 아니므로 바로 비관적 락
+        facade.purchase(PERFORMANCE_ID, 1, USER_ID);
+        assertEquals(6, service.optimisticCalls);
+        assertEquals(2, service.pessimisticCalls);
+    }
+
+    @Test
+    @DisplayName("적응형 락: 비관적 모드에서도 가끔 낙관적으로 찔러보고, 충돌이 줄면 낙관적 락으로 돌아온다")
+    void probe_and_recover_test() throws InterruptedException {
+        // 1. Given: 충돌 6번으로 비관적 모드 (충돌 비율 약 0.74)
+        FakePerformanceService service = new FakePerformanceService();
+        OptimisticLockPerformanceFacade facade = facade(service, 2);
+        service.conflict = true;
+        facade.purchase(PERFORMANCE_ID, 1, USER_ID);
+
+        // 2. When: 충돌이 사라진 뒤 12건 -> 2번에 1번(6건)은 낙관적으로 찔러봄
+        service.conflict = false;
+        for (int i = 0; i < 12; i++) {
+            facade.purchase(PERFORMANCE_ID, 1, USER_ID);
+        }
+
+        // 3. Then: 찔러본 6건은 낙관적으로 성공, 나머지 6건은 비관적 락
+        assertEquals(6 + 6, service.optimisticCalls);
+        assertEquals(1 + 6, service.pessimisticCalls);
+
+        // 4. When / Then: 성공 6번으로 충돌 비율 0.2 아래 -> 다음 요청부터는 모두 낙관적
+        facade.purchase(PERFORMANCE_ID, 1, USER_ID);
+        facade.purchase(PERFORMANCE_ID, 1, USER_ID);
+        assertEquals(14, service.optimisticCalls);
+        assertEquals(7, service.pessimisticCalls);
+    }
+
+    @Test
+    @DisplayName("적응형 락: 찔러보는 간격이 0이면 시작할 때 거절한다 (0으로 나누기 방지)")
+    void invalid_probe_interval_test() {
+        assertThrows(IllegalArgumentException.class, () -> facade(new FakePerformanceService(), 0));
+    }
+
+    private OptimisticLockPerformanceFacade facade(PerformanceService service, int probeInterval) {
+        return new OptimisticLockPerformanceFacade(service, 5, 0, 0, 0.5, 0.2, probeInterval);
+    }
+
+    // 낙관적 / 비관적 호출 횟수만 셈 (conflict면 낙관적 락이 충돌)
+    private static class FakePerformanceService extends PerformanceService {
+
+        private boolean conflict;
+        private int optimisticCalls;
+        private int pessimisticCalls;
+
+        private FakePerformanceService() {
+            super(null, null, null, null, null, null, null, null);
+        }
+
+        @Override
+        public void purchase(Long id, int quantity, Long userId) {
+            optimisticCalls++;
+            if (conflict) {
+                throw new OptimisticLockingFailureException("충돌");
+            }
+        }
+
+        @Override
+        public void purchaseWithPessimisticLock(Long id, int quantity, Long userId) {
+            pessimisticCalls++;
+        }
+    }
+
+}
@@ -0,0 +1,93 @@
+package com.zrp.toyproject01.domain.performance;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.zrp.toyproject01.domain.account.dao.RefreshTokenRepository;
+import com.zrp.toyproject01.domain.account.dao.UserRepository;
+import com.zrp.toyproject01.domain.performance.application.PerformanceCatalogService;
+import com.zrp.toyproject01.domain.performance.application.PerformanceService;
+import com.zrp.toyproject01.domain.performance.dao.PerformanceRepository;
+import com.zrp.toyproject01.domain.performance.domain.PurchaseStrategyType;
+import com.zrp.toyproject01.domain.performance.dto.PerformanceRegisterRequest;
+import com.zrp.toyproject01.domain.performance.dto.PerformanceResponse;
+import com.zrp.toyproject01.domain.post.dao.PostRepository;
+import com.zrp.toyproject01.domain.reservation.dao.ReservationRepository;
+
+// 재고 스냅샷을 0.1초마다 갱신하도록 줄여서 확인
+@SpringBootTest(properties = "performance.stock-view.refresh-millis=100")
+class PerformanceCatalogTest {
+
+    @Autowired private PerformanceService performanceService;
+    @Autowired private PerformanceRepository performanceRepository;
+    @Autowired private UserRepository userRepository;
+    @Autowired private ReservationRepository reservationRepository;
+    @Autowired private PostRepository postRepository;
+    @Autowired private RefreshTokenRepository refreshTokenRepository;
+    @Autowired private CacheManager cacheManager;
+    @Autowired private TransactionTemplate transactionTemplate;
+    @Autowired private StringRedisTemplate redisTemplate;
+
+    @BeforeEach
+    void cleanUp() {
+        redisTemplate.getConnectionFactory().getConnection().serverCommands().flushAll();
+
+        refreshTokenRepository.deleteAll();
+        reservationRepository.deleteAll();
+        postRepository.deleteAll();
+        performanceRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("목록: 재고가 바뀌어도 정적 정보 캐시는 그대로 두고, 남은 재고만 새 값으로 보인다")
+    void stock_change_keeps_catalog_test() throws InterruptedException {
+        // 1. Given: 공연 등록 + 목록 조회 (정적 정보 캐시됨)
+        Long performanceId = performanceService.register(new PerformanceRegisterRequest("캐시 공연", 50000, 10));
+        assertEquals(10, find(performanceId).stock());
+
+        // 2. When: DB에서 재고 3개 차감 (DB로 판정하는 예매 방식과 같음)
+        transactionTemplate.executeWithoutResult(status -> performanceRepository.decreaseStock(performanceId, 3));
+        Thread.sleep(200); // 스냅샷 갱신 주기 지남
+
+        // 3. Then: 정적 정보 캐시는 살아 있고, 목록에는 남은 재고 7
+        assertNotNull(cacheManager.getCache(PerformanceCatalogService.CACHE_NAME).get(performanceId));
+        PerformanceResponse response = find(performanceId);
+        assertEquals("캐시 공연", response.name());
+        assertEquals(50000, response.price());
+        assertEquals(7, response.stock());
+    }
+
+    @Test
+    @DisplayName("목록: Redis 카운터로 판정하는 공연은 카운터 값이 바로 남은 재고로 보인다")
+    void counter_engine_stock_test() {
+        // 1. Given: Lua 재고 엔진 공연 + Redis 재고 적재
+        Long performanceId = performanceService.register(new PerformanceRegisterRequest("선착순 공연", 50000, 100));
+        performanceService.changePurchaseStrategy(performanceId, PurchaseStrategyType.LOCK_FREE);
+        redisTemplate.opsForValue().set("stock:" + performanceId, "100");
+        assertEquals(100, find(performanceId).stock());
+
+        // 2. When: Redis 재고만 줄어듦 (DB 반영 전)
+        redisTemplate.opsForValue().decrement("stock:" + performanceId, 40);
+
+        // 3. Then: 기다리지 않아도 목록에는 60
+        assertEquals(60, find(performanceId).stock());
+    }
+
+    private PerformanceResponse find(Long performanceId) {
+        return performanceService.findAll().stream()
+            .filter(response -> response.id().equals(performanceId))
+            .findFirst()
+            .orElseThrow();
+    }
+
+}
@@ -103,7 +103,7 @@ class PerformanceServiceTest {
         for (int i = 0; i < threadCount; i++) {
             executorService.submit(() -> {
                 try {
-                    performanceService.purchase(performanceId, 1, " ");
+                    performanceService.purchaseWithPessimisticLock(performanceId, 1, " ");
                 } finally {
                     latch.countDown();
                 }
@@ -0,0 +1,105 @@
+package com.zrp.toyproject01.domain.performance;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import com.zrp.toyproject01.domain.account.dao.RefreshTokenRepository;
+import com.zrp.toyproject01.domain.account.dao.UserRepository;
+import com.zrp.toyproject01.domain.account.domain.User;
+import com.zrp.toyproject01.domain.performance.application.PendingPurchase;
+import com.zrp.toyproject01.domain.performance.application.PerformanceService;
+import com.zrp.toyproject01.domain.performance.application.PurchaseBatchWriter;
+import com.zrp.toyproject01.domain.performance.dao.PerformanceRepository;
+import com.zrp.toyproject01.domain.performance.dto.PerformanceRegisterRequest;
+import com.zrp.toyproject01.domain.post.dao.PostRepository;
+import com.zrp.toyproject01.domain.reservation.dao.ReservationRepository;
+import com.zrp.toyproject01.global.error.BusinessException;
+import com.zrp.toyproject01.global.error.ErrorCode;
+
+@SpringBootTest
+class PurchaseBatchWriterTest {
+
+    private static final Long UNKNOWN_USER_ID = Long.MAX_VALUE;
+
+    @Autowired private PurchaseBatchWriter purchaseBatchWriter;
+    @Autowired private PerformanceService performanceService;
+    @Autowired private PerformanceRepository performanceRepository;
+    @Autowired private UserRepository userRepository;
+    @Autowired private ReservationRepository reservationRepository;
+    @Autowired private PostRepository postRepository;
+    @Autowired private RefreshTokenRepository refreshTokenRepository;
+    @Autowired private StringRedisTemplate redisTemplate;
+
+    @BeforeEach
+    void cleanUp() {
+        redisTemplate.getConnectionFactory().getConnection().serverCommands().flushAll();
+
+        refreshTokenRepository.deleteAll();
+        reservationRepository.deleteAll();
+        postRepository.deleteAll();
+        performanceRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("배치 예매: 없는 유저가 섞여 있어도 그 요청만 실패하고 나머지는 커밋된다")
+    void apply_skips_unknown_user_test() {
+        // 1. Given: 재고 10 + 있는 유저 2명, 없는 유저 1명
+        Long performanceId = performanceService.register(new PerformanceRegisterRequest("배치 공연", 50000, 10));
+        Long first = userRepository.save(User.create("batch1@test.com", "1234", "batch1")).getId();
+        Long second = userRepository.save(User.create("batch2@test.com", "1234", "batch2")).getId();
+        List<PendingPurchase> batch = List.of(pending(first), pending(UNKNOWN_USER_ID), pending(second));
+
+        // 2. When
+        List<Boolean> results = purchaseBatchWriter.apply(performanceId, batch);
+
+        // 3. Then: 2건만 기록, 없는 유저는 USER_NOT_FOUND
+        assertEquals(true, results.get(0));
+        assertEquals(true, results.get(2));
+        assertUserNotFound(batch.get(1).result());
+        assertEquals(2, reservationRepository.count());
+        assertEquals(8, performanceRepository.findById(performanceId).orElseThrow().getStock());
+    }
+
+    @Test
+    @DisplayName("배치 기록: 미리 판정된 배치에 없는 유저가 섞여 있어도 그 요청만 빼고 기록한다")
+    void write_skips_unknown_user_test() {
+        // 1. Given
+        Long performanceId = performanceService.register(new PerformanceRegisterRequest("기록 공연", 50000, 10));
+        Long userId = userRepository.save(User.create("write1@test.com", "1234", "write1")).getId();
+        List<PendingPurchase> batch = List.of(pending(UNKNOWN_USER_ID), pending(userId));
+
+        // 2. When
+        int remain = purchaseBatchWriter.write(performanceId, batch);
+
+        // 3. Then: 1건만 기록 (남은 재고 9 -> 호출한 쪽이 메모리 재고를 이 값으로 맞춤)
+        assertEquals(9, remain);
+        assertUserNotFound(batch.get(0).result());
+        assertEquals(1, reservationRepository.count());
+    }
+
+    private static PendingPurchase pending(Long userId) {
+        return new PendingPurchase(userId, 1, new CompletableFuture<>());
+    }
+
+    private static void assertUserNotFound(CompletableFuture<Boolean> result) {
+        assertTrue(result.isCompletedExceptionally());
+        ExecutionException exception = assertThrows(ExecutionException.class, result::get);
+        BusinessException cause = assertInstanceOf(BusinessException.class, exception.getCause());
+        assertEquals(ErrorCode.USER_NOT_FOUND, cause.getErrorCode());
+    }
+
+}
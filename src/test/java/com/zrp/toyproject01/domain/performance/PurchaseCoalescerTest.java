@@ -0,0 +1,143 @@
+package com.zrp.toyproject01.domain.performance;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiFunction;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.zrp.toyproject01.domain.performance.application.PendingPurchase;
+import com.zrp.toyproject01.domain.performance.application.PurchaseBatchWriter;
+import com.zrp.toyproject01.domain.performance.application.PurchaseCoalescer;
+
+// DB 없이 배치 묶음 / 실패 전파 / 공연 간 공정성만 확인 (writer는 가짜)
+class PurchaseCoalescerTest {
+
+    private PurchaseCoalescer purchaseCoalescer;
+
+    @AfterEach
+    void shutdown() {
+        if (purchaseCoalescer != null) {
+            purchaseCoalescer.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("코얼레서: 같은 공연 요청은 batch-size 이하의 배치로 묶여서 처리되고 모두 응답받는다")
+    void batching_test() throws Exception {
+        // 1. Given: batch-size 10, 첫 배치는 나머지 요청이 다 쌓일 때까지 붙잡아 둠
+        CountDownLatch release = new CountDownLatch(1);
+        List<Integer> batchSizes = Collections.synchronizedList(new ArrayList<>());
+        purchaseCoalescer = coalescer(10, 50, 1, (performanceId, batch) -> {
+            if (batchSizes.isEmpty()) {
+                await(release);
+            }
+            batchSizes.add(batch.size());
+            return Collections.nCopies(batch.size(), true);
+        });
+
+        // 2. When: 25건 (10건이 차는 순간 첫 배치 시작)
+        List<CompletableFuture<Boolean>> results = new ArrayList<>();
+        for (int i = 0; i < 25; i++) {
+            results.add(purchaseCoalescer.submit(1L, 1, (long) i));
+        }
+        release.countDown();
+
+        // 3. Then: 25건 모두 성공, 배치는 10 / 10 / 5
+        for (CompletableFuture<Boolean> result : results) {
+            assertTrue(result.get(1, TimeUnit.SECONDS));
+        }
+        assertEquals(List.of(10, 10, 5), batchSizes);
+    }
+
+    @Test
+    @DisplayName("코얼레서: 배치가 실패하면 그 배치의 모든 요청이 같은 예외로 끝난다")
+    void failure_propagation_test() throws Exception {
+        // 1. Given: 항상 실패하는 writer
+        RuntimeException failure = new IllegalStateException("DB 장애");
+        purchaseCoalescer = coalescer(10, 20, 1, (performanceId, batch) -> {
+            throw failure;
+        });
+
+        // 2. When
+        List<CompletableFuture<Boolean>> results = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            results.add(purchaseCoalescer.submit(1L, 1, (long) i));
+        }
+
+        // 3. Then
+        for (CompletableFuture<Boolean> result : results) {
+            ExecutionException exception = assertThrows(ExecutionException.class, () -> result.get(1, TimeUnit.SECONDS));
+            assertSame(failure, exception.getCause());
+        }
+    }
+
+    @Test
+    @DisplayName("코얼레서: 요청이 몰린 공연이 있어도 다른 공연 배치가 그 뒤에 밀리지 않는다")
+    void fairness_between_lanes_test() throws Exception {
+        // 1. Given: 스레드 1개, 첫 배치는 요청이 다 쌓일 때까지 붙잡아 둠
+        CountDownLatch release = new CountDownLatch(1);
+        List<Long> order = Collections.synchronizedList(new ArrayList<>());
+        purchaseCoalescer = coalescer(5, 1, 1, (performanceId, batch) -> {
+            if (order.isEmpty()) {
+                await(release);
+            }
+            order.add(performanceId);
+            return Collections.nCopies(batch.size(), true);
+        });
+
+        CompletableFuture<Boolean> first = purchaseCoalescer.submit(1L, 1, 0L);
+        Thread.sleep(50); // 첫 배치가 writer 안에서 대기
+
+        // 2. When: 인기 공연 50건 + 다른 공연 1건
+        List<CompletableFuture<Boolean>> hot = new ArrayList<>();
+        for (int i = 1; i <= 50; i++) {
+            hot.add(purchaseCoalescer.submit(1L, 1, (long) i));
+        }
+        CompletableFuture<Boolean> cold = purchaseCoalescer.submit(2L, 1, 100L);
+        Thread.sleep(50); // 두 공연 모두 처리 대기 줄에 올라감
+        release.countDown();
+
+        // 3. Then: 다른 공연은 인기 공연 배치 10개를 다 기다리지 않고 두 번째로 처리됨
+        assertTrue(first.get(1, TimeUnit.SECONDS));
+        assertTrue(cold.get(1, TimeUnit.SECONDS));
+        for (CompletableFuture<Boolean> result : hot) {
+            assertTrue(result.get(1, TimeUnit.SECONDS));
+        }
+        assertEquals(2L, order.get(1));
+    }
+
+    private static PurchaseCoalescer coalescer(
+        int batchSize, long windowMillis, int threads,
+        BiFunction<Long, List<PendingPurchase>, List<Boolean>> writer
+    ) {
+        PurchaseBatchWriter fakeWriter = new PurchaseBatchWriter(null, null, null) {
+            @Override
+            public List<Boolean> apply(Long performanceId, List<PendingPurchase> batch) {
+                return writer.apply(performanceId, batch);
+            }
+        };
+        return new PurchaseCoalescer(fakeWriter, batchSize, windowMillis, threads);
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+}
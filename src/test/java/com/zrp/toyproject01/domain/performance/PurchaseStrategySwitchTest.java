@@ -0,0 +1,149 @@
+package com.zrp.toyproject01.domain.performance;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import com.zrp.toyproject01.domain.account.dao.RefreshTokenRepository;
+import com.zrp.toyproject01.domain.account.dao.UserRepository;
+import com.zrp.toyproject01.domain.account.domain.User;
+import com.zrp.toyproject01.domain.performance.application.PerformancePurchaseFacade;
+import com.zrp.toyproject01.domain.performance.application.PerformanceService;
+import com.zrp.toyproject01.domain.performance.application.RedisStockService;
+import com.zrp.toyproject01.domain.performance.application.strategy.PurchaseStrategyRegistry;
+import com.zrp.toyproject01.domain.performance.dao.PerformanceRepository;
+import com.zrp.toyproject01.domain.performance.domain.PurchaseStrategyType;
+import com.zrp.toyproject01.domain.performance.dto.PerformanceRegisterRequest;
+import com.zrp.toyproject01.domain.post.dao.PostRepository;
+import com.zrp.toyproject01.domain.reservation.dao.ReservationRepository;
+import com.zrp.toyproject01.global.error.BusinessException;
+import com.zrp.toyproject01.global.error.ErrorCode;
+
+// 방식 변경 / 취소 때 방식별 재고 카운터(Redis 재고, 단일 작성자 메모리 재고)가 DB 재고와 어긋나지 않는지
+@SpringBootTest
+class PurchaseStrategySwitchTest {
+
+    @Autowired private PerformanceService performanceService;
+    @Autowired private PerformancePurchaseFacade performancePurchaseFacade;
+    @Autowired private PurchaseStrategyRegistry purchaseStrategyRegistry;
+    @Autowired private RedisStockService redisStockService;
+    @Autowired private PerformanceRepository performanceRepository;
+    @Autowired private UserRepository userRepository;
+    @Autowired private ReservationRepository reservationRepository;
+    @Autowired private PostRepository postRepository;
+    @Autowired private RefreshTokenRepository refreshTokenRepository;
+    @Autowired private StringRedisTemplate redisTemplate;
+
+    private Long userId;
+
+    @BeforeEach
+    void cleanUp() {
+        // 이 테스트가 쓰는 키만 (Redis 재고 / 구매자 / DB 반영 상태 / 매진 간판)
+        deleteKeys("stock:*", "stock_buyers:*", "purchase_write:*", "sold_out:*", "sold_out_version:*");
+
+        refreshTokenRepository.deleteAll();
+        reservationRepository.deleteAll();
+        postRepository.deleteAll();
+        performanceRepository.deleteAll();
+        userRepository.deleteAll();
+
+        userId = userRepository.save(User.create("switch@test.com", "1234", "switch")).getId();
+    }
+
+    @Test
+    @DisplayName("방식 변경: 락 없음 -> 조건부 UPDATE -> 락 없음으로 돌아오면 Redis 재고를 지금 DB 재고로 다시 채운다")
+    void lock_free_reseeded_after_switch_back_test() throws InterruptedException {
+        // 1. Given: 재고 10개, 락 없음으로 2개 판매 (Redis 8, DB 반영 후 8)
+        Long performanceId = performanceService.register(new PerformanceRegisterRequest("전환 공연", 50000, 10));
+        performancePurchaseFacade.changePurchaseStrategy(performanceId, PurchaseStrategyType.LOCK_FREE);
+        purchase(performanceId, PurchaseStrategyType.LOCK_FREE, 2);
+        waitForReservations(1);
+
+        // 2. When: 조건부 UPDATE로 바꿔서 3개 판매 (DB 5)
+        performancePurchaseFacade.changePurchaseStrategy(performanceId, PurchaseStrategyType.CONDITIONAL_UPDATE);
+        assertNull(redisStockService.getStock(performanceId)); // 이전 방식의 카운터는 버림
+        purchase(performanceId, PurchaseStrategyType.CONDITIONAL_UPDATE, 3);
+
+        // 3. Then: 다시 락 없음 -> 옛 값 8이 아니라 DB 재고 5에서 1개 뺀 4
+        performancePurchaseFacade.changePurchaseStrategy(performanceId, PurchaseStrategyType.LOCK_FREE);
+        purchase(performanceId, PurchaseStrategyType.LOCK_FREE, 1);
+        assertEquals(4, redisStockService.getStock(performanceId));
+
+        waitForReservations(3);
+        assertEquals(4, performanceRepository.findById(performanceId).orElseThrow().getStock());
+    }
+
+    @Test
+    @DisplayName("취소: 락 없음 공연의 예약을 취소하면 DB 재고와 Redis 재고가 같이 돌아온다")
+    void lock_free_cancel_restores_counter_test() throws InterruptedException {
+        // 1. Given: 재고 1개를 락 없음으로 판매
+        Long performanceId = performanceService.register(new PerformanceRegisterRequest("취소 공연", 50000, 1));
+        performancePurchaseFacade.changePurchaseStrategy(performanceId, PurchaseStrategyType.LOCK_FREE);
+        purchase(performanceId, PurchaseStrategyType.LOCK_FREE, 1);
+        waitForReservations(1);
+        assertEquals(0, redisStockService.getStock(performanceId));
+
+        // 2. When
+        performancePurchaseFacade.cancel(reservationRepository.findAll().get(0).getId(), userId);
+
+        // 3. Then
+        assertEquals(1, redisStockService.getStock(performanceId));
+        assertEquals(1, performanceRepository.findById(performanceId).orElseThrow().getStock());
+    }
+
+    @Test
+    @DisplayName("취소: 단일 작성자 공연의 예약을 취소하면 처리기가 DB 재고를 다시 읽어서 취소된 표를 다시 판다")
+    void single_writer_cancel_reloads_stock_test() {
+        // 1. Given: 재고 1개를 단일 작성자로 판매 -> 다음 요청은 매진
+        Long performanceId = performanceService.register(new PerformanceRegisterRequest("단일 공연", 50000, 1));
+        performancePurchaseFacade.changePurchaseStrategy(performanceId, PurchaseStrategyType.SINGLE_WRITER);
+        purchase(performanceId, PurchaseStrategyType.SINGLE_WRITER, 1);
+
+        BusinessException soldOut = assertThrows(BusinessException.class,
+            () -> purchase(performanceId, PurchaseStrategyType.SINGLE_WRITER, 1));
+        assertEquals(ErrorCode.PERFORMANCE_SOLD_OUT, soldOut.getErrorCode());
+
+        // 2. When: 취소
+        performancePurchaseFacade.cancel(reservationRepository.findAll().get(0).getId(), userId);
+
+        // 3. Then: 취소된 1장을 다시 살 수 있음
+        purchase(performanceId, PurchaseStrategyType.SINGLE_WRITER, 1);
+        assertEquals(0, performanceRepository.findById(performanceId).orElseThrow().getStock());
+    }
+
+    private void purchase(Long performanceId, PurchaseStrategyType type, int quantity) {
+        assertTrue(purchaseStrategyRegistry.get(type).purchase(performanceId, quantity, userId));
+    }
+
+    // 락 없음은 DB 반영이 비동기라서 예약이 다 쌓일 때까지 기다림
+    private void waitForReservations(long expected) throws InterruptedException {
+        long startTime = System.currentTimeMillis();
+
+        while (reservationRepository.count() < expected) {
+            if (System.currentTimeMillis() - startTime > 10000) {
+                throw new RuntimeException("시간 초과: 10초가 지나도 예약이 DB에 반영되지 않았습니다.");
+            }
+            Thread.sleep(100);
+        }
+    }
+
+    private void deleteKeys(String... patterns) {
+        for (String pattern : patterns) {
+            Set<String> keys = redisTemplate.keys(pattern);
+            if (keys != null && !keys.isEmpty()) {
+                redisTemplate.delete(keys);
+            }
+        }
+    }
+
+}
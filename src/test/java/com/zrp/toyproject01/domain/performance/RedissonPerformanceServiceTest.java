@@ -354,7 +354,7 @@ class RedissonPerformanceServiceTest {
         // assertFalse(purchaseResult); // 구매 실패 (대기열 진입)
         
         // // 하이에나가 대기열(Waiting Queue)에 있는지 확인
-        // Long rank = queueService.getRank("hyena@test.com");
+        // Long rank = queueService.getPosition(performanceId, "hyena@test.com");
         // assertNotNull(rank);
         // System.out.println("✅ 2. 하이에나 대기열 진입 확인 (순번: " + rank + ")");
 
@@ -363,7 +363,7 @@ class RedissonPerformanceServiceTest {
         queueScheduler.enterUserForTest(performanceId); 
         
         // // 여전히 대기열에 있어야 함 (입장 못함)
-        // assertFalse(queueService.isAllowed("hyena@test.com"));
+        // assertFalse(queueService.isAllowed(performanceId, "hyena@test.com"));
         // System.out.println("✅ 3. 매진 중 스케줄러 작동 안 함 확인 (하이에나 여전히 대기 중)");
 
         // 4. [이벤트] 승리자가 예약을 취소함!
@@ -379,7 +379,7 @@ class RedissonPerformanceServiceTest {
         queueScheduler.enterUserForTest(performanceId); 
         
         // 검증 5: 하이에나가 입장열(Active Queue)로 이동했는지
-        assertTrue(queueService.isAllowed("hyena@test.com"));
+        assertTrue(queueService.isAllowed(performanceId, "hyena@test.com"));
         System.out.println("✅ 5. 스케줄러가 하이에나를 입장시킴");
 
         // 6. [이삭줍기] 하이에나가 다시 구매 시도 -> 성공해야 함
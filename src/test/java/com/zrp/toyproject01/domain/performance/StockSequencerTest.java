@@ -0,0 +1,202 @@
+package com.zrp.toyproject01.domain.performance;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.zrp.toyproject01.domain.account.dao.RefreshTokenRepository;
+import com.zrp.toyproject01.domain.account.dao.UserRepository;
+import com.zrp.toyproject01.domain.account.domain.User;
+import com.zrp.toyproject01.domain.performance.application.PerformanceService;
+import com.zrp.toyproject01.domain.performance.application.StockSequencer;
+import com.zrp.toyproject01.domain.performance.application.strategy.PurchaseStrategy;
+import com.zrp.toyproject01.domain.performance.application.strategy.PurchaseStrategyRegistry;
+import com.zrp.toyproject01.domain.performance.dao.PerformanceRepository;
+import com.zrp.toyproject01.domain.performance.domain.Performance;
+import com.zrp.toyproject01.domain.performance.domain.PurchaseStrategyType;
+import com.zrp.toyproject01.domain.performance.dto.PerformanceRegisterRequest;
+import com.zrp.toyproject01.domain.post.dao.PostRepository;
+import com.zrp.toyproject01.domain.reservation.dao.ReservationRepository;
+import com.zrp.toyproject01.global.error.BusinessException;
+
+// 거절 전 DB 재고 다시 읽기 간격을 줄여서 바로 확인
+@SpringBootTest(properties = "performance.sequencer.sold-out-reload-millis=200")
+class StockSequencerTest {
+
+    @Autowired private PerformanceService performanceService;
+    @Autowired private PerformanceRepository performanceRepository;
+    @Autowired private UserRepository userRepository;
+    @Autowired private ReservationRepository reservationRepository;
+    @Autowired private PostRepository postRepository;
+    @Autowired private RefreshTokenRepository refreshTokenRepository;
+    @Autowired private StockSequencer stockSequencer;
+    @Autowired private PurchaseStrategyRegistry purchaseStrategyRegistry;
+    @Autowired private StringRedisTemplate redisTemplate;
+    @Autowired private TransactionTemplate transactionTemplate;
+
+    @BeforeEach
+    void cleanUp() {
+        // 이 테스트가 쓰는 키만 (배치 기록이 거는 매진 간판)
+        deleteKeys("sold_out:*", "sold_out_version:*");
+
+        refreshTokenRepository.deleteAll();
+        reservationRepository.deleteAll();
+        postRepository.deleteAll();
+        performanceRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("단일 작성자: 150명이 재고 100개에 몰려도 절대 초과 판매되지 않는다")
+    void single_writer_never_oversell_test() throws InterruptedException {
+        // 1. Given: 공연 (재고 100) + 유저 150명
+        int initialStock = 100;
+        int totalParticipants = 150;
+
+        Long performanceId = performanceService.register(
+            new PerformanceRegisterRequest("취소표 대전", 50000, initialStock)
+        );
+        List<Long> userIds = createUsers("writer", totalParticipants);
+
+        // 2. When: 150명이 동시에 요청
+        AtomicInteger successCount = new AtomicInteger(0);
+        AtomicInteger soldOutCount = new AtomicInteger(0);
+        runConcurrently(performanceId, userIds, successCount, soldOutCount);
+
+        // 3. Then: 정확히 100명만 성공 (응답은 커밋 후에 오므로 바로 확인 가능)
+        Performance performance = performanceRepository.findById(performanceId).orElseThrow();
+
+        System.out.println("=========================================");
+        System.out.println("구매 성공: " + successCount.get());
+        System.out.println("매진 실패: " + soldOutCount.get());
+        System.out.println("DB 재고: " + performance.getStock());
+        System.out.println("=========================================");
+
+        assertEquals(initialStock, successCount.get());
+        assertEquals(totalParticipants - initialStock, soldOutCount.get());
+        assertEquals(0, performance.getStock());
+        assertEquals(initialStock, reservationRepository.count());
+
+        stockSequencer.stop(performanceId);
+    }
+
+    @Test
+    @DisplayName("단일 작성자: 처리기를 재시작하면 DB 재고에서 이어서 판매한다")
+    void single_writer_recover_from_db_test() throws InterruptedException {
+        // 1. Given: 공연 (재고 50) + 유저 80명
+        Long performanceId = performanceService.register(
+            new PerformanceRegisterRequest("재시작 공연", 30000, 50)
+        );
+        List<Long> userIds = createUsers("restart", 80);
+
+        // 2. When: 30명이 사고 나서 처리기 재시작 (메모리 재고는 사라짐)
+        AtomicInteger firstSuccess = new AtomicInteger(0);
+        AtomicInteger firstSoldOut = new AtomicInteger(0);
+        runConcurrently(performanceId, userIds.subList(0, 30), firstSuccess, firstSoldOut);
+
+        stockSequencer.stop(performanceId);
+
+        // 재시작 후 남은 50명이 몰림
+        AtomicInteger secondSuccess = new AtomicInteger(0);
+        AtomicInteger secondSoldOut = new AtomicInteger(0);
+        runConcurrently(performanceId, userIds.subList(30, 80), secondSuccess, secondSoldOut);
+
+        // 3. Then: 재시작 전 30개 + 재시작 후 DB에 남아있던 20개만 판매
+        Performance performance = performanceRepository.findById(performanceId).orElseThrow();
+
+        assertEquals(30, firstSuccess.get());
+        assertEquals(20, secondSuccess.get());
+        assertEquals(30, secondSoldOut.get());
+        assertEquals(0, performance.getStock());
+        assertEquals(50, reservationRepository.count());
+
+        stockSequencer.stop(performanceId);
+    }
+
+    @Test
+    @DisplayName("단일 작성자: 메모리 재고가 0이어도 거절하기 전에 DB 재고를 다시 읽어서, 다른 경로로 돌아온 재고를 판다")
+    void reload_before_refusing_test() throws InterruptedException {
+        // 1. Given: 재고 1개를 다 판매
+        Long performanceId = performanceService.register(
+            new PerformanceRegisterRequest("다시 읽기 공연", 30000, 1)
+        );
+        List<Long> userIds = createUsers("reload", 2);
+        PurchaseStrategy strategy = purchaseStrategyRegistry.get(PurchaseStrategyType.SINGLE_WRITER);
+        assertTrue(strategy.purchase(performanceId, 1, userIds.get(0)));
+
+        // 2. When: 처리기를 거치지 않고 DB 재고만 1개 돌아옴 (다른 서버에서 취소 / 점유 만료 등)
+        transactionTemplate.executeWithoutResult(status -> performanceRepository.increaseStock(performanceId, 1));
+        Thread.sleep(300); // 다시 읽기 간격 지남
+
+        // 3. Then: 메모리 재고 0으로 거절하지 않고 DB를 다시 읽어서 판매
+        assertTrue(strategy.purchase(performanceId, 1, userIds.get(1)));
+        assertEquals(0, performanceRepository.findById(performanceId).orElseThrow().getStock());
+        assertEquals(2, reservationRepository.count());
+
+        // 4. Then: 정말 없으면 그대로 매진
+        assertThrows(BusinessException.class, () -> strategy.purchase(performanceId, 1, userIds.get(1)));
+
+        stockSequencer.stop(performanceId);
+    }
+
+    private List<Long> createUsers(String prefix, int count) {
+        List<Long> userIds = new ArrayList<>(count);
+        for (int i = 1; i <= count; i++) {
+            User user = userRepository.save(User.create(prefix + i + "@test.com", "1234", prefix + i));
+            userIds.add(user.getId());
+        }
+        return userIds;
+    }
+
+    private void runConcurrently(
+        Long performanceId, List<Long> userIds,
+        AtomicInteger successCount, AtomicInteger soldOutCount
+    ) throws InterruptedException {
+        PurchaseStrategy strategy = purchaseStrategyRegistry.get(PurchaseStrategyType.SINGLE_WRITER);
+        ExecutorService executorService = Executors.newFixedThreadPool(32);
+        CountDownLatch latch = new CountDownLatch(userIds.size());
+
+        for (Long userId : userIds) {
+            executorService.submit(() -> {
+                try {
+                    if (strategy.purchase(performanceId, 1, userId)) {
+                        successCount.incrementAndGet();
+                    }
+                } catch (BusinessException e) {
+                    soldOutCount.incrementAndGet();
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+
+        latch.await();
+        executorService.shutdown();
+    }
+
+    private void deleteKeys(String... patterns) {
+        for (String pattern : patterns) {
+            Set<String> keys = redisTemplate.keys(pattern);
+            if (keys != null && !keys.isEmpty()) {
+                redisTemplate.delete(keys);
+            }
+        }
+    }
+
+}
@@ -0,0 +1,199 @@
+package com.zrp.toyproject01.domain.post;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.zrp.toyproject01.domain.account.dao.RefreshTokenRepository;
+import com.zrp.toyproject01.domain.account.dao.UserRepository;
+import com.zrp.toyproject01.domain.account.domain.User;
+import com.zrp.toyproject01.domain.performance.dao.PerformanceRepository;
+import com.zrp.toyproject01.domain.post.application.PostCacheService;
+import com.zrp.toyproject01.domain.post.application.PostService;
+import com.zrp.toyproject01.domain.post.dao.PostRepository;
+import com.zrp.toyproject01.domain.post.dto.PostResponse;
+import com.zrp.toyproject01.domain.post.dto.PostSaveRequest;
+import com.zrp.toyproject01.domain.post.dto.PostUpdateRequest;
+import com.zrp.toyproject01.domain.reservation.dao.ReservationRepository;
+import com.zrp.toyproject01.global.error.BusinessException;
+import com.zrp.toyproject01.global.error.ErrorCode;
+
+// 첫 페이지를 2개로 줄이고, 두 번째 삭제를 0.2초 뒤로 당겨서 확인
+@SpringBootTest(properties = {
+    "post.cache.first-page-size=2",
+    "post.cache.second-evict-millis=200"
+})
+class PostCacheTest {
+
+    @Autowired private PostService postService;
+    @Autowired private PostRepository postRepository;
+    @Autowired private UserRepository userRepository;
+    @Autowired private ReservationRepository reservationRepository;
+    @Autowired private PerformanceRepository performanceRepository;
+    @Autowired private RefreshTokenRepository refreshTokenRepository;
+    @Autowired private TransactionTemplate transactionTemplate;
+    @Autowired private StringRedisTemplate redisTemplate;
+    @Autowired private CacheManager cacheManager;
+
+    private Long userId;
+
+    @BeforeEach
+    void cleanUp() {
+        redisTemplate.getConnectionFactory().getConnection().serverCommands().flushAll();
+
+        refreshTokenRepository.deleteAll();
+        reservationRepository.deleteAll();
+        postRepository.deleteAll();
+        performanceRepository.deleteAll();
+        userRepository.deleteAll();
+
+        userId = userRepository.save(User.create("writer@test.com", "password", "작성자")).getId();
+    }
+
+    @Test
+    @DisplayName("게시글 조회: 한 번 읽은 게시글은 DB에서 지워져도 캐시에서 돌려준다 (조회당 DB 0번)")
+    void read_through_test() {
+        // 1. Given: 게시글 작성 + 1번 조회 (캐시됨)
+        Long postId = postService.save(new PostSaveRequest("제목", "본문"), userId);
+        assertEquals("제목", postService.findById(postId).title());
+
+        // 2. When: 서비스를 거치지 않고 DB에서 직접 삭제
+        postRepository.deleteById(postId);
+
+        // 3. Then: 캐시에서 그대로 나옴
+        PostResponse response = postService.findById(postId);
+        assertEquals("본문", response.content());
+        assertEquals("작성자", response.author());
+    }
+
+    @Test
+    @DisplayName("게시글 수정: 커밋되면 캐시를 지워서 다음 조회부터 새 내용이 보인다")
+    void update_evicts_after_commit_test() {
+        // 1. Given: 조회해서 캐시됨
+        Long postId = postService.save(new PostSaveRequest("이전 제목", "이전 본문"), userId);
+        postService.findById(postId);
+        postService.findPage(0);
+
+        // 2. When
+        postService.update(postId, new PostUpdateRequest("새 제목", "새 본문"), userId);
+
+        // 3. Then: 단건 / 목록 모두 새 내용
+        assertEquals("새 제목", postService.findById(postId).title());
+        assertEquals("새 본문", postService.findPage(0).get(0).content());
+    }
+
+    @Test
+    @DisplayName("게시글 수정: 트랜잭션이 롤백되면 캐시를 지우지 않는다")
+    void rollback_keeps_cache_test() {
+        // 1. Given: 조회해서 캐시됨
+        Long postId = postService.save(new PostSaveRequest("제목", "본문"), userId);
+        postService.findById(postId);
+
+        // 2. When: 수정했지만 롤백 + DB에서 직접 지움 (캐시를 지웠다면 다음 조회는 없는 게시글)
+        transactionTemplate.executeWithoutResult(status -> {
+            postService.update(postId, new PostUpdateRequest("롤백될 제목", "롤백될 본문"), userId);
+            status.setRollbackOnly();
+        });
+        postRepository.deleteById(postId);
+
+        // 3. Then: 캐시에 있던 값 그대로
+        assertEquals("제목", postService.findById(postId).title());
+    }
+
+    @Test
+    @DisplayName("게시글 작성: 토큰의 유저가 DB에 없으면 500이 아니라 USER_NOT_FOUND")
+    void save_unknown_user_test() {
+        BusinessException exception = assertThrows(BusinessException.class,
+            () -> postService.save(new PostSaveRequest("제목", "본문"), Long.MAX_VALUE));
+
+        assertEquals(ErrorCode.USER_NOT_FOUND, exception.getErrorCode());
+        assertEquals(0, postRepository.count());
+    }
+
+    @Test
+    @DisplayName("게시글 목록: 작성 / 삭제가 커밋되면 목록 캐시를 지워서 바로 반영된다")
+    void list_evicts_after_commit_test() {
+        // 1. Given: 게시글 1개 + 목록 캐시됨
+        Long firstId = postService.save(new PostSaveRequest("첫 글", "본문"), userId);
+        assertEquals(1, postService.findPage(0).size());
+
+        // 2. When: 1개 더 작성
+        Long secondId = postService.save(new PostSaveRequest("두 번째 글", "본문"), userId);
+
+        // 3. Then: 최신순 2개
+        List<PostResponse> posts = postService.findPage(0);
+        assertEquals(List.of(secondId, firstId), posts.stream().map(PostResponse::id).toList());
+
+        // 4. When / Then: 삭제하면 목록 / 단건 모두 사라짐
+        postService.delete(secondId, userId);
+        assertEquals(List.of(firstId), postService.findPage(0).stream().map(PostResponse::id).toList());
+        assertThrows(BusinessException.class, () -> postService.findById(secondId));
+    }
+
+    @Test
+    @DisplayName("게시글 목록: 첫 페이지 크기만큼만 최신순으로 읽는다")
+    void first_page_size_test() {
+        // 1. Given: 게시글 3개
+        postService.save(new PostSaveRequest("첫 글", "본문"), userId);
+        Long secondId = postService.save(new PostSaveRequest("두 번째 글", "본문"), userId);
+        Long thirdId = postService.save(new PostSaveRequest("세 번째 글", "본문"), userId);
+
+        // 2. When
+        List<PostResponse> posts = postService.findPage(0);
+
+        // 3. Then: 최신 2개만
+        assertEquals(List.of(thirdId, secondId), posts.stream().map(PostResponse::id).toList());
+    }
+
+    @Test
+    @DisplayName("게시글 목록: 다음 페이지는 같은 크기로 DB에서 읽어서 첫 페이지 뒤의 게시글도 볼 수 있다")
+    void next_page_test() {
+        // 1. Given: 게시글 3개 (페이지 크기 2)
+        Long firstId = postService.save(new PostSaveRequest("첫 글", "본문"), userId);
+        postService.save(new PostSaveRequest("두 번째 글", "본문"), userId);
+        postService.save(new PostSaveRequest("세 번째 글", "본문"), userId);
+        postService.findPage(0);
+
+        // 2. When / Then: 두 번째 페이지는 남은 1개, 그 뒤는 빈 목록
+        assertEquals(List.of(firstId), postService.findPage(1).stream().map(PostResponse::id).toList());
+        assertEquals(List.of(), postService.findPage(2));
+
+        // 3. When / Then: 음수 페이지는 잘못된 요청
+        BusinessException exception = assertThrows(BusinessException.class, () -> postService.findPage(-1));
+        assertEquals(ErrorCode.INVALID_INPUT_VALUE, exception.getErrorCode());
+    }
+
+    @Test
+    @DisplayName("게시글 수정: 커밋 후 삭제보다 늦게 들어온 이전 값도 잠시 뒤에 다시 지운다")
+    void stale_write_back_evicted_test() throws InterruptedException {
+        // 1. Given: 수정 커밋
+        Long postId = postService.save(new PostSaveRequest("이전 제목", "이전 본문"), userId);
+        postService.update(postId, new PostUpdateRequest("새 제목", "새 본문"), userId);
+
+        // 2. When: 커밋 전에 DB를 읽은 조회가 첫 번째 삭제 뒤에 이전 값을 넣음
+        cacheManager.getCache(PostCacheService.CACHE_NAME)
+            .put(postId, new PostResponse(postId, "이전 제목", "이전 본문", "작성자", LocalDateTime.now()));
+        assertEquals("이전 제목", postService.findById(postId).title());
+
+        // 3. Then: 두 번째 삭제(0.2초) 뒤에는 새 내용
+        long startTime = System.currentTimeMillis();
+        while (!"새 제목".equals(postService.findById(postId).title())) {
+            if (System.currentTimeMillis() - startTime > 1000) {
+                throw new RuntimeException("시간 초과: 1초 안에 이전 값이 지워지지 않았습니다.");
+            }
+            Thread.sleep(20);
+        }
+    }
+
+}
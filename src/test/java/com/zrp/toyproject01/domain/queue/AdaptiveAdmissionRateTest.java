@@ -0,0 +1,121 @@
+package com.zrp.toyproject01.domain.queue;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import com.zrp.toyproject01.domain.queue.application.AdaptiveAdmissionRate;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+// 스케줄러가 중간에 adjust()를 부르지 않도록 자동 실행은 꺼둠 (1시간 뒤 시작)
+@SpringBootTest(properties = {
+    "queue.scheduler.initial-delay-millis=3600000",
+    "queue.admission.initial-rate=100",
+    "queue.admission.min-rate=10",
+    "queue.admission.increase-step=10",
+    "queue.admission.target-latency-millis=100"
+})
+class AdaptiveAdmissionRateTest {
+
+    @Autowired private AdaptiveAdmissionRate admissionRate;
+    @Autowired private MeterRegistry meterRegistry;
+    @Autowired private StringRedisTemplate redisTemplate;
+    @Autowired private ObjectProvider<DataSource> dataSourceProvider;
+
+    @BeforeEach
+    void cleanUp() {
+        redisTemplate.getConnectionFactory().getConnection().serverCommands().flushAll();
+    }
+
+    @Test
+    @DisplayName("입장 속도: 여유 있으면 조금씩 올리고, 느려지거나 락 실패가 늘면 절반으로 줄인다")
+    void aimd_test() {
+        // 1초 창 기준
+        admissionRate.publish(); // 이전 신호 비우기
+        double rate = admissionRate.adjust(1000);
+
+        // 1. 빠른 예매만 있었으면 +10
+        admissionRate.recordPurchase(10_000_000L); // 10ms
+        admissionRate.publish();
+        assertEquals(rate + 10, admissionRate.adjust(1000));
+
+        // 2. 예매가 없던 틱은 그대로
+        admissionRate.publish();
+        assertEquals(rate + 10, admissionRate.adjust(1000));
+
+        // 3. 응답이 목표(100ms)보다 느리면 절반
+        admissionRate.recordPurchase(500_000_000L); // 500ms
+        admissionRate.publish();
+        assertEquals((rate + 10) / 2, admissionRate.adjust(1000));
+
+        // 4. 락 실패가 많으면 절반 (최소 10 아래로는 안 내려감)
+        for (int i = 0; i < 10; i++) {
+            admissionRate.recordPurchase(10_000_000L);
+            admissionRate.recordLockAttempt(false);
+            admissionRate.publish();
+            admissionRate.adjust(1000);
+        }
+        assertEquals(10, admissionRate.getRate());
+
+        // 메트릭으로도 보임
+        assertEquals(10, meterRegistry.get("queue.admission.rate").gauge().value());
+        assertEquals(1.0, meterRegistry.get("queue.admission.signal.lock-failure-ratio").gauge().value());
+    }
+
+    @Test
+    @DisplayName("입장 속도: 리더가 아닌 서버의 신호도 Redis로 모여서 리더의 판단에 들어간다")
+    void aggregate_across_nodes_test() {
+        // 1. Given: 서버 2대 (속도 100), 리더는 빠르고 다른 서버는 느림
+        MeterRegistry leaderRegistry = new SimpleMeterRegistry();
+        AdaptiveAdmissionRate leader = newNode(leaderRegistry);
+        AdaptiveAdmissionRate follower = newNode(new SimpleMeterRegistry());
+
+        leader.recordPurchase(10_000_000L); // 10ms
+        follower.recordPurchase(500_000_000L); // 500ms
+
+        // 2. When: 두 서버 모두 신호를 보내고 리더가 조절
+        leader.publish();
+        follower.publish();
+        double adjusted = leader.adjust(1000);
+
+        // 3. Then: 평균 255ms > 목표 100ms -> 절반 (리더 신호만 봤다면 +10)
+        assertEquals(50, adjusted);
+        assertEquals(255, leaderRegistry.get("queue.admission.signal.latency").gauge().value());
+    }
+
+    @Test
+    @DisplayName("입장 속도: 증가 / 감소 폭은 1초 기준이라 틱이 짧으면 그만큼만 바뀐다")
+    void scale_by_tick_test() {
+        AdaptiveAdmissionRate node = newNode(new SimpleMeterRegistry());
+
+        // 1. 200ms 틱: +10 x 0.2
+        node.recordPurchase(10_000_000L);
+        node.publish();
+        assertEquals(102, node.adjust(200), 0.0001);
+
+        // 2. 200ms 틱 5번 연속 혼잡 = 1초 동안 혼잡 -> 절반
+        for (int i = 0; i < 5; i++) {
+            node.recordPurchase(500_000_000L);
+            node.publish();
+            node.adjust(200);
+        }
+        assertEquals(51, node.getRate(), 0.0001);
+    }
+
+    // 같은 Redis를 보는 서버 1대 (위 설정과 같은 값, 속도 100에서 시작)
+    private AdaptiveAdmissionRate newNode(MeterRegistry registry) {
+        return new AdaptiveAdmissionRate(registry, redisTemplate, dataSourceProvider,
+            100, 10, 2000, 10, 0.5, 100, 0.05, 0.9, 3000);
+    }
+
+}
@@ -0,0 +1,90 @@
+package com.zrp.toyproject01.domain.queue;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.zrp.toyproject01.domain.queue.application.MemoryQueueService;
+import com.zrp.toyproject01.domain.queue.application.QueueService;
+
+// JVM 메모리 대기열 (스프링 없이 직접 생성 - 기본 입장 인원 100명, 정원 3명, 입장권 1초)
+class MemoryQueueServiceTest extends QueueServiceContractTest {
+
+    private MemoryQueueService queueService;
+
+    @BeforeEach
+    void setUp() {
+        queueService = new MemoryQueueService(100, 3, 1);
+    }
+
+    @Override
+    protected QueueService queueService() {
+        return queueService;
+    }
+
+    @Test
+    @DisplayName("입구 검사: 입장과 동시에 다시 눌러도 입장권과 번호표를 둘 다 받지 않는다")
+    void gate_during_admission_test() throws InterruptedException {
+        // 1. Given: 정원이 넉넉한 대기열에 200명
+        MemoryQueueService roomy = new MemoryQueueService(100, 1000, 60);
+        for (int i = 1; i <= 200; i++) {
+            roomy.addQueue(1L, "user" + i + "@test.com");
+        }
+
+        // 2. When: 스케줄러가 1명씩 입장시키는 동안 모두가 입구를 다시 두드림
+        ExecutorService executorService = Executors.newFixedThreadPool(8);
+        CountDownLatch latch = new CountDownLatch(200);
+        executorService.submit(() -> {
+            while (latch.getCount() > 0) {
+                roomy.allowUser(1L, 1);
+            }
+        });
+        for (int i = 1; i <= 200; i++) {
+            String email = "user" + i + "@test.com";
+            executorService.submit(() -> {
+                try {
+                    for (int j = 0; j < 20; j++) {
+                        roomy.gate(1L, email);
+                    }
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+        latch.await();
+        executorService.shutdown();
+
+        // 3. Then: 입장한 사람은 줄에 다시 서 있지 않음
+        for (int i = 1; i <= 200; i++) {
+            String email = "user" + i + "@test.com";
+            assertFalse(roomy.isAllowed(1L, email) && roomy.getPosition(1L, email) != null, email);
+        }
+    }
+
+    @Test
+    @DisplayName("방 정리: 판매 목록에 없는 공연도 만료된 입장권을 지우고, 줄과 입장권이 모두 비면 방을 지운다")
+    void clean_up_empty_room_test() throws InterruptedException {
+        // 1. Given: 1명 입장 후 판매 종료 (스케줄러가 더 이상 돌지 않음)
+        queueService.addQueue(1L, "user1@test.com");
+        queueService.allowUser(1L, 1);
+        queueService.closeSale(1L);
+        assertEquals(1, queueService.getServing(1L));
+
+        // 2. When: 입장권 만료(1초) 후 정리
+        Thread.sleep(1100);
+        queueService.cleanUp();
+
+        // 3. Then: 입장권 / 방 모두 사라지고, 다시 줄 서면 새 방에서 1번
+        assertEquals(0, queueService.getActiveCount(1L));
+        assertEquals(0, queueService.getServing(1L));
+        assertEquals(1, queueService.addQueue(1L, "user2@test.com").ticket());
+    }
+
+}
@@ -0,0 +1,127 @@
+package com.zrp.toyproject01.domain.queue;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.zrp.toyproject01.domain.queue.application.QueueEventBroadcaster;
+import com.zrp.toyproject01.domain.queue.application.QueueService;
+import com.zrp.toyproject01.domain.queue.dto.QueuePositionResponse;
+
+// 테스트에서 직접 입장시키므로 스케줄러 자동 실행은 꺼둠 (1시간 뒤 시작)
+@SpringBootTest(properties = {
+    "queue.engine=redis",
+    "queue.sold-out.near-cache-ttl-millis=0",
+    "queue.scheduler.initial-delay-millis=3600000"
+})
+class QueueEventBroadcasterTest {
+
+    private static final Long PERFORMANCE_ID = 1L;
+
+    @Autowired private QueueService queueService;
+    @Autowired private StringRedisTemplate redisTemplate;
+
+    private RecordingBroadcaster broadcaster;
+
+    @BeforeEach
+    void cleanUp() {
+        redisTemplate.getConnectionFactory().getConnection().serverCommands().flushAll();
+        broadcaster = new RecordingBroadcaster(queueService);
+    }
+
+    @Test
+    @DisplayName("대기열 방송: 기다리는 동안은 순번을, 내 차례가 되면 admitted를 보내고 스트림을 닫는다")
+    void position_then_admitted_test() {
+        // 1. Given: 3명 줄 서고 구독
+        subscribe("a@test.com");
+        subscribe("b@test.com");
+        subscribe("c@test.com");
+
+        // 2. When / Then: 아직 아무도 입장 안 함 -> 순번 1, 2, 3
+        broadcaster.broadcast();
+        assertEquals(Map.of("a@test.com", "position", "b@test.com", "position", "c@test.com", "position"), broadcaster.lastEvents());
+        assertEquals(3, ((QueuePositionResponse) broadcaster.lastData("c@test.com")).waitingNumber());
+
+        // 3. When / Then: 1명 입장 -> a는 admitted, 나머지는 순번이 1씩 당겨짐
+        queueService.allowUser(PERFORMANCE_ID, 1);
+        broadcaster.broadcast();
+        assertEquals(Map.of("a@test.com", "admitted", "b@test.com", "position", "c@test.com", "position"), broadcaster.lastEvents());
+        assertEquals(1, ((QueuePositionResponse) broadcaster.lastData("b@test.com")).waitingNumber());
+        assertEquals(2, ((QueuePositionResponse) broadcaster.lastData("c@test.com")).waitingNumber());
+
+        // 4. 닫힌 스트림에는 다시 보내지 않음
+        broadcaster.broadcast();
+        assertEquals(1, broadcaster.count("a@test.com", "admitted"));
+    }
+
+    @Test
+    @DisplayName("대기열 방송: 내 번호는 지났지만 입장권이 없으면 admitted가 아니라 expired")
+    void passed_without_pass_test() {
+        // 1. Given: 2명 구독, 1명 입장
+        subscribe("a@test.com");
+        subscribe("b@test.com");
+        queueService.allowUser(PERFORMANCE_ID, 1);
+
+        // 2. When: 방송 전에 입장권이 사라짐 (반납 / 만료)
+        queueService.complete(PERFORMANCE_ID, "a@test.com");
+        broadcaster.broadcast();
+
+        // 3. Then
+        assertEquals("expired", broadcaster.lastEvents().get("a@test.com"));
+        assertEquals("position", broadcaster.lastEvents().get("b@test.com"));
+    }
+
+    private void subscribe(String email) {
+        long ticket = queueService.addQueue(PERFORMANCE_ID, email).ticket();
+        broadcaster.register(broadcaster.subscribe(PERFORMANCE_ID, email, ticket), email);
+    }
+
+    // 보낸 이벤트를 구독자별로 기록 (실제 전송은 하지 않음)
+    private static class RecordingBroadcaster extends QueueEventBroadcaster {
+
+        private final Map<SseEmitter, String> emails = new HashMap<>();
+        private final List<Event> events = new ArrayList<>();
+
+        private RecordingBroadcaster(QueueService queueService) {
+            super(queueService, 60000);
+        }
+
+        private void register(SseEmitter emitter, String email) {
+            emails.put(emitter, email);
+        }
+
+        @Override
+        protected void send(SseEmitter emitter, String name, Object data) {
+            events.add(new Event(emails.get(emitter), name, data));
+        }
+
+        // 구독자별 마지막 이벤트 이름
+        private Map<String, String> lastEvents() {
+            Map<String, String> last = new HashMap<>();
+            events.forEach(event -> last.put(event.email(), event.name()));
+            return last;
+        }
+
+        private Object lastData(String email) {
+            return events.stream().filter(event -> event.email().equals(email)).reduce((a, b) -> b).orElseThrow().data();
+        }
+
+        private long count(String email, String name) {
+            return events.stream().filter(event -> event.email().equals(email) && event.name().equals(name)).count();
+        }
+    }
+
+    private record Event(String email, String name, Object data) {}
+
+}
@@ -0,0 +1,52 @@
+package com.zrp.toyproject01.domain.queue;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import com.zrp.toyproject01.domain.queue.application.QueueLeaderLease;
+
+// 이 서버의 스케줄러가 리더 키를 잡지 않도록 자동 실행은 꺼둠 (1시간 뒤 시작)
+@SpringBootTest(properties = "queue.scheduler.initial-delay-millis=3600000")
+class QueueLeaderLeaseTest {
+
+    @Autowired private StringRedisTemplate redisTemplate;
+
+    @BeforeEach
+    void cleanUp() {
+        redisTemplate.getConnectionFactory().getConnection().serverCommands().flushAll();
+    }
+
+    @Test
+    @DisplayName("리더 선출: 한 서버만 리더가 되고, 리더가 죽으면 임대가 끝난 뒤 다른 서버가 이어받는다")
+    void leader_takeover_test() throws InterruptedException {
+        // 1. Given: 서버 2대 (임대 300ms)
+        QueueLeaderLease nodeA = new QueueLeaderLease(redisTemplate, 300);
+        QueueLeaderLease nodeB = new QueueLeaderLease(redisTemplate, 300);
+
+        // 2. 먼저 잡은 A만 리더, A가 연장하는 동안 B는 계속 실패
+        assertTrue(nodeA.tryAcquire());
+        assertFalse(nodeB.tryAcquire());
+        for (int i = 0; i < 3; i++) {
+            Thread.sleep(150);
+            assertTrue(nodeA.tryAcquire());
+            assertFalse(nodeB.tryAcquire());
+        }
+
+        // 3. A가 죽음 (연장 안 함) -> 임대가 끝나면 B가 리더
+        Thread.sleep(400);
+        assertTrue(nodeB.tryAcquire());
+        assertFalse(nodeA.tryAcquire());
+
+        // 4. B가 정상 종료하면 바로 내려놓아서 A가 기다리지 않고 가져감
+        nodeB.release();
+        assertTrue(nodeA.tryAcquire());
+    }
+
+}
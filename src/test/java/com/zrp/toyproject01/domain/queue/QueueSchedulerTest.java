@@ -0,0 +1,105 @@
+package com.zrp.toyproject01.domain.queue;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.zrp.toyproject01.domain.queue.application.AdaptiveAdmissionRate;
+import com.zrp.toyproject01.domain.queue.application.MemoryQueueService;
+import com.zrp.toyproject01.domain.queue.scheduler.QueueScheduler;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+// Redis 없이 틱 예산을 공연들에 나누는 방식만 확인 (메모리 대기열 + 속도 고정)
+// - 틱 1초, 전체 입장 속도 1초당 10명 -> 틱마다 예산 10명
+class QueueSchedulerTest {
+
+    private final MemoryQueueService queueService = new MemoryQueueService(100, 1000, 300);
+    private final QueueScheduler queueScheduler = new QueueScheduler(queueService, new FixedAdmissionRate(10), null, 1000, 0);
+
+    @Test
+    @DisplayName("입장 스케줄러: 예산이 공연 수로 나누어떨어지지 않아도 틱마다 예산만큼만 입장한다")
+    void budget_cap_test() {
+        // 1. Given: 공연 3개에 20명씩
+        line(1L, 20);
+        line(2L, 20);
+        line(3L, 20);
+
+        // 2. When / Then: 3틱 동안 매번 정확히 10명 (3.33명씩 나누고 이월하면 3번째 틱에 12명)
+        for (int tick = 1; tick <= 3; tick++) {
+            queueScheduler.enterUser();
+            assertEquals(10 * tick, admitted());
+        }
+
+        // 3. Then: 공연끼리는 1명 넘게 차이 나지 않음
+        long min = Math.min(queueService.getActiveCount(1L), Math.min(queueService.getActiveCount(2L), queueService.getActiveCount(3L)));
+        long max = Math.max(queueService.getActiveCount(1L), Math.max(queueService.getActiveCount(2L), queueService.getActiveCount(3L)));
+        assertTrue(max - min <= 1);
+    }
+
+    @Test
+    @DisplayName("입장 스케줄러: 줄이 짧은 공연이 다 못 쓴 몫은 줄이 긴 공연들이 나눠 쓴다")
+    void leftover_redistributed_test() {
+        // 1. Given: 공연 1은 1명만, 공연 2 / 3은 20명씩
+        line(1L, 1);
+        line(2L, 20);
+        line(3L, 20);
+
+        // 2. When
+        queueScheduler.enterUser();
+
+        // 3. Then: 공연 1은 1명, 남은 9명은 공연 2 / 3이 나눠서 예산을 다 씀
+        assertEquals(1, queueService.getActiveCount(1L));
+        assertEquals(9, queueService.getActiveCount(2L) + queueService.getActiveCount(3L));
+        assertTrue(Math.abs(queueService.getActiveCount(2L) - queueService.getActiveCount(3L)) <= 1);
+    }
+
+    @Test
+    @DisplayName("입장 스케줄러: 공연별 입장 인원(상한)이 몫보다 작으면 남는 몫은 다른 공연이 쓴다")
+    void capped_share_redistributed_test() {
+        // 1. Given: 공연 1은 1초에 2명까지, 공연 2는 기본값(100명)
+        queueService.changeAdmissionRate(1L, 2L);
+        line(1L, 20);
+        line(2L, 20);
+
+        // 2. When
+        queueScheduler.enterUser();
+
+        // 3. Then: 공연 1은 상한 2명, 공연 2는 나머지 8명
+        assertEquals(2, queueService.getActiveCount(1L));
+        assertEquals(8, queueService.getActiveCount(2L));
+    }
+
+    private void line(Long performanceId, int count) {
+        for (int i = 1; i <= count; i++) {
+            queueService.addQueue(performanceId, performanceId + "-" + i + "@test.com");
+        }
+    }
+
+    private long admitted() {
+        return queueService.getActiveCount(1L) + queueService.getActiveCount(2L) + queueService.getActiveCount(3L);
+    }
+
+    // 신호 없이 항상 같은 속도
+    private static class FixedAdmissionRate extends AdaptiveAdmissionRate {
+
+        private final double fixedRate;
+
+        private FixedAdmissionRate(double fixedRate) {
+            super(new SimpleMeterRegistry(), null, null, fixedRate, fixedRate, fixedRate, 0, 1, 300, 0.05, 0.9, 3000);
+            this.fixedRate = fixedRate;
+        }
+
+        @Override
+        public void publish() {
+        }
+
+        @Override
+        public synchronized double adjust(long windowMillis) {
+            return fixedRate;
+        }
+    }
+
+}
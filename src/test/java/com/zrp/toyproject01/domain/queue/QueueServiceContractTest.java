@@ -0,0 +1,197 @@
+package com.zrp.toyproject01.domain.queue;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.zrp.toyproject01.domain.queue.application.QueueService;
+import com.zrp.toyproject01.domain.queue.dto.QueueGate;
+import com.zrp.toyproject01.domain.queue.dto.QueueStatus;
+import com.zrp.toyproject01.domain.queue.dto.QueueTicket;
+
+// 대기열 구현체 공통 계약 (Redis / JVM 메모리가 같은 결과를 내야 함)
+// - 구현체 테스트는 이 클래스를 상속하고, 정원 3명 / 입장권 1초로 만든 QueueService를 넘겨줌
+// - 테스트마다 빈 대기열에서 시작해야 함
+abstract class QueueServiceContractTest {
+
+    protected abstract QueueService queueService();
+
+    @Test
+    @DisplayName("대기열: allowUser(count)는 정확히 앞에서 count명만 입장시킨다")
+    void allow_exactly_count_users_test() {
+        QueueService queueService = queueService();
+
+        // 1. Given: 5명이 순서대로 줄 섬
+        for (int i = 1; i <= 5; i++) {
+            queueService.addQueue(1L, "user" + i + "@test.com");
+        }
+
+        // 2. When: 3명 입장
+        long allowed = queueService.allowUser(1L, 3);
+
+        // 3. Then: 앞의 3명만 입장, 나머지 2명은 대기열 맨 앞부터 그대로
+        assertEquals(3, allowed);
+        assertTrue(queueService.isAllowed(1L, "user1@test.com"));
+        assertTrue(queueService.isAllowed(1L, "user3@test.com"));
+        assertFalse(queueService.isAllowed(1L, "user4@test.com"));
+        assertNull(queueService.getPosition(1L, "user1@test.com"));
+        assertEquals(1L, queueService.getPosition(1L, "user4@test.com"));
+
+        // 정원(3명)이 찼으니 더 불러도 입장 없음
+        assertEquals(0, queueService.allowUser(1L, 100));
+    }
+
+    @Test
+    @DisplayName("입장권: 예매를 끝내거나 만료되면 빈자리만큼 다음 사람이 들어온다")
+    void admission_follows_free_capacity_test() throws InterruptedException {
+        QueueService queueService = queueService();
+
+        // 1. Given: 5명 줄 서고 정원 3명만큼 입장
+        for (int i = 1; i <= 5; i++) {
+            queueService.addQueue(1L, "user" + i + "@test.com");
+        }
+        assertEquals(3, queueService.allowUser(1L, 100));
+
+        // 2. When: 1명이 예매를 끝냄 -> 1자리
+        queueService.complete(1L, "user1@test.com");
+
+        // 3. Then: 정확히 1명만 더 입장
+        assertEquals(1, queueService.allowUser(1L, 100));
+        assertTrue(queueService.isAllowed(1L, "user4@test.com"));
+        assertFalse(queueService.isAllowed(1L, "user5@test.com"));
+
+        // 4. 입장권이 만료되면 (1초) 입장 불가 + 자리가 비어서 마지막 사람이 들어옴
+        Thread.sleep(1100);
+        assertFalse(queueService.isAllowed(1L, "user2@test.com"));
+        assertEquals(1, queueService.allowUser(1L, 100));
+        assertTrue(queueService.isAllowed(1L, "user5@test.com"));
+        assertEquals(1, queueService.getActiveCount(1L));
+    }
+
+    @Test
+    @DisplayName("번호표: 대기 순번 = 내 번호표 - 지금 입장 중인 번호, 다시 줄 서도 번호표는 그대로")
+    void ticket_number_position_test() {
+        QueueService queueService = queueService();
+
+        // 1. Given: 4명 줄 섬 (번호표 1 ~ 4)
+        for (int i = 1; i <= 4; i++) {
+            QueueTicket ticket = queueService.addQueue(1L, "user" + i + "@test.com");
+            assertEquals(i, ticket.ticket());
+            assertEquals(i, ticket.position());
+        }
+
+        // 2. When: 앞의 2명 입장
+        queueService.allowUser(1L, 2);
+
+        // 3. Then: 지금 입장 중인 번호 2 -> 3번은 1등, 4번은 2등
+        QueueStatus status = queueService.getStatus(1L);
+        assertFalse(status.soldOut());
+        assertEquals(2, status.serving());
+
+        QueueTicket retry = queueService.addQueue(1L, "user4@test.com"); // 다시 눌러도 원래 번호표
+        assertEquals(4, retry.ticket());
+        assertEquals(2, retry.position());
+        assertEquals(1L, queueService.getPosition(1L, "user3@test.com"));
+    }
+
+    @Test
+    @DisplayName("입구 검사: 매진 / 입장권 / 대기를 한 번에 판정하고, 다시 눌러도 줄 선 자리를 잃지 않는다")
+    void gate_test() {
+        QueueService queueService = queueService();
+
+        // 1. 처음 온 2명은 줄 섬 (번호표 1, 2)
+        QueueGate first = queueService.gate(1L, "first@test.com");
+        QueueGate second = queueService.gate(1L, "second@test.com");
+        assertEquals(QueueGate.Status.QUEUED, first.status());
+        assertEquals(1, first.position());
+        assertEquals(2, second.position());
+
+        // 2. 두 번째 사람이 계속 눌러도 번호표 / 순번 그대로
+        for (int i = 0; i < 3; i++) {
+            QueueGate retry = queueService.gate(1L, "second@test.com");
+            assertEquals(2, retry.ticket());
+            assertEquals(2, retry.position());
+        }
+
+        // 3. 입장하면 ADMITTED
+        queueService.allowUser(1L, 1);
+        assertEquals(QueueGate.Status.ADMITTED, queueService.gate(1L, "first@test.com").status());
+        assertEquals(1, queueService.gate(1L, "second@test.com").position());
+
+        // 4. 매진이면 누구든 SOLD_OUT
+        queueService.setSoldOut(1L);
+        assertEquals(QueueGate.Status.SOLD_OUT, queueService.gate(1L, "first@test.com").status());
+        assertEquals(QueueGate.Status.SOLD_OUT, queueService.gate(1L, "third@test.com").status());
+    }
+
+    @Test
+    @DisplayName("판매 목록: 줄이 비거나 판매를 닫으면 빠지고, 매진이 풀리면 다시 올라온다")
+    void active_sales_test() {
+        QueueService queueService = queueService();
+
+        // 1. 공연 1은 1초에 2명, 공연 2는 기본값
+        queueService.changeAdmissionRate(1L, 2L);
+        queueService.addQueue(1L, "a@test.com");
+        queueService.addQueue(2L, "b@test.com");
+        assertEquals(2L, queueService.getActiveSales().get(1L));
+        assertEquals(2, queueService.getActiveSales().size());
+
+        // 2. 공연 1은 줄이 비어서 빠짐, 공연 2는 판매 종료로 빠짐
+        queueService.allowUser(1L, 1);
+        queueService.closeSale(2L);
+        assertTrue(queueService.getActiveSales().isEmpty());
+
+        // 3. 매진이 풀리면 다시 돌게 함
+        queueService.setSoldOut(2L);
+        queueService.removeSoldOut(2L);
+        assertFalse(queueService.isSoldOut(2L));
+        assertTrue(queueService.getActiveSales().containsKey(2L));
+
+        // 4. 입장 인원을 기본값으로 되돌림
+        queueService.changeAdmissionRate(1L, null);
+        assertEquals(queueService.getAdmissionRate(2L), queueService.getAdmissionRate(1L));
+    }
+
+    @Test
+    @DisplayName("동시 줄 서기: 100명이 동시에 줄 서도 번호표가 겹치지 않고 번호표 순서대로 입장한다")
+    void concurrent_join_test() throws InterruptedException {
+        QueueService queueService = queueService();
+
+        // 1. Given: 100명이 동시에 줄 섬
+        Set<Long> tickets = ConcurrentHashMap.newKeySet();
+        ExecutorService executorService = Executors.newFixedThreadPool(32);
+        CountDownLatch latch = new CountDownLatch(100);
+
+        for (int i = 1; i <= 100; i++) {
+            String email = "user" + i + "@test.com";
+            executorService.submit(() -> {
+                try {
+                    tickets.add(queueService.gate(1L, email).ticket());
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+        latch.await();
+        executorService.shutdown();
+
+        // 2. Then: 번호표 100장 모두 다름
+        assertEquals(100, tickets.size());
+
+        // 3. 정원(3명)만큼 입장 -> 지금 입장 중인 번호 = 3번
+        assertEquals(3, queueService.allowUser(1L, 100));
+        assertEquals(3, queueService.getServing(1L));
+        assertEquals(3, queueService.getActiveCount(1L));
+    }
+
+}
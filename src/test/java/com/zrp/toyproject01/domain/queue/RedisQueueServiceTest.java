@@ -0,0 +1,77 @@
+package com.zrp.toyproject01.domain.queue;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import com.zrp.toyproject01.domain.queue.application.QueueService;
+import com.zrp.toyproject01.domain.queue.application.RedisQueueService;
+import com.zrp.toyproject01.domain.queue.scheduler.QueueScheduler;
+
+// 테스트에서 직접 틱을 돌리므로 스케줄러 자동 실행은 사실상 꺼둠 (1시간 뒤 시작)
+// 입장 정원 3명, 입장권 1초로 줄여서 빈자리 / 만료까지 확인
+// 테스트마다 Redis를 비우고 같은 공연 id를 다시 쓰므로 매진 로컬 캐시는 꺼둠 (SoldOutNearCacheTest에서 따로 확인)
+@SpringBootTest(properties = {
+    "queue.engine=redis",
+    "queue.sold-out.near-cache-ttl-millis=0",
+    "queue.scheduler.initial-delay-millis=3600000",
+    "queue.scheduler.tick-millis=1000",
+    "queue.admission.max-active=3",
+    "queue.pass.ttl-seconds=1"
+})
+class RedisQueueServiceTest extends QueueServiceContractTest {
+
+    @Autowired private QueueService queueService;
+    @Autowired private QueueScheduler queueScheduler;
+    @Autowired private StringRedisTemplate redisTemplate;
+
+    @BeforeEach
+    void cleanUp() {
+        redisTemplate.getConnectionFactory().getConnection().serverCommands().flushAll();
+    }
+
+    @Override
+    protected QueueService queueService() {
+        return queueService;
+    }
+
+    @Test
+    @DisplayName("설정값이 redis면 Redis 대기열이 주입된다")
+    void redis_engine_selected_test() {
+        assertEquals(RedisQueueService.class, queueService.getClass());
+    }
+
+    @Test
+    @DisplayName("대기열: 공연마다 줄이 따로 있고, 공연별 입장 인원대로 입장한다")
+    void queue_per_performance_test() {
+        // 1. Given: 공연 1은 1초에 2명, 공연 2는 기본값 / 공연 3은 매진
+        queueService.changeAdmissionRate(1L, 2L);
+        for (int i = 1; i <= 5; i++) {
+            queueService.addQueue(1L, "a" + i + "@test.com");
+            queueService.addQueue(2L, "b" + i + "@test.com");
+            queueService.addQueue(3L, "c" + i + "@test.com");
+        }
+        queueService.setSoldOut(3L);
+
+        // 2. When: 스케줄러 1틱
+        queueScheduler.enterUser();
+
+        // 3. Then: 공연 1은 2명만, 공연 2는 정원(3명)만큼, 공연 3은 아무도 입장 못 하고 목록에서 빠짐
+        assertEquals(2, queueService.getActiveCount(1L));
+        assertEquals(3, queueService.getActiveCount(2L));
+        assertFalse(queueService.isAllowed(3L, "c1@test.com"));
+        assertFalse(queueService.isAllowed(2L, "a1@test.com")); // 다른 공연 입장권으로는 못 들어감
+
+        Map<Long, Long> sales = queueService.getActiveSales();
+        assertEquals(Map.of(1L, 2L, 2L, 100L), sales); // 공연 3은 매진이라 빠짐
+    }
+
+}
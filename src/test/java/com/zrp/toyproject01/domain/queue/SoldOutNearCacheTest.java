@@ -0,0 +1,122 @@
+package com.zrp.toyproject01.domain.queue;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import com.zrp.toyproject01.domain.queue.application.QueueService;
+import com.zrp.toyproject01.domain.queue.application.SoldOutNearCache;
+import com.zrp.toyproject01.domain.queue.dto.QueueGate;
+
+// 매진 로컬 캐시 유효 시간을 1초로 줄여서 만료 후 Redis 재조회까지 확인
+@SpringBootTest(properties = {
+    "queue.engine=redis",
+    "queue.scheduler.initial-delay-millis=3600000",
+    "queue.sold-out.near-cache-ttl-millis=1000"
+})
+class SoldOutNearCacheTest {
+
+    @Autowired private QueueService queueService;
+    @Autowired private SoldOutNearCache soldOutCache;
+    @Autowired private StringRedisTemplate redisTemplate;
+
+    @BeforeEach
+    void cleanUp() throws InterruptedException {
+        redisTemplate.getConnectionFactory().getConnection().serverCommands().flushAll();
+        Thread.sleep(1100); // 이전 테스트가 남긴 로컬 캐시 만료
+    }
+
+    @Test
+    @DisplayName("매진 캐시: 매진 간판을 건 뒤에는 Redis를 보지 않고 로컬에서 거절한다")
+    void sold_out_served_locally_test() {
+        // 1. Given: 매진 간판
+        queueService.setSoldOut(1L);
+
+        // 2. When: Redis에서 간판을 직접 지워도 (= Redis를 안 본다는 증거)
+        redisTemplate.delete("sold_out:1");
+
+        // 3. Then: 유효 시간 안에는 로컬 값으로 거절
+        assertTrue(queueService.isSoldOut(1L));
+        assertEquals(QueueGate.Status.SOLD_OUT, queueService.gate(1L, "late@test.com").status());
+        assertNull(queueService.getPosition(1L, "late@test.com")); // 줄에도 안 섬
+    }
+
+    @Test
+    @DisplayName("매진 캐시: 다른 서버가 간판을 바꾸면 pub/sub 알림으로 바로 갱신된다")
+    void pubsub_invalidation_test() throws InterruptedException {
+        // 1. Given: 이 서버는 매진으로 알고 있음
+        queueService.setSoldOut(2L);
+        assertTrue(queueService.isSoldOut(2L));
+
+        // 2. When: 다른 서버가 간판을 내린 것처럼 Redis / 알림만 보냄 (버전 1 -> 2)
+        redisTemplate.delete("sold_out:2");
+        redisTemplate.opsForValue().increment("sold_out_version:2");
+        redisTemplate.convertAndSend("sold_out_events", "2:0:2");
+
+        // 3. Then: 유효 시간(1초)보다 먼저 매진 해제로 바뀜
+        long startTime = System.currentTimeMillis();
+        while (!Boolean.FALSE.equals(soldOutCache.get(2L))) {
+            if (System.currentTimeMillis() - startTime > 500) {
+                throw new RuntimeException("시간 초과: 0.5초 안에 매진 알림이 반영되지 않았습니다.");
+            }
+            Thread.sleep(10);
+        }
+        assertFalse(queueService.isSoldOut(2L));
+    }
+
+    @Test
+    @DisplayName("매진 캐시: 알림을 놓쳐도 유효 시간이 지나면 Redis 값으로 돌아온다")
+    void safety_ttl_test() throws InterruptedException {
+        // 1. Given: 매진 간판 + 알림 없이 Redis에서만 지움 (알림 유실)
+        queueService.setSoldOut(3L);
+        redisTemplate.delete("sold_out:3");
+        assertTrue(queueService.isSoldOut(3L));
+
+        // 2. When: 유효 시간이 지남
+        Thread.sleep(1100);
+
+        // 3. Then: Redis를 다시 보고 매진 해제
+        assertNull(soldOutCache.get(3L));
+        assertFalse(queueService.isSoldOut(3L));
+        assertEquals(QueueGate.Status.QUEUED, queueService.gate(3L, "user@test.com").status());
+    }
+
+    @Test
+    @DisplayName("매진 캐시: 알림보다 늦게 도착한 Redis 조회 결과는 더 새로운 간판을 덮어쓰지 않는다")
+    void stale_read_ignored_test() {
+        // 1. Given: 매진 간판 (버전 1)
+        queueService.setSoldOut(4L);
+
+        // 2. When: 간판을 걸기 전(버전 0)에 시작한 조회가 뒤늦게 "매진 아님"을 기록
+        soldOutCache.put(4L, false, 0);
+
+        // 3. Then: 그대로 매진
+        assertEquals(Boolean.TRUE, soldOutCache.get(4L));
+        assertEquals(QueueGate.Status.SOLD_OUT, queueService.gate(4L, "user@test.com").status());
+    }
+
+    @Test
+    @DisplayName("매진 캐시: 매진이 아니라는 로컬 값은 믿지 않고, 다른 서버가 건 간판을 알림 없이도 바로 본다")
+    void cached_false_not_trusted_test() {
+        // 1. Given: 이 서버는 매진 아님으로 알고 있음
+        assertFalse(queueService.isSoldOut(5L));
+        assertEquals(Boolean.FALSE, soldOutCache.get(5L));
+
+        // 2. When: 다른 서버가 간판을 걸었는데 알림을 놓침
+        redisTemplate.opsForValue().set("sold_out:5", "true");
+        redisTemplate.opsForValue().increment("sold_out_version:5");
+
+        // 3. Then: 유효 시간 안이어도 Redis를 다시 보고 매진
+        assertTrue(queueService.isSoldOut(5L));
+        assertEquals(Boolean.TRUE, soldOutCache.get(5L));
+    }
+
+}
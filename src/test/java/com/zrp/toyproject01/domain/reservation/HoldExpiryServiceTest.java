@@ -0,0 +1,148 @@
+package com.zrp.toyproject01.domain.reservation;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import com.zrp.toyproject01.domain.account.dao.RefreshTokenRepository;
+import com.zrp.toyproject01.domain.account.dao.UserRepository;
+import com.zrp.toyproject01.domain.account.domain.User;
+import com.zrp.toyproject01.domain.performance.application.PerformancePurchaseFacade;
+import com.zrp.toyproject01.domain.performance.application.PerformanceService;
+import com.zrp.toyproject01.domain.performance.dao.PerformanceRepository;
+import com.zrp.toyproject01.domain.performance.domain.PurchaseStrategyType;
+import com.zrp.toyproject01.domain.performance.dto.PerformanceRegisterRequest;
+import com.zrp.toyproject01.domain.post.dao.PostRepository;
+import com.zrp.toyproject01.domain.reservation.application.ReservationService;
+import com.zrp.toyproject01.domain.reservation.dao.ReservationRepository;
+import com.zrp.toyproject01.domain.reservation.domain.ReservationStatus;
+import com.zrp.toyproject01.domain.seat.application.SeatService;
+import com.zrp.toyproject01.domain.seat.dto.SeatHoldResponse;
+import com.zrp.toyproject01.global.error.BusinessException;
+import com.zrp.toyproject01.global.error.ErrorCode;
+
+// 점유 시간을 1초로 줄여서 만료까지 확인
+@SpringBootTest(properties = "reservation.hold.ttl-seconds=1")
+class HoldExpiryServiceTest {
+
+    @Autowired private SeatService seatService;
+    @Autowired private ReservationService reservationService;
+    @Autowired private PerformanceService performanceService;
+    @Autowired private PerformancePurchaseFacade performancePurchaseFacade;
+    @Autowired private PerformanceRepository performanceRepository;
+    @Autowired private UserRepository userRepository;
+    @Autowired private ReservationRepository reservationRepository;
+    @Autowired private PostRepository postRepository;
+    @Autowired private RefreshTokenRepository refreshTokenRepository;
+    @Autowired private StringRedisTemplate redisTemplate;
+
+    @BeforeEach
+    void cleanUp() {
+        // 이 테스트가 쓰는 키만 (좌석 비트맵 / 좌석 수 / 매진 간판 / 락 없음 재고)
+        deleteKeys("seats:*", "seat_capacity:*", "seats_held:*", "sold_out:*", "sold_out_version:*", "stock:*", "stock_buyers:*");
+
+        refreshTokenRepository.deleteAll();
+        reservationRepository.deleteAll();
+        postRepository.deleteAll();
+        performanceRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("임시 점유: 확정하지 않으면 만료되고 좌석 / 재고가 반납된다")
+    void hold_expires_and_restocks_test() throws InterruptedException {
+        // 1. Given: 10석 공연에서 3석 점유
+        Long performanceId = performanceService.register(
+            new PerformanceRegisterRequest("점유 공연", 30000, 10)
+        );
+        Long userId = userRepository.save(User.create("holder@test.com", "1234", "holder")).getId();
+
+        SeatHoldResponse hold = seatService.hold(performanceId, List.of(1, 2, 3), userId);
+        assertEquals(7, performanceRepository.findById(performanceId).orElseThrow().getStock());
+        assertEquals(7, seatService.getSeatMap(performanceId).available());
+
+        // 2. When: 만료 시각이 지날 때까지 기다림
+        waitForStatus(hold.reservationId(), ReservationStatus.EXPIRED);
+
+        // 3. Then: 재고 / 좌석 원상복구 + 확정 불가
+        assertEquals(10, performanceRepository.findById(performanceId).orElseThrow().getStock());
+        assertEquals(10, seatService.getSeatMap(performanceId).available());
+
+        BusinessException exception = assertThrows(BusinessException.class,
+            () -> reservationService.confirm(hold.reservationId(), userId));
+        assertEquals(ErrorCode.RESERVATION_EXPIRED, exception.getErrorCode());
+    }
+
+    @Test
+    @DisplayName("임시 점유: 만료 전에 확정하면 만료 시각이 지나도 그대로 유지된다")
+    void confirmed_hold_never_expires_test() throws InterruptedException {
+        // 1. Given: 3석 점유 후 바로 확정
+        Long performanceId = performanceService.register(
+            new PerformanceRegisterRequest("확정 공연", 30000, 10)
+        );
+        Long userId = userRepository.save(User.create("payer@test.com", "1234", "payer")).getId();
+
+        SeatHoldResponse hold = seatService.hold(performanceId, List.of(4, 5, 6), userId);
+        reservationService.confirm(hold.reservationId(), userId);
+
+        // 2. When: 만료 시각이 충분히 지남
+        Thread.sleep(2500);
+
+        // 3. Then: 예약 / 재고 / 좌석 그대로
+        assertEquals(ReservationStatus.RESERVED,
+            reservationRepository.findById(hold.reservationId()).orElseThrow().getStatus());
+        assertEquals(7, performanceRepository.findById(performanceId).orElseThrow().getStock());
+        assertEquals(7, seatService.getSeatMap(performanceId).available());
+    }
+
+    @Test
+    @DisplayName("임시 점유: 락 없음 공연이면 좌석도 재고도 잡지 않고 거절한다")
+    void hold_rejected_for_lock_free_test() {
+        // 1. Given: 락 없음으로 파는 10석 공연
+        Long performanceId = performanceService.register(
+            new PerformanceRegisterRequest("락 없음 점유", 30000, 10)
+        );
+        Long userId = userRepository.save(User.create("lockfree@test.com", "1234", "lockfree")).getId();
+        performancePurchaseFacade.changePurchaseStrategy(performanceId, PurchaseStrategyType.LOCK_FREE);
+
+        // 2. When: 임시 점유 (대기열 검사 전에 거절되므로 입장권 없이)
+        BusinessException exception = assertThrows(BusinessException.class,
+            () -> performancePurchaseFacade.holdSeats(performanceId, List.of(1, 2, 3), userId, "lockfree@test.com"));
+
+        // 3. Then: 점유 예약 없음 / 재고 / 좌석 그대로
+        assertEquals(ErrorCode.SEAT_NOT_SUPPORTED, exception.getErrorCode());
+        assertEquals(0, reservationRepository.count());
+        assertEquals(10, performanceRepository.findById(performanceId).orElseThrow().getStock());
+        assertEquals(10, seatService.getSeatMap(performanceId).available());
+    }
+
+    private void waitForStatus(Long reservationId, ReservationStatus expected) throws InterruptedException {
+        long startTime = System.currentTimeMillis();
+
+        while (reservationRepository.findById(reservationId).orElseThrow().getStatus() != expected) {
+            if (System.currentTimeMillis() - startTime > 10000) {
+                throw new RuntimeException("시간 초과: 10초가 지나도 예약 상태가 " + expected + "가 되지 않았습니다.");
+            }
+            Thread.sleep(100);
+        }
+    }
+
+    private void deleteKeys(String... patterns) {
+        for (String pattern : patterns) {
+            Set<String> keys = redisTemplate.keys(pattern);
+            if (keys != null && !keys.isEmpty()) {
+                redisTemplate.delete(keys);
+            }
+        }
+    }
+
+}
@@ -0,0 +1,179 @@
+package com.zrp.toyproject01.domain.seat;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import com.zrp.toyproject01.domain.account.dao.RefreshTokenRepository;
+import com.zrp.toyproject01.domain.account.dao.UserRepository;
+import com.zrp.toyproject01.domain.account.domain.User;
+import com.zrp.toyproject01.domain.performance.application.PerformancePurchaseFacade;
+import com.zrp.toyproject01.domain.performance.application.PerformanceService;
+import com.zrp.toyproject01.domain.performance.dao.PerformanceRepository;
+import com.zrp.toyproject01.domain.performance.domain.PurchaseStrategyType;
+import com.zrp.toyproject01.domain.performance.dto.PerformanceRegisterRequest;
+import com.zrp.toyproject01.domain.post.dao.PostRepository;
+import com.zrp.toyproject01.domain.reservation.dao.ReservationRepository;
+import com.zrp.toyproject01.domain.seat.application.SeatService;
+import com.zrp.toyproject01.domain.seat.dto.SeatMapResponse;
+import com.zrp.toyproject01.global.error.BusinessException;
+import com.zrp.toyproject01.global.error.ErrorCode;
+
+@SpringBootTest
+class SeatServiceTest {
+
+    @Autowired private SeatService seatService;
+    @Autowired private PerformanceService performanceService;
+    @Autowired private PerformancePurchaseFacade performancePurchaseFacade;
+    @Autowired private PerformanceRepository performanceRepository;
+    @Autowired private UserRepository userRepository;
+    @Autowired private ReservationRepository reservationRepository;
+    @Autowired private PostRepository postRepository;
+    @Autowired private RefreshTokenRepository refreshTokenRepository;
+    @Autowired private StringRedisTemplate redisTemplate;
+
+    @BeforeEach
+    void cleanUp() {
+        // 이 테스트가 쓰는 키만 (좌석 비트맵 / 좌석 수 / 매진 간판 / 락 없음 재고 / 장부 카운터)
+        deleteKeys("seats:*", "seat_capacity:*", "seats_held:*", "sold_out:*", "sold_out_version:*", "stock:*", "stock_buyers:*", "ledger_remaining:*");
+
+        refreshTokenRepository.deleteAll();
+        reservationRepository.deleteAll();
+        postRepository.deleteAll();
+        performanceRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("좌석 지정: 100명이 같은 좌석 2개씩 겹쳐서 노려도 좌석당 1명만 성공한다")
+    void seat_never_double_booked_test() throws InterruptedException {
+        // 1. Given: 20석 공연 + 유저 100명 (i번째 유저는 (i % 19) + 1, (i % 19) + 2번 좌석을 노림)
+        Long performanceId = performanceService.register(
+            new PerformanceRegisterRequest("소극장 공연", 30000, 20)
+        );
+        List<Long> userIds = createUsers("seat", 100);
+
+        // 2. When: 동시에 요청
+        AtomicInteger successCount = new AtomicInteger(0);
+        AtomicInteger failCount = new AtomicInteger(0);
+        ExecutorService executorService = Executors.newFixedThreadPool(32);
+        CountDownLatch latch = new CountDownLatch(userIds.size());
+
+        for (int i = 0; i < userIds.size(); i++) {
+            Long userId = userIds.get(i);
+            int first = (i % 19) + 1;
+
+            executorService.submit(() -> {
+                try {
+                    seatService.purchase(performanceId, List.of(first, first + 1), userId);
+                    successCount.incrementAndGet();
+                } catch (BusinessException e) {
+                    failCount.incrementAndGet();
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+        latch.await();
+        executorService.shutdown();
+
+        // 3. Then: 팔린 좌석 수 == 성공 * 2 == DB에서 줄어든 재고 (겹쳐 팔린 좌석 없음)
+        SeatMapResponse seatMap = seatService.getSeatMap(performanceId);
+        int sold = seatMap.capacity() - seatMap.available();
+        int stock = performanceRepository.findById(performanceId).orElseThrow().getStock();
+
+        System.out.println("=========================================");
+        System.out.println("구매 성공: " + successCount.get());
+        System.out.println("구매 실패: " + failCount.get());
+        System.out.println("팔린 좌석: " + sold);
+        System.out.println("=========================================");
+
+        assertEquals(successCount.get() * 2, sold);
+        assertEquals(20 - sold, stock);
+        assertEquals(successCount.get(), reservationRepository.count());
+        assertEquals(100, successCount.get() + failCount.get());
+    }
+
+    @Test
+    @DisplayName("좌석 지정: 여러 좌석 중 하나라도 이미 팔렸으면 아무 좌석도 잡지 않는다")
+    void seat_hold_all_or_nothing_test() {
+        // 1. Given: 10석 공연, 3번 좌석은 이미 팔림
+        Long performanceId = performanceService.register(
+            new PerformanceRegisterRequest("전부 아니면 전무", 30000, 10)
+        );
+        List<Long> userIds = createUsers("all", 2);
+        seatService.purchase(performanceId, List.of(3), userIds.get(0));
+
+        // 2. When: 2~4번 좌석을 한 번에 요청
+        BusinessException exception = assertThrows(BusinessException.class,
+            () -> seatService.purchase(performanceId, List.of(2, 3, 4), userIds.get(1)));
+
+        // 3. Then: 2, 4번 좌석은 여전히 비어 있어서 바로 살 수 있음
+        assertEquals(ErrorCode.SEAT_ALREADY_RESERVED, exception.getErrorCode());
+        assertEquals(9, seatService.getSeatMap(performanceId).available());
+
+        seatService.purchase(performanceId, List.of(2, 4), userIds.get(1));
+        assertEquals(7, seatService.getSeatMap(performanceId).available());
+
+        // 범위 밖 좌석
+        BusinessException notFound = assertThrows(BusinessException.class,
+            () -> seatService.purchase(performanceId, List.of(11), userIds.get(1)));
+        assertEquals(ErrorCode.SEAT_NOT_FOUND, notFound.getErrorCode());
+    }
+
+    @Test
+    @DisplayName("좌석 지정: 재고 카운터를 따로 두는 예매 방식(락 없음 / 단일 작성자 / 장부)이면 좌석도 재고도 건드리지 않고 거절한다")
+    void seat_rejected_for_counter_strategy_test() {
+        // 1. Given: 락 없음으로 파는 10석 공연
+        Long performanceId = performanceService.register(
+            new PerformanceRegisterRequest("락 없음 공연", 30000, 10)
+        );
+        Long userId = createUsers("counter", 1).get(0);
+
+        for (PurchaseStrategyType type : List.of(PurchaseStrategyType.LOCK_FREE, PurchaseStrategyType.SINGLE_WRITER, PurchaseStrategyType.LEDGER)) {
+            performancePurchaseFacade.changePurchaseStrategy(performanceId, type);
+
+            // 2. When: 좌석 지정 예매 (대기열 검사 전에 거절되므로 입장권 없이)
+            BusinessException exception = assertThrows(BusinessException.class,
+                () -> performancePurchaseFacade.purchaseSeats(performanceId, List.of(1, 2), userId, "counter1@test.com"));
+
+            // 3. Then
+            assertEquals(ErrorCode.SEAT_NOT_SUPPORTED, exception.getErrorCode());
+            assertEquals(10, seatService.getSeatMap(performanceId).available());
+            assertEquals(10, performanceRepository.findById(performanceId).orElseThrow().getStock());
+        }
+    }
+
+    private List<Long> createUsers(String prefix, int count) {
+        List<Long> userIds = new ArrayList<>(count);
+        for (int i = 1; i <= count; i++) {
+            User user = userRepository.save(User.create(prefix + i + "@test.com", "1234", prefix + i));
+            userIds.add(user.getId());
+        }
+        return userIds;
+    }
+
+    private void deleteKeys(String... patterns) {
+        for (String pattern : patterns) {
+            Set<String> keys = redisTemplate.keys(pattern);
+            if (keys != null && !keys.isEmpty()) {
+                redisTemplate.delete(keys);
+            }
+        }
+    }
+
+}
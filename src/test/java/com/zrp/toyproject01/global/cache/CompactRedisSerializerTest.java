@@ -0,0 +1,135 @@
+package com.zrp.toyproject01.global.cache;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.LongStream;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.support.NullValue;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+import com.zrp.toyproject01.domain.performance.domain.PurchaseStrategyType;
+import com.zrp.toyproject01.domain.performance.dto.PerformanceCatalog;
+import com.zrp.toyproject01.domain.performance.dto.PerformanceCatalogIds;
+import com.zrp.toyproject01.domain.performance.dto.PerformanceResponse;
+import com.zrp.toyproject01.domain.post.dto.PostIds;
+import com.zrp.toyproject01.domain.post.dto.PostResponse;
+import com.zrp.toyproject01.global.config.RedisCacheConfig;
+
+class CompactRedisSerializerTest {
+
+    // 실제 캐시와 같은 등록 (RedisCacheConfig)
+    private final GenericJackson2JsonRedisSerializer json = RedisCacheConfig.jsonSerializer();
+    private final CompactRedisSerializer compact = RedisCacheConfig.compactSerializer(1024);
+
+    @Test
+    @DisplayName("바이너리 직렬화: 등록한 DTO는 그대로 돌아오고, 등록하지 않은 값은 JSON으로 저장된다")
+    void round_trip_test() {
+        PerformanceCatalog catalog = new PerformanceCatalog(1L, "아이유 콘서트", 150000, 100, PurchaseStrategyType.LEDGER);
+        PerformanceCatalog noStrategy = new PerformanceCatalog(2L, "뮤지컬", 90000, 50, null);
+        PerformanceCatalogIds ids = new PerformanceCatalogIds(List.of(1L, 2L, 3000000000L));
+        PostResponse post = new PostResponse(7L, "제목", "본문", "작성자", LocalDateTime.of(2026, 10, 18, 12, 30, 15, 123456789));
+        PostIds postIds = new PostIds(List.of(9L, 8L, 7L));
+
+        assertEquals(catalog, compact.deserialize(compact.serialize(catalog)));
+        assertEquals(noStrategy, compact.deserialize(compact.serialize(noStrategy)));
+        assertEquals(ids, compact.deserialize(compact.serialize(ids)));
+        assertEquals(post, compact.deserialize(compact.serialize(post)));
+        assertEquals(postIds, compact.deserialize(compact.serialize(postIds)));
+        assertSame(NullValue.INSTANCE, compact.deserialize(compact.serialize(NullValue.INSTANCE)));
+
+        // 등록하지 않은 값 / 이전에 JSON으로 저장된 값
+        assertEquals("공연 1", compact.deserialize(compact.serialize("공연 1")));
+        assertEquals(catalog, compact.deserialize(json.serialize(catalog)));
+    }
+
+    @Test
+    @DisplayName("바이너리 직렬화: 스키마 버전이 다른 값은 캐시 미스(null)로 읽는다")
+    void schema_version_test() {
+        PerformanceResponse response = new PerformanceResponse(1L, "공연", 10000, 100, 99);
+        byte[] oldVersion = versionedSerializer(1).serialize(response);
+
+        assertNull(versionedSerializer(2).deserialize(oldVersion));
+    }
+
+    @Test
+    @DisplayName("바이너리 직렬화: 기준보다 큰 값은 압축해서 저장하고 그대로 읽는다")
+    void compression_test() {
+        PostResponse post = new PostResponse(1L, "긴 글", "반복되는 본문 ".repeat(500), "작성자", LocalDateTime.now());
+
+        byte[] plain = RedisCacheConfig.compactSerializer(Integer.MAX_VALUE).serialize(post);
+        byte[] deflated = compact.serialize(post);
+
+        assertTrue(deflated.length < plain.length);
+        assertEquals(post, compact.deserialize(deflated));
+    }
+
+    // 5만 번씩 돌리는 측정이라 기본 테스트에서는 빠짐 (./gradlew benchmark)
+    @Test
+    @Tag("benchmark")
+    @DisplayName("바이너리 직렬화 벤치마크: JSON보다 크기가 작다 (직렬화 / 역직렬화 처리량은 출력으로 비교)")
+    void benchmark_test() {
+        List<Object> values = List.of(
+            new PerformanceCatalog(1L, "아이유 콘서트", 150000, 100, PurchaseStrategyType.LOCK_FREE),
+            new PerformanceResponse(1L, "아이유 콘서트", 150000, 100, 42),
+            new PostResponse(1L, "공연 후기", "정말 좋았습니다. 다음에도 또 가고 싶어요.", "관람객", LocalDateTime.now()),
+            new PerformanceCatalogIds(LongStream.rangeClosed(1, 100).boxed().toList())
+        );
+
+        int rounds = 50000;
+        System.out.println("=========================================");
+        for (Object value : values) {
+            Result jsonResult = measure(json, value, rounds);
+            Result compactResult = measure(compact, value, rounds);
+
+            System.out.println(value.getClass().getSimpleName());
+            System.out.println("  JSON   : " + jsonResult);
+            System.out.println("  COMPACT: " + compactResult);
+
+            assertTrue(compactResult.bytes() < jsonResult.bytes());
+        }
+        System.out.println("=========================================");
+    }
+
+    // 워밍업 1번 + 측정 1번 (초당 횟수)
+    private static Result measure(RedisSerializer<Object> serializer, Object value, int rounds) {
+        byte[] bytes = serializer.serialize(value);
+        run(rounds, i -> serializer.serialize(value));
+        run(rounds, i -> serializer.deserialize(bytes));
+
+        double serializePerSecond = run(rounds, i -> serializer.serialize(value));
+        double deserializePerSecond = run(rounds, i -> serializer.deserialize(bytes));
+        return new Result(bytes.length, serializePerSecond, deserializePerSecond);
+    }
+
+    private static double run(int rounds, Function<Integer, Object> task) {
+        long startTime = System.nanoTime();
+        for (int i = 0; i < rounds; i++) {
+            task.apply(i);
+        }
+        return rounds / ((System.nanoTime() - startTime) / 1_000_000_000.0);
+    }
+
+    private record Result(int bytes, double serializePerSecond, double deserializePerSecond) {
+        @Override
+        public String toString() {
+            return String.format("%d bytes, 직렬화 %.0f/s, 역직렬화 %.0f/s", bytes, serializePerSecond, deserializePerSecond);
+        }
+    }
+
+    // 스키마 버전만 다른 직렬화기 (버전 검사 자체를 보는 용도라 타입 1개만)
+    private static CompactRedisSerializer versionedSerializer(int version) {
+        return new CompactRedisSerializer(RedisCacheConfig.jsonSerializer(), 1024)
+            .register(3, version, PerformanceResponse.class);
+    }
+
+}
@@ -0,0 +1,246 @@
+package com.zrp.toyproject01.global.cache;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.redis.cache.RedisCacheManager;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.zrp.toyproject01.global.error.BusinessException;
+import com.zrp.toyproject01.global.error.ErrorCode;
+
+// 임대 시간을 300ms로 줄여서 임대를 잡은 서버가 죽은 경우까지 확인
+@SpringBootTest(properties = "cache.load.lease-millis=300")
+class TwoLevelCacheTest {
+
+    private static final String NODE_CACHE = "twoLevelNodeTest";
+
+    @Autowired private CacheManager cacheManager;
+    @Autowired private StringRedisTemplate redisTemplate;
+
+    private Cache cache;
+    private Cache remote; // 서버 여러 대 테스트용 공용 L2 (TTL 없음)
+
+    @BeforeEach
+    void cleanUp() {
+        redisTemplate.getConnectionFactory().getConnection().serverCommands().flushAll();
+        cache = cacheManager.getCache("twoLevelTest");
+        cache.clear();
+        remote = RedisCacheManager.create(redisTemplate.getConnectionFactory()).getCache(NODE_CACHE);
+    }
+
+    @Test
+    @DisplayName("2단 캐시: L2(Redis)에서 지워져도 L1(메모리)에 있으면 Redis를 보지 않고 돌려준다")
+    void local_hit_test() {
+        // 1. Given: 캐시에 넣음 (L1 + L2)
+        cache.put("1", "공연 1");
+
+        // 2. When: Redis에서 직접 지움
+        redisTemplate.delete("twoLevelTest::1");
+
+        // 3. Then: L1에서 그대로 나옴
+        assertEquals("공연 1", cache.get("1", String.class));
+    }
+
+    @Test
+    @DisplayName("2단 캐시: 다른 서버가 보낸 삭제 알림을 받으면 L1에서 지우고 L2를 다시 본다")
+    void remote_evict_test() throws InterruptedException {
+        // 1. Given: L1 + L2에 들어있고, 다른 서버가 L2를 지운 상태
+        cache.put("2", "공연 2");
+        redisTemplate.delete("twoLevelTest::2");
+
+        // 2. When: 다른 서버 이름으로 삭제 알림
+        redisTemplate.convertAndSend("cache_evict_events", "other-node\ntwoLevelTest\n2");
+
+        // 3. Then: L1에서도 빠져서 캐시 미스
+        long startTime = System.currentTimeMillis();
+        while (cache.get("2") != null) {
+            if (System.currentTimeMillis() - startTime > 1000) {
+                throw new RuntimeException("시간 초과: 1초 안에 삭제 알림이 반영되지 않았습니다.");
+            }
+            Thread.sleep(10);
+        }
+        assertNull(cache.get("2"));
+    }
+
+    @Test
+    @DisplayName("2단 캐시: 빈 키를 동시에 읽어도 loader(DB 조회)는 1번만 실행되고 모두 같은 값을 받는다")
+    void single_flight_test() throws InterruptedException {
+        // 1. Given: 동시 요청 20개, 조회에 100ms 걸리는 loader
+        int threadCount = 20;
+        AtomicInteger loadCount = new AtomicInteger();
+        AtomicInteger hitCount = new AtomicInteger();
+        ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
+        CountDownLatch latch = new CountDownLatch(threadCount);
+
+        // 2. When
+        for (int i = 0; i < threadCount; i++) {
+            executorService.submit(() -> {
+                try {
+                    String value = cache.get("3", () -> {
+                        loadCount.incrementAndGet();
+                        Thread.sleep(100);
+                        return "공연 3";
+                    });
+                    if ("공연 3".equals(value)) {
+                        hitCount.incrementAndGet();
+                    }
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+        latch.await();
+        executorService.shutdown();
+
+        // 3. Then
+        assertEquals(1, loadCount.get());
+        assertEquals(threadCount, hitCount.get());
+    }
+
+    @Test
+    @DisplayName("2단 캐시: loader가 던진 BusinessException은 감싸지 않고 그대로, 체크 예외만 ValueRetrievalException으로 감싼다")
+    void loader_exception_test() {
+        // 1. 없는 공연 / 게시글 -> 그대로 나가야 예외 처리기가 404로 바꿈
+        BusinessException notFound = new BusinessException(ErrorCode.PERFORMANCE_NOT_FOUND);
+        BusinessException thrown = assertThrows(BusinessException.class,
+            () -> cache.get("4", () -> { throw notFound; }));
+        assertSame(notFound, thrown);
+
+        // 2. 체크 예외는 Cache 계약대로 감쌈
+        Exception checked = new Exception("조회 실패");
+        Cache.ValueRetrievalException wrapped = assertThrows(Cache.ValueRetrievalException.class,
+            () -> cache.get("4", () -> { throw checked; }));
+        assertSame(checked, wrapped.getCause());
+
+        // 3. 실패한 조회는 캐시에 남지 않음
+        assertNull(cache.get("4"));
+    }
+
+    @Test
+    @DisplayName("2단 캐시: 임대를 잡은 서버가 죽으면 기다리던 서버 중 1대만 임대를 다시 잡아 DB를 읽는다")
+    void lease_takeover_test() throws InterruptedException {
+        // 1. Given: 죽은 서버가 임대를 잡고 있음 (300ms 뒤 만료) + 서버 3대가 같은 빈 키를 읽음
+        redisTemplate.opsForValue().set("cache_lease:" + NODE_CACHE + "::1", "dead-node", Duration.ofMillis(300));
+        List<TwoLevelCache> nodes = List.of(node(), node(), node());
+        AtomicInteger loadCount = new AtomicInteger();
+        List<String> values = new CopyOnWriteArrayList<>();
+        ExecutorService executorService = Executors.newFixedThreadPool(nodes.size());
+        CountDownLatch latch = new CountDownLatch(nodes.size());
+
+        // 2. When
+        for (TwoLevelCache node : nodes) {
+            executorService.submit(() -> {
+                try {
+                    values.add(node.get("1", () -> {
+                        loadCount.incrementAndGet();
+                        Thread.sleep(50);
+                        return "공연 1";
+                    }));
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+        latch.await();
+        executorService.shutdown();
+
+        // 3. Then: 임대가 끝난 뒤 1대만 읽고, 나머지는 그 값을 L2에서 받음
+        assertEquals(1, loadCount.get());
+        assertEquals(List.of("공연 1", "공연 1", "공연 1"), values);
+    }
+
+    @Test
+    @DisplayName("미리 갱신(XFetch): 만료가 가깝고 조회가 오래 걸릴수록 갱신 확률이 높다")
+    void should_refresh_early_test() {
+        TwoLevelCache node = node();
+        long now = System.currentTimeMillis();
+
+        // 1. 확실한 경우
+        assertTrue(node.shouldRefreshEarly(new TwoLevelCache.LocalEntry("v", now - 1, 100)));           // 만료 시각이 지남
+        assertFalse(node.shouldRefreshEarly(new TwoLevelCache.LocalEntry("v", now + 3_600_000, 1)));     // 1시간 남음, 조회 1ms
+        assertFalse(node.shouldRefreshEarly(new TwoLevelCache.LocalEntry("v", now - 1, 0)));             // 조회 시간 모름
+        assertFalse(node.shouldRefreshEarly(new TwoLevelCache.LocalEntry("v", Long.MAX_VALUE, 100)));    // 만료 없음
+
+        // 2. 남은 시간 = 조회 시간 (beta 1) -> -ln(난수) >= 1 -> 확률 e^-1 (약 37%)
+        int refreshed = 0;
+        for (int i = 0; i < 10000; i++) {
+            TwoLevelCache.LocalEntry entry = new TwoLevelCache.LocalEntry("v", System.currentTimeMillis() + 1000, 1000);
+            if (node.shouldRefreshEarly(entry)) {
+                refreshed++;
+            }
+        }
+        assertTrue(refreshed > 3000 && refreshed < 4400, "갱신 횟수: " + refreshed);
+    }
+
+    @Test
+    @DisplayName("미리 갱신(XFetch): 지금 값은 바로 돌려주고, 백그라운드에서 키당 1번만 다시 읽는다")
+    void refresh_in_background_test() throws InterruptedException {
+        // 1. Given: 만료 시각이 지난 L1 항목
+        com.github.benmanes.caffeine.cache.Cache<String, TwoLevelCache.LocalEntry> local = Caffeine.newBuilder().build();
+        TwoLevelCache node = new TwoLevelCache(NODE_CACHE, local, remote, (TwoLevelCacheManager) cacheManager);
+        local.put("2", new TwoLevelCache.LocalEntry("이전 값", System.currentTimeMillis() - 1, 100));
+        AtomicInteger loadCount = new AtomicInteger();
+
+        // 2. When: 연속으로 10번 읽음 (매번 갱신 조건이 참)
+        for (int i = 0; i < 10; i++) {
+            assertEquals("이전 값", node.get("2", () -> {
+                loadCount.incrementAndGet();
+                Thread.sleep(100);
+                return "새 값";
+            }));
+        }
+
+        // 3. Then: 갱신은 1번, 끝나면 L1 / L2 모두 새 값
+        long startTime = System.currentTimeMillis();
+        while (!"새 값".equals(node.get("2", String.class))) {
+            if (System.currentTimeMillis() - startTime > 1000) {
+                throw new RuntimeException("시간 초과: 1초 안에 미리 갱신이 끝나지 않았습니다.");
+            }
+            Thread.sleep(10);
+        }
+        assertEquals(1, loadCount.get());
+        assertEquals("새 값", remote.get("2").get());
+    }
+
+    @Test
+    @DisplayName("미리 갱신(XFetch): 조회 시간은 키마다 값과 같은 TTL로 남고, 값을 지우면 같이 지워진다")
+    void load_millis_expires_with_value_test() {
+        // 1. Given / When: loader로 읽음 (기본 TTL 10분)
+        cache.get("3", () -> "공연 3");
+
+        // 2. Then: 조회 시간 키에 값과 같은 TTL이 붙음 (키가 계속 쌓이지 않음)
+        Long ttl = redisTemplate.getExpire("cache_load_millis:twoLevelTest::3");
+        assertTrue(ttl != null && ttl > 0 && ttl <= Duration.ofMinutes(10).toSeconds());
+
+        // 3. When / Then: 값을 지우면 조회 시간도 같이 사라짐
+        cache.evict("3");
+        assertFalse(redisTemplate.hasKey("cache_load_millis:twoLevelTest::3"));
+    }
+
+    // 같은 Redis / 같은 매니저를 쓰는 다른 서버의 캐시 (L1 / 서버 안 single-flight 상태만 따로)
+    private TwoLevelCache node() {
+        return new TwoLevelCache(NODE_CACHE, Caffeine.newBuilder().build(), remote, (TwoLevelCacheManager) cacheManager);
+    }
+
+}
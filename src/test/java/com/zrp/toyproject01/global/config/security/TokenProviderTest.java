@@ -0,0 +1,59 @@
+package com.zrp.toyproject01.global.config.security;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Date;
+import java.util.Set;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.core.Authentication;
+
+import com.zrp.toyproject01.domain.account.domain.Role;
+
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.security.Keys;
+
+class TokenProviderTest {
+
+    private static final byte[] SECRET = "toy-project-test-secret-".repeat(4).getBytes(StandardCharsets.UTF_8);
+
+    private final TokenProvider tokenProvider = new TokenProvider(Base64.getEncoder().encodeToString(SECRET));
+
+    @Test
+    @DisplayName("토큰: uid 클레임의 유저 id가 인증 객체(LoginUser)에 그대로 담긴다")
+    void uid_claim_test() {
+        // 1. Given
+        String token = tokenProvider.createToken(42L, "uid@test.com", Set.of(Role.ROLE_USER), "닉네임");
+
+        // 2. When
+        Authentication authentication = tokenProvider.getAuthentication(token);
+
+        // 3. Then
+        LoginUser loginUser = assertInstanceOf(LoginUser.class, authentication.getPrincipal());
+        assertEquals(42L, loginUser.getId());
+        assertEquals("uid@test.com", loginUser.getUsername());
+    }
+
+    @Test
+    @DisplayName("토큰: uid가 없는 예전 토큰이면 id는 null (재발급 전까지)")
+    void legacy_token_without_uid_test() {
+        // 1. Given: uid 클레임 없이 만든 토큰
+        String token = Jwts.builder()
+            .setSubject("legacy@test.com")
+            .claim("auth", Role.ROLE_USER.name())
+            .signWith(Keys.hmacShaKeyFor(SECRET), SignatureAlgorithm.HS512)
+            .setExpiration(new Date(System.currentTimeMillis() + 60_000))
+            .compact();
+
+        // 2. When / Then
+        LoginUser loginUser = (LoginUser) tokenProvider.getAuthentication(token).getPrincipal();
+        assertNull(loginUser.getId());
+    }
+
+}
@@ -0,0 +1,53 @@
+package com.zrp.toyproject01.global.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import com.zrp.toyproject01.global.config.security.LoginUser;
+import com.zrp.toyproject01.global.error.BusinessException;
+import com.zrp.toyproject01.global.error.ErrorCode;
+
+class SecurityUtilTest {
+
+    @AfterEach
+    void clear() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    @DisplayName("현재 유저 id: 토큰에서 꺼낸 LoginUser의 id를 돌려준다 (DB 조회 없음)")
+    void current_user_id_test() {
+        login(7L);
+
+        assertEquals(7L, SecurityUtil.getCurrentUserId());
+    }
+
+    @Test
+    @DisplayName("현재 유저 id: 로그인 안 했거나 uid 없는 예전 토큰이면 LOGIN_REQUIRED")
+    void current_user_id_missing_test() {
+        BusinessException anonymous = assertThrows(BusinessException.class, SecurityUtil::getCurrentUserId);
+        assertEquals(ErrorCode.LOGIN_REQUIRED, anonymous.getErrorCode());
+
+        login(null);
+        BusinessException legacy = assertThrows(BusinessException.class, SecurityUtil::getCurrentUserId);
+        assertEquals(ErrorCode.LOGIN_REQUIRED, legacy.getErrorCode());
+    }
+
+    private static void login(Long userId) {
+        List<SimpleGrantedAuthority> authorities = List.of(new SimpleGrantedAuthority("ROLE_USER"));
+        LoginUser principal = new LoginUser(userId, "util@test.com", authorities);
+        SecurityContextHolder.getContext().setAuthentication(
+            new UsernamePasswordAuthenticationToken(principal, "token", authorities)
+        );
+    }
+
+}